@@ -22,7 +22,8 @@ package de.gematik.smartcards.g2icc.cos;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
 import de.gematik.smartcards.sdcom.apdu.isoiec7816apdu.ReadBinary;
-import de.gematik.smartcards.utils.AfiUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import javax.smartcardio.CardException;
 
 /**
@@ -71,7 +72,9 @@ public final class IccUtils {
     //       Thus, offset in the last command is the smallest possible value.
     //       This is good, because the offset cannot be larger than 32768.
 
-    byte[] result = new byte[0];
+    // Note: Response data fields are written directly into result, i.e.,
+    //       neither cloned nor concatenated per command.
+    final ByteArrayOutputStream result = new ByteArrayOutputStream();
     int firstNe = numberOfBytes % maxNe;
     if (0 == firstNe) {
       // ... numberOfBytes is a multiple of maxNe
@@ -85,20 +88,17 @@ public final class IccUtils {
       final int trailer = rsp.getTrailer();
 
       // --- evaluate trailer
-      // spotless:off
-      result = switch (trailer) {
-        case 0x6282, 0x9000 -> AfiUtils.concatenate(result, rsp.getData()); // EndOfFileWarning
-        default -> throw new CardException(String.format(
-            "unexpected trailer: %04X, %s",
-            trailer,
-            cmd.explainTrailer(trailer)
-        ));
-      }; // end Switch
-      // spotless:on
+      switch (trailer) {
+        case 0x6282, 0x9000 -> writeData(rsp, result); // EndOfFileWarning
+        default ->
+            throw new CardException(
+                String.format(
+                    "unexpected trailer: %04X, %s", trailer, cmd.explainTrailer(trailer)));
+      } // end Switch (trailer)
 
-      if ((result.length == numberOfBytes) || (0x6282 == trailer)) {
+      if ((result.size() == numberOfBytes) || (0x6282 == trailer)) {
         // ... nothing more to read
-        return result;
+        return result.toByteArray();
       } // end fi
       // ... not_AllBytesRead  AND  not_EndOfFileWarning => something more to read
 
@@ -107,4 +107,19 @@ public final class IccUtils {
       cmd = new ReadBinary(0, offset, maxNe); // NOPMD new in loop
     } // end For (...)
   } // end method */
+
+  /**
+   * Writes the response data field to the given stream.
+   *
+   * @param rsp response APDU
+   * @param out destination of the response data field
+   */
+  private static void writeData(final ResponseApdu rsp, final ByteArrayOutputStream out) {
+    try {
+      rsp.writeDataTo(out);
+    } catch (IOException e) {
+      // ... not expected, because a ByteArrayOutputStream does not throw
+      throw new IllegalStateException(e);
+    } // end Catch (...)
+  } // end method */
 } // end class
@@ -20,6 +20,7 @@
 package de.gematik.smartcards.g2icc.cos;
 
 import de.gematik.smartcards.sdcom.MessageLayer;
+import de.gematik.smartcards.sdcom.apdu.ApduInstrumentation;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
 import de.gematik.smartcards.sdcom.apdu.CommandApdu;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
@@ -43,6 +44,9 @@ public abstract class SecureMessagingLayer extends SecureMessagingConverter
   /** Logger. */
   private static final Logger LOGGER = LoggerFactory.getLogger(SecureMessagingLayer.class); // */
 
+  /** Name of this layer used for reports to {@link ApduInstrumentation}. */
+  /* package */ static final String LAYER = "SecureMessagingLayer"; // */
+
   /** {@link ApduLayer} where protected command APDU are sent to. */
   private final ApduLayer insApduLayer; // */
 
@@ -74,19 +78,32 @@ public abstract class SecureMessagingLayer extends SecureMessagingConverter
   /**
    * Sends given command APDU.
    *
+   * <p>The unprotected command-response pair is reported to the installed {@link
+   * ApduInstrumentation}. The reported duration includes securing the command APDU and unsecuring
+   * the response APDU.
+   *
    * @param cmdApdu command APDU to be sent
    * @return corresponding {@link ResponseApdu}
    * @see ApduLayer#send(CommandApdu)
    */
   @Override
   public final ResponseApdu send(final CommandApdu cmdApdu) {
+    final ApduInstrumentation instrumentation = ApduInstrumentation.get();
     final long startTime = System.nanoTime();
-    final CommandApdu proCmd = secureCommand(cmdApdu);
+    final ResponseApdu result;
+    try {
+      final CommandApdu proCmd = secureCommand(cmdApdu);
+
+      final ResponseApdu proRsp = insApduLayer.send(proCmd);
 
-    final ResponseApdu proRsp = insApduLayer.send(proCmd);
+      result = unsecureResponse(proRsp);
+    } catch (RuntimeException e) {
+      instrumentation.onError(LAYER, cmdApdu, e, System.nanoTime() - startTime);
 
-    final ResponseApdu result = unsecureResponse(proRsp);
+      throw e;
+    } // end Catch (...)
     final long endTime = System.nanoTime();
+    instrumentation.onResponse(LAYER, cmdApdu, result, endTime - startTime);
     setTime(startTime, endTime);
     LOGGER.atDebug().log("execution time: {}", AfiUtils.nanoSeconds2Time(endTime - startTime));
 
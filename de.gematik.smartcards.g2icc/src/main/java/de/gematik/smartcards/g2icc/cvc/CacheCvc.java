@@ -84,7 +84,9 @@ import org.slf4j.LoggerFactory;
    * <p>The given folder and its subfolders are scanned for regular files with file name suffix
    * {@link TrustCenter#SUFFIX_CVC_DER}.
    *
-   * <p>A {@link Cvc} is added to the result, if
+   * <p>A file contains one or more concatenated CV-certificates. Files are memory-mapped and
+   * decoded lazily, see {@link BerTlv#decodeAll(Path)}. Thus, even large bundles of CV-certificates
+   * do not need much heap space. A {@link Cvc} is added to the result, if
    *
    * <ol>
    *   <li>it is possible to extract a valid {@link ConstructedBerTlv} data object from the file
@@ -92,6 +94,8 @@ import org.slf4j.LoggerFactory;
    *   <li>it is possible to create a {@link Cvc} from that data object without exceptions.
    * </ol>
    *
+   * <p>Reading a file stops at the first data object causing an exception.
+   *
    * @param root start folder for collecting {@link Cvc}
    * @return set with {@link Cvc} found in given directory
    */
@@ -110,12 +114,12 @@ import org.slf4j.LoggerFactory;
                       .endsWith(".cvc"))
           .forEach(
               path -> {
-                try {
-                  final byte[] fileContent = Files.readAllBytes(path);
-                  final ConstructedBerTlv tlv = (ConstructedBerTlv) BerTlv.getInstance(fileContent);
-
-                  result.add(new Cvc(tlv));
-                  LOGGER.atTrace().log("CVC read from path \"{}\"", path);
+                try (Stream<BerTlv> tlvs = BerTlv.decodeAll(path)) {
+                  tlvs.forEach(
+                      tlv -> {
+                        result.add(new Cvc((ConstructedBerTlv) tlv));
+                        LOGGER.atTrace().log("CVC read from path \"{}\"", path);
+                      }); // end forEach(tlv -> ...)
                 } catch (Exception e) { // NOPMD catching generic exception
                   LOGGER.atInfo().log("trouble with path \"{}\"", path);
                   LOGGER.atDebug().log(UNEXPECTED, e);
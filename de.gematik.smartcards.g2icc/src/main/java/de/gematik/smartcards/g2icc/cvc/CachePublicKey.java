@@ -159,9 +159,8 @@ import org.slf4j.LoggerFactory;
                       .endsWith(SUFFIX_PUK_DER))
           .forEach(
               path -> {
-                try {
-                  final byte[] fileContent = Files.readAllBytes(path);
-                  final BerTlv derContent = BerTlv.getInstance(fileContent);
+                try (Stream<BerTlv> tlvs = BerTlv.decodeAll(path)) {
+                  final BerTlv derContent = tlvs.findFirst().orElseThrow();
                   final EcPublicKeyImpl puk =
                       new EcPublicKeyImpl(derContent, EafiElcPukFormat.ISOIEC7816);
                   final String fileName =
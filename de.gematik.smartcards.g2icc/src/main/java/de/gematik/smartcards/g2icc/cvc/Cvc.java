@@ -32,6 +32,9 @@ import de.gematik.smartcards.crypto.EcPublicKeyImpl;
 import de.gematik.smartcards.tlv.BerTlv;
 import de.gematik.smartcards.tlv.ConstructedBerTlv;
 import de.gematik.smartcards.tlv.DerOid;
+import de.gematik.smartcards.tlv.PrimitiveBerTlv;
+import de.gematik.smartcards.tlv.TlvBinding;
+import de.gematik.smartcards.tlv.TlvSchema;
 import de.gematik.smartcards.utils.AfiOid;
 import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
@@ -339,6 +342,35 @@ public final class Cvc {
    */
   public static final int TAG_SIGNATURE = 0x5f37; // */
 
+  /**
+   * Structure of a CV-certificate.
+   *
+   * <p>Names used in this schema are the names of the corresponding instance attributes.
+   */
+  private static final TlvSchema SCHEMA =
+      new TlvSchema.Builder(TAG_CARDHOLDER_CERTIFICATE_TEMPLATE)
+          .template(
+              new TlvSchema.Builder(TAG_CERTIFICATE_CONTENT_TEMPLATE)
+                  .tlv(TAG_CPI, "cpi")
+                  .tlv(TAG_CAR, "car")
+                  .template(
+                      new TlvSchema.Builder(TAG_PUK_TEMPLATE)
+                          .tlv(DerOid.TAG, "oidPuk")
+                          .value(TAG_PUBLIC_POINT, "puk")
+                          .build())
+                  .tlv(TAG_CHR, "chr")
+                  .template(
+                      new TlvSchema.Builder(TAG_CHAT)
+                          .tlv(DerOid.TAG, "oidFlagList")
+                          .value(TAG_FLAG_LIST, "flagList")
+                          .build())
+                  .tlv(TAG_CED, "ced")
+                  .tlv(TAG_CXD, "cxd")
+                  .build(),
+              "message")
+          .value(TAG_SIGNATURE, "signature")
+          .build(); // */
+
   /** Certification authority reference (CAR). */
   private final CertificationAuthorityReference insCar; // */
 
@@ -613,6 +645,8 @@ public final class Cvc {
    * <p>This constructor is called by {@link Cvc#Cvc(byte[])}. The only difference is, that this
    * constructor does not add CV-certificates to caches of {@link TrustCenter}.
    *
+   * <p>Deviations from {@link #SCHEMA} (e.g. unexpected or repeated data objects) are reported.
+   *
    * @param cvc content of card-verifiable certificate (CV-certificate, CVC)
    * @throws NoSuchElementException if
    *     <ol>
@@ -636,21 +670,21 @@ public final class Cvc {
     insCvcContent = cvc;
 
     // --- extract relevant information from given DO, i.e. cvc
-    insMessage = cvc.getConstructed(TAG_CERTIFICATE_CONTENT_TEMPLATE).orElseThrow();
-    insSignature = cvc.getPrimitive(TAG_SIGNATURE).orElseThrow().getValueField();
+    // Note: The tag of cvc is checked by checkTag(List), see below.
+    final TlvBinding binding = SCHEMA.bindValueField(cvc);
+    insMessage = (ConstructedBerTlv) binding.getTlv("message").orElseThrow();
+    insSignature = binding.getValueField("signature").orElseThrow();
 
     // --- extract relevant information from DO'7f4e', i.e. message
-    insCpi = new CertificateProfileIndicator(insMessage.getPrimitive(TAG_CPI).orElseThrow());
-    insCar = new CertificationAuthorityReference(insMessage.getPrimitive(TAG_CAR).orElseThrow());
-    final ConstructedBerTlv doPuk = insMessage.getConstructed(TAG_PUK_TEMPLATE).orElseThrow();
-    insChr = new CardHolderReference(insMessage.getPrimitive(TAG_CHR).orElseThrow());
-    final ConstructedBerTlv chat = insMessage.getConstructed(TAG_CHAT).orElseThrow();
-    insCed = new CertificateDate(insMessage.getPrimitive(TAG_CED).orElseThrow());
-    insCxd = new CertificateDate(insMessage.getPrimitive(TAG_CXD).orElseThrow());
+    insCpi = new CertificateProfileIndicator(getPrimitive(binding, "cpi"));
+    insCar = new CertificationAuthorityReference(getPrimitive(binding, "car"));
+    insChr = new CardHolderReference(getPrimitive(binding, "chr"));
+    insCed = new CertificateDate(getPrimitive(binding, "ced"));
+    insCxd = new CertificateDate(getPrimitive(binding, "cxd"));
 
     // --- extract relevant information from DO'7f49', i.e. cardholder public key template
-    insOidPuk = ((DerOid) doPuk.getPrimitive(DerOid.TAG).orElseThrow()).getDecoded();
-    insPuK = doPuk.getPrimitive(TAG_PUBLIC_POINT).orElseThrow().getValueField();
+    insOidPuk = ((DerOid) getPrimitive(binding, "oidPuk")).getDecoded();
+    insPuK = binding.getValueField("puk").orElseThrow();
     final byte msByte = insPuK[0];
     final List<String> report = new ArrayList<>(); // list with findings
     boolean criticalFindings = false; // flag indicating critical findings
@@ -691,11 +725,15 @@ public final class Cvc {
     insPublicKey = tmpPuk;
 
     // --- extract relevant information from DO'7f4c'=CHAT=certificate holder authorization template
-    insOidFlagList = ((DerOid) chat.getPrimitive(DerOid.TAG).orElseThrow()).getDecoded();
-    insFlagList = chat.getPrimitive(TAG_FLAG_LIST).orElseThrow().getValueField();
+    insOidFlagList = ((DerOid) getPrimitive(binding, "oidFlagList")).getDecoded();
+    insFlagList = binding.getValueField("flagList").orElseThrow();
 
     // --- report and explain attributes
-    criticalFindings |= checkTag(report);
+    if (checkTag(report)) {
+      // ... wrong tag, already reported
+      criticalFindings = true;
+    } // end fi
+    report.addAll(binding.getFindings());
 
     criticalFindings |= insCpi.hasCriticalFindings(); // CPI
     final List<String> explanation = new ArrayList<>(insCpi.getExplanation());
@@ -1039,6 +1077,18 @@ public final class Cvc {
     return result;
   } // end method */
 
+  /**
+   * Returns primitive TLV-object bound to given name.
+   *
+   * @param binding of a CV-certificate to {@link #SCHEMA}
+   * @param name declared in {@link #SCHEMA}
+   * @return primitive TLV-object bound to {@code name}
+   * @throws NoSuchElementException if no TLV-object is bound to {@code name}
+   */
+  private static PrimitiveBerTlv getPrimitive(final TlvBinding binding, final String name) {
+    return (PrimitiveBerTlv) binding.getTlv(name).orElseThrow();
+  } // end method */
+
   /**
    * Checks the tag of the CV-certificate.
    *
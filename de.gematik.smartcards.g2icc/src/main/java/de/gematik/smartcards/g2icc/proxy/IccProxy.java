@@ -26,6 +26,7 @@ import de.gematik.smartcards.crypto.EcPrivateKeyImpl;
 import de.gematik.smartcards.g2icc.cos.EafiCosAlgId;
 import de.gematik.smartcards.g2icc.cvc.Cvc;
 import de.gematik.smartcards.sdcom.MessageLayer;
+import de.gematik.smartcards.sdcom.apdu.ApduInstrumentation;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
 import de.gematik.smartcards.sdcom.apdu.CommandApdu;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
@@ -33,6 +34,8 @@ import de.gematik.smartcards.sdcom.apdu.isoiec7816apdu.ReadBinary;
 import de.gematik.smartcards.tlv.BerTlv;
 import de.gematik.smartcards.tlv.ConstructedBerTlv;
 import de.gematik.smartcards.tlv.DerInteger;
+import de.gematik.smartcards.tlv.TlvBinding;
+import de.gematik.smartcards.tlv.TlvSchema;
 import de.gematik.smartcards.utils.EafiHashAlgorithm;
 import de.gematik.smartcards.utils.Hex;
 import java.math.BigInteger;
@@ -72,9 +75,34 @@ public abstract class IccProxy implements ApduLayer {
   /** Logger. */
   protected static final Logger LOGGER = LoggerFactory.getLogger(IccProxy.class); // */
 
+  /** Name of this layer used for reports to {@link ApduInstrumentation}. */
+  /* package */ static final String LAYER = "IccProxy"; // */
+
   /** Key suffix. */
   /* package */ static final String KEY_SUFFIX = "10111213 14151617 1819111b 1c1d1e1f"; // */
 
+  /**
+   * Structure of the content of EF.ATR.
+   *
+   * <p>The tag is arbitrary, the only thing important is, that this is a constructed tag.
+   */
+  private static final TlvSchema SCHEMA_EF_ATR =
+      new TlvSchema.Builder(0xfa)
+          .optionalTemplate(
+              new TlvSchema.Builder(0xe0).values(DerInteger.TAG, "bufferSize").build())
+          .value(0xd0, "ptCos")
+          .value(0xd2, "piChip")
+          .value(0xd3, "piCos")
+          .value(0xd4, "piInitializedObjectSystem")
+          .build(); // */
+
+  /**
+   * Default buffer sizes, used if EF.ATR contains no DO'e0'.
+   *
+   * <p>The values are the infimum from (N029.890)a.1 to (N029.890)a.4.
+   */
+  private static final int[] DEFAULT_BUFFER_SIZE = {1033, 32_770, 1033, 1033}; // */
+
   /** {@link ApduLayer} used for real communication. */
   private final ApduLayer insApduLayer; // */
 
@@ -171,43 +199,31 @@ public abstract class IccProxy implements ApduLayer {
     send(new CommandApdu(0x00, 0xA4, 0x04, 0x0C), 0x9000);
 
     // --- get information from EF.ATR
-    final ConstructedBerTlv doEfAtr =
-        (ConstructedBerTlv)
-            BerTlv.getInstance(
-                0xfa, // arbitrary tag, the only thing important is, that this is a constructed tag
-                send(new ReadBinary(29, 0, CommandApdu.NE_SHORT_WILDCARD), 0x9000).getData());
-    insContentEfAtr = Hex.toHexDigits(doEfAtr.getValueField());
+    final byte[] contentEfAtr =
+        send(new ReadBinary(29, 0, CommandApdu.NE_SHORT_WILDCARD), 0x9000).getData();
+    final TlvBinding doEfAtr = SCHEMA_EF_ATR.decodeValueField(contentEfAtr);
+    insContentEfAtr = Hex.toHexDigits(contentEfAtr);
 
     // APDU length limitations
     insApduLength = new int[4];
 
     // insApduLength
-    final ConstructedBerTlv doBufferSize =
-        doEfAtr
-            .getConstructed(0xe0)
-            .orElse(
-                (ConstructedBerTlv)
-                    BerTlv.getInstance(
-                        0xe0,
-                        List.of(
-                            new DerInteger(BigInteger.valueOf(1033)), // infimum from (N029.890)a.1
-                            new DerInteger(
-                                BigInteger.valueOf(32_770)), // infimum from (N029.890)a.2
-                            new DerInteger(BigInteger.valueOf(1033)), // infimum from (N029.890)a.3
-                            new DerInteger(BigInteger.valueOf(1033)) // infimum from (N029.890)a.4
-                            )));
+    final List<byte[]> bufferSizes = doEfAtr.getValueFields("bufferSize");
     for (int i = insApduLength.length; i-- > 0; ) { // NOPMD assignment in operand
-      insApduLength[i] =
-          ((DerInteger) doBufferSize.getPrimitive(DerInteger.TAG, i).orElseThrow())
-              .getDecoded()
-              .intValueExact();
+      if (bufferSizes.isEmpty()) {
+        insApduLength[i] = DEFAULT_BUFFER_SIZE[i];
+      } else if (i < bufferSizes.size()) {
+        insApduLength[i] = new BigInteger(bufferSizes.get(i)).intValueExact();
+      } else {
+        throw new NoSuchElementException("buffer size missing in DO'e0'");
+      } // end else
     } // end For (i...)
 
-    insPtCos = byteToVersion(doEfAtr.getPrimitive(0xd0).orElseThrow().getValueField(), 0);
-    insPiChip = productIndicator2string(doEfAtr.getPrimitive(0xd2).orElseThrow().getValueField());
-    insPiCos = productIndicator2string(doEfAtr.getPrimitive(0xd3).orElseThrow().getValueField());
+    insPtCos = byteToVersion(doEfAtr.getValueField("ptCos").orElseThrow(), 0);
+    insPiChip = productIndicator2string(doEfAtr.getValueField("piChip").orElseThrow());
+    insPiCos = productIndicator2string(doEfAtr.getValueField("piCos").orElseThrow());
     insPiInitializedObjectSystem =
-        productIndicator2string(doEfAtr.getPrimitive(0xd4).orElseThrow().getValueField());
+        productIndicator2string(doEfAtr.getValueField("piInitializedObjectSystem").orElseThrow());
 
     // --- get content of EF.Version2
     insContentEfVersion2 =
@@ -616,12 +632,25 @@ public abstract class IccProxy implements ApduLayer {
   /**
    * Sends given message.
    *
+   * <p>The command-response pair is reported to the installed {@link ApduInstrumentation}.
+   *
    * @param commandApdu to be sent
    * @return corresponding response message
    */
   @Override
   public final ResponseApdu send(final CommandApdu commandApdu) {
-    return insApduLayer.send(commandApdu);
+    final ApduInstrumentation instrumentation = ApduInstrumentation.get();
+    final long startTime = System.nanoTime();
+    try {
+      final ResponseApdu result = insApduLayer.send(commandApdu);
+      instrumentation.onResponse(LAYER, commandApdu, result, System.nanoTime() - startTime);
+
+      return result;
+    } catch (RuntimeException e) {
+      instrumentation.onError(LAYER, commandApdu, e, System.nanoTime() - startTime);
+
+      throw e;
+    } // end Catch (...)
   } // end method */
 
   /**
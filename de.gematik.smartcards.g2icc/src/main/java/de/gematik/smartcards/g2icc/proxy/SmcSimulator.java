@@ -25,6 +25,7 @@ import de.gematik.smartcards.crypto.EcPrivateKeyImpl;
 import de.gematik.smartcards.crypto.EcPublicKeyImpl;
 import de.gematik.smartcards.g2icc.cvc.TrustCenter;
 import de.gematik.smartcards.sdcom.MessageLayer;
+import de.gematik.smartcards.sdcom.apdu.ApduInstrumentation;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
 import de.gematik.smartcards.sdcom.apdu.CommandApdu;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
@@ -49,6 +50,9 @@ public final class SmcSimulator implements ApduLayer {
   /** Logger. */
   private static final Logger LOGGER = LoggerFactory.getLogger(SmcSimulator.class); // */
 
+  /** Name of this layer used for reports to {@link ApduInstrumentation}. */
+  /* package */ static final String LAYER = "SmcSimulator"; // */
+
   /** Default response APDU. */
   private static final ResponseApdu EXECUTION_ERROR = new ResponseApdu("6400"); // */
 
@@ -414,6 +418,8 @@ public final class SmcSimulator implements ApduLayer {
    * (short)). Thus, if the intention is to send an ISO-case 2E method {@link #send(byte[])} has to
    * be used.
    *
+   * <p>The command-response pair is reported to the installed {@link ApduInstrumentation}.
+   *
    * @param apdu command APDU to be sent
    * @return corresponding {@link ResponseApdu}
    */
@@ -421,7 +427,17 @@ public final class SmcSimulator implements ApduLayer {
   public ResponseApdu send(final CommandApdu apdu) {
     LOGGER.atDebug().log("cmd: {}", apdu.toString());
 
-    final ResponseApdu result = new ResponseApdu(send(apdu.getBytes()));
+    final ApduInstrumentation instrumentation = ApduInstrumentation.get();
+    final long startTime = System.nanoTime();
+    final ResponseApdu result;
+    try {
+      result = new ResponseApdu(send(apdu.getBytes()));
+    } catch (RuntimeException e) {
+      instrumentation.onError(LAYER, apdu, e, System.nanoTime() - startTime);
+
+      throw e;
+    } // end Catch (...)
+    instrumentation.onResponse(LAYER, apdu, result, System.nanoTime() - startTime);
 
     LOGGER.atDebug().log("rsp: {}", result.toString());
 
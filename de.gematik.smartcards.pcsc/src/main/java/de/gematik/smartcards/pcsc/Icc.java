@@ -23,6 +23,7 @@ import static de.gematik.smartcards.pcsc.lib.WinscardLibrary.SCARD_LEAVE_CARD;
 import static de.gematik.smartcards.pcsc.lib.WinscardLibrary.SCARD_PROTOCOL_T1;
 import static de.gematik.smartcards.pcsc.lib.WinscardLibrary.SCARD_SHARE_EXCLUSIVE;
 import static de.gematik.smartcards.pcsc.lib.WinscardLibrary.SCARD_UNPOWER_CARD;
+import static de.gematik.smartcards.pcsc.lib.WinscardLibraryImpl.MAX_RESPONSE_SIZE;
 import static de.gematik.smartcards.sdcom.isoiec7816objects.AnswerToReset.MAX_ATR_SIZE;
 
 import de.gematik.smartcards.pcsc.constants.PcscStatus;
@@ -31,7 +32,9 @@ import de.gematik.smartcards.pcsc.lib.DwordByReference;
 import de.gematik.smartcards.pcsc.lib.ScardHandle;
 import de.gematik.smartcards.pcsc.lib.ScardHandleByReference;
 import de.gematik.smartcards.sdcom.MessageLayer;
+import de.gematik.smartcards.sdcom.apdu.ApduInstrumentation;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
+import de.gematik.smartcards.sdcom.apdu.BatchPolicy;
 import de.gematik.smartcards.sdcom.apdu.CommandApdu;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
 import de.gematik.smartcards.sdcom.apdu.isoiec7816apdu.ManageChannel;
@@ -39,7 +42,9 @@ import de.gematik.smartcards.sdcom.isoiec7816objects.AnswerToReset;
 import de.gematik.smartcards.utils.Hex;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +97,16 @@ public final class Icc extends Card implements ApduLayer {
     DISCONNECTED,
   } // end enum EafiState
 
+  /**
+   * Maximum number of octets in a command APDU.
+   *
+   * <p>Command header, extended Lc-field, 65,535 octets command data field and extended Le-field.
+   */
+  private static final int MAX_COMMAND_SIZE = 4 + 3 + CommandApdu.NC_SUPREMUM + 2; // */
+
+  /** Name of this layer used for reports to {@link ApduInstrumentation}. */
+  /* package */ static final String LAYER = "Icc"; // */
+
   /**
    * Substitution for long interface-device names assigned by the PC/SC layer.
    *
@@ -147,6 +162,18 @@ public final class Icc extends Card implements ApduLayer {
   /** Basic logical channel. */
   private final IccChannel insBasicChannel; // */
 
+  /**
+   * Reusable direct buffer for encoding command APDUs.
+   *
+   * <p>This buffer is also used as lock for {@link #insResponseBuffer} and for each transmission to
+   * the smart card. Thus, {@link #sendBatch(List, BatchPolicy)} is not interleaved with messages
+   * sent by other threads, regardless of the {@code send}-method used.
+   */
+  private final ByteBuffer insCommandBuffer = ByteBuffer.allocateDirect(MAX_COMMAND_SIZE); // */
+
+  /** Reusable direct buffer for receiving response APDUs. */
+  private final ByteBuffer insResponseBuffer = ByteBuffer.allocateDirect(MAX_RESPONSE_SIZE); // */
+
   /** {@link CardTerminal} this connection is associated with. */
   private final Ifd insIfd; // */
 
@@ -235,7 +262,7 @@ public final class Icc extends Card implements ApduLayer {
                 pbAtr,
                 pcbAtrLen));
     insAnswerToReset =
-        new AnswerToReset(Arrays.copyOfRange(atrBuffer, 0, pcbAtrLen.getValue().intValue()));
+        AnswerToReset.of(Arrays.copyOfRange(atrBuffer, 0, pcbAtrLen.getValue().intValue()));
 
     // --- set logger
     final String name = ifd.getName();
@@ -539,11 +566,14 @@ public final class Icc extends Card implements ApduLayer {
 
       getLogger().atTrace().log("cmd: '{}'", Hex.toHexDigits(command));
 
-      final byte[] result =
-          getIfd()
-              .getIfdCollection()
-              .getLibrary()
-              .scardTransmit(getScardHandle(), command, executionTime);
+      final byte[] result;
+      synchronized (insCommandBuffer) {
+        result =
+            getIfd()
+                .getIfdCollection()
+                .getLibrary()
+                .scardTransmit(getScardHandle(), command, executionTime);
+      } // end synchronized
       final double runTime = executionTime[0];
 
       getLogger()
@@ -552,11 +582,55 @@ public final class Icc extends Card implements ApduLayer {
 
       return result;
     } catch (PcscException e) {
-      if (e.getCode() == PcscStatus.SCARD_W_REMOVED_CARD) {
-        insState = EafiState.REMOVED;
-      } // end fi
+      throw transmitException(e);
+    } // end Catch (...)
+  } // end method */
+
+  /**
+   * Sends a command message from a buffer and receives the corresponding response message into a
+   * buffer.
+   *
+   * <p>Direct buffers are handed over to the PC/SC layer without intermediate copies.
+   *
+   * @param command buffer containing the command message
+   * @param response buffer receiving the response message
+   * @return number of octets written to {@code response}
+   * @see ApduLayer#send(ByteBuffer, ByteBuffer)
+   */
+  @Override
+  public int send(final ByteBuffer command, final ByteBuffer response) {
+    final double[] executionTime = new double[1];
 
-      throw new TransmitException(e);
+    try {
+      return send(command, response, executionTime);
+    } finally {
+      setTime(executionTime[0]);
+    } // end finally
+  } // end method */
+
+  /**
+   * Sends a command message from a buffer and receives the corresponding response message into a
+   * buffer.
+   *
+   * @param command buffer containing the command message
+   * @param response buffer receiving the response message
+   * @param executionTime <b>[OUT]</b> parameter with at least one element which receives the
+   *     execution time of the underlying library call in seconds
+   * @return number of octets written to {@code response}
+   */
+  /* package */ int send(
+      final ByteBuffer command, final ByteBuffer response, final double... executionTime) {
+    try {
+      checkState();
+
+      synchronized (insCommandBuffer) {
+        return getIfd()
+            .getIfdCollection()
+            .getLibrary()
+            .scardTransmit(getScardHandle(), command, response, executionTime);
+      } // end synchronized
+    } catch (PcscException e) {
+      throw transmitException(e);
     } // end Catch (...)
   } // end method */
 
@@ -574,15 +648,127 @@ public final class Icc extends Card implements ApduLayer {
    */
   @Override
   public ResponseApdu send(final CommandApdu apdu) {
-    getLogger().atDebug().log("cmd: {}", apdu.toString());
+    final double[] executionTime = new double[1];
 
-    final ResponseApdu result = new ResponseApdu(send(apdu.getBytes()));
+    try {
+      return send(apdu, executionTime);
+    } finally {
+      setTime(executionTime[0]);
+    } // end finally
+  } // end method */
 
-    getLogger().atDebug().log("rsp: {}", result.toString());
+  /**
+   * Sends given command APDU.
+   *
+   * <p>The command APDU is encoded into a direct buffer and the response APDU is received into a
+   * direct buffer. Both buffers are reused for all command-response pairs of this smart card, i.e.,
+   * apart from the {@link ResponseApdu} no objects are created per command-response pair. The
+   * response APDU is copied exactly once, from the direct buffer into the {@link ResponseApdu}.
+   *
+   * <p>Each command-response pair is reported to the installed {@link ApduInstrumentation}. The
+   * reported duration includes the time spent waiting for the lock on the transmit buffers.
+   *
+   * @param apdu command APDU to be sent
+   * @param executionTime <b>[OUT]</b> parameter with at least one element which receives the
+   *     execution time of the underlying library call in seconds
+   * @return corresponding {@link ResponseApdu}
+   */
+  /* package */ ResponseApdu send(final CommandApdu apdu, final double... executionTime) {
+    getLogger().atDebug().log("cmd: {}", apdu);
+
+    final ApduInstrumentation instrumentation = ApduInstrumentation.get();
+    final long startTime = System.nanoTime();
+    final ResponseApdu result;
+    try {
+      synchronized (insCommandBuffer) {
+        final ByteBuffer command = insCommandBuffer.clear();
+        apdu.encodeTo(command);
+        command.flip();
+
+        final ByteBuffer response = insResponseBuffer.clear();
+        send(command, response, executionTime);
+
+        // Note: The response APDU is copied out of the direct buffer while the
+        //       lock is held. Thus, the buffer is free for the next command.
+        result = new ResponseApdu(response.flip());
+      } // end synchronized
+    } catch (RuntimeException e) {
+      instrumentation.onError(LAYER, apdu, e, System.nanoTime() - startTime);
+
+      throw e;
+    } // end Catch (...)
+
+    instrumentation.onResponse(LAYER, apdu, result, System.nanoTime() - startTime);
+    getLogger().atDebug().log("rsp: {}", result);
 
     return result;
   } // end method */
 
+  /**
+   * Sends a batch of command APDU.
+   *
+   * <p>In contrast to the default implementation, this method
+   *
+   * <ol>
+   *   <li>encodes all command APDU before the first one is sent,
+   *   <li>holds the lock on the transmit buffers for the whole batch, i.e., messages sent by other
+   *       threads are not interleaved with the batch (this is true for all {@code send}-methods of
+   *       this class and thus also for {@link IccChannel} and decorators on top of it),
+   *   <li>sets the execution time (see {@link #getTime()}) once, to the sum of the execution times
+   *       of all command-response pairs in the batch.
+   * </ol>
+   *
+   * @param apdus command APDU to be sent
+   * @param policy deciding whether the batch stops after a response APDU
+   * @return unmodifiable list with {@link ResponseApdu} corresponding to the command APDU sent
+   * @see ApduLayer#sendBatch(List, BatchPolicy)
+   */
+  @Override
+  public List<ResponseApdu> sendBatch(final List<CommandApdu> apdus, final BatchPolicy policy) {
+    // --- encode all command APDU in advance
+    // Note: The encoding is cached in CommandApdu. Thus, within the lock
+    //       command APDU are just copied into the direct buffer.
+    apdus.forEach(CommandApdu::getEncoded);
+
+    final List<ResponseApdu> result = new ArrayList<>(apdus.size());
+    final double[] executionTime = new double[1];
+    double batchTime = 0;
+
+    try {
+      synchronized (insCommandBuffer) {
+        for (final CommandApdu apdu : apdus) {
+          final ResponseApdu rsp = send(apdu, executionTime);
+          batchTime += executionTime[0];
+          result.add(rsp);
+
+          if (policy.isStop(rsp)) {
+            break;
+          } // end fi
+        } // end For (apdu...)
+      } // end synchronized
+    } finally {
+      setTime(batchTime);
+    } // end finally
+
+    return Collections.unmodifiableList(result);
+  } // end method */
+
+  /**
+   * Converts an exception from the PC/SC layer.
+   *
+   * <p>If the smart card has been removed, then the state of this object is updated accordingly.
+   *
+   * @param e exception from the PC/SC layer
+   * @return exception to be thrown
+   */
+  private TransmitException transmitException(final PcscException e) {
+    if (e.getCode() == PcscStatus.SCARD_W_REMOVED_CARD) {
+      insState = EafiState.REMOVED;
+    } // end fi
+
+    return new TransmitException(e);
+  } // end method */
+
   /**
    * Set execution time based on start- and end time.
    *
@@ -20,6 +20,7 @@
 package de.gematik.smartcards.pcsc;
 
 import de.gematik.smartcards.sdcom.MessageLayer;
+import de.gematik.smartcards.sdcom.apdu.ApduInstrumentation;
 import de.gematik.smartcards.sdcom.apdu.ApduLayer;
 import de.gematik.smartcards.sdcom.apdu.CommandApdu;
 import de.gematik.smartcards.sdcom.apdu.ResponseApdu;
@@ -53,6 +54,9 @@ import org.jetbrains.annotations.VisibleForTesting;
 }) // */
 public final class IccChannel extends CardChannel implements ApduLayer {
 
+  /** Name of this layer used for reports to {@link ApduInstrumentation}. */
+  /* package */ static final String LAYER = "IccChannel"; // */
+
   /** Number of logical this logical channel. */
   private final int insChannelNumber; // */
 
@@ -236,6 +240,8 @@ public final class IccChannel extends CardChannel implements ApduLayer {
    * 2S (short)). Thus, if the intention is to send an ISO-case 2E method {@link #send(byte[])} has
    * to be used.
    *
+   * <p>Each command-response pair is reported to the installed {@link ApduInstrumentation}.
+   *
    * @param apdu command APDU to be sent
    * @return corresponding {@link ResponseApdu}
    * @throws IllegalStateException if
@@ -245,20 +251,32 @@ public final class IccChannel extends CardChannel implements ApduLayer {
    *     </ol>
    */
   /* package */ ResponseApdu sendCmd(final CommandApdu apdu) {
-    // Note: Intentionally, the very similar implementation from class Icc is
-    //       NOT used here, because that would not set instance attribute insTime
-    //       properly.
+    // Note: Intentionally, Icc.send(CommandApdu) is NOT used here, because
+    //       that would not set instance attribute insTime properly.
+    final double[] executionTime = new double[1];
+    final ApduInstrumentation instrumentation = ApduInstrumentation.get();
+    final long startTime = System.nanoTime();
 
-    // --- adjust channel number
-    final CommandApdu cmd = apdu.setChannelNumber(insChannelNumber);
+    try {
+      final int channelNo = insChannelNumber;
 
-    getCard().getLogger().atDebug().log("cmd: {}", cmd.toString());
+      if (getCard().isClosed(channelNo)) {
+        // ... channel is closed
+        throw new IllegalStateException("Logical channel has been closed");
+      } // end fi
 
-    final ResponseApdu result = new ResponseApdu(send(cmd.getBytes(), false));
+      // --- adjust channel number, send command and receive response
+      final ResponseApdu result = getCard().send(apdu.setChannelNumber(channelNo), executionTime);
+      instrumentation.onResponse(LAYER, apdu, result, System.nanoTime() - startTime);
 
-    getCard().getLogger().atDebug().log("rsp: {}", result.toString());
+      return result;
+    } catch (RuntimeException e) {
+      instrumentation.onError(LAYER, apdu, e, System.nanoTime() - startTime);
 
-    return result;
+      throw e;
+    } finally {
+      setTime(executionTime[0]);
+    } // end finally
   } // end method */
 
   /**
@@ -55,6 +55,9 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings({"PMD.AvoidDuplicateLiterals", "PMD.TooManyMethods"})
 public final class WinscardLibraryImpl {
 
+  /** Maximum number of octets in a response APDU, i.e., 65,536 data octets and trailer. */
+  public static final int MAX_RESPONSE_SIZE = 0x1_0002; // */
+
   /** Logger. */
   private static final Logger LOGGER = LoggerFactory.getLogger(WinscardLibraryImpl.class); // */
 
@@ -619,22 +622,27 @@ public final class WinscardLibraryImpl {
   /* package */ int scardTransmit(
       final ScardHandle card,
       final ScardIoRequest pioSendPci,
-      final byte[] sendBuffer,
+      final ByteBuffer sendBuffer,
       final @Nullable ScardIoRequest pioRecvPci,
       final ByteBuffer pbRecvBuffer,
       final DwordByReference pcbRecvLength,
       final double... executionTime) {
-    LOGGER
-        .atTrace()
-        .log(
-            "SCardTransmit(hCard={}, pioSendPci={}, pbSendBuffer={}, pioRecvPci={},"
-                + " pbRecvbuffer='...', pcbRecvLength={})",
-            card,
-            pioSendPci,
-            Hex.toHexDigits(sendBuffer),
-            pioRecvPci,
-            // Hex.toHexDigits(pbRecvBuffer.array()),
-            pcbRecvLength);
+    // Note 1: Intentionally, log messages are guarded, because otherwise the
+    //         hexadecimal representation of the buffers would be calculated
+    //         for each command-response pair.
+    final boolean isTrace = LOGGER.isTraceEnabled();
+    if (isTrace) {
+      LOGGER
+          .atTrace()
+          .log(
+              "SCardTransmit(hCard={}, pioSendPci={}, pbSendBuffer={}, pioRecvPci={},"
+                  + " pbRecvbuffer='...', pcbRecvLength={})",
+              card,
+              pioSendPci,
+              toHexDigits(sendBuffer, sendBuffer.remaining()),
+              pioRecvPci,
+              pcbRecvLength);
+    } // end fi
 
     final long startTime = System.nanoTime();
     final Dword code =
@@ -642,8 +650,8 @@ public final class WinscardLibraryImpl {
             .SCardTransmit(
                 card,
                 pioSendPci,
-                ByteBuffer.wrap(sendBuffer),
-                new Dword(sendBuffer.length),
+                sendBuffer,
+                new Dword(sendBuffer.remaining()),
                 pioRecvPci,
                 pbRecvBuffer,
                 pcbRecvLength);
@@ -651,17 +659,20 @@ public final class WinscardLibraryImpl {
     executionTime[0] = runTime * 1e-9;
     final long result = code.longValue();
 
-    LOGGER
-        .atTrace()
-        .log(
-            "status={}={} pioRecvPci={}, pbRecvBuffer={}, pcbRecvLength={}, runTime={}",
-            String.format("0x%x", result),
-            PcscStatus.getExplanation((int) result),
-            pioRecvPci,
-            // Hex.toHexDigits(pbRecvBuffer.array()),
-            Hex.toHexDigits(pbRecvBuffer.array(), 0, pcbRecvLength.getValue().intValue()),
-            pcbRecvLength,
-            AfiUtils.nanoSeconds2Time(runTime));
+    if (isTrace) {
+      LOGGER
+          .atTrace()
+          .log(
+              "status={}={} pioRecvPci={}, pbRecvBuffer={}, pcbRecvLength={}, runTime={}",
+              String.format("0x%x", result),
+              PcscStatus.getExplanation((int) result),
+              pioRecvPci,
+              toHexDigits(
+                  pbRecvBuffer,
+                  Math.min(pbRecvBuffer.remaining(), pcbRecvLength.getValue().intValue())),
+              pcbRecvLength,
+              AfiUtils.nanoSeconds2Time(runTime));
+    } // end fi
 
     return (int) result;
   } // end method */
@@ -679,17 +690,74 @@ public final class WinscardLibraryImpl {
   public byte[] scardTransmit(
       final ScardHandle card, final byte[] sendBuffer, final double... executionTime)
       throws PcscException {
+    final byte[] rsp = new byte[MAX_RESPONSE_SIZE];
+    final int length =
+        scardTransmit(card, ByteBuffer.wrap(sendBuffer), ByteBuffer.wrap(rsp), executionTime);
+
+    return Arrays.copyOfRange(rsp, 0, length);
+  } // end method */
+
+  /**
+   * Method simplifying {@link WinscardLibrary#SCardTransmit} for buffers.
+   *
+   * <p>The command message consists of the octets from the {@code position} to the {@code limit} of
+   * {@code command}. The response message is written to {@code response} starting at its {@code
+   * position}. In case of success the {@code position} of {@code command} is set to its {@code
+   * limit} and the {@code position} of {@code response} is advanced by the number of octets
+   * received.
+   *
+   * <p>If direct buffers are used, then the underlying library reads and writes them without
+   * intermediate copies. Thus, callers reusing direct buffers for many command-response pairs avoid
+   * allocations on the send path.
+   *
+   * @param card see {@link WinscardLibrary#SCardTransmit}}
+   * @param command buffer containing the command message
+   * @param response buffer receiving the response message, for a response APDU of maximum size
+   *     {@link #MAX_RESPONSE_SIZE} octets remaining are necessary
+   * @param executionTime <b>[OUT]</b> parameter with at least one element which receives the
+   *     execution time of the underlying library call in seconds
+   * @return number of octets in the response message
+   * @throws PcscException if the card operation fails
+   */
+  public int scardTransmit(
+      final ScardHandle card,
+      final ByteBuffer command,
+      final ByteBuffer response,
+      final double... executionTime)
+      throws PcscException {
+    // Note 1: Slices are passed to the library, such that the native pointer
+    //         points to the current position for direct as well as for heap buffers.
     final ScardIoRequest pioSendPci = new ScardIoRequest(SCARD_PROTOCOL_T1);
-    final byte[] rsp = new byte[0x1_0002]; // maximum size of a Response APDU
-    final ByteBuffer pbRecvBuffer = ByteBuffer.wrap(rsp);
-    final DwordByReference pcbRecvLength = new DwordByReference(new Dword(rsp.length));
+    final ByteBuffer pbRecvBuffer = response.slice();
+    final DwordByReference pcbRecvLength =
+        new DwordByReference(new Dword(pbRecvBuffer.remaining()));
 
     PcscStatus.check(
         "scardTransmit",
         scardTransmit(
-            card, pioSendPci, sendBuffer, null, pbRecvBuffer, pcbRecvLength, executionTime));
+            card, pioSendPci, command.slice(), null, pbRecvBuffer, pcbRecvLength, executionTime));
+
+    final int result = pcbRecvLength.getValue().intValue();
+    command.position(command.limit());
+    response.position(response.position() + result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Converts octets from a buffer to hexadecimal digits.
+   *
+   * <p>The buffer's {@code position} is not changed.
+   *
+   * @param buffer with octets starting at its {@code position}
+   * @param length number of octets to be converted
+   * @return hexadecimal representation
+   */
+  private static String toHexDigits(final ByteBuffer buffer, final int length) {
+    final byte[] octets = new byte[length];
+    buffer.get(buffer.position(), octets);
 
-    return Arrays.copyOfRange(rsp, 0, pcbRecvLength.getValue().intValue());
+    return Hex.toHexDigits(octets);
   } // end method */
 
   /**
@@ -0,0 +1,315 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary codec for {@link CommandApdu} and {@link ResponseApdu}.
+ *
+ * <p>Single APDU are written by {@link CommandApdu#writeTo(DataOutput)} and {@link
+ * ResponseApdu#writeTo(DataOutput)} and read by {@link CommandApdu#readFrom(DataInput)} and {@link
+ * ResponseApdu#readFrom(DataInput)}. Sequences of command-response pairs are written by an {@link
+ * Encoder} and read by a {@link Decoder}.
+ *
+ * <p>Lengths are encoded as unsigned variable length integers: Seven bit per octet, least
+ * significant group first, bit b8 set in all but the last octet. Thus, the lengths typical for
+ * short APDU occupy one octet.
+ *
+ * <p>A stream written by an {@link Encoder} consists of
+ *
+ * <ol>
+ *   <li>4 octet: {@link #MAGIC},
+ *   <li>1 octet: {@link #VERSION},
+ *   <li>for each command-response pair the command APDU followed by the response APDU.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class ApduCodec {
+
+  /** Magic number at the start of a stream written by an {@link Encoder}, "APDU" in ASCII. */
+  public static final int MAGIC = 0x41504455; // */
+
+  /** Version of the format written by an {@link Encoder}. */
+  public static final int VERSION = 1; // */
+
+  /**
+   * Supremum of the number of octets in a response data field.
+   *
+   * <p>This is the maximum number of octets a smart card is able to return, see {@link
+   * CommandApdu#NE_EXTENDED_WILDCARD}. Lengths are checked against this value before memory is
+   * allocated. Thus, a corrupted or crafted stream does not force huge allocations.
+   */
+  public static final int NR_SUPREMUM = CommandApdu.NE_EXTENDED_WILDCARD; // */
+
+  /** Private default constructor. */
+  private ApduCodec() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Reads a command-response pair from given input.
+   *
+   * @param input from which the pair is read
+   * @return command-response pair
+   * @throws IOException if reading fails
+   */
+  /* package */ static Map.Entry<CommandApdu, ResponseApdu> readPair(final DataInput input)
+      throws IOException {
+    final CommandApdu command = CommandApdu.readFrom(input);
+
+    return Map.entry(command, ResponseApdu.readFrom(input));
+  } // end method */
+
+  /**
+   * Reads an unsigned variable length integer.
+   *
+   * @param input from which the integer is read
+   * @return integer, range [0, {@link Integer#MAX_VALUE}]
+   * @throws IOException if reading fails
+   * @throws StreamCorruptedException if the integer is too large
+   */
+  /* package */ static int readVarInt(final DataInput input) throws IOException {
+    int result = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      final int octet = input.readUnsignedByte();
+      result |= (octet & 0x7f) << shift;
+
+      if (octet < 0x80) { // NOPMD literal in if statement
+        if ((shift == 28) && (octet > 0x07)) { // NOPMD literals in if statement
+          // ... more than 31 bit
+          break;
+        } // end fi
+
+        return result;
+      } // end fi
+    } // end For (shift...)
+
+    throw new StreamCorruptedException("variable length integer too large");
+  } // end method */
+
+  /**
+   * Writes an unsigned variable length integer.
+   *
+   * @param output to which the integer is written
+   * @param value non-negative integer
+   * @throws IOException if writing fails
+   */
+  /* package */ static void writeVarInt(final DataOutput output, final int value)
+      throws IOException {
+    int rest = value;
+    while (rest >= 0x80) { // NOPMD literal in conditional statement
+      output.writeByte((rest & 0x7f) | 0x80);
+      rest >>>= 7;
+    } // end While (...)
+
+    output.writeByte(rest);
+  } // end method */
+
+  /**
+   * Reads all command-response pairs from given stream.
+   *
+   * <p><i><b>Note:</b> {@code input} is read until its end, but not closed.</i>
+   *
+   * @param input stream as written by an {@link Encoder}
+   * @return command-response pairs in the order written
+   * @throws IOException if reading fails or the stream is corrupted
+   */
+  public static List<Map.Entry<CommandApdu, ResponseApdu>> readAll(final InputStream input)
+      throws IOException {
+    final var decoder = new Decoder(input);
+    final List<Map.Entry<CommandApdu, ResponseApdu>> result = new ArrayList<>();
+
+    for (var pair = decoder.read(); null != pair; pair = decoder.read()) {
+      result.add(pair);
+    } // end For (pair...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Writes command-response pairs to given stream.
+   *
+   * <p><i><b>Note:</b> {@code output} is flushed, but not closed.</i>
+   *
+   * @param output destination
+   * @param pairs command-response pairs to be written
+   * @throws IOException if writing fails
+   */
+  public static void writeAll(
+      final OutputStream output,
+      final Iterable<? extends Map.Entry<CommandApdu, ResponseApdu>> pairs)
+      throws IOException {
+    final var encoder = new Encoder(output);
+
+    for (final var pair : pairs) {
+      encoder.write(pair.getKey(), pair.getValue());
+    } // end For (pair...)
+
+    encoder.flush();
+  } // end method */
+
+  /**
+   * Encoder writing a sequence of command-response pairs to a stream.
+   *
+   * <p>The encoder buffers its output. Thus, {@link #flush()} or {@link #close()} SHALL be called
+   * after the last pair.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are mutable.
+   *   <li>methods are NOT thread-safe.
+   * </ol>
+   */
+  public static final class Encoder implements Closeable, Flushable {
+
+    /** Destination. */
+    private final DataOutputStream insOutput; // */
+
+    /**
+     * Constructor writing the stream header.
+     *
+     * @param output destination
+     * @throws IOException if writing fails
+     */
+    public Encoder(final OutputStream output) throws IOException {
+      insOutput = new DataOutputStream(new BufferedOutputStream(output));
+      insOutput.writeInt(MAGIC);
+      insOutput.writeByte(VERSION);
+    } // end constructor */
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+      insOutput.close();
+    } // end method */
+
+    /**
+     * Flushes buffered output to the underlying stream.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void flush() throws IOException {
+      insOutput.flush();
+    } // end method */
+
+    /**
+     * Writes a command-response pair.
+     *
+     * @param command command APDU
+     * @param response corresponding response APDU
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the response data field contains more than {@link
+     *     #NR_SUPREMUM} octet
+     */
+    public void write(final CommandApdu command, final ResponseApdu response) throws IOException {
+      command.writeTo(insOutput);
+      response.writeTo(insOutput);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Decoder reading a sequence of command-response pairs from a stream.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are mutable.
+   *   <li>methods are NOT thread-safe.
+   * </ol>
+   */
+  public static final class Decoder implements Closeable {
+
+    /** Source. */
+    private final DataInputStream insInput; // */
+
+    /**
+     * Constructor reading the stream header.
+     *
+     * @param input source
+     * @throws IOException if reading fails
+     * @throws StreamCorruptedException if the stream header is invalid
+     */
+    public Decoder(final InputStream input) throws IOException {
+      insInput = new DataInputStream(new BufferedInputStream(input));
+
+      if (MAGIC != insInput.readInt()) {
+        throw new StreamCorruptedException("invalid magic number");
+      } // end fi
+
+      final int version = insInput.readUnsignedByte();
+      if (VERSION != version) {
+        throw new StreamCorruptedException("unsupported version: " + version);
+      } // end fi
+    } // end constructor */
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+      insInput.close();
+    } // end method */
+
+    /**
+     * Reads the next command-response pair.
+     *
+     * @return command-response pair, {@code null} at the end of the stream
+     * @throws IOException if reading fails
+     * @throws EOFException if the stream ends within a pair
+     * @throws IllegalArgumentException if an APDU is invalid
+     */
+    public @CheckForNull Map.Entry<CommandApdu, ResponseApdu> read() throws IOException {
+      insInput.mark(1);
+      if (insInput.read() < 0) {
+        // ... end of stream
+        return null;
+      } // end fi
+      insInput.reset();
+
+      return readPair(insInput);
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,113 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.util.Objects;
+
+/**
+ * Service provider interface for instrumentation of {@link ApduLayer}s.
+ *
+ * <p>Implementations of {@link ApduLayer} report each command-response pair to the instrumentation
+ * returned by {@link #get()}. By default, that is {@link #NONE}, which ignores all reports. An
+ * application installs an instrumentation by {@link #set(ApduInstrumentation)}, e.g., a {@link
+ * LatencyRecorder}.
+ *
+ * <p>Reports contain the name of the reporting layer (e.g. "Icc" or "SecureMessagingLayer"). Thus,
+ * an instrumentation is able to show where time goes in a stack of layers.
+ *
+ * <p><i><b>Note:</b> Methods of implementations are called concurrently from many threads and
+ * SHOULD return quickly.</i>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public interface ApduInstrumentation {
+
+  /** Instrumentation ignoring all reports. */
+  ApduInstrumentation NONE = new ApduInstrumentation() {}; // */
+
+  /**
+   * Returns the installed instrumentation.
+   *
+   * @return installed instrumentation, {@link #NONE} if none is installed
+   */
+  static ApduInstrumentation get() {
+    return InstrumentationHolder.insInstance;
+  } // end method */
+
+  /**
+   * Installs an instrumentation.
+   *
+   * @param instrumentation to be installed, {@link #NONE} uninstalls
+   * @throws NullPointerException if {@code instrumentation} is {@code null}
+   */
+  static void set(final ApduInstrumentation instrumentation) {
+    InstrumentationHolder.insInstance = Objects.requireNonNull(instrumentation);
+  } // end method */
+
+  /**
+   * Reports a command APDU for which an exception was thrown.
+   *
+   * <p>The default implementation does nothing.
+   *
+   * @param layer name of the reporting layer
+   * @param cmd command APDU
+   * @param exception thrown
+   * @param nanos duration in nanoseconds until the exception was thrown
+   */
+  default void onError(
+      final String layer,
+      final CommandApdu cmd,
+      final RuntimeException exception,
+      final long nanos) {
+    // intentionally empty
+  } // end method */
+
+  /**
+   * Reports a command-response pair.
+   *
+   * <p>The default implementation does nothing.
+   *
+   * @param layer name of the reporting layer
+   * @param cmd command APDU
+   * @param rsp response APDU
+   * @param nanos duration in nanoseconds spent in the reporting layer and the layers below
+   */
+  default void onResponse(
+      final String layer, final CommandApdu cmd, final ResponseApdu rsp, final long nanos) {
+    // intentionally empty
+  } // end method */
+
+  /**
+   * Holder for the installed {@link ApduInstrumentation}.
+   *
+   * <p><i><b>Note:</b> Members of an interface are implicitly public. Thus, this class cannot be
+   * private. Instead, its attribute and constructor are private.</i>
+   */
+  final class InstrumentationHolder {
+
+    /** Installed instrumentation. */
+    private static volatile ApduInstrumentation insInstance = NONE; // */
+
+    /** Private default constructor. */
+    private InstrumentationHolder() {
+      // intentionally empty
+    } // end constructor */
+  } // end inner class
+} // end interface
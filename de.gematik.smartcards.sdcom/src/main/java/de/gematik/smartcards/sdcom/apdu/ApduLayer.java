@@ -20,6 +20,11 @@
 package de.gematik.smartcards.sdcom.apdu;
 
 import de.gematik.smartcards.sdcom.MessageLayer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.IntStream;
 
 /**
@@ -39,6 +44,102 @@ public interface ApduLayer extends MessageLayer {
     return new ResponseApdu(send(apdu.getBytes()));
   } // */
 
+  /**
+   * Sends a command message from a buffer and receives the corresponding response message into a
+   * buffer.
+   *
+   * <p>The command message consists of the octets from the {@code position} to the {@code limit} of
+   * {@code command}. Upon return, the {@code position} of {@code command} equals its {@code limit}.
+   * The response message is written to {@code response} starting at its {@code position}, and its
+   * {@code position} is advanced by the number of octets received.
+   *
+   * <p>The default implementation copies the command message to an array and uses {@link
+   * #send(byte[])}. Implementations with direct access to the transport layer SHOULD override this
+   * method, such that direct buffers are handed over without intermediate copies.
+   *
+   * <p><i><b>Note:</b> This method is NOT thread-safe, because it is possible to change the content
+   * of the buffers while this method is running.</i>
+   *
+   * @param command buffer containing the command message
+   * @param response buffer receiving the response message
+   * @return number of octets written to {@code response}
+   * @throws BufferOverflowException if {@code response} has not enough space for the response
+   *     message, in that case the command message has been sent anyway
+   */
+  default int send(final ByteBuffer command, final ByteBuffer response) {
+    final byte[] cmd = new byte[command.remaining()];
+    command.get(cmd);
+
+    final byte[] rsp = send(cmd);
+    response.put(rsp);
+
+    return rsp.length;
+  } // end method */
+
+  /**
+   * Sends given command APDU using buffers provided by the caller.
+   *
+   * <p>The command APDU is encoded into {@code command} by {@link CommandApdu#encodeTo(ByteBuffer)}
+   * and sent by {@link #send(ByteBuffer, ByteBuffer)}. Thus, a caller sending many command APDUs is
+   * able to reuse the same (possibly direct) buffers for all of them. Both buffers are cleared
+   * before use. Upon return, {@code response} contains the response APDU between {@code position}
+   * and {@code limit}.
+   *
+   * <p><i><b>Note:</b> This method is NOT thread-safe, because it is possible to change the content
+   * of the buffers while this method is running.</i>
+   *
+   * @param apdu command APDU to be sent
+   * @param command buffer used for the encoding of {@code apdu}, at least {@link
+   *     CommandApdu#encodedLength()} octets capacity
+   * @param response buffer receiving the response APDU
+   * @return corresponding {@link ResponseApdu}
+   * @throws BufferOverflowException if one of the buffers is too small
+   */
+  default ResponseApdu send(
+      final CommandApdu apdu, final ByteBuffer command, final ByteBuffer response) {
+    command.clear();
+    apdu.encodeTo(command);
+    command.flip();
+
+    response.clear();
+    send(command, response);
+    final ResponseApdu result = new ResponseApdu(response.flip());
+    response.rewind();
+
+    return result;
+  } // end method */
+
+  /**
+   * Sends a batch of command APDU.
+   *
+   * <p>Command APDU are sent in the given order. After each {@link ResponseApdu} the policy decides
+   * whether the batch stops, see {@link BatchPolicy#isStop(ResponseApdu)}. Commands after the stop
+   * are not sent.
+   *
+   * <p>The default implementation calls {@link #send(CommandApdu)} for each command APDU.
+   * Implementations SHOULD override this method if they are able to send a batch more efficiently,
+   * e.g., by preparing all command APDU in advance and acquiring locks once per batch.
+   *
+   * @param apdus command APDU to be sent
+   * @param policy deciding whether the batch stops after a response APDU
+   * @return unmodifiable list with {@link ResponseApdu} corresponding to the command APDU sent,
+   *     i.e., shorter than {@code apdus} if the batch stopped early
+   */
+  default List<ResponseApdu> sendBatch(final List<CommandApdu> apdus, final BatchPolicy policy) {
+    final List<ResponseApdu> result = new ArrayList<>(apdus.size());
+
+    for (final CommandApdu apdu : apdus) {
+      final ResponseApdu rsp = send(apdu);
+      result.add(rsp);
+
+      if (policy.isStop(rsp)) {
+        break;
+      } // end fi
+    } // end For (apdu...)
+
+    return Collections.unmodifiableList(result);
+  } // end method */
+
   /**
    * Sends given {@link CommandApdu} and compares trailer of corresponding {@link ResponseApdu} to
    * expected trailers.
@@ -0,0 +1,134 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * The purpose of this interface is specifying an asynchronous facade for an {@link ApduLayer}.
+ *
+ * <p>Command APDU are sent by {@link #sendAsync(CommandApdu)} without blocking the caller. Tasks
+ * submitted to the same {@link AsyncApduLayer} instance are executed one after another in the order
+ * of submission, i.e., no two command-response pairs of that instance overlap. The ordering does
+ * NOT hold across different instances, even if they share the underlying {@link ApduLayer}. Thus,
+ * one instance is created per smart card, kept for the lifetime of the connection and closed
+ * afterwards:
+ *
+ * <pre>{@code
+ * try (AsyncApduLayer async = AsyncApduLayer.of(card)) {
+ *   final CompletableFuture<ResponseApdu> select = async.sendAsync(selectCmd);
+ *   final CompletableFuture<ResponseApdu> read = async.sendAsync(readCmd); // after select
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>With one such instance per smart card a single thread is able to drive many smart cards in
+ * parallel.
+ *
+ * <p>{@link #of(ApduLayer)} adapts any {@link ApduLayer} (e.g. {@code Icc}, {@code IccChannel},
+ * {@code SecureMessagingLayer} or {@code IccProxy}).
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public interface AsyncApduLayer extends AutoCloseable {
+
+  /**
+   * Creates an {@link AsyncApduLayer} for the given {@link ApduLayer}.
+   *
+   * <p>Each call creates a new instance which executes all its tasks in one virtual thread, see
+   * {@link VirtualThreadApduLayer}. Ordering of tasks holds per instance only. Thus, for each smart
+   * card (or reader) exactly one {@link AsyncApduLayer} is created by the caller and closed by the
+   * caller when no longer needed, see {@link #close()}.
+   *
+   * @param apduLayer used for sending command APDU
+   * @return asynchronous facade for {@code apduLayer}
+   */
+  static AsyncApduLayer of(final ApduLayer apduLayer) {
+    return new VirtualThreadApduLayer(apduLayer);
+  } // end method */
+
+  /**
+   * Closes this {@link AsyncApduLayer}.
+   *
+   * <p>Tasks already submitted are executed before this method returns, tasks submitted afterwards
+   * are rejected. The underlying {@link ApduLayer} is not closed.
+   */
+  @Override
+  void close(); // */
+
+  /**
+   * Returns the underlying {@link ApduLayer}.
+   *
+   * <p><i><b>Note:</b> Using the returned object directly bypasses the ordering of tasks in this
+   * {@link AsyncApduLayer}.</i>
+   *
+   * @return underlying {@link ApduLayer}
+   */
+  ApduLayer getApduLayer(); // */
+
+  /**
+   * Sends given command APDU asynchronously.
+   *
+   * @param apdu command APDU to be sent
+   * @return future completed with the corresponding {@link ResponseApdu} or exceptionally with the
+   *     exception thrown by {@link ApduLayer#send(CommandApdu)}
+   * @throws RejectedExecutionException if this {@link AsyncApduLayer} is closed
+   */
+  default CompletableFuture<ResponseApdu> sendAsync(final CommandApdu apdu) {
+    return submit(apduLayer -> apduLayer.send(apdu));
+  } // end method */
+
+  /**
+   * Sends given command APDU asynchronously and compares trailer of corresponding {@link
+   * ResponseApdu} to expected trailers.
+   *
+   * @param apdu command APDU to be sent
+   * @param expectedTrailer values of trailer (SW1 SW2) expected in {@link ResponseApdu}
+   * @return future completed with the corresponding {@link ResponseApdu} or exceptionally with the
+   *     exception thrown by {@link ApduLayer#send(CommandApdu, int...)}
+   * @throws RejectedExecutionException if this {@link AsyncApduLayer} is closed
+   */
+  default CompletableFuture<ResponseApdu> sendAsync(
+      final CommandApdu apdu, final int... expectedTrailer) {
+    final int[] trailer = expectedTrailer.clone();
+
+    return submit(apduLayer -> apduLayer.send(apdu, trailer));
+  } // end method */
+
+  /**
+   * Submits a task using the underlying {@link ApduLayer}.
+   *
+   * <p>The task has exclusive access to the underlying {@link ApduLayer} with respect to other
+   * tasks of this {@link AsyncApduLayer}. Thus, a sequence of command APDU which belongs together
+   * (e.g. selecting a file and reading its content) is sent without other command APDU in between.
+   *
+   * <p><i><b>Note:</b> Cancelling the returned future does not interrupt a task which is already
+   * running.</i>
+   *
+   * @param task to be executed
+   * @param <T> type of result
+   * @return future completed with the result of {@code task} or exceptionally with the exception
+   *     thrown by {@code task}
+   * @throws RejectedExecutionException if this {@link AsyncApduLayer} is closed
+   */
+  <T> CompletableFuture<T> submit(Function<? super ApduLayer, ? extends T> task); // */
+} // end interface
@@ -0,0 +1,129 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Policy for {@link ApduLayer#sendBatch(java.util.List, BatchPolicy)}.
+ *
+ * <p>A policy defines the expected trailers (SW1 SW2) and whether a batch stops after the first
+ * {@link ResponseApdu} with an unexpected trailer.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class BatchPolicy {
+
+  /** Policy sending all command APDU of a batch, regardless of the trailers received. */
+  public static final BatchPolicy SEND_ALL = new BatchPolicy(false); // */
+
+  /** Expected trailers in the order given to the constructor. */
+  private final int[] insExpectedTrailer; // */
+
+  /** Flag indicating whether a batch stops after the first unexpected trailer. */
+  private final boolean insStopOnUnexpected; // */
+
+  /**
+   * Constructor.
+   *
+   * @param stopOnUnexpected {@code TRUE} if a batch stops after the first {@link ResponseApdu} with
+   *     a trailer not in {@code expectedTrailer}, {@code FALSE} if all command APDU are sent
+   * @param expectedTrailer values of trailer (SW1 SW2) expected in {@link ResponseApdu}, only the
+   *     16 least significant bit are taken into account
+   */
+  public BatchPolicy(final boolean stopOnUnexpected, final int... expectedTrailer) {
+    insStopOnUnexpected = stopOnUnexpected;
+    insExpectedTrailer = IntStream.of(expectedTrailer).map(i -> i & 0xffff).toArray();
+  } // end constructor */
+
+  /**
+   * Returns expected trailers.
+   *
+   * @return expected trailers in the order given to the constructor
+   */
+  public int[] getExpectedTrailers() {
+    return insExpectedTrailer.clone();
+  } // end method */
+
+  /**
+   * Checks whether given trailer is expected.
+   *
+   * @param trailer value of trailer (SW1 SW2)
+   * @return {@code TRUE} if {@code trailer} is one of the expected trailers, {@code FALSE}
+   *     otherwise
+   */
+  public boolean isExpected(final int trailer) {
+    // Note: Typically, there are only a few expected trailers. Thus, a linear
+    //       search is as fast as anything else.
+    for (final int i : insExpectedTrailer) {
+      if (i == trailer) {
+        return true;
+      } // end fi
+    } // end For (i...)
+
+    return false;
+  } // end method */
+
+  /**
+   * Checks whether a batch stops after the given response APDU.
+   *
+   * @param rsp response APDU
+   * @return {@code TRUE} if this policy stops on unexpected trailers and the trailer of {@code rsp}
+   *     is not expected, {@code FALSE} otherwise
+   */
+  public boolean isStop(final ResponseApdu rsp) {
+    return insStopOnUnexpected && !isExpected(rsp.getSw());
+  } // end method */
+
+  /**
+   * Returns flag indicating whether a batch stops after the first unexpected trailer.
+   *
+   * @return {@code TRUE} if a batch stops after the first unexpected trailer, {@code FALSE}
+   *     otherwise
+   */
+  public boolean isStopOnUnexpected() {
+    return insStopOnUnexpected;
+  } // end method */
+
+  /**
+   * Returns {@link String} representation of this policy.
+   *
+   * @return string representation in human-readable form, e.g. "stopOnUnexpected=true
+   *     expected=['9000', '6282']"
+   */
+  @Override
+  public String toString() {
+    return String.format(
+        "stopOnUnexpected=%s expected=[%s]",
+        insStopOnUnexpected,
+        Arrays.stream(insExpectedTrailer)
+            .mapToObj(i -> String.format("'%04x'", i))
+            .collect(Collectors.joining(", ")));
+  } // end method */
+} // end class
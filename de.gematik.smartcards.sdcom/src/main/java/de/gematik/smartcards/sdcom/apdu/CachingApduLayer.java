@@ -0,0 +1,503 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import de.gematik.smartcards.utils.Hex;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Decorator for an {@link ApduLayer} caching responses to read-only command APDU.
+ *
+ * <p>The purpose of this class is to avoid reading static content (e.g. EF.ATR, EF.GDO) again and
+ * again, e.g., each time a connection to a known smart card is established. For this, responses are
+ * stored in a {@link Cache} which is intended to be shared by all {@link CachingApduLayer}s of an
+ * application. Entries in the cache belong to a card identity given to the constructor.
+ *
+ * <p>The card identity <b>SHALL</b> be unique per smart card, e.g. the ICCSN read from EF.GDO. An
+ * identity shared by several smart cards (e.g. the ATR, which identifies a card product rather than
+ * an individual card) is unsafe, because then responses of one smart card are returned for another.
+ *
+ * <p>A response is cached if and only if
+ *
+ * <ol>
+ *   <li>the command APDU is sent by {@link #send(CommandApdu)},
+ *   <li>the command APDU is sent on the basic logical channel,
+ *   <li>the command APDU fulfills the predicate given to the constructor (by default {@link
+ *       #DEFAULT_CACHEABLE}),
+ *   <li>the currently selected file is known, i.e., an absolute SELECT command (see below) has been
+ *       sent successfully through this object on the basic logical channel,
+ *   <li>no command APDU possibly changing the security status (VERIFY, MANAGE SECURITY ENVIRONMENT,
+ *       EXTERNAL or MUTUAL AUTHENTICATE, GENERAL AUTHENTICATE) has been sent through this object,
+ *   <li>the response has status word '9000'.
+ * </ol>
+ *
+ * <p>The last but one condition prevents that responses which are readable only after a successful
+ * user or component authentication are stored and later returned to a connection without such an
+ * authentication. Responses stored before are still returned, because they were readable without
+ * authentication.
+ *
+ * <p>Cached responses belong to the currently selected file. Thus, a SELECT command to a different
+ * file switches to other cache entries. Because selections relative to the current DF (e.g. P1 =
+ * '01', '02', '03', '09') and short file identifiers name different files depending on the current
+ * DF, only the following SELECT commands result in a known selection:
+ *
+ * <ol>
+ *   <li>SELECT MF, i.e., P1 = '00' with an absent command data field or file identifier '3f00',
+ *   <li>SELECT by DF name (P1 = '04'),
+ *   <li>SELECT by path from the MF (P1 = '08').
+ * </ol>
+ *
+ * <p>Any other SELECT command makes the currently selected file unknown. Command APDU possibly
+ * modifying the content of the smart card (e.g. UPDATE, WRITE, ERASE, SET LOGICAL EOF, PERFORM
+ * SECURITY OPERATION, GENERATE ASYMMETRIC KEY PAIR) invalidate all cache entries of the card
+ * identity. This is also true for such command APDU sent by {@link #send(byte[])}.
+ *
+ * <p><i><b>Notes:</b></i>
+ *
+ * <ol>
+ *   <li><i>If secure messaging is used, then this decorator has to be placed above the secure
+ *       messaging layer. Otherwise, command APDU differ from each other and responses are never
+ *       found in the cache.</i>
+ *   <li><i>Methods are thread-safe.</i>
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class CachingApduLayer implements ApduLayer {
+
+  /**
+   * Predicate for command APDU with static responses.
+   *
+   * <p>The following command APDU are accepted:
+   *
+   * <ol>
+   *   <li>READ BINARY with short file identifier,
+   *   <li>READ RECORD with short file identifier,
+   *   <li>GET DATA.
+   * </ol>
+   *
+   * <p>Command APDU indicating secure messaging are not accepted.
+   */
+  public static final Predicate<CommandApdu> DEFAULT_CACHEABLE =
+      apdu ->
+          !apdu.isSecureMessagingIndicated()
+              && switch (apdu.getIns()) {
+                case 0xb0 -> 0 != (apdu.getP1() & 0x80); // READ BINARY with SFI
+                case 0xb2 -> 0 != (apdu.getP2() & 0xf8); // READ RECORD with SFI
+                case 0xca -> true; // GET DATA
+                default -> false;
+              }; // */
+
+  /** Instruction byte of SELECT command. */
+  private static final int INS_SELECT = 0xa4; // */
+
+  /** Instruction byte of MANAGE CHANNEL command. */
+  private static final int INS_MANAGE_CHANNEL = 0x70; // */
+
+  /** Underlying {@link ApduLayer}. */
+  private final ApduLayer insApduLayer; // */
+
+  /** Identity of the smart card, unique per smart card, e.g. ICCSN. */
+  private final String insIdentity; // */
+
+  /** Cache shared with other {@link CachingApduLayer}s. */
+  private final Cache insCache; // */
+
+  /** Predicate deciding which command APDU are cacheable. */
+  private final Predicate<CommandApdu> insCacheable; // */
+
+  /**
+   * Currently selected file on the basic logical channel, {@code null} if unknown.
+   *
+   * <p>The value is derived from the SELECT command which selected the file.
+   */
+  private volatile @Nullable String insSelection; // NOPMD volatile not recommended */
+
+  /**
+   * Flag indicating whether the security status of the smart card possibly changed.
+   *
+   * <p>If {@code TRUE}, then no more responses are stored in the cache.
+   */
+  private volatile boolean insSecurityStatus; // NOPMD volatile not recommended */
+
+  /** Execution time in seconds of previous command-response pair. */
+  private volatile double insTime; // NOPMD volatile not recommended */
+
+  /**
+   * Comfort constructor using {@link #DEFAULT_CACHEABLE}.
+   *
+   * @param apduLayer underlying {@link ApduLayer}
+   * @param identity of the smart card, unique per smart card, e.g. ICCSN, see class documentation
+   * @param cache shared with other {@link CachingApduLayer}s
+   */
+  public CachingApduLayer(final ApduLayer apduLayer, final String identity, final Cache cache) {
+    this(apduLayer, identity, cache, DEFAULT_CACHEABLE);
+  } // end constructor */
+
+  /**
+   * Constructor.
+   *
+   * @param apduLayer underlying {@link ApduLayer}
+   * @param identity of the smart card, unique per smart card, e.g. ICCSN, see class documentation
+   * @param cache shared with other {@link CachingApduLayer}s
+   * @param cacheable predicate deciding which command APDU are cacheable
+   */
+  public CachingApduLayer(
+      final ApduLayer apduLayer,
+      final String identity,
+      final Cache cache,
+      final Predicate<CommandApdu> cacheable) {
+    insApduLayer = apduLayer;
+    insIdentity = identity;
+    insCache = cache;
+    insCacheable = cacheable;
+  } // end constructor */
+
+  /**
+   * Returns execution time of previous command-response pair.
+   *
+   * @return execution time in seconds of previous command-response pair, zero if the response was
+   *     taken from the cache
+   */
+  @Override
+  public double getTime() {
+    return insTime;
+  } // end method */
+
+  /**
+   * Sends given message.
+   *
+   * <p>The message is sent without using the cache. If the message possibly modifies the content of
+   * the smart card, then all cache entries of the card identity are invalidated. If the message is
+   * a SELECT or MANAGE CHANNEL command, then the currently selected file is treated as unknown. If
+   * the message possibly changes the security status, then no more responses are stored.
+   *
+   * @param message to be sent, typically a command
+   * @return corresponding response message
+   */
+  @Override
+  public byte[] send(final byte[] message) {
+    if (message.length >= 2) { // NOPMD literal in if statement
+      final int ins = message[1] & 0xff;
+
+      if (isModifying(ins)) {
+        insCache.invalidate(insIdentity);
+      } else if ((INS_SELECT == ins) || (INS_MANAGE_CHANNEL == ins)) {
+        insSelection = null; // NOPMD assigning to "null" is a code smell
+      } else if (isSecurityRelevant(ins)) {
+        insSecurityStatus = true;
+      } // end else if
+    } // end fi
+
+    try {
+      return insApduLayer.send(message);
+    } finally {
+      insTime = insApduLayer.getTime();
+    } // end finally
+  } // end method */
+
+  /**
+   * Sends given command APDU, possibly answered from the cache.
+   *
+   * @param apdu command APDU to be sent
+   * @return corresponding {@link ResponseApdu}
+   */
+  @Override
+  public ResponseApdu send(final CommandApdu apdu) {
+    final int ins = apdu.getIns();
+    final boolean isBasicChannel = 0 == apdu.getChannelNumber();
+
+    if (isModifying(ins)) {
+      insCache.invalidate(insIdentity);
+    } else if (isSecurityRelevant(ins)) {
+      insSecurityStatus = true;
+    } // end else if
+
+    final String selection = insSelection; // read from the main memory into thread local memory
+    final String key =
+        (isBasicChannel && (null != selection) && insCacheable.test(apdu))
+            ? insIdentity + '|' + selection + '|' + Hex.toHexDigits(apdu.getBytes())
+            : null;
+
+    if (null != key) {
+      final ResponseApdu cached = insCache.get(key);
+      if (null != cached) {
+        insTime = 0;
+
+        return cached;
+      } // end fi
+    } // end fi
+
+    final ResponseApdu result;
+    try {
+      result = insApduLayer.send(apdu);
+    } finally {
+      insTime = insApduLayer.getTime();
+    } // end finally
+
+    if (isBasicChannel) {
+      if (INS_SELECT == ins) {
+        insSelection = isSuccess(result) ? selection(apdu) : null;
+      } else if (INS_MANAGE_CHANNEL == ins) {
+        insSelection = null; // NOPMD assigning to "null" is a code smell
+      } // end else if
+    } // end fi
+
+    if ((null != key)
+        && !insSecurityStatus
+        && (0x9000 == result.getSw())) { // NOPMD literal in if statement
+      insCache.put(key, result);
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Checks whether a command APDU possibly modifies the content of a smart card.
+   *
+   * @param ins instruction byte
+   * @return {@code TRUE} if the command possibly modifies content, {@code FALSE} otherwise
+   */
+  private static boolean isModifying(final int ins) {
+    return switch (ins) {
+      case 0x04, // DEACTIVATE FILE
+              0x0c, // ERASE RECORD
+              0x0e, // ERASE BINARY, SET LOGICAL EOF
+              0x0f, // ERASE BINARY
+              0x2a, // PERFORM SECURITY OPERATION, e.g. VERIFY CERTIFICATE changes public keys
+              0x44, // ACTIVATE FILE
+              0x46, // GENERATE ASYMMETRIC KEY PAIR
+              0xd0, // WRITE BINARY
+              0xd1, // WRITE BINARY
+              0xd2, // WRITE RECORD
+              0xd6, // UPDATE BINARY
+              0xd7, // UPDATE BINARY
+              0xda, // PUT DATA
+              0xdb, // PUT DATA
+              0xdc, // UPDATE RECORD
+              0xdd, // UPDATE RECORD
+              0xe0, // CREATE FILE
+              0xe2, // APPEND RECORD
+              0xe4, // DELETE FILE
+              0xe6, // TERMINATE DF
+              0xe8, // TERMINATE EF
+              0xfe -> // TERMINATE CARD USAGE
+          true;
+      default -> false;
+    }; // end Switch (ins)
+  } // end method */
+
+  /**
+   * Checks whether a command APDU possibly changes the security status of a smart card.
+   *
+   * @param ins instruction byte
+   * @return {@code TRUE} if the command possibly changes the security status, {@code FALSE}
+   *     otherwise
+   */
+  private static boolean isSecurityRelevant(final int ins) {
+    return switch (ins) {
+      case 0x20, // VERIFY
+              0x21, // VERIFY
+              0x22, // MANAGE SECURITY ENVIRONMENT
+              0x82, // EXTERNAL AUTHENTICATE, MUTUAL AUTHENTICATE
+              0x86, // GENERAL AUTHENTICATE
+              0x87 -> // GENERAL AUTHENTICATE
+          true;
+      default -> false;
+    }; // end Switch (ins)
+  } // end method */
+
+  /**
+   * Checks whether a SELECT command was successful.
+   *
+   * @param rsp response APDU
+   * @return {@code TRUE} if status word is '9000' or a warning, {@code FALSE} otherwise
+   */
+  private static boolean isSuccess(final ResponseApdu rsp) {
+    final int sw1 = rsp.getSw1();
+
+    return (0x90 == sw1) || (0x62 == sw1) || (0x63 == sw1);
+  } // end method */
+
+  /**
+   * Converts a SELECT command into a representation of the selected file.
+   *
+   * <p>Only absolute selections are converted, i.e., SELECT MF, SELECT by DF name and SELECT by
+   * path from the MF. Other selections are relative to the current DF and thus do not identify a
+   * file on their own.
+   *
+   * <p>The response-control bits b4 b3 of P2 are ignored, because they do not affect the selected
+   * file.
+   *
+   * @param apdu SELECT command
+   * @return representation of the selected file, {@code null} if the selection is relative
+   */
+  /* package */ static @Nullable String selection(final CommandApdu apdu) {
+    final int p1 = apdu.getP1();
+    final byte[] data = apdu.getData();
+
+    return switch (p1) {
+      case 0x00 -> // SELECT MF if data is absent or equals '3f00'
+          ((0 == data.length) || "3f00".equals(Hex.toHexDigits(data))) ? "mf" : null;
+      case 0x04, // SELECT by DF name
+              0x08 -> // SELECT by path from MF
+          String.format("%02x%02x", p1, apdu.getP2() & 0xf3) + Hex.toHexDigits(data);
+      default -> null;
+    }; // end Switch (p1)
+  } // end method */
+
+  /**
+   * Bounded cache with least-recently-used eviction.
+   *
+   * <p>An instance is intended to be shared by many {@link CachingApduLayer}s.
+   *
+   * <p>From the perspective of this class, methods are thread-safe.
+   */
+  public static final class Cache {
+
+    /** Entries in access order. */
+    private final LinkedHashMap<String, ResponseApdu> insEntries; // NOPMD use interface */
+
+    /** Number of lookups answered from the cache. */
+    private final LongAdder insHits = new LongAdder(); // */
+
+    /** Number of lookups not answered from the cache. */
+    private final LongAdder insMisses = new LongAdder(); // */
+
+    /** Number of entries evicted because of the bound. */
+    private final LongAdder insEvictions = new LongAdder(); // */
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries maximum number of entries
+     * @throws IllegalArgumentException if {@code maxEntries} is not positive
+     */
+    public Cache(final int maxEntries) {
+      if (maxEntries < 1) {
+        throw new IllegalArgumentException("maxEntries SHALL be positive");
+      } // end fi
+
+      insEntries =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            /** Automatically generated UID. */
+            @java.io.Serial private static final long serialVersionUID = -2263454640564385313L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, ResponseApdu> eldest) {
+              final boolean result = size() > maxEntries;
+              if (result) {
+                insEvictions.increment();
+              } // end fi
+
+              return result;
+            } // end method */
+          };
+    } // end constructor */
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return number of hits
+     */
+    public long getHitCount() {
+      return insHits.sum();
+    } // end method */
+
+    /**
+     * Returns the number of lookups not answered from the cache.
+     *
+     * @return number of misses
+     */
+    public long getMissCount() {
+      return insMisses.sum();
+    } // end method */
+
+    /**
+     * Returns the number of entries evicted because of the bound.
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+      return insEvictions.sum();
+    } // end method */
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return number of entries
+     */
+    public int size() {
+      synchronized (insEntries) {
+        return insEntries.size();
+      } // end synchronized
+    } // end method */
+
+    /**
+     * Removes all entries of given card identity.
+     *
+     * @param identity of the smart card
+     */
+    public void invalidate(final String identity) {
+      final String prefix = identity + '|';
+
+      synchronized (insEntries) {
+        insEntries.keySet().removeIf(key -> key.startsWith(prefix));
+      } // end synchronized
+    } // end method */
+
+    /**
+     * Looks up an entry.
+     *
+     * @param key of entry
+     * @return cached response, {@code null} if absent
+     */
+    private @Nullable ResponseApdu get(final String key) {
+      final ResponseApdu result;
+      synchronized (insEntries) {
+        result = insEntries.get(key);
+      } // end synchronized
+
+      if (null == result) {
+        insMisses.increment();
+      } else {
+        insHits.increment();
+      } // end else
+
+      return result;
+    } // end method */
+
+    /**
+     * Stores an entry.
+     *
+     * @param key of entry
+     * @param rsp response to be cached
+     */
+    private void put(final String key, final ResponseApdu rsp) {
+      synchronized (insEntries) {
+        insEntries.put(key, rsp);
+      } // end synchronized
+    } // end method */
+  } // end inner class
+} // end class
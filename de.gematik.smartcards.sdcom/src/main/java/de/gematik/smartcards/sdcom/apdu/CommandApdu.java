@@ -25,8 +25,17 @@ import de.gematik.smartcards.sdcom.apdu.isoiec7816apdu.AbstractBinary;
 import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -211,6 +220,22 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
    */
   protected volatile int insHashCode; // NOPMD volatile not recommended */
 
+  /**
+   * Cache for the octet string representation returned by {@link #getBytes()}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Because only immutable instance attributes are encoded lazy initialization is
+   *       possible.</i>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>Intentionally, this instance attribute is transient, because it is recalculated if
+   *       necessary.</i>
+   * </ol>
+   */
+  private transient volatile @Nullable byte[] insEncoding; // NOPMD volatile not recommended */
+
   /**
    * Constructs a {@link CommandApdu} from a byte array containing the complete APDU contents
    * (command header, optional data field and optional Le-field).
@@ -958,6 +983,70 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
     }; // end Switch
   } // end method */
 
+  /**
+   * Writes the octet string representation of {@link CommandApdu} into given buffer.
+   *
+   * <p>The octets written are the same as those from {@link #getBytes()}, i.e., if possible Lc- and
+   * Le-field are short. If the buffer has enough space, then the octets are written starting at the
+   * buffer's {@code position} and the {@code position} is advanced by {@link #encodedLength()}.
+   * Otherwise, the buffer is not changed.
+   *
+   * <p>No objects are created by this method. Thus, it is possible to encode many command APDUs
+   * into a reusable (possibly direct) buffer without producing garbage.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is NOT thread-safe, because it is possible to change the content of the
+   *       buffer while this method is running.</i>
+   *   <li><i>Object sharing is not a problem here, because the buffer is only written.</i>
+   * </ol>
+   *
+   * @param dst buffer receiving the octet string representation
+   * @return number of octets written, i.e., {@link #encodedLength()}
+   * @throws BufferOverflowException if {@code dst} has less than {@link #encodedLength()} octets
+   *     remaining
+   * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+   */
+  public final int encodeTo(final ByteBuffer dst) {
+    final byte[] encoding = insEncoding; // read from the main memory into thread local memory
+    if (null != encoding) {
+      // ... encoding already available
+      dst.put(encoding);
+
+      return encoding.length;
+    } // end fi
+
+    final boolean isExtended = !isShort();
+    final int result = encodedLength(isExtended);
+
+    if (dst.remaining() < result) {
+      throw new BufferOverflowException();
+    } // end fi
+
+    encode(dst, isExtended);
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns the number of octets in the octet string representation of {@link CommandApdu}.
+   *
+   * <p>The value returned equals {@code getBytes().length}, but no objects are created.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because return value is primitive.</i>
+   * </ol>
+   *
+   * @return number of octets in {@link #getBytes()}
+   */
+  public final int encodedLength() {
+    return encodedLength(!isShort());
+  } // end method */
+
   /**
    * Return octet string representation of {@link CommandApdu}.
    *
@@ -977,7 +1066,7 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
    */
   @Override
   public final byte[] getBytes() {
-    return isShort() ? getBytesShort() : getBytesExtended();
+    return getEncoding().clone();
   } // end method */
 
   /**
@@ -998,30 +1087,10 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
    *     clause 12.1.3 extended Command-APDU
    */
   public final byte[] getBytesExtended() {
-    final int nc = getNc();
-    final int ne = getNe();
-    final int iso = getCase();
-    // ... assertion 1: 0 <= Nc <= 0xffff
-    // ... assertion 2: 0 <= Ne <= 0xffff  OR  NeShortWildcard  OR  NeExtendedWildcard
-    // ... assertion 3: NeShortWildCard    & 0xffff == 0
-    // ... assertion 4: NeExtendedWildCard & 0xffff == 0
-    // ... assertion 5: Ne == 0 indicates "Le-field absent"
-
-    return AfiUtils.concatenate(
-        // command header
-        new byte[] {(byte) insCla, (byte) insIns, (byte) insP1, (byte) insP2},
-
-        // if NOT case 1 extended-length indicator
-        (1 == iso) ? AfiUtils.EMPTY_OS : new byte[1],
-
-        // Lc-field
-        (0 == nc) ? AfiUtils.EMPTY_OS : new byte[] {(byte) (nc >> 8), (byte) nc},
+    final byte[] result = new byte[encodedLength(true)];
+    encode(ByteBuffer.wrap(result), true);
 
-        // command data field
-        insData,
-
-        // Le-field
-        (0 == ne) ? AfiUtils.EMPTY_OS : new byte[] {(byte) (ne >> 8), (byte) ne});
+    return result;
   } // end method */
 
   /**
@@ -1052,23 +1121,128 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
           "according to ISO/IEC 7816-3:2006 clause 12.1.2 this='" + this + "' is not a short APDU");
     } // end fi
 
+    return getBytes();
+  } // end method */
+
+  /**
+   * Returns octet string representation of {@link CommandApdu}, performs lazy-initialization, if
+   * necessary.
+   *
+   * <p>The return value is cached, i.e., repeated calls return the same array. The content is the
+   * same as from {@link #getBytes()}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is a problem here, because the return value is used again by this
+   *       class. Thus, callers SHALL NOT modify the return value.</i>
+   * </ol>
+   *
+   * @return octet string representation of {@link CommandApdu}
+   */
+  private byte[] getEncoding() {
+    // Note 1: Because only immutable instance attributes are encoded it is
+    //         possible to use Racy-Single-Check-Idiom hereafter which gives
+    //         good performance.
+
+    byte[] result = insEncoding; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously attribute insEncoding has never been calculated (lazy initialization)
+      //     => do so now
+      final boolean isExtended = !isShort();
+      result = new byte[encodedLength(isExtended)];
+      encode(ByteBuffer.wrap(result), isExtended);
+
+      insEncoding = result; // store insEncoding into thread local memory
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns an immutable view on the octet string representation of {@link CommandApdu}.
+   *
+   * <p>The encoding is calculated once and then reused, i.e., command APDUs sent repeatedly (e.g.,
+   * constants like {@code SELECT} commands) are encoded just once. The content of the buffer equals
+   * {@link #getBytes()}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because the return value is read-only.</i>
+   * </ol>
+   *
+   * @return read-only buffer with {@code position} zero and {@code limit} {@link #encodedLength()}
+   */
+  public final ByteBuffer getEncoded() {
+    return ByteBuffer.wrap(getEncoding()).asReadOnlyBuffer();
+  } // end method */
+
+  /**
+   * Returns the number of octets in the octet string representation.
+   *
+   * @param isExtended {@code TRUE} for extended format of Lc- and Le-field, {@code FALSE} for short
+   *     format
+   * @return number of octets in the octet string representation
+   */
+  private int encodedLength(final boolean isExtended) {
     final int nc = getNc();
     final int ne = getNe();
-    // ... assertion 1: 0 <= Nc <= 0xff
-    // ... assertion 2: 0 <= Ne <= 0xff  OR  NeWildCardShort
+    final int lengthOfLengthField = isExtended ? 2 : 1;
+    // ... assertion: Ne == 0 indicates "Le-field absent"
 
-    return AfiUtils.concatenate(
-        // command header
-        new byte[] {(byte) insCla, (byte) insIns, (byte) insP1, (byte) insP2},
+    return 4 // command header
+        + ((isExtended && ((0 != nc) || (0 != ne))) ? 1 : 0) // extended-length indicator
+        + ((0 == nc) ? 0 : (lengthOfLengthField + nc)) // Lc-field and command data field
+        + ((0 == ne) ? 0 : lengthOfLengthField); // Le-field
+  } // end method */
 
-        // Lc-field
-        (0 == nc) ? AfiUtils.EMPTY_OS : new byte[] {(byte) nc},
+  /**
+   * Writes the octet string representation into given buffer.
+   *
+   * <p>The caller has to assure that enough space is available.
+   *
+   * @param dst buffer receiving the octet string representation
+   * @param isExtended {@code TRUE} for extended format of Lc- and Le-field, {@code FALSE} for short
+   *     format
+   */
+  private void encode(final ByteBuffer dst, final boolean isExtended) {
+    final int nc = getNc();
+    final int ne = getNe();
+    // ... assertion 1: 0 <= Nc <= 0xffff
+    // ... assertion 2: 0 <= Ne <= 0xffff  OR  NeShortWildcard  OR  NeExtendedWildcard
+    // ... assertion 3: NeShortWildCard    & 0xffff == 0
+    // ... assertion 4: NeExtendedWildCard & 0xffff == 0
+    // ... assertion 5: Ne == 0 indicates "Le-field absent"
 
-        // command data field
-        insData,
+    // --- command header
+    dst.put((byte) insCla).put((byte) insIns).put((byte) insP1).put((byte) insP2);
+
+    if (isExtended) {
+      if ((0 != nc) || (0 != ne)) {
+        // ... NOT case 1
+        //     => extended-length indicator
+        dst.put((byte) 0);
+      } // end fi
+
+      if (0 != nc) {
+        dst.put((byte) (nc >> 8)).put((byte) nc).put(insData);
+      } // end fi
+
+      if (0 != ne) {
+        dst.put((byte) (ne >> 8)).put((byte) ne);
+      } // end fi
+    } else {
+      if (0 != nc) {
+        dst.put((byte) nc).put(insData);
+      } // end fi
 
-        // Le-field
-        (0 == ne) ? AfiUtils.EMPTY_OS : new byte[] {(byte) ne});
+      if (0 != ne) {
+        dst.put((byte) ne);
+      } // end fi
+    } // end else
   } // end method */
 
   /**
@@ -1551,6 +1725,80 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
             : String.format(String.format("  Le=%s", format), ne & 0xffff));
   } // end method */
 
+  /**
+   * Writes this command APDU in the compact binary format of {@link ApduCodec}.
+   *
+   * <p>The encoding consists of
+   *
+   * <ol>
+   *   <li>4 octet: CLA, INS, P1, P2,
+   *   <li>variable length integer: Nc, followed by the command data field,
+   *   <li>variable length integer: Ne, i.e. zero if Le-field is absent, otherwise from set {1, 2,
+   *       ..., 65535, {@link #NE_EXTENDED_WILDCARD}, {@link #NE_SHORT_WILDCARD}}.
+   * </ol>
+   *
+   * <p>Thus, the difference between short and extended format is not preserved. Subclasses are
+   * written as {@link CommandApdu}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because the command data field is only read.</i>
+   * </ol>
+   *
+   * @param output to which this command APDU is written
+   * @throws IOException if writing fails
+   * @see #readFrom(DataInput)
+   */
+  public final void writeTo(final DataOutput output) throws IOException {
+    output.writeInt((insCla << 24) | (insIns << 16) | (insP1 << 8) | insP2);
+    ApduCodec.writeVarInt(output, insData.length);
+    output.write(insData);
+    ApduCodec.writeVarInt(output, insNe);
+  } // end method */
+
+  /**
+   * Reads a command APDU written by {@link #writeTo(DataOutput)}.
+   *
+   * @param input from which the command APDU is read
+   * @return command APDU
+   * @throws IOException if reading fails
+   * @throws StreamCorruptedException if Nc is greater than {@link #NC_SUPREMUM}
+   * @throws IllegalArgumentException if the decoded values do not form a valid command APDU
+   */
+  public static CommandApdu readFrom(final DataInput input) throws IOException {
+    final int header = input.readInt();
+    final int nc = ApduCodec.readVarInt(input);
+    if (nc > NC_SUPREMUM) {
+      // ... Nc too large
+      //     => reject before allocating memory
+      throw new StreamCorruptedException("Nc too large: " + nc);
+    } // end fi
+
+    final byte[] data = new byte[nc];
+    input.readFully(data);
+    final int ne = ApduCodec.readVarInt(input);
+
+    final var result = new CommandApdu(data, header >>> 24, header >> 16, header >> 8, header, ne);
+    result.check(((0 == data.length) ? 1 : 3) + ((0 == ne) ? 0 : 1));
+
+    return result;
+  } // end method */
+
+  /**
+   * Performs serialization.
+   *
+   * <p>Instances of this class are serialized in the compact binary format of {@link ApduCodec}.
+   * Because this method is private, instances of subclasses use default serialization.
+   *
+   * @return object replacing this instance during serialization
+   */
+  @Serial
+  private Object writeReplace() {
+    return new SerializationProxy(this);
+  } // end method */
+
   private static byte[][] zzzExtractDataNe(final ByteBuffer apdu) {
     if (0 == apdu.remaining()) {
       // ... ISO-case 1
@@ -1641,6 +1889,68 @@ public class CommandApdu implements Apdu, Command<CommandApdu>, Serializable {
     return result;
   } // end method */
 
+  /** Serialization proxy for {@link CommandApdu}. */
+  private static final class SerializationProxy implements Serializable {
+
+    /** Serial number randomly generated on 2026-10-18. */
+    @Serial private static final long serialVersionUID = -4047265618735164713L; // */
+
+    /** Command APDU, written and read by {@link ApduCodec}. */
+    private transient CommandApdu insApdu; // */
+
+    /**
+     * Constructor.
+     *
+     * @param apdu to be serialized
+     */
+    private SerializationProxy(final CommandApdu apdu) {
+      insApdu = apdu;
+    } // end constructor */
+
+    /**
+     * Method used during serialization.
+     *
+     * @param oos output stream to which objects are written
+     * @throws IOException if underlying methods do so
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream oos) throws IOException {
+      oos.defaultWriteObject();
+      insApdu.writeTo(oos);
+    } // end method */
+
+    /**
+     * Method used during deserialization.
+     *
+     * @param ois input stream from which objects are read
+     * @throws IOException if underlying methods do so
+     * @throws ClassNotFoundException if underlying methods do so
+     */
+    @Serial
+    private void readObject(final ObjectInputStream ois)
+        throws IOException, ClassNotFoundException {
+      ois.defaultReadObject();
+      try {
+        insApdu = readFrom(ois);
+      } catch (IllegalArgumentException e) {
+        final var exception = new InvalidObjectException(e.getMessage());
+        exception.initCause(e);
+
+        throw exception;
+      } // end Catch (...)
+    } // end method */
+
+    /**
+     * Returns object read from stream.
+     *
+     * @return deserialized object
+     */
+    @Serial
+    private Object readResolve() {
+      return insApdu;
+    } // end method */
+  } // end inner class
+
   /**
    * Empty finalizer method prevents finalizer attacks.
    *
@@ -0,0 +1,372 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import de.gematik.smartcards.sdcom.apdu.Scenario7816.LoggingInformation;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * Precompiled form of a {@link Scenario7816} intended for running the same scenario many times,
+ * e.g., against a fleet of smart cards.
+ *
+ * <p>During compilation
+ *
+ * <ol>
+ *   <li>the octet string representation of all {@link CommandApdu} is calculated (and cached within
+ *       the {@link CommandApdu}),
+ *   <li>the expected status words applicable to each {@link CommandApdu} are converted to a sorted
+ *       {@code int[]},
+ *   <li>the {@link LoggingInformation} preceding each {@link CommandApdu} are collected.
+ * </ol>
+ *
+ * <p>Thus, running a compiled scenario does neither {@code instanceof} dispatch nor list filtering
+ * nor formatting of expected status words (apart from the warning for an unexpected status word).
+ * The behavior is the same as {@link Scenario7816#run(ApduLayer, Logger)}.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class CompiledScenario {
+
+  /** Command APDU in the order of the scenario. */
+  private final CommandApdu[] insCommands; // */
+
+  /** Sorted expected status words for each element in {@link #insCommands}. */
+  private final int[][] insExpectedStatusWords; // */
+
+  /**
+   * Logging information.
+   *
+   * <p>Element with index {@code i} contains the logging information preceding the command APDU
+   * with index {@code i}. The last element contains the logging information after the last command
+   * APDU.
+   */
+  private final LoggingInformation[][] insLogging; // */
+
+  /**
+   * Compiles given scenario.
+   *
+   * @param scenario to be compiled
+   */
+  public CompiledScenario(final Scenario7816 scenario) {
+    final List<CommandApdu> commands = new ArrayList<>();
+    final List<int[]> expectedStatusWords = new ArrayList<>();
+    final List<LoggingInformation[]> logging = new ArrayList<>();
+    final List<LoggingInformation> pendingLogging = new ArrayList<>();
+    int[] esw = new int[0]; // default: no status word expected
+
+    for (final var i : scenario.getScenario()) {
+      if (i instanceof final CommandApdu cmd) {
+        // ... command APDU
+        cmd.getEncoded(); // calculate and cache the octet string representation
+        commands.add(cmd);
+        expectedStatusWords.add(esw);
+        logging.add(pendingLogging.toArray(new LoggingInformation[0]));
+        pendingLogging.clear();
+      } else if (i instanceof final List<?> list) {
+        // ... expected status words
+        esw =
+            list.stream()
+                .filter(Integer.class::isInstance)
+                .mapToInt(j -> (Integer) j)
+                .sorted()
+                .toArray();
+      } else {
+        // ... logging information
+        pendingLogging.add((LoggingInformation) i);
+      } // end else
+    } // end For (i...)
+    logging.add(pendingLogging.toArray(new LoggingInformation[0]));
+
+    insCommands = commands.toArray(new CommandApdu[0]);
+    insExpectedStatusWords = expectedStatusWords.toArray(new int[0][]);
+    insLogging = logging.toArray(new LoggingInformation[0][]);
+  } // end constructor */
+
+  /**
+   * Returns the number of {@link CommandApdu} in this scenario.
+   *
+   * @return number of command APDU
+   */
+  public int size() {
+    return insCommands.length;
+  } // end method */
+
+  /**
+   * Runs this scenario against the given {@link ApduLayer}.
+   *
+   * <p>Exceptions thrown by {@code apduLayer} are propagated.
+   *
+   * @param apduLayer to which {@link CommandApdu} are sent
+   * @param logger used for logging messages
+   * @return result of the run
+   */
+  public Result run(final ApduLayer apduLayer, final Logger logger) {
+    final long start = System.nanoTime();
+    final ResponseApdu[] responses = new ResponseApdu[insCommands.length];
+    double cardTime = 0;
+    int index = 0;
+    boolean isSuccess = true;
+
+    for (; index < insCommands.length; index++) {
+      log(insLogging[index], logger);
+
+      final ResponseApdu rsp = apduLayer.send(insCommands[index]);
+      cardTime += apduLayer.getTime();
+      responses[index] = rsp;
+
+      final int[] esw = insExpectedStatusWords[index];
+      if (Arrays.binarySearch(esw, rsp.getSw()) < 0) {
+        // ... unexpected status-word received
+        //     => do not issue further command APDU
+        logger
+            .atWarn()
+            .log(
+                "got '{}', expected [{}]",
+                String.format("%04x", rsp.getSw()),
+                Arrays.stream(esw)
+                    .mapToObj(j -> String.format("'%04x'", j))
+                    .collect(Collectors.joining(", ")));
+        isSuccess = false;
+        index++;
+
+        break;
+      } // end fi
+    } // end For (index...)
+
+    if (isSuccess) {
+      log(insLogging[insCommands.length], logger);
+    } // end fi
+
+    return new Result(
+        apduLayer,
+        List.of(Arrays.copyOf(responses, index)),
+        isSuccess,
+        cardTime,
+        Duration.ofNanos(System.nanoTime() - start),
+        null);
+  } // end method */
+
+  /**
+   * Runs this scenario concurrently against the given {@link ApduLayer}s.
+   *
+   * <p>At most {@code parallelism} runs are in progress at the same time. Exceptions thrown by an
+   * {@link ApduLayer} do not affect runs against other {@link ApduLayer}s. Instead, such exceptions
+   * are reported in the corresponding {@link Result}.
+   *
+   * @param apduLayers to which {@link CommandApdu} are sent, typically one per smart card
+   * @param parallelism maximum number of concurrent runs
+   * @param logger used for logging messages
+   * @return list of results in the order of {@code apduLayers}
+   * @throws IllegalArgumentException if {@code parallelism} is not positive
+   * @throws InterruptedException if interrupted while waiting for the runs to finish
+   */
+  public List<Result> runAll(
+      final Collection<? extends ApduLayer> apduLayers, final int parallelism, final Logger logger)
+      throws InterruptedException {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism SHALL be positive");
+    } // end fi
+
+    final List<Result> result = new ArrayList<>(apduLayers.size());
+    if (apduLayers.isEmpty()) {
+      return result;
+    } // end fi
+
+    final List<Future<Result>> futures = new ArrayList<>(apduLayers.size());
+    try (ExecutorService executor =
+        Executors.newFixedThreadPool(Math.min(parallelism, apduLayers.size()))) {
+      for (final ApduLayer apduLayer : apduLayers) {
+        futures.add(executor.submit(() -> runCatching(apduLayer, logger)));
+      } // end For (apduLayer...)
+
+      for (final Future<Result> future : futures) {
+        result.add(future.get());
+      } // end For (future...)
+    } catch (ExecutionException e) {
+      // ... not expected, because runCatching(...) catches all runtime exceptions
+      throw new IllegalStateException(e.getCause()); // NOPMD preserve stack trace
+    } // end Catch (...)
+
+    return Collections.unmodifiableList(result);
+  } // end method */
+
+  /**
+   * Runs this scenario and reports exceptions in the result.
+   *
+   * @param apduLayer to which {@link CommandApdu} are sent
+   * @param logger used for logging messages
+   * @return result of the run
+   */
+  private Result runCatching(final ApduLayer apduLayer, final Logger logger) {
+    final long start = System.nanoTime();
+
+    try {
+      return run(apduLayer, logger);
+    } catch (RuntimeException e) {
+      logger.atWarn().log("run failed: {}", e.toString());
+
+      return new Result(
+          apduLayer, List.of(), false, 0, Duration.ofNanos(System.nanoTime() - start), e);
+    } // end Catch (...)
+  } // end method */
+
+  /**
+   * Logs given logging information.
+   *
+   * @param logging to be logged
+   * @param logger used for logging messages
+   */
+  private static void log(final LoggingInformation[] logging, final Logger logger) {
+    for (final LoggingInformation li : logging) {
+      logger.atLevel(li.getLevel()).log(li.getMessage());
+    } // end For (li...)
+  } // end method */
+
+  /**
+   * Result of running a {@link CompiledScenario} against one {@link ApduLayer}.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are immutable.
+   *   <li>methods are thread-safe.
+   * </ol>
+   */
+  public static final class Result {
+
+    /** {@link ApduLayer} against which the scenario ran. */
+    private final ApduLayer insApduLayer; // */
+
+    /** Response APDU received. */
+    private final List<ResponseApdu> insResponses; // */
+
+    /** Flag indicating whether all status words were expected. */
+    private final boolean insSuccess; // */
+
+    /** Sum of execution times of all command-response pairs in seconds. */
+    private final double insCardTime; // */
+
+    /** Wall-clock duration of the run. */
+    private final Duration insDuration; // */
+
+    /** Exception which terminated the run, {@code null} if none. */
+    private final @CheckForNull RuntimeException insException; // */
+
+    /**
+     * Constructor.
+     *
+     * @param apduLayer against which the scenario ran
+     * @param responses received
+     * @param success flag indicating whether all status words were expected
+     * @param cardTime sum of execution times of all command-response pairs in seconds
+     * @param duration wall-clock duration of the run
+     * @param exception which terminated the run, {@code null} if none
+     */
+    private Result(
+        final ApduLayer apduLayer,
+        final List<ResponseApdu> responses,
+        final boolean success,
+        final double cardTime,
+        final Duration duration,
+        final @CheckForNull RuntimeException exception) {
+      insApduLayer = apduLayer;
+      insResponses = responses;
+      insSuccess = success;
+      insCardTime = cardTime;
+      insDuration = duration;
+      insException = exception;
+    } // end constructor */
+
+    /**
+     * Returns the {@link ApduLayer} against which the scenario ran.
+     *
+     * @return {@link ApduLayer}
+     */
+    public ApduLayer getApduLayer() {
+      return insApduLayer;
+    } // end method */
+
+    /**
+     * Returns the sum of execution times of all command-response pairs, see {@link
+     * ApduLayer#getTime()}.
+     *
+     * @return execution time in seconds
+     */
+    public double getCardTime() {
+      return insCardTime;
+    } // end method */
+
+    /**
+     * Returns the wall-clock duration of the run.
+     *
+     * @return duration of the run
+     */
+    public Duration getDuration() {
+      return insDuration;
+    } // end method */
+
+    /**
+     * Returns the exception which terminated the run.
+     *
+     * @return exception thrown by the {@link ApduLayer}, {@code null} if none
+     */
+    public @CheckForNull RuntimeException getException() {
+      return insException;
+    } // end method */
+
+    /**
+     * Returns the response APDU received.
+     *
+     * @return unmodifiable list with {@link ResponseApdu} in the order of the command APDU sent
+     */
+    public List<ResponseApdu> getResponses() {
+      return insResponses;
+    } // end method */
+
+    /**
+     * Returns flag indicating whether all status words were expected.
+     *
+     * @return {@code TRUE} if all command APDU were sent and all status words were expected, {@code
+     *     FALSE} otherwise
+     */
+    public boolean isSuccess() {
+      return insSuccess;
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,253 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds.
+ *
+ * <p>Durations are counted in buckets. Each power of two is split into eight buckets. Thus, the
+ * relative resolution is better than 12.5 %.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are mutable.
+ *   <li>methods are thread-safe and never block.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class LatencyHistogram {
+
+  /** Number of bits used for sub-buckets within a power of two. */
+  private static final int SUB_BITS = 3; // */
+
+  /** Number of sub-buckets within a power of two. */
+  private static final int SUB_COUNT = 1 << SUB_BITS; // */
+
+  /** Number of buckets, sufficient for all positive {@code long} values. */
+  /* package */ static final int NO_BUCKETS = index(Long.MAX_VALUE) + 1; // */
+
+  /** Counters for each bucket. */
+  private final AtomicLongArray insBuckets = new AtomicLongArray(NO_BUCKETS); // */
+
+  /** Sum of all recorded durations. */
+  private final LongAdder insSum = new LongAdder(); // */
+
+  /** Maximum of all recorded durations. */
+  private final AtomicLong insMax = new AtomicLong(); // */
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos duration in nanoseconds, negative values are treated as zero
+   */
+  public void record(final long nanos) {
+    final long value = Math.max(0, nanos);
+
+    insBuckets.incrementAndGet(index(value));
+    insSum.add(value);
+    insMax.accumulateAndGet(value, Math::max);
+  } // end method */
+
+  /**
+   * Returns a snapshot of this histogram.
+   *
+   * <p><i><b>Note:</b> Concurrent calls to {@link #record(long)} are possibly partially reflected
+   * in the snapshot.</i>
+   *
+   * @return snapshot
+   */
+  public Snapshot snapshot() {
+    final long[] buckets = new long[NO_BUCKETS];
+    for (int i = NO_BUCKETS; i-- > 0; ) { // NOPMD assignment in operand
+      buckets[i] = insBuckets.get(i);
+    } // end For (i...)
+
+    return new Snapshot(buckets, insSum.sum(), insMax.get());
+  } // end method */
+
+  /**
+   * Calculates the index of the bucket for given duration.
+   *
+   * @param nanos non-negative duration
+   * @return index of bucket
+   */
+  /* package */ static int index(final long nanos) {
+    if (nanos < SUB_COUNT) {
+      return (int) nanos;
+    } // end fi
+    // ... nanos >= SUB_COUNT
+
+    final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+    final int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+
+    return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+  } // end method */
+
+  /**
+   * Calculates the smallest duration counted in given bucket.
+   *
+   * @param index of bucket
+   * @return smallest duration counted in bucket
+   */
+  /* package */ static long lowerBound(final int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    } // end fi
+    // ... index >= SUB_COUNT
+
+    final int exponent = index / SUB_COUNT + SUB_BITS - 1;
+    final long sub = index % SUB_COUNT;
+
+    return (SUB_COUNT + sub) << (exponent - SUB_BITS);
+  } // end method */
+
+  /**
+   * Immutable snapshot of a {@link LatencyHistogram}.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are immutable.
+   *   <li>methods are thread-safe.
+   * </ol>
+   */
+  public static final class Snapshot {
+
+    /** Counters for each bucket. */
+    private final long[] insBuckets; // */
+
+    /** Number of recorded durations. */
+    private final long insCount; // */
+
+    /** Sum of recorded durations. */
+    private final long insSum; // */
+
+    /** Maximum of recorded durations. */
+    private final long insMax; // */
+
+    /**
+     * Constructor.
+     *
+     * @param buckets counters for each bucket
+     * @param sum of recorded durations
+     * @param max of recorded durations
+     */
+    private Snapshot(final long[] buckets, final long sum, final long max) {
+      long count = 0;
+      for (final long i : buckets) {
+        count += i;
+      } // end For (i...)
+
+      insBuckets = buckets;
+      insCount = count;
+      insSum = sum;
+      insMax = max;
+    } // end constructor */
+
+    /**
+     * Returns number of recorded durations.
+     *
+     * @return number of recorded durations
+     */
+    public long getCount() {
+      return insCount;
+    } // end method */
+
+    /**
+     * Returns maximum of recorded durations.
+     *
+     * @return maximum duration in nanoseconds, zero if nothing is recorded
+     */
+    public long getMax() {
+      return insMax;
+    } // end method */
+
+    /**
+     * Returns mean of recorded durations.
+     *
+     * @return mean duration in nanoseconds, zero if nothing is recorded
+     */
+    public double getMean() {
+      return (0 == insCount) ? 0 : (double) insSum / insCount;
+    } // end method */
+
+    /**
+     * Returns sum of recorded durations.
+     *
+     * @return sum of durations in nanoseconds
+     */
+    public long getSum() {
+      return insSum;
+    } // end method */
+
+    /**
+     * Estimates a percentile.
+     *
+     * <p>The estimate is the largest duration of the bucket containing the percentile, but not
+     * larger than {@link #getMax()}.
+     *
+     * @param percentile from range [0, 100]
+     * @return estimated percentile in nanoseconds, zero if nothing is recorded
+     * @throws IllegalArgumentException if {@code percentile} is not in range [0, 100]
+     */
+    public long getPercentile(final double percentile) {
+      if ((percentile < 0) || (percentile > 100)) { // NOPMD literals in if statement
+        throw new IllegalArgumentException("percentile out of range [0, 100]");
+      } // end fi
+
+      final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * insCount));
+      long cumulated = 0;
+      for (int i = 0; i < insBuckets.length; i++) {
+        cumulated += insBuckets[i];
+
+        if ((cumulated >= rank) && (i + 1 < insBuckets.length)) {
+          return Math.min(insMax, lowerBound(i + 1) - 1);
+        } // end fi
+      } // end For (i...)
+
+      return insMax;
+    } // end method */
+
+    /**
+     * Returns a {@link String} representation.
+     *
+     * @return {@link String} representation with count, mean, percentiles and maximum, durations in
+     *     microseconds
+     * @see Object#toString()
+     */
+    @Override
+    public String toString() {
+      return String.format(
+          "count=%d mean=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f",
+          insCount,
+          getMean() / 1000,
+          getPercentile(50) / 1000.0,
+          getPercentile(90) / 1000.0,
+          getPercentile(99) / 1000.0,
+          insMax / 1000.0);
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,352 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free {@link ApduInstrumentation} recording latency histograms and throughput per layer.
+ *
+ * <p>For each reporting layer this class records
+ *
+ * <ol>
+ *   <li>a {@link LatencyHistogram} per instruction byte INS,
+ *   <li>a {@link LatencyHistogram} per status word SW1-SW2,
+ *   <li>number of octets sent (command APDU) and received (response APDU),
+ *   <li>number of errors, i.e. commands for which an exception was thrown.
+ * </ol>
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * final LatencyRecorder recorder = new LatencyRecorder();
+ * ApduInstrumentation.set(recorder);
+ * ... // send commands
+ * recorder.export(System.out);
+ * }</pre>
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are mutable.
+ *   <li>methods are thread-safe, recording methods never block once all histograms exist.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class LatencyRecorder implements ApduInstrumentation {
+
+  /** Statistics per layer. */
+  private final Map<String, LayerStatistics> insLayers = new ConcurrentHashMap<>(); // */
+
+  /**
+   * Reports a command APDU for which an exception was thrown.
+   *
+   * @param layer name of the reporting layer
+   * @param cmd command APDU
+   * @param exception thrown
+   * @param nanos duration in nanoseconds until the exception was thrown
+   */
+  @Override
+  public void onError(
+      final String layer,
+      final CommandApdu cmd,
+      final RuntimeException exception,
+      final long nanos) {
+    final var statistics = getStatistics(layer);
+
+    statistics.insErrors.increment();
+    statistics.insBytesOut.add(cmd.encodedLength());
+  } // end method */
+
+  /**
+   * Reports a command-response pair.
+   *
+   * @param layer name of the reporting layer
+   * @param cmd command APDU
+   * @param rsp response APDU
+   * @param nanos duration in nanoseconds spent in the reporting layer and the layers below
+   */
+  @Override
+  public void onResponse(
+      final String layer, final CommandApdu cmd, final ResponseApdu rsp, final long nanos) {
+    final var statistics = getStatistics(layer);
+
+    statistics.getByIns(cmd.getIns()).record(nanos);
+    statistics.getBySw(rsp.getTrailer()).record(nanos);
+    statistics.insBytesOut.add(cmd.encodedLength());
+    statistics.insBytesIn.add(rsp.getNr() + 2L);
+  } // end method */
+
+  /** Discards all recorded information. */
+  public void clear() {
+    insLayers.clear();
+  } // end method */
+
+  /**
+   * Exports a snapshot in a human-readable format.
+   *
+   * <p>For each layer one line with throughput information and one line per INS and per status word
+   * is written. Durations are given in microseconds.
+   *
+   * @param out destination of the output
+   * @throws UncheckedIOException if {@code out} throws an {@link IOException}
+   */
+  public void export(final Appendable out) {
+    try {
+      for (final var layer : snapshot().entrySet()) {
+        final var name = layer.getKey();
+        final var statistics = layer.getValue();
+
+        out.append(
+            String.format(
+                "%s: bytesOut=%d bytesIn=%d errors=%d%n",
+                name,
+                statistics.getBytesOut(),
+                statistics.getBytesIn(),
+                statistics.getErrorCount()));
+
+        for (final var entry : statistics.getByIns().entrySet()) {
+          out.append(String.format("%s: INS='%02x' %s%n", name, entry.getKey(), entry.getValue()));
+        } // end For (entry...)
+
+        for (final var entry : statistics.getBySw().entrySet()) {
+          out.append(String.format("%s: SW='%04x' %s%n", name, entry.getKey(), entry.getValue()));
+        } // end For (entry...)
+      } // end For (layer...)
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } // end Catch (...)
+  } // end method */
+
+  /**
+   * Returns a snapshot of all recorded information.
+   *
+   * @return unmodifiable map with layer names as keys, sorted by name
+   */
+  public SortedMap<String, LayerSnapshot> snapshot() {
+    final var result = new TreeMap<String, LayerSnapshot>();
+    insLayers.forEach((name, statistics) -> result.put(name, statistics.snapshot()));
+
+    return Collections.unmodifiableSortedMap(result);
+  } // end method */
+
+  /**
+   * Returns a {@link String} representation.
+   *
+   * @return output of {@link #export(Appendable)}
+   * @see Object#toString()
+   */
+  @Override
+  public String toString() {
+    final var result = new StringBuilder();
+    export(result);
+
+    return result.toString();
+  } // end method */
+
+  /**
+   * Returns statistics for given layer.
+   *
+   * @param layer name of layer
+   * @return statistics, created if absent
+   */
+  private LayerStatistics getStatistics(final String layer) {
+    final var result = insLayers.get(layer);
+
+    return (null == result) ? insLayers.computeIfAbsent(layer, k -> new LayerStatistics()) : result;
+  } // end method */
+
+  /** Mutable statistics of one layer. */
+  private static final class LayerStatistics {
+
+    /** Histograms per INS, elements are created on demand. */
+    private final AtomicReferenceArray<LatencyHistogram> insByIns =
+        new AtomicReferenceArray<>(256); // */
+
+    /** Histograms per status word. */
+    private final Map<Integer, LatencyHistogram> insBySw = new ConcurrentHashMap<>(); // */
+
+    /** Number of octets sent. */
+    private final LongAdder insBytesOut = new LongAdder(); // */
+
+    /** Number of octets received. */
+    private final LongAdder insBytesIn = new LongAdder(); // */
+
+    /** Number of errors. */
+    private final LongAdder insErrors = new LongAdder(); // */
+
+    /**
+     * Returns histogram for given INS.
+     *
+     * @param ins instruction byte
+     * @return histogram, created if absent
+     */
+    private LatencyHistogram getByIns(final int ins) {
+      final var result = insByIns.get(ins);
+      if (null != result) {
+        return result;
+      } // end fi
+      // ... histogram absent
+
+      insByIns.compareAndSet(ins, null, new LatencyHistogram());
+
+      return insByIns.get(ins);
+    } // end method */
+
+    /**
+     * Returns histogram for given status word.
+     *
+     * @param trailer status word
+     * @return histogram, created if absent
+     */
+    private LatencyHistogram getBySw(final int trailer) {
+      final var result = insBySw.get(trailer);
+
+      return (null == result)
+          ? insBySw.computeIfAbsent(trailer, k -> new LatencyHistogram())
+          : result;
+    } // end method */
+
+    /**
+     * Creates a snapshot.
+     *
+     * @return snapshot
+     */
+    private LayerSnapshot snapshot() {
+      final var byIns = new TreeMap<Integer, LatencyHistogram.Snapshot>();
+      for (int ins = 0; ins < insByIns.length(); ins++) {
+        final var histogram = insByIns.get(ins);
+
+        if (null != histogram) {
+          byIns.put(ins, histogram.snapshot());
+        } // end fi
+      } // end For (ins...)
+
+      final var bySw = new TreeMap<Integer, LatencyHistogram.Snapshot>();
+      insBySw.forEach((sw, histogram) -> bySw.put(sw, histogram.snapshot()));
+
+      return new LayerSnapshot(byIns, bySw, insBytesOut.sum(), insBytesIn.sum(), insErrors.sum());
+    } // end method */
+  } // end inner class
+
+  /**
+   * Immutable snapshot of the statistics of one layer.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are immutable.
+   *   <li>methods are thread-safe.
+   * </ol>
+   */
+  public static final class LayerSnapshot {
+
+    /** Histograms per INS. */
+    private final SortedMap<Integer, LatencyHistogram.Snapshot> insByIns; // */
+
+    /** Histograms per status word. */
+    private final SortedMap<Integer, LatencyHistogram.Snapshot> insBySw; // */
+
+    /** Number of octets sent. */
+    private final long insBytesOut; // */
+
+    /** Number of octets received. */
+    private final long insBytesIn; // */
+
+    /** Number of errors. */
+    private final long insErrors; // */
+
+    /**
+     * Constructor.
+     *
+     * @param byIns histograms per INS
+     * @param bySw histograms per status word
+     * @param bytesOut number of octets sent
+     * @param bytesIn number of octets received
+     * @param errors number of errors
+     */
+    private LayerSnapshot(
+        final SortedMap<Integer, LatencyHistogram.Snapshot> byIns,
+        final SortedMap<Integer, LatencyHistogram.Snapshot> bySw,
+        final long bytesOut,
+        final long bytesIn,
+        final long errors) {
+      insByIns = Collections.unmodifiableSortedMap(byIns);
+      insBySw = Collections.unmodifiableSortedMap(bySw);
+      insBytesOut = bytesOut;
+      insBytesIn = bytesIn;
+      insErrors = errors;
+    } // end constructor */
+
+    /**
+     * Returns histograms per INS.
+     *
+     * @return unmodifiable map with INS as key, only INS seen so far are present
+     */
+    public SortedMap<Integer, LatencyHistogram.Snapshot> getByIns() {
+      return insByIns;
+    } // end method */
+
+    /**
+     * Returns histograms per status word.
+     *
+     * @return unmodifiable map with status word as key, only status words seen so far are present
+     */
+    public SortedMap<Integer, LatencyHistogram.Snapshot> getBySw() {
+      return insBySw;
+    } // end method */
+
+    /**
+     * Returns number of octets received, i.e. sum of the length of all response APDU.
+     *
+     * @return number of octets received
+     */
+    public long getBytesIn() {
+      return insBytesIn;
+    } // end method */
+
+    /**
+     * Returns number of octets sent, i.e. sum of the length of all command APDU.
+     *
+     * @return number of octets sent
+     */
+    public long getBytesOut() {
+      return insBytesOut;
+    } // end method */
+
+    /**
+     * Returns number of commands for which an exception was thrown.
+     *
+     * @return number of errors
+     */
+    public long getErrorCount() {
+      return insErrors;
+    } // end method */
+  } // end inner class
+} // end class
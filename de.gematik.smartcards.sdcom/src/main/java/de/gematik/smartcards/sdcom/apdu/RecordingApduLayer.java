@@ -0,0 +1,354 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decorator for an {@link ApduLayer} recording all command-response pairs.
+ *
+ * <p>Each command-response pair is recorded as a {@link Record} together with the time in
+ * nanoseconds spent in the underlying {@link ApduLayer}. Records are either kept in memory (see
+ * {@link #getRecords()} and {@link #toScenario()}) or, if a binary log is given to the constructor,
+ * appended to that binary log. The binary log is read by {@link #readLog(InputStream)}. Thus, the
+ * memory used by an instance recording into a binary log does not grow with the number of
+ * command-response pairs. Each record in the binary log consists of
+ *
+ * <ol>
+ *   <li>8 octet: duration in nanoseconds (big endian),
+ *   <li>4 octet: number of octets in command message (big endian), followed by the command message,
+ *   <li>4 octet: number of octets in response message (big endian), followed by the response
+ *       message.
+ * </ol>
+ *
+ * <p>Records are intended for {@link ReplayApduLayer}.
+ *
+ * <p>From the perspective of this class, methods are thread-safe.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class RecordingApduLayer implements ApduLayer {
+
+  /**
+   * Maximum number of octets in a command message, i.e., header, extended length-field, command
+   * data field and extended Le-field.
+   */
+  /* package */ static final int MAX_COMMAND = 4 + 3 + CommandApdu.NC_SUPREMUM + 2; // */
+
+  /** Maximum number of octets in a response message, i.e., response data field and trailer. */
+  /* package */ static final int MAX_RESPONSE = ApduCodec.NR_SUPREMUM + 2; // */
+
+  /** Underlying {@link ApduLayer}. */
+  private final ApduLayer insApduLayer; // */
+
+  /** Binary log, {@code null} if absent. */
+  private final @Nullable DataOutputStream insLog; // */
+
+  /**
+   * Records in the order of recording, always empty if {@link #insLog} is present.
+   *
+   * <p>This list is also used as lock for {@link #insLog}.
+   */
+  private final List<Record> insRecords = new ArrayList<>(); // */
+
+  /**
+   * Constructor recording into memory.
+   *
+   * @param apduLayer underlying {@link ApduLayer}
+   */
+  public RecordingApduLayer(final ApduLayer apduLayer) {
+    insApduLayer = apduLayer;
+    insLog = null;
+  } // end constructor */
+
+  /**
+   * Constructor appending to a binary log.
+   *
+   * <p>Records are not kept in memory, i.e., {@link #getRecords()} returns an empty list. Use
+   * {@link #readLog(InputStream)} to retrieve them.
+   *
+   * <p><i><b>Note:</b> {@code log} is neither buffered nor closed by this class.</i>
+   *
+   * @param apduLayer underlying {@link ApduLayer}
+   * @param log destination of the binary log
+   */
+  public RecordingApduLayer(final ApduLayer apduLayer, final OutputStream log) {
+    insApduLayer = apduLayer;
+    insLog = new DataOutputStream(log);
+  } // end constructor */
+
+  /**
+   * Reads records from a binary log.
+   *
+   * @param log binary log as written by this class
+   * @return records in the order of recording
+   * @throws IOException if reading fails or the binary log is truncated
+   * @throws StreamCorruptedException if the number of octets in a message is negative or exceeds
+   *     the maximum for command or response messages
+   */
+  public static List<Record> readLog(final InputStream log) throws IOException {
+    final List<Record> result = new ArrayList<>();
+    final DataInputStream input = new DataInputStream(log);
+
+    for (; ; ) {
+      final long nanos;
+      try {
+        nanos = input.readLong();
+      } catch (EOFException e) {
+        // ... end of log
+        return result;
+      } // end Catch (...)
+
+      final byte[] command = new byte[readLength(input, MAX_COMMAND, "command")];
+      input.readFully(command);
+      final byte[] response = new byte[readLength(input, MAX_RESPONSE, "response")];
+      input.readFully(response);
+
+      result.add(new Record(command, response, nanos));
+    } // end For (...)
+  } // end method */
+
+  /**
+   * Reads the number of octets in a message from a binary log.
+   *
+   * @param input binary log
+   * @param max maximum number of octets in a message
+   * @param type of message, used in the exception message
+   * @return number of octets in the range [0, max]
+   * @throws IOException if reading fails
+   * @throws StreamCorruptedException if the number of octets is not in the range [0, max]
+   */
+  private static int readLength(final DataInputStream input, final int max, final String type)
+      throws IOException {
+    final int result = input.readInt();
+
+    if ((result < 0) || (result > max)) {
+      throw new StreamCorruptedException("invalid length of " + type + ": " + result);
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns the underlying {@link ApduLayer}.
+   *
+   * @return underlying {@link ApduLayer}
+   */
+  public ApduLayer getApduLayer() {
+    return insApduLayer;
+  } // end method */
+
+  /**
+   * Returns the records.
+   *
+   * @return copy of the records in the order of recording, empty if records are appended to a
+   *     binary log
+   */
+  public List<Record> getRecords() {
+    synchronized (insRecords) {
+      return List.copyOf(insRecords);
+    } // end synchronized
+  } // end method */
+
+  /**
+   * Returns execution time of previous command-response pair.
+   *
+   * @return execution time in seconds of previous command-response pair of the underlying {@link
+   *     ApduLayer}
+   */
+  @Override
+  public double getTime() {
+    return insApduLayer.getTime();
+  } // end method */
+
+  /**
+   * Sends given message and records the command-response pair.
+   *
+   * @param message to be sent, typically a command
+   * @return corresponding response message
+   * @throws UncheckedIOException if appending to the binary log fails
+   */
+  @Override
+  public byte[] send(final byte[] message) {
+    // Note: The message is copied before sending, because some layers adjust
+    //       the message in place (e.g. the CLA byte in a logical channel).
+    final byte[] command = message.clone();
+    final long start = System.nanoTime();
+    final byte[] result = insApduLayer.send(message);
+    record(new Record(command, result, System.nanoTime() - start));
+
+    return result;
+  } // end method */
+
+  /**
+   * Sends given command APDU and records the command-response pair.
+   *
+   * <p>The command APDU is sent by {@link ApduLayer#send(CommandApdu)} of the underlying {@link
+   * ApduLayer}, such that its conversions (e.g. secure messaging) apply.
+   *
+   * @param apdu command APDU to be sent
+   * @return corresponding {@link ResponseApdu}
+   * @throws UncheckedIOException if appending to the binary log fails
+   */
+  @Override
+  public ResponseApdu send(final CommandApdu apdu) {
+    final long start = System.nanoTime();
+    final ResponseApdu result = insApduLayer.send(apdu);
+    record(new Record(apdu.getBytes(), result.getBytes(), System.nanoTime() - start));
+
+    return result;
+  } // end method */
+
+  /**
+   * Converts the records to a {@link Scenario7816}.
+   *
+   * <p>Only records kept in memory are converted, see {@link #getRecords()}.
+   *
+   * <p>Each command APDU is preceded by the status word recorded for it as expected status word.
+   * {@link Scenario7816#toTlv()} exports the result in DER format.
+   *
+   * @return scenario with the recorded command APDU
+   */
+  public Scenario7816 toScenario() {
+    final List<Object> scenario = new ArrayList<>();
+    for (final Record i : getRecords()) {
+      scenario.add(List.of(new ResponseApdu(i.insResponse).getSw()));
+      scenario.add(new CommandApdu(i.insCommand));
+    } // end For (i...)
+
+    return new Scenario7816(scenario);
+  } // end method */
+
+  /**
+   * Appends a record to the binary log (if present), otherwise stores it in memory.
+   *
+   * @param rec record
+   * @throws UncheckedIOException if appending to the binary log fails
+   */
+  private void record(final Record rec) {
+    synchronized (insRecords) {
+      final DataOutputStream log = insLog;
+      if (null == log) {
+        insRecords.add(rec);
+      } else {
+        try {
+          log.writeLong(rec.insNanos);
+          log.writeInt(rec.insCommand.length);
+          log.write(rec.insCommand);
+          log.writeInt(rec.insResponse.length);
+          log.write(rec.insResponse);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        } // end Catch (...)
+      } // end else
+    } // end synchronized
+  } // end method */
+
+  /**
+   * Recorded command-response pair.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are immutable.
+   *   <li>where data is passed in or out, defensive cloning is performed.
+   *   <li>methods are thread-safe.
+   * </ol>
+   */
+  public static final class Record {
+
+    /** Command message. */
+    private final byte[] insCommand; // */
+
+    /** Response message. */
+    private final byte[] insResponse; // */
+
+    /** Duration in nanoseconds spent in the underlying {@link ApduLayer}. */
+    private final long insNanos; // */
+
+    /**
+     * Constructor.
+     *
+     * @param command command message
+     * @param response response message
+     * @param nanos duration in nanoseconds
+     */
+    public Record(final byte[] command, final byte[] response, final long nanos) {
+      insCommand = command.clone();
+      insResponse = response.clone();
+      insNanos = nanos;
+    } // end constructor */
+
+    /**
+     * Returns command message.
+     *
+     * @return command message
+     */
+    public byte[] getCommand() {
+      return insCommand.clone();
+    } // end method */
+
+    /**
+     * Returns duration.
+     *
+     * @return duration in nanoseconds spent in the underlying {@link ApduLayer}
+     */
+    public long getNanos() {
+      return insNanos;
+    } // end method */
+
+    /**
+     * Returns response message.
+     *
+     * @return response message
+     */
+    public byte[] getResponse() {
+      return insResponse.clone();
+    } // end method */
+
+    /**
+     * Returns package-private view of the command message without cloning.
+     *
+     * @return command message, SHALL NOT be modified
+     */
+    /* package */ byte[] command() {
+      return insCommand;
+    } // end method */
+
+    /**
+     * Returns package-private view of the response message without cloning.
+     *
+     * @return response message, SHALL NOT be modified
+     */
+    /* package */ byte[] response() {
+      return insResponse;
+    } // end method */
+  } // end inner class
+} // end class
@@ -0,0 +1,142 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import de.gematik.smartcards.sdcom.apdu.RecordingApduLayer.Record;
+import de.gematik.smartcards.utils.Hex;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link ApduLayer} answering command messages from records, see {@link RecordingApduLayer}.
+ *
+ * <p>Records are indexed by their command message. If the same command message has been recorded
+ * more than once (e.g. GET CHALLENGE), then the recorded responses are returned in the order of
+ * recording, starting again with the first one after the last one has been returned.
+ *
+ * <p>Optionally, the recorded latency is simulated, i.e., {@link #send(byte[])} returns not before
+ * the recorded duration has elapsed.
+ *
+ * <p>From the perspective of this class, methods are thread-safe.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class ReplayApduLayer implements ApduLayer {
+
+  /** Records indexed by command message. */
+  private final Map<ByteBuffer, Entry> insEntries; // */
+
+  /** Flag indicating whether recorded latency is simulated. */
+  private final boolean insSimulateLatency; // */
+
+  /** Execution time in seconds of previous command-response pair. */
+  private volatile double insTime; // NOPMD volatile not recommended */
+
+  /**
+   * Constructor.
+   *
+   * @param records command-response pairs to be replayed
+   * @param simulateLatency {@code TRUE} if recorded latency is simulated, {@code FALSE} if
+   *     responses are returned immediately
+   */
+  public ReplayApduLayer(final Collection<Record> records, final boolean simulateLatency) {
+    final Map<ByteBuffer, List<Record>> map = new HashMap<>();
+    for (final Record i : records) {
+      map.computeIfAbsent(ByteBuffer.wrap(i.command()), key -> new ArrayList<>()).add(i);
+    } // end For (i...)
+
+    insEntries = new HashMap<>();
+    map.forEach((key, value) -> insEntries.put(key, new Entry(value.toArray(new Record[0]))));
+    insSimulateLatency = simulateLatency;
+  } // end constructor */
+
+  /**
+   * Returns execution time of previous command-response pair.
+   *
+   * @return recorded execution time in seconds of previous command-response pair
+   */
+  @Override
+  public double getTime() {
+    return insTime;
+  } // end method */
+
+  /**
+   * Returns the recorded response message for given command message.
+   *
+   * @param message command message
+   * @return recorded response message
+   * @throws IllegalArgumentException if {@code message} has not been recorded
+   */
+  @Override
+  public byte[] send(final byte[] message) {
+    final Entry entry = insEntries.get(ByteBuffer.wrap(message));
+    if (null == entry) {
+      throw new IllegalArgumentException("command not recorded: " + Hex.toHexDigits(message));
+    } // end fi
+
+    final Record rec = entry.next();
+    final long nanos = rec.getNanos();
+
+    if (insSimulateLatency) {
+      final long deadline = System.nanoTime() + nanos;
+      for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+        LockSupport.parkNanos(remaining);
+      } // end For (remaining...)
+    } // end fi
+
+    insTime = nanos * 1e-9;
+
+    return rec.getResponse();
+  } // end method */
+
+  /** Records for one command message. */
+  private static final class Entry {
+
+    /** Records in the order of recording. */
+    private final Record[] insRecords; // */
+
+    /** Counter for selecting the next record. */
+    private final AtomicInteger insCounter = new AtomicInteger(); // */
+
+    /**
+     * Constructor.
+     *
+     * @param records in the order of recording
+     */
+    private Entry(final Record[] records) {
+      insRecords = records;
+    } // end constructor */
+
+    /**
+     * Returns the next record.
+     *
+     * @return next record in the order of recording, after the last the first again
+     */
+    private Record next() {
+      return insRecords[Math.floorMod(insCounter.getAndIncrement(), insRecords.length)];
+    } // end method */
+  } // end inner class
+} // end class
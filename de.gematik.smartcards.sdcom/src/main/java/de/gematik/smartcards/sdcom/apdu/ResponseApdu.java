@@ -22,7 +22,17 @@ package de.gematik.smartcards.sdcom.apdu;
 import de.gematik.smartcards.sdcom.Message;
 import de.gematik.smartcards.utils.Hex;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Objects;
@@ -42,7 +52,9 @@ import java.util.Objects;
  *   <li>Instances are immutable value-types. Thus, {@link Object#equals(Object) equals()} and
  *       {@link Object#hashCode() hashCode()} are overwritten. {@link Object#clone() clone()} is not
  *       overwritten.
- *   <li>Where data is passed in or out, defensive cloning is performed.
+ *   <li>Where data is passed in or out, defensive cloning is performed. For read paths without
+ *       intermediate copies see {@link #ResponseApdu(ByteBuffer)}, {@link #dataView()} and {@link
+ *       #writeDataTo(ByteBuffer)}.
  *   <li>Methods are thread-safe.
  * </ol>
  *
@@ -54,7 +66,10 @@ import java.util.Objects;
 public class ResponseApdu implements Apdu, Response, Serializable {
 
   /** Automatically generated UID. */
-  @java.io.Serial private static final long serialVersionUID = 6537870055900805797L; // */
+  @Serial private static final long serialVersionUID = 6537870055900805797L; // */
+
+  /** Maximum number of octets passed to an {@link OutputStream} at once. */
+  /* package */ static final int CHUNK_SIZE = 4096; // */
 
   /** Special value indicating that during comparison any data matches. */
   protected static final byte[] WILDCARD_DATA = new byte[0]; // */
@@ -169,6 +184,47 @@ public class ResponseApdu implements Apdu, Response, Serializable {
     insTrailer = (sw1 << 8) + sw2;
   } // end constructor */
 
+  /**
+   * Constructs a {@link ResponseApdu} from the remaining octets of a buffer.
+   *
+   * <p>The octets between {@code position} and {@code limit} of {@code apdu} are taken as the
+   * complete response APDU (optional body and trailer). The response data field is copied exactly
+   * once from {@code apdu}. Upon return, the {@code position} of {@code apdu} equals its {@code
+   * limit}.
+   *
+   * <p>Because the content is copied, {@code apdu} is free for reuse after this constructor
+   * returns. Thus, this constructor is intended for receive buffers which are reused for many
+   * command-response pairs, e.g., direct buffers of the PC/SC layer.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This constructor is NOT thread-safe, because it is possible to change the content of
+   *       the input parameter(s) while this constructor is running.</i>
+   *   <li><i>Object sharing is not a problem here, because input parameter(s) are only read and
+   *       content is copied.</i>
+   * </ol>
+   *
+   * @param apdu buffer containing the complete response APDU between {@code position} and {@code
+   *     limit}
+   * @throws IllegalArgumentException if less than two octets remain in {@code apdu}
+   */
+  public ResponseApdu(final ByteBuffer apdu) {
+    final int nr = apdu.remaining() - 2;
+    if (nr < 0) {
+      throw new IllegalArgumentException("response APDU without trailer");
+    } // end fi
+
+    insData = new byte[nr];
+    apdu.get(insData);
+    insWildcardData = false;
+
+    final int sw1 = apdu.get() & 0xff;
+    final int sw2 = apdu.get() & 0xff;
+
+    insTrailer = (sw1 << 8) + sw2;
+  } // end constructor */
+
   /**
    * Constructors a {@link ResponseApdu} from data field and trailer.
    *
@@ -193,6 +249,40 @@ public class ResponseApdu implements Apdu, Response, Serializable {
     insTrailer = (WILDCARD_TRAILER == trailer) ? trailer : trailer & 0xffff;
   } // end constructor */
 
+  /**
+   * Constructs a {@link ResponseApdu} from given parameters without defensive cloning.
+   *
+   * @param trailer trailer, either {@link #WILDCARD_TRAILER} or from range [0, 65,535]
+   * @param data response data field, possibly {@link #WILDCARD_DATA}, stored directly
+   */
+  private ResponseApdu(final int trailer, final byte[] data) {
+    insWildcardData = WILDCARD_DATA == data;
+    insData = data; // NOPMD array is stored directly
+    insTrailer = trailer;
+  } // end constructor */
+
+  /**
+   * Returns a read-only view of the response data field.
+   *
+   * <p>In contrast to {@link #getData()} no copy is made. The returned buffer is independent of
+   * other views, i.e., changing its {@code position} or {@code limit} does not affect other views.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because the returned buffer is read-only.</i>
+   *   <li><i>If the data field represents {@link #WILDCARD_DATA}, then the view has no remaining
+   *       octets.</i>
+   * </ol>
+   *
+   * @return read-only buffer with the response data field between {@code position} and {@code
+   *     limit}
+   */
+  public final ByteBuffer dataView() {
+    return ByteBuffer.wrap(insData).asReadOnlyBuffer();
+  } // end method */
+
   /**
    * Estimates difference between this {@link ResponseApdu} and given one.
    *
@@ -624,6 +714,67 @@ public class ResponseApdu implements Apdu, Response, Serializable {
     return insWildcardData;
   } // end method */
 
+  /**
+   * Writes the response data field to the given buffer.
+   *
+   * <p>In contrast to {@link #getData()} the response data field is copied directly into {@code
+   * dst} without intermediate copies. The {@code position} of {@code dst} is advanced by {@link
+   * #getNr()}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is NOT thread-safe, because it is possible to change the content of the
+   *       input parameter(s) while this method is running.</i>
+   *   <li><i>Object sharing is not a problem here, because the response data field is only read and
+   *       return value is primitive.</i>
+   * </ol>
+   *
+   * @param dst destination of the response data field
+   * @return number of octets written, i.e. {@link #getNr()}
+   * @throws java.nio.BufferOverflowException if less than {@link #getNr()} octets remain in {@code
+   *     dst}, in that case {@code dst} is unchanged
+   * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+   */
+  public final int writeDataTo(final ByteBuffer dst) {
+    dst.put(insData);
+
+    return insData.length;
+  } // end method */
+
+  /**
+   * Writes the response data field to the given stream.
+   *
+   * <p>In contrast to {@link #getData()} the response data field is not copied as a whole. Instead,
+   * it is written in chunks of at most {@link #CHUNK_SIZE} octets through a temporary array. Thus,
+   * the memory allocated per call is bounded, and {@code out} never receives the internal array of
+   * this object.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because {@code out} receives a temporary copy of
+   *       the response data field, which is never used again by this method.</i>
+   * </ol>
+   *
+   * @param out destination of the response data field
+   * @return number of octets written, i.e. {@link #getNr()}
+   * @throws IOException if {@code out} does so
+   */
+  public final int writeDataTo(final OutputStream out) throws IOException {
+    final int length = insData.length;
+    final byte[] chunk = new byte[Math.min(length, CHUNK_SIZE)];
+
+    for (int offset = 0; offset < length; offset += chunk.length) {
+      final int size = Math.min(chunk.length, length - offset);
+      System.arraycopy(insData, offset, chunk, 0, size);
+      out.write(chunk, 0, size);
+    } // end For (offset...)
+
+    return length;
+  } // end method */
+
   /**
    * Returns {@link String} representation of this {@link ResponseApdu}.
    *
@@ -670,4 +821,156 @@ public class ResponseApdu implements Apdu, Response, Serializable {
 
     return trailerString + dataString;
   } // end method */
+
+  /**
+   * Writes this response APDU in the compact binary format of {@link ApduCodec}.
+   *
+   * <p>The encoding consists of
+   *
+   * <ol>
+   *   <li>variable length integer: {@code 4 * Nr + 2 * wildcardTrailer + wildcardData}, where
+   *       {@code wildcardTrailer} and {@code wildcardData} are one for {@link #WILDCARD_TRAILER}
+   *       and {@link #WILDCARD_DATA} respectively, otherwise zero,
+   *   <li>the response data field,
+   *   <li>2 octet: trailer (big endian), absent for {@link #WILDCARD_TRAILER}.
+   * </ol>
+   *
+   * <p>Subclasses are written as {@link ResponseApdu}. Response APDU with more than {@link
+   * ApduCodec#NR_SUPREMUM} octet in the response data field are not supported.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because the response data field is only
+   *       read.</i>
+   * </ol>
+   *
+   * @param output to which this response APDU is written
+   * @throws IOException if writing fails
+   * @throws IllegalArgumentException if the response data field contains more than {@link
+   *     ApduCodec#NR_SUPREMUM} octet
+   * @see #readFrom(DataInput)
+   */
+  public final void writeTo(final DataOutput output) throws IOException {
+    if (insData.length > ApduCodec.NR_SUPREMUM) {
+      throw new IllegalArgumentException("Nr too large: " + insData.length);
+    } // end fi
+
+    final boolean isWildcardTrailer = WILDCARD_TRAILER == insTrailer;
+
+    ApduCodec.writeVarInt(
+        output, (insData.length << 2) | (isWildcardTrailer ? 2 : 0) | (insWildcardData ? 1 : 0));
+    output.write(insData);
+
+    if (!isWildcardTrailer) {
+      output.writeShort(insTrailer);
+    } // end fi
+  } // end method */
+
+  /**
+   * Reads a response APDU written by {@link #writeTo(DataOutput)}.
+   *
+   * @param input from which the response APDU is read
+   * @return response APDU
+   * @throws IOException if reading fails
+   * @throws StreamCorruptedException if Nr is greater than {@link ApduCodec#NR_SUPREMUM}
+   * @throws IllegalArgumentException if {@link #WILDCARD_DATA} is indicated together with a
+   *     non-empty response data field
+   */
+  public static ResponseApdu readFrom(final DataInput input) throws IOException {
+    final int header = ApduCodec.readVarInt(input);
+    final int nr = header >>> 2;
+    final boolean isWildcardData = 1 == (header & 1);
+    if (nr > ApduCodec.NR_SUPREMUM) {
+      // ... Nr too large
+      //     => reject before allocating memory
+      throw new StreamCorruptedException("Nr too large: " + nr);
+    } else if (isWildcardData && (nr > 0)) {
+      throw new IllegalArgumentException("wildcard data with Nr=" + nr);
+    } // end fi
+
+    final byte[] data = isWildcardData ? WILDCARD_DATA : new byte[nr];
+    input.readFully(data);
+    final int trailer = (2 == (header & 2)) ? WILDCARD_TRAILER : input.readUnsignedShort();
+
+    return new ResponseApdu(trailer, data);
+  } // end method */
+
+  /**
+   * Performs serialization.
+   *
+   * <p>Instances of this class are serialized in the compact binary format of {@link ApduCodec}.
+   * Because this method is private, instances of subclasses use default serialization. The same is
+   * true for instances with more than {@link ApduCodec#NR_SUPREMUM} octet in the response data
+   * field.
+   *
+   * @return object replacing this instance during serialization
+   */
+  @Serial
+  private Object writeReplace() {
+    return (insData.length > ApduCodec.NR_SUPREMUM) ? this : new SerializationProxy(this);
+  } // end method */
+
+  /** Serialization proxy for {@link ResponseApdu}. */
+  private static final class SerializationProxy implements Serializable {
+
+    /** Serial number randomly generated on 2026-10-18. */
+    @Serial private static final long serialVersionUID = 2934761853306571904L; // */
+
+    /** Response APDU, written and read by {@link ApduCodec}. */
+    private transient ResponseApdu insApdu; // */
+
+    /**
+     * Constructor.
+     *
+     * @param apdu to be serialized
+     */
+    private SerializationProxy(final ResponseApdu apdu) {
+      insApdu = apdu;
+    } // end constructor */
+
+    /**
+     * Method used during serialization.
+     *
+     * @param oos output stream to which objects are written
+     * @throws IOException if underlying methods do so
+     */
+    @Serial
+    private void writeObject(final ObjectOutputStream oos) throws IOException {
+      oos.defaultWriteObject();
+      insApdu.writeTo(oos);
+    } // end method */
+
+    /**
+     * Method used during deserialization.
+     *
+     * @param ois input stream from which objects are read
+     * @throws IOException if underlying methods do so
+     * @throws ClassNotFoundException if underlying methods do so
+     */
+    @Serial
+    private void readObject(final ObjectInputStream ois)
+        throws IOException, ClassNotFoundException {
+      ois.defaultReadObject();
+      try {
+        insApdu = readFrom(ois);
+      } catch (IllegalArgumentException e) {
+        final var exception = new InvalidObjectException(e.getMessage());
+        exception.initCause(e);
+
+        throw exception;
+      } // end Catch (...)
+    } // end method */
+
+    /**
+     * Returns object read from stream.
+     *
+     * @return deserialized object
+     */
+    @Serial
+    private Object readResolve() {
+      return insApdu;
+    } // end method */
+  } // end inner class
 } // end class
@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.event.Level;
@@ -282,6 +283,10 @@ public final class Scenario7816 {
   /**
    * Sends the {@link CommandApdu} in the scenario to the given {@link ApduLayer}.
    *
+   * <p>Consecutive {@link CommandApdu} with the same expected status words and without logging
+   * information in between are sent as one batch, see {@link ApduLayer#sendBatch(List,
+   * BatchPolicy)}.
+   *
    * @param apduLayer to which {@link CommandApdu} are sent
    * @param logger used for logging messages
    * @return list of {@link ResponseApdu} corresponding to {@link CommandApdu} from this {@link
@@ -289,42 +294,88 @@ public final class Scenario7816 {
    */
   public List<ResponseApdu> run(final ApduLayer apduLayer, final Logger logger) {
     final var result = new ArrayList<ResponseApdu>();
-    List<Integer> expectedStatusWords = Collections.emptyList(); // default
+    final var batch = new ArrayList<CommandApdu>();
+    BatchPolicy policy = new BatchPolicy(true); // default: no status word expected
 
     for (final var i : getScenario()) {
       if (i instanceof final CommandApdu cmd) {
         // ... command APDU
-        final ResponseApdu rsp = apduLayer.send(cmd);
-        result.add(rsp);
-
-        if (!expectedStatusWords.contains(rsp.getSw())) {
-          // ... unexpected status-word received
-          //     => do not issue further command APDU
-          logger
-              .atWarn()
-              .log(
-                  "got '{}', expected [{}]",
-                  String.format("%04x", rsp.getSw()),
-                  expectedStatusWords.stream()
-                      .map(j -> String.format("'%04x'", j))
-                      .collect(Collectors.joining(", ")));
-
-          break;
-        } // end fi
-      } else if (i instanceof final List<?> esw) {
+        batch.add(cmd);
+
+        continue;
+      } // end fi
+      // ... expected status words or logging information
+      //     => send command APDU collected so far
+
+      if (!runBatch(apduLayer, batch, policy, result, logger)) {
+        // ... unexpected status-word received
+        //     => do not issue further command APDU
+        return Collections.unmodifiableList(result);
+      } // end fi
+
+      if (i instanceof final List<?> esw) {
         // ... expected status words
-        expectedStatusWords =
-            esw.stream().filter(Integer.class::isInstance).map(j -> (Integer) j).toList();
+        policy =
+            new BatchPolicy(
+                true,
+                esw.stream()
+                    .filter(Integer.class::isInstance)
+                    .mapToInt(j -> (Integer) j)
+                    .toArray());
       } else {
         // ... logging information
         final var li = (LoggingInformation) i;
         logger.atLevel(li.getLevel()).log(li.getMessage());
-      } // end else if
+      } // end else
     } // end For (i...)
 
+    runBatch(apduLayer, batch, policy, result, logger);
+
     return Collections.unmodifiableList(result);
   } // end method */
 
+  /**
+   * Sends a batch of {@link CommandApdu}.
+   *
+   * @param apduLayer to which {@link CommandApdu} are sent
+   * @param batch command APDU to be sent, cleared by this method
+   * @param policy with expected status words
+   * @param result list to which the received {@link ResponseApdu} are added
+   * @param logger used for logging messages
+   * @return {@code TRUE} if all response APDU have an expected status word, {@code FALSE} otherwise
+   */
+  private static boolean runBatch(
+      final ApduLayer apduLayer,
+      final List<CommandApdu> batch,
+      final BatchPolicy policy,
+      final List<ResponseApdu> result,
+      final Logger logger) {
+    if (batch.isEmpty()) {
+      return true;
+    } // end fi
+
+    final List<ResponseApdu> rsps = apduLayer.sendBatch(batch, policy);
+    batch.clear();
+    result.addAll(rsps);
+
+    final ResponseApdu last = rsps.getLast();
+    if (policy.isExpected(last.getSw())) {
+      return true;
+    } // end fi
+    // ... unexpected status-word received
+
+    logger
+        .atWarn()
+        .log(
+            "got '{}', expected [{}]",
+            String.format("%04x", last.getSw()),
+            IntStream.of(policy.getExpectedTrailers())
+                .mapToObj(j -> String.format("'%04x'", j))
+                .collect(Collectors.joining(", ")));
+
+    return false;
+  } // end method */
+
   /**
    * Converts this scenario to a {@link String}.
    *
@@ -0,0 +1,100 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Implementation of {@link AsyncApduLayer} executing all tasks in one virtual thread.
+ *
+ * <p>Tasks are queued and executed in the order of submission. While no task is queued the virtual
+ * thread is parked, which does not occupy a platform thread. Thus, hundreds of smart cards are
+ * driven by a small number of platform threads.
+ *
+ * <p><i><b>Notes:</b></i>
+ *
+ * <ol>
+ *   <li><i>While a task blocks in native code (e.g. a PC/SC library call) or within a {@code
+ *       synchronized} block, the virtual thread occupies its carrier thread. Thus, the number of
+ *       command APDU in progress at the same time is limited by the number of carrier threads, see
+ *       system property {@code jdk.virtualThreadScheduler.parallelism}.</i>
+ *   <li><i>Methods are thread-safe.</i>
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+/* package */ final class VirtualThreadApduLayer implements AsyncApduLayer {
+
+  /** Underlying {@link ApduLayer}. */
+  private final ApduLayer insApduLayer; // */
+
+  /** Executor with one virtual thread, executing tasks in the order of submission. */
+  private final ExecutorService insExecutor; // */
+
+  /**
+   * Constructor.
+   *
+   * @param apduLayer underlying {@link ApduLayer}
+   */
+  /* package */ VirtualThreadApduLayer(final ApduLayer apduLayer) {
+    insApduLayer = apduLayer;
+    insExecutor =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("AsyncApduLayer").factory());
+  } // end constructor */
+
+  /**
+   * Closes this {@link AsyncApduLayer}.
+   *
+   * <p>Tasks already submitted are executed before this method returns, tasks submitted afterwards
+   * are rejected. The underlying {@link ApduLayer} is not closed.
+   */
+  @Override
+  public void close() {
+    insExecutor.close();
+  } // end method */
+
+  /**
+   * Returns the underlying {@link ApduLayer}.
+   *
+   * @return underlying {@link ApduLayer}
+   */
+  @Override
+  public ApduLayer getApduLayer() {
+    return insApduLayer;
+  } // end method */
+
+  /**
+   * Submits a task using the underlying {@link ApduLayer}.
+   *
+   * @param task to be executed
+   * @param <T> type of result
+   * @return future completed with the result of {@code task} or exceptionally with the exception
+   *     thrown by {@code task}
+   * @throws java.util.concurrent.RejectedExecutionException if this {@link AsyncApduLayer} is
+   *     closed
+   */
+  @Override
+  public <T> CompletableFuture<T> submit(final Function<? super ApduLayer, ? extends T> task) {
+    return CompletableFuture.supplyAsync(() -> task.apply(insApduLayer), insExecutor);
+  } // end method */
+} // end class
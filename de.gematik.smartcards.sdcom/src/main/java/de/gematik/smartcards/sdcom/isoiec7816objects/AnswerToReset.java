@@ -21,16 +21,19 @@ package de.gematik.smartcards.sdcom.isoiec7816objects;
 
 import de.gematik.smartcards.utils.Hex;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.Serial;
 import java.io.Serializable;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -41,6 +44,11 @@ import org.jetbrains.annotations.VisibleForTesting;
  * <p>The functionality provided here is a superset of {@code javax.smartcardio.ATR} which is a
  * final class.
  *
+ * <p>Typically, the same few Answers-To-Reset occur over and over again. Thus, {@link #of(byte[])}
+ * returns instances from a bounded intern cache. The constructor just checks the structure of an
+ * Answer-To-Reset. Interface bytes, protocols and historical bytes are parsed lazily and the
+ * results of {@link #check()} and {@link #explain()} are memoized.
+ *
  * <p>From the perspective of this class
  *
  * <ol>
@@ -74,6 +82,17 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    */
   public static final int MAX_ATR_SIZE = 33; // */
 
+  /**
+   * Maximum number of instances in the intern cache used by {@link #of(byte[])}.
+   *
+   * <p>If the cache is full, it is cleared. Thus, the cache is bounded, and the Answers-To-Reset in
+   * use are quickly interned again.
+   */
+  /* package */ static final int CACHE_SIZE = 256; // */
+
+  /** Intern cache used by {@link #of(byte[])}, octet string of Answer-To-Reset as key. */
+  private static final Map<ByteBuffer, AnswerToReset> CACHE = new ConcurrentHashMap<>(); // */
+
   /**
    * Mapping for clock-stop-mode values.
    *
@@ -128,14 +147,23 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
   private volatile int insHashCode; // NOPMD volatile not recommended */
 
   /**
-   * Historical bytes, copied from {@link #insAnswerToReset}.
+   * Historical bytes, copied lazily from {@link #insAnswerToReset}.
    *
    * <p>If historical bytes are absent then the array is empty.
    */
-  private final HistoricalBytes insHistoricalBytes; // */
+  private transient volatile @Nullable HistoricalBytes insHistoricalBytes; // NOPMD volatile */
+
+  /** Offset of the historical bytes in {@link #insAnswerToReset}. */
+  private final int insHistoricalOffset; // */
+
+  /** Set with protocols implicitly or explicitly indicated in ATR, initialized lazily. */
+  private transient volatile @Nullable EnumSet<EafiIccProtocol> insProtocols; // NOPMD volatile */
 
-  /** Set with protocols implicitly or explicitly indicated in ATR. */
-  private final EnumSet<EafiIccProtocol> insProtocols; // NOPMD missing accessor */
+  /** Memoized result of {@link #check()}, initialized lazily. */
+  private transient volatile @Nullable List<String> insCheck; // NOPMD volatile not recommended */
+
+  /** Memoized result of {@link #explain()}, initialized lazily. */
+  private transient volatile @Nullable List<String> insExplain; // NOPMD volatile not recommended */
 
   /**
    * Initial Character TS according to ISO/IEC 7816-3 clause 8.1.
@@ -175,8 +203,10 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    * <p>The first element with {@code index = 0} is artificial and contains Y1 (see ISO/IEC
    * 7816-3:2006 fig.13) at a position where usually TD0 would be stored. The four least significant
    * bit in that element are always zero.
+   *
+   * <p>This instance attribute is initialized lazily, see {@link #getTabcd()}.
    */
-  private final List<Integer> insTabcd; // NOPMD missing accessor */
+  private transient volatile @Nullable List<Integer> insTabcd; // NOPMD volatile not recommended */
 
   /**
    * Check Character TCK according to ISO/IEC 7816-3:2006 clause 8.2.5.
@@ -220,35 +250,136 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
     //         than 32 bytes, see ISO/IEC 7816-3:2006 clause 8.2.1 §2.
     //         That check is done in the check()-method.
 
-    // --- copy information from input parameter atr to instance attributes
-    final ByteBuffer buffer = ByteBuffer.wrap(insAnswerToReset);
-    try {
-      insTs = buffer.get() & 0xff; // read TS
-      insT0 = buffer.get() & 0xff; // read T0
-
-      // read clusters of TAi, TBi, TCi, TDi (if those interface bytes are present)
-      insTabcd = parseTabcd(insT0, buffer);
-      // ... all clusters read
-
-      // handle historical bytes
-      final byte[] historicalBytes = new byte[insT0 & 0x0f];
-      buffer.get(historicalBytes);
-      insHistoricalBytes = new HistoricalBytes(historicalBytes);
-
-      // handle check byte
-      insTck = buffer.hasRemaining() ? (buffer.get() & 0xff) : -1;
-    } catch (BufferUnderflowException e) {
-      throw new IllegalArgumentException(
-          String.format("ERROR, ATR too short: '%s'", Hex.toHexDigits(insAnswerToReset)), e);
-    } // end Catch (... e)
-
-    insHasExtraOctet = buffer.hasRemaining();
-    // ... given Answer-To-Reset is completely pared without errors
-
-    // --- initialize derived instance attributes
-    insProtocols = initializeProtocols();
+    // --- check structure and store offsets
+    // Note 4: Interface bytes, protocols and historical bytes are parsed lazily.
+    //         Here only the structure is checked, no objects are created.
+    final int length = insAnswerToReset.length;
+    if (length < 2) { // NOPMD literal in if statement
+      throw tooShort();
+    } // end fi
+    insTs = insAnswerToReset[0] & 0xff; // TS
+    insT0 = insAnswerToReset[1] & 0xff; // T0
+
+    // skip clusters of TAi, TBi, TCi, TDi (if those interface bytes are present)
+    int offset = 2;
+    for (int yi = insT0 & 0xf0; 0 != yi; ) {
+      offset += Integer.bitCount(yi);
+      if (offset > length) {
+        throw tooShort();
+      } // end fi
+
+      // calculate y(i+1) from high nibble of TDi (if present)
+      yi = (0 == (yi & 0x80)) ? 0 : (insAnswerToReset[offset - 1] & 0xf0);
+    } // end For (yi...)
+    // ... all clusters skipped
+
+    // skip historical bytes
+    insHistoricalOffset = offset;
+    offset += insT0 & 0x0f;
+    if (offset > length) {
+      throw tooShort();
+    } // end fi
+
+    // handle check byte
+    insTck = (offset < length) ? (insAnswerToReset[offset] & 0xff) : -1;
+    insHasExtraOctet = offset + 1 < length;
+    // ... given Answer-To-Reset is completely parsed without errors
   } // end constructor */
 
+  /**
+   * Returns an Answer-To-Reset for the given octet string.
+   *
+   * <p>In contrast to the constructor, instances are taken from a bounded intern cache. Thus, for
+   * frequently occurring octet strings parsing, {@link #check()} and {@link #explain()} are
+   * performed just once. The result equals {@code new AnswerToReset(atr)}.
+   *
+   * @param atr contains a byte-array from which the Answer-To-Reset is constructed
+   * @return Answer-To-Reset, possibly shared with other callers
+   * @throws IllegalArgumentException if the constructor does so
+   * @see #AnswerToReset(byte[])
+   */
+  public static AnswerToReset of(final byte[] atr) {
+    // Note: The key for lookup wraps the given array without cloning,
+    //       keys stored in the cache wrap the immutable internal array.
+    final AnswerToReset cached = CACHE.get(ByteBuffer.wrap(atr));
+    if (null != cached) {
+      return cached;
+    } // end fi
+    // ... not (yet) cached
+
+    final AnswerToReset result = new AnswerToReset(atr);
+    if (CACHE.size() >= CACHE_SIZE) {
+      CACHE.clear();
+    } // end fi
+
+    final AnswerToReset other = CACHE.putIfAbsent(ByteBuffer.wrap(result.insAnswerToReset), result);
+
+    return (null == other) ? result : other;
+  } // end method */
+
+  /**
+   * Creates exception for an Answer-To-Reset shorter than indicated.
+   *
+   * @return exception
+   */
+  private IllegalArgumentException tooShort() {
+    return new IllegalArgumentException(
+        String.format("ERROR, ATR too short: '%s'", Hex.toHexDigits(insAnswerToReset)),
+        new BufferUnderflowException());
+  } // end method */
+
+  /**
+   * Returns object read from stream.
+   *
+   * <p>Derived instance attributes are transient. Thus, the deserialized object is replaced by an
+   * interned instance.
+   *
+   * @return deserialized object
+   */
+  @Serial
+  private Object readResolve() {
+    return of(insAnswerToReset);
+  } // end method */
+
+  /**
+   * Returns clusters of interface bytes.
+   *
+   * <p>The clusters are parsed on first usage, see {@link #insTabcd}.
+   *
+   * @return unmodifiable list with clusters
+   */
+  private List<Integer> getTabcd() {
+    List<Integer> result = insTabcd;
+    if (null == result) {
+      // ... not yet parsed => do so now
+      // Note: Racy-Single-Check-Idiom, concurrent parsing gives equal results.
+      result =
+          Collections.unmodifiableList(
+              parseTabcd(
+                  insT0, ByteBuffer.wrap(insAnswerToReset, 2, insHistoricalOffset - 2).slice()));
+      insTabcd = result;
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns set with protocols implicitly or explicitly indicated.
+   *
+   * @return set which SHALL NOT be modified
+   */
+  @SuppressWarnings({"PMD.LooseCoupling"})
+  private EnumSet<EafiIccProtocol> getProtocols() {
+    EnumSet<EafiIccProtocol> result = insProtocols;
+    if (null == result) {
+      // ... not yet initialized => do so now
+      result = initializeProtocols();
+      insProtocols = result;
+    } // end fi
+
+    return result;
+  } // end method */
+
   /**
    * Retrieve cluster of interface bytes from buffer with Answer-To-Reset.
    *
@@ -309,9 +440,27 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
   /**
    * Checks this object, whether it is in accordance to ISO/IEC 7816-3:2006.
    *
+   * <p>The findings are memoized, i.e. checks are performed just once per instance.
+   *
    * @return list with findings, an empty list indicates no findings
    */
   public List<String> check() {
+    List<String> result = insCheck;
+    if (null == result) {
+      // ... not yet checked => do so now
+      result = Collections.unmodifiableList(checkAll());
+      insCheck = result;
+    } // end fi
+
+    return new ArrayList<>(result);
+  } // end method */
+
+  /**
+   * Performs all checks.
+   *
+   * @return list with findings, an empty list indicates no findings
+   */
+  private List<String> checkAll() {
     final List<String> result = new ArrayList<>();
 
     checkAtrLength(result);
@@ -415,7 +564,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
         EnumSet.complementOf(
             EnumSet.of(
                 EafiIccProtocol.T0, EafiIccProtocol.T1, EafiIccProtocol.T14, EafiIccProtocol.T15));
-    rfu.retainAll(insProtocols);
+    rfu.retainAll(getProtocols());
 
     if (!rfu.isEmpty()) {
       listOfFindings.add(
@@ -486,7 +635,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    * @throws IllegalStateException if T=1 is not indicated in this {@link AnswerToReset}
    */
   public int getBwi() {
-    if (!insProtocols.contains(EafiIccProtocol.T1)) {
+    if (!getProtocols().contains(EafiIccProtocol.T1)) {
       throw new IllegalStateException("T=1 not indicated in ATR => BWI is meaningless");
     } // end fi
     // ... T=1 indicated in ATR
@@ -536,7 +685,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    * @throws IllegalStateException if T=1 is not indicated in this {@link AnswerToReset}
    */
   public int getCwi() {
-    if (!insProtocols.contains(EafiIccProtocol.T1)) {
+    if (!getProtocols().contains(EafiIccProtocol.T1)) {
       throw new IllegalStateException("T=1 not indicated in ATR => CWI is meaningless");
     } // end fi
     // ... T=1 indicated in ATR
@@ -669,7 +818,14 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    * @return a clone of the historical bytes in this Answer-To-Reset.
    */
   public HistoricalBytes getHistoricalBytes() {
-    return insHistoricalBytes;
+    HistoricalBytes result = insHistoricalBytes;
+    if (null == result) {
+      // ... not yet initialized => do so now
+      result = new HistoricalBytes(insAnswerToReset, insHistoricalOffset, insT0 & 0x0f);
+      insHistoricalBytes = result;
+    } // end fi
+
+    return result;
   } // end method */
 
   /**
@@ -681,7 +837,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
    */
   @SuppressWarnings({"PMD.LooseCoupling"})
   public EnumSet<EafiIccProtocol> getSupportedProtocols() {
-    return insProtocols.clone();
+    return getProtocols().clone();
   } // end method */
 
   /**
@@ -908,7 +1064,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
       if (0xff == tc1) { // NOPMD literal in if statement
         result.append("12 etu for T=0, 11 etu for T=1");
       } else {
-        if (insProtocols.contains(EafiIccProtocol.T15)) {
+        if (getProtocols().contains(EafiIccProtocol.T15)) {
           // ... TC1 present AND TC1 != 255 AND T=15 present
           result.append(String.format("12 etu + %d clock cycles", tc1 * getFi() / getDi()));
         } else {
@@ -1054,7 +1210,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
   @VisibleForTesting
   // otherwise = private
   /* package */ void checkTc2(final List<String> listOfFindings) {
-    if (insProtocols.contains(EafiIccProtocol.T0)) {
+    if (getProtocols().contains(EafiIccProtocol.T0)) {
       // ... T=0 indicated in ATR, possibly implicitly
       // RFU in TC2?
       if (0 == getTc2()) {
@@ -1084,7 +1240,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
     final StringBuilder result = new StringBuilder(128);
     final int tc2 = getTc2(); // possibly default value
 
-    if (insProtocols.contains(EafiIccProtocol.T0)) {
+    if (getProtocols().contains(EafiIccProtocol.T0)) {
       // ... T=0 (possibly implicitly) indicated in ATR
 
       result
@@ -1402,7 +1558,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
     // more than one protocol is indicated.
     // From the 1st sentence it follows that TCK shall be absent if T=0 is the
     // only indicated protocol.
-    return (insProtocols.size() > 1) || !insProtocols.contains(EafiIccProtocol.T0);
+    return (getProtocols().size() > 1) || !getProtocols().contains(EafiIccProtocol.T0);
   } // end method */
 
   /**
@@ -1448,7 +1604,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
       }; // end Switch (position)
       // spotless:on
 
-      return 0 != (insTabcd.get(i - 1) & mask);
+      return 0 != (getTabcd().get(i - 1) & mask);
     } catch (IndexOutOfBoundsException e) {
       // ... i is an invalid index into insTabcd
       //     => requested interface byte is absent
@@ -1523,7 +1679,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
     }; // end Switch (position)
     // spotless:on
 
-    return (insTabcd.get(i) >> shifter) & 0xff;
+    return (getTabcd().get(i) >> shifter) & 0xff;
   } // end method */
 
   /**
@@ -1788,9 +1944,27 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
   /**
    * Explains this Answer-To-Reset.
    *
+   * <p>The explanation is memoized, i.e. it is formatted just once per instance.
+   *
    * @return list of string which explain this Answer-To-Reset
    */
   public List<String> explain() {
+    List<String> result = insExplain;
+    if (null == result) {
+      // ... not yet explained => do so now
+      result = Collections.unmodifiableList(explainAll());
+      insExplain = result;
+    } // end fi
+
+    return new ArrayList<>(result);
+  } // end method */
+
+  /**
+   * Explains all parts of this Answer-To-Reset.
+   *
+   * @return list of string which explain this Answer-To-Reset
+   */
+  private List<String> explainAll() {
     final List<String> result = new ArrayList<>();
 
     result.add(explainTs()); // TS, see ISO/IEC 7816-3:2006 clause 8.1 §4
@@ -1872,7 +2046,7 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
   @VisibleForTesting
   // otherwise = private
   /* package */ boolean isT1DefaultParameter() {
-    return insProtocols.contains(EafiIccProtocol.T1) && (firstTxCluster(1) < 0);
+    return getProtocols().contains(EafiIccProtocol.T1) && (firstTxCluster(1) < 0);
   } // end method */
 
   /**
@@ -1935,7 +2109,8 @@ public final class AnswerToReset implements Serializable, Comparable<AnswerToRes
           .append(appendY(td1, 2))
           .append(
               String.format(
-                  "%s offer is T=%d", (1 == insProtocols.size()) ? "only" : "1st", firstProtocol));
+                  "%s offer is T=%d",
+                  (1 == getProtocols().size()) ? "only" : "1st", firstProtocol));
     } else {
       // ... TD1 is absent
       result.append("---- => implicit offer is T=0");
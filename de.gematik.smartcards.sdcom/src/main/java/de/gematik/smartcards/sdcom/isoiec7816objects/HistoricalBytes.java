@@ -22,6 +22,7 @@ package de.gematik.smartcards.sdcom.isoiec7816objects;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -63,6 +64,20 @@ public final class HistoricalBytes implements Serializable {
     insHistoricalBytes = historicalBytes.clone();
   } // end constructor */
 
+  /**
+   * Constructs historical bytes from a part of an Answer-To-Reset.
+   *
+   * <p>In contrast to {@link #HistoricalBytes(byte[])} the octets are copied just once.
+   *
+   * @param atr octet string of an Answer-To-Reset
+   * @param offset of historical bytes in {@code atr}
+   * @param length number of historical bytes, {@code offset + length} SHALL NOT exceed {@code
+   *     atr.length}
+   */
+  /* package */ HistoricalBytes(final byte[] atr, final int offset, final int length) {
+    insHistoricalBytes = Arrays.copyOfRange(atr, offset, offset + length);
+  } // end constructor */
+
   /**
    * Returns historical bytes.
    *
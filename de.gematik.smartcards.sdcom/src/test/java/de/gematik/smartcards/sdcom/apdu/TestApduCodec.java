@@ -0,0 +1,296 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.sdcom.apdu.isoiec7816apdu.ReadBinary;
+import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class performing white-box tests on {@link ApduCodec}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestApduCodec {
+
+  /** Logger. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestApduCodec.class); // */
+
+  /** Random Number Generator. */
+  private static final AfiRng RNG = new AfiRng(); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link ApduCodec#writeVarInt(java.io.DataOutput, int)}. */
+  @Test
+  void test_writeVarInt__DataOutput_int() throws IOException {
+    // Assertions:
+    // ... a. readVarInt(DataInput)-method works as expected
+
+    // Test strategy:
+    // --- a. encoding of border values
+    // --- b. round trip
+    // --- c. ERROR: too large
+
+    // --- a. encoding of border values
+    for (final var entry :
+        List.of(
+            Map.entry(0, "00"),
+            Map.entry(0x7f, "7f"),
+            Map.entry(0x80, "8001"),
+            Map.entry(0xffff, "ffff03"),
+            Map.entry(0x2_0000, "808008"),
+            Map.entry(Integer.MAX_VALUE, "ffffffff07"))) {
+      final var baos = new ByteArrayOutputStream();
+
+      ApduCodec.writeVarInt(new DataOutputStream(baos), entry.getKey());
+
+      assertEquals(entry.getValue(), Hex.toHexDigits(baos.toByteArray()));
+    } // end For (entry...)
+
+    // --- b. round trip
+    for (final int value : RNG.intsClosed(0, Integer.MAX_VALUE, 100).toArray()) {
+      final var baos = new ByteArrayOutputStream();
+      ApduCodec.writeVarInt(new DataOutputStream(baos), value);
+
+      assertEquals(value, ApduCodec.readVarInt(input(baos.toByteArray())));
+    } // end For (value...)
+
+    // --- c. ERROR: too large
+    for (final var octets : List.of("ffffffff08", "ffffffff8f01")) {
+      assertThrows(
+          StreamCorruptedException.class,
+          () -> ApduCodec.readVarInt(input(Hex.toByteArray(octets))));
+    } // end For (octets...)
+  } // end method */
+
+  /** Test method for {@link ApduCodec.Encoder} and {@link ApduCodec.Decoder}. */
+  @Test
+  void test_Encoder() throws IOException {
+    // Assertions:
+    // ... a. writeTo(DataOutput)-methods work as expected
+    // ... b. readFrom(DataInput)-methods work as expected
+
+    // Test strategy:
+    // --- a. round trip with writeAll(...) and readAll(...)
+    // --- b. stream header and empty stream
+    // --- c. ERROR: invalid header
+    // --- d. ERROR: truncated stream
+    final var pairs = createPairs(100);
+    final var baos = new ByteArrayOutputStream();
+
+    // --- a. round trip with writeAll(...) and readAll(...)
+    ApduCodec.writeAll(baos, pairs);
+    final byte[] octets = baos.toByteArray();
+
+    assertEquals(pairs, ApduCodec.readAll(new ByteArrayInputStream(octets)));
+
+    // --- b. stream header and empty stream
+    {
+      final var empty = new ByteArrayOutputStream();
+      try (var encoder = new ApduCodec.Encoder(empty)) {
+        assertEquals(0, empty.size()); // buffered
+      } // end try-with-resources
+
+      assertEquals("4150445501", Hex.toHexDigits(empty.toByteArray()));
+      try (var decoder = new ApduCodec.Decoder(new ByteArrayInputStream(empty.toByteArray()))) {
+        assertNull(decoder.read());
+      } // end try-with-resources
+    } // end --- b.
+
+    // --- c. ERROR: invalid header
+    for (final var header : List.of("4150445401", "4150445502")) {
+      assertThrows(
+          StreamCorruptedException.class,
+          () -> new ApduCodec.Decoder(new ByteArrayInputStream(Hex.toByteArray(header))));
+    } // end For (header...)
+
+    // --- d. ERROR: truncated stream
+    assertThrows(
+        EOFException.class,
+        () -> ApduCodec.readAll(new ByteArrayInputStream(octets, 0, octets.length - 1)));
+  } // end method */
+
+  /** Test serialization in comparison to {@link ApduCodec}. */
+  @Test
+  void test_serialization() throws IOException, ClassNotFoundException {
+    // Assertions:
+    // ... a. serialization works as expected
+
+    // Test strategy:
+    // --- a. subclasses keep their class
+    // --- b. compare size and throughput of both formats
+    final var pairs = createPairs(10_000);
+
+    // --- a. subclasses keep their class
+    {
+      final var readBinary = new ReadBinary(1, 2, 3);
+
+      final var present = (CommandApdu) deserialize(serialize(readBinary));
+
+      assertSame(ReadBinary.class, present.getClass());
+      assertEquals(readBinary, present);
+    } // end --- a.
+
+    // --- b. compare size and throughput of both formats
+    {
+      final var list = new ArrayList<>();
+      for (final var pair : pairs) {
+        list.add(pair.getKey());
+        list.add(pair.getValue());
+      } // end For (pair...)
+
+      final long startSer = System.nanoTime();
+      final byte[] serialized = serialize(list);
+      assertEquals(list, deserialize(serialized));
+      final long endSer = System.nanoTime();
+
+      final var baos = new ByteArrayOutputStream();
+      ApduCodec.writeAll(baos, pairs);
+      final byte[] encoded = baos.toByteArray();
+      assertEquals(pairs, ApduCodec.readAll(new ByteArrayInputStream(encoded)));
+      final long endCodec = System.nanoTime();
+
+      LOGGER.atInfo().log(
+          "{} pairs: serialization {} octet in {} ms, codec {} octet in {} ms",
+          pairs.size(),
+          serialized.length,
+          (endSer - startSer) / 1_000_000,
+          encoded.length,
+          (endCodec - endSer) / 1_000_000);
+      assertTrue(encoded.length < serialized.length);
+    } // end --- b.
+  } // end method */
+
+  /**
+   * Creates command-response pairs typical for reading a smart card.
+   *
+   * @param number of pairs
+   * @return list with command-response pairs
+   */
+  private static List<Map.Entry<CommandApdu, ResponseApdu>> createPairs(final int number) {
+    final List<Map.Entry<CommandApdu, ResponseApdu>> result = new ArrayList<>();
+
+    for (int i = 0; i < number; i++) {
+      final int length = RNG.nextIntClosed(1, 0xff);
+
+      result.add(
+          Map.entry(
+              new CommandApdu(0x00, 0xb0, 0x80 | (i & 0x1f), 0x00, length),
+              new ResponseApdu(RNG.nextBytes(length), 0x9000)));
+    } // end For (i...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Wraps given octet string.
+   *
+   * @param octets to be read
+   * @return input reading {@code octets}
+   */
+  private static DataInputStream input(final byte[] octets) {
+    return new DataInputStream(new ByteArrayInputStream(octets));
+  } // end method */
+
+  /**
+   * Serializes given object.
+   *
+   * @param object to be serialized
+   * @return serialized object
+   * @throws IOException if underlying methods do so
+   */
+  private static byte[] serialize(final Object object) throws IOException {
+    final var baos = new ByteArrayOutputStream();
+    try (var oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(object);
+    } // end try-with-resources
+
+    return baos.toByteArray();
+  } // end method */
+
+  /**
+   * Deserializes given octet string.
+   *
+   * @param octets serialized object
+   * @return deserialized object
+   * @throws IOException if underlying methods do so
+   * @throws ClassNotFoundException if underlying methods do so
+   */
+  private static Object deserialize(final byte[] octets)
+      throws IOException, ClassNotFoundException {
+    try (var ois = new ObjectInputStream(new ByteArrayInputStream(octets))) {
+      return ois.readObject();
+    } // end try-with-resources
+  } // end method */
+} // end class
@@ -26,6 +26,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.Hex;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -136,6 +139,82 @@ final class TestApduLayer {
                     dut.send(new CommandApdu(cmd)).toString())); // end forEach((cmd, rsp) -> ...)
   } // end method */
 
+  /** Test method for {@link ApduLayer#send(ByteBuffer, ByteBuffer)}. */
+  @Test
+  void test_send__ByteBuffer_ByteBuffer() {
+    // Assertions:
+    // ... a. send(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test with positions different from zero
+    // --- b. ERROR: response buffer too small
+
+    final ApduLayer dut = new MyApduLayer();
+
+    // --- a. smoke test with positions different from zero
+    {
+      final var command = ByteBuffer.allocateDirect(16).put((byte) 0x47);
+      final int start = command.position();
+      new CommandApdu(1, 2, 0x90, 0, 3).encodeTo(command);
+      command.flip().position(start);
+      final var response = ByteBuffer.allocate(16).put((byte) 0x11);
+
+      final int length = dut.send(command, response);
+
+      assertEquals(5, length);
+      assertEquals(command.limit(), command.position());
+      assertEquals(6, response.position());
+      assertEquals("11010290900000", Hex.toHexDigits(response.array(), 0, 7));
+    } // end --- a.
+
+    // --- b. ERROR: response buffer too small
+    {
+      final var command = new CommandApdu(1, 2, 0x90, 0, 3).getEncoded();
+      final var response = ByteBuffer.allocate(4);
+
+      assertThrows(BufferOverflowException.class, () -> dut.send(command, response));
+      assertEquals(0, response.position());
+    } // end --- b.
+  } // end method */
+
+  /** Test method for {@link ApduLayer#send(CommandApdu, ByteBuffer, ByteBuffer)}. */
+  @Test
+  void test_send__CommandApdu_ByteBuffer_ByteBuffer() {
+    // Assertions:
+    // ... a. send(ByteBuffer, ByteBuffer)-method works as expected
+    // ... b. send(CommandApdu)-method works as expected
+
+    // Test strategy:
+    // --- a. reuse buffers for several command APDUs, result equals send(CommandApdu)
+    // --- b. ERROR: command buffer too small
+
+    final ApduLayer dut = new MyApduLayer();
+    final var command = ByteBuffer.allocateDirect(0x400);
+    final var response = ByteBuffer.allocateDirect(0x400);
+
+    // --- a. reuse buffers for several command APDUs, result equals send(CommandApdu)
+    for (final var cmd :
+        List.of(
+            new CommandApdu(1, 2, 0x90, 0),
+            new CommandApdu(3, 4, 0x62, 0x81, 7),
+            new CommandApdu(5, 6, 0x90, 0, RNG.nextBytes(1, 0x100), 0x1ff))) {
+      final var expected = dut.send(cmd);
+
+      final var actual = dut.send(cmd, command, response);
+
+      assertEquals(expected, actual);
+      assertEquals(cmd.encodedLength(), command.limit());
+      assertEquals(actual.getBytes().length, response.remaining());
+    } // end For (cmd...)
+
+    // --- b. ERROR: command buffer too small
+    {
+      final var cmd = new CommandApdu(1, 2, 3, 4, new byte[0x400]);
+
+      assertThrows(BufferOverflowException.class, () -> dut.send(cmd, command, response));
+    } // end --- b.
+  } // end method */
+
   /** Test method for {@link ApduLayer#send(CommandApdu, int...)}. */
   @Test
   void test_send__CommandApdu_intA() {
@@ -279,6 +358,53 @@ final class TestApduLayer {
     } // end --- b.
   } // end method */
 
+  /** Test method for {@link ApduLayer#sendBatch(List, BatchPolicy)}. */
+  @Test
+  void test_sendBatch__List_BatchPolicy() {
+    // Assertions:
+    // ... a. send(CommandApdu)-method works as expected
+    // ... b. BatchPolicy works as expected
+
+    // Test strategy:
+    // --- a. empty batch
+    // --- b. all trailers expected
+    // --- c. stop on first unexpected trailer
+    // --- d. send all
+    // --- e. ERROR: exception from send(CommandApdu)
+
+    final ApduLayer dut = new MyApduLayer();
+    final var apdus =
+        List.of(
+            new CommandApdu(0, 1, 0x90, 0x00),
+            new CommandApdu(0, 2, 0x62, 0x82),
+            new CommandApdu(0, 3, 0x6a, 0x82),
+            new CommandApdu(0, 4, 0x90, 0x00));
+    final var expected = apdus.stream().map(dut::send).toList();
+
+    // --- a. empty batch
+    assertEquals(List.of(), dut.sendBatch(List.of(), BatchPolicy.SEND_ALL));
+
+    // --- b. all trailers expected
+    assertEquals(expected, dut.sendBatch(apdus, new BatchPolicy(true, 0x9000, 0x6282, 0x6a82)));
+
+    // --- c. stop on first unexpected trailer
+    assertEquals(
+        expected.subList(0, 3), dut.sendBatch(apdus, new BatchPolicy(true, 0x9000, 0x6282)));
+    assertEquals(expected.subList(0, 1), dut.sendBatch(apdus, new BatchPolicy(true)));
+
+    // --- d. send all
+    assertEquals(expected, dut.sendBatch(apdus, new BatchPolicy(false, 0x9000)));
+    assertEquals(expected, dut.sendBatch(apdus, BatchPolicy.SEND_ALL));
+
+    // --- e. ERROR: exception from send(CommandApdu)
+    {
+      final var batch = List.of(apdus.get(0), new CommandApdu(0x80, 1, 2, 3));
+
+      assertThrows(
+          IllegalArgumentException.class, () -> dut.sendBatch(batch, BatchPolicy.SEND_ALL));
+    } // end --- e.
+  } // end method */
+
   /**
    * Class used for testing methods in interface {@link ApduLayer}.
    *
@@ -0,0 +1,215 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link AsyncApduLayer} and {@link VirtualThreadApduLayer}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestAsyncApduLayer {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link AsyncApduLayer#of(ApduLayer)}. */
+  @Test
+  void test_of__ApduLayer() throws ExecutionException, InterruptedException {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    final ApduLayer apduLayer = new TestApduLayer.MyApduLayer();
+
+    try (AsyncApduLayer dut = AsyncApduLayer.of(apduLayer)) {
+      assertSame(apduLayer, dut.getApduLayer());
+      assertTrue(dut.submit(layer -> Thread.currentThread().isVirtual()).get());
+    } // end try-with-resources
+  } // end method */
+
+  /** Test method for {@link AsyncApduLayer#close()}. */
+  @Test
+  void test_close() {
+    // Assertions:
+    // ... a. submit(Function)-method works as expected
+
+    // Test strategy:
+    // --- a. pending tasks are executed
+    // --- b. ERROR: task submitted after close
+    final AsyncApduLayer dut = AsyncApduLayer.of(new TestApduLayer.MyApduLayer());
+
+    // --- a. pending tasks are executed
+    final var futures =
+        IntStream.range(0, 10)
+            .mapToObj(i -> dut.sendAsync(new CommandApdu(0, 1, 0x90, i)))
+            .toList();
+
+    dut.close();
+
+    futures.forEach(future -> assertTrue(future.isDone()));
+
+    // --- b. ERROR: task submitted after close
+    final var cmd = new CommandApdu(0, 1, 0x90, 0);
+    assertThrows(RejectedExecutionException.class, () -> dut.sendAsync(cmd));
+  } // end method */
+
+  /** Test method for {@link AsyncApduLayer#sendAsync(CommandApdu)}. */
+  @Test
+  void test_sendAsync__CommandApdu() throws ExecutionException, InterruptedException {
+    // Assertions:
+    // ... a. ApduLayer.send(CommandApdu)-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: exception thrown by underlying ApduLayer
+    final ApduLayer apduLayer = new TestApduLayer.MyApduLayer();
+
+    try (AsyncApduLayer dut = AsyncApduLayer.of(apduLayer)) {
+      // --- a. smoke test
+      {
+        final var cmd = new CommandApdu("00 01 ffff 03");
+
+        assertEquals(apduLayer.send(cmd), dut.sendAsync(cmd).get());
+      } // end --- a.
+
+      // --- b. ERROR: exception thrown by underlying ApduLayer
+      {
+        final var future = dut.sendAsync(new CommandApdu(0x80, 1, 2, 3));
+
+        final var e = assertThrows(ExecutionException.class, future::get);
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("CLA='80'", e.getCause().getMessage());
+      } // end --- b.
+    } // end try-with-resources
+  } // end method */
+
+  /** Test method for {@link AsyncApduLayer#sendAsync(CommandApdu, int...)}. */
+  @Test
+  void test_sendAsync__CommandApdu_intA() throws ExecutionException, InterruptedException {
+    // Assertions:
+    // ... a. ApduLayer.send(CommandApdu, int...)-method works as expected
+
+    // Test strategy:
+    // --- a. expected trailer
+    // --- b. ERROR: unexpected trailer
+    try (AsyncApduLayer dut = AsyncApduLayer.of(new TestApduLayer.MyApduLayer())) {
+      // --- a. expected trailer
+      assertEquals(
+          0x6282, dut.sendAsync(new CommandApdu(0, 1, 0x62, 0x82), 0x9000, 0x6282).get().getSw());
+
+      // --- b. ERROR: unexpected trailer
+      {
+        final var future = dut.sendAsync(new CommandApdu(0, 1, 0x6a, 0x82), 0x9000);
+
+        final var e = assertThrows(ExecutionException.class, future::get);
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+      } // end --- b.
+    } // end try-with-resources
+  } // end method */
+
+  /** Test method for {@link AsyncApduLayer#submit(java.util.function.Function)}. */
+  @Test
+  void test_submit__Function() throws ExecutionException, InterruptedException {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. tasks are executed in the order of submission
+    // --- b. tasks do not overlap
+    final int noTasks = 200;
+    final var order = new ArrayList<Integer>();
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+
+    try (AsyncApduLayer dut = AsyncApduLayer.of(new TestApduLayer.MyApduLayer())) {
+      final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < noTasks; i++) {
+        final int index = i;
+        futures.add(
+            dut.submit(
+                layer -> {
+                  maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                  Thread.yield();
+                  order.add(index);
+                  running.decrementAndGet();
+
+                  return index;
+                }));
+      } // end For (i...)
+
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+    } // end try-with-resources
+
+    // --- a. tasks are executed in the order of submission
+    assertEquals(IntStream.range(0, noTasks).boxed().toList(), order);
+
+    // --- b. tasks do not overlap
+    assertEquals(1, maxRunning.get());
+  } // end method */
+} // end class
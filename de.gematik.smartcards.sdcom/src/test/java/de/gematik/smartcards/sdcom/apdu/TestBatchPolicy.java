@@ -0,0 +1,155 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link BatchPolicy}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestBatchPolicy {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link BatchPolicy#BatchPolicy(boolean, int...)}. */
+  @Test
+  void test_BatchPolicy__boolean_intA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. only 16 least significant bit are taken into account
+    // --- c. defensive cloning
+    final int[] input = {0x9000, 0x16282};
+
+    final var dut = new BatchPolicy(true, input);
+    input[0] = 0x6a82;
+
+    // --- a. smoke test
+    assertTrue(dut.isStopOnUnexpected());
+    assertFalse(new BatchPolicy(false).isStopOnUnexpected());
+
+    // --- b. only 16 least significant bit are taken into account
+    // --- c. defensive cloning
+    assertArrayEquals(new int[] {0x9000, 0x6282}, dut.getExpectedTrailers());
+    dut.getExpectedTrailers()[0] = 0;
+    assertArrayEquals(new int[] {0x9000, 0x6282}, dut.getExpectedTrailers());
+  } // end method */
+
+  /** Test method for {@link BatchPolicy#isExpected(int)}. */
+  @Test
+  void test_isExpected__int() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    final var dut = new BatchPolicy(true, 0x9000, 0x6282);
+
+    assertTrue(dut.isExpected(0x9000));
+    assertTrue(dut.isExpected(0x6282));
+    assertFalse(dut.isExpected(0x6a82));
+    assertFalse(BatchPolicy.SEND_ALL.isExpected(0x9000));
+  } // end method */
+
+  /** Test method for {@link BatchPolicy#isStop(ResponseApdu)}. */
+  @Test
+  void test_isStop__ResponseApdu() {
+    // Assertions:
+    // ... a. isExpected(int)-method works as expected
+
+    // Test strategy:
+    // --- a. stop on unexpected trailer
+    // --- b. never stop
+    final var ok = new ResponseApdu("01-9000");
+    final var nok = new ResponseApdu("6a82");
+
+    // --- a. stop on unexpected trailer
+    {
+      final var dut = new BatchPolicy(true, 0x9000);
+
+      assertFalse(dut.isStop(ok));
+      assertTrue(dut.isStop(nok));
+    } // end --- a.
+
+    // --- b. never stop
+    {
+      final var dut = new BatchPolicy(false, 0x9000);
+
+      assertFalse(dut.isStop(ok));
+      assertFalse(dut.isStop(nok));
+      assertFalse(BatchPolicy.SEND_ALL.isStop(nok));
+    } // end --- b.
+  } // end method */
+
+  /** Test method for {@link BatchPolicy#toString()}. */
+  @Test
+  void test_toString() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    assertEquals(
+        "stopOnUnexpected=true expected=['9000', '6282']",
+        new BatchPolicy(true, 0x9000, 0x6282).toString());
+    assertEquals("stopOnUnexpected=false expected=[]", BatchPolicy.SEND_ALL.toString());
+  } // end method */
+} // end class
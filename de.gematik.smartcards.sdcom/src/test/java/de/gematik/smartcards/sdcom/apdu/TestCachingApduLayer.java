@@ -0,0 +1,395 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link CachingApduLayer}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestCachingApduLayer {
+
+  /** SELECT MF. */
+  private static final CommandApdu SELECT_MF = new CommandApdu("00 a4 040c"); // */
+
+  /** SELECT DF by AID. */
+  private static final CommandApdu SELECT_DF = new CommandApdu("00 a4 040c 03 a00001"); // */
+
+  /** READ BINARY with SFI = 2. */
+  private static final CommandApdu READ_GDO = new CommandApdu("00 b0 8200 00"); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link CachingApduLayer#DEFAULT_CACHEABLE}. */
+  @Test
+  void test_DEFAULT_CACHEABLE() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. cacheable
+    // --- b. not cacheable
+    final var dut = CachingApduLayer.DEFAULT_CACHEABLE;
+
+    // --- a. cacheable
+    for (final var input : List.of("00 b0 8100 00", "00 b2 0114 00", "00 ca 0100 00")) {
+      assertTrue(dut.test(new CommandApdu(input)), input);
+    } // end For (input...)
+
+    // --- b. not cacheable
+    for (final var input :
+        List.of("00 b0 0100 00", "00 b2 0104 00", "0c b0 8100 00", "00 84 0000 08", "00 a4 040c")) {
+      assertFalse(dut.test(new CommandApdu(input)), input);
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link CachingApduLayer#send(CommandApdu)}. */
+  @Test
+  void test_send__CommandApdu() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. no caching before a SELECT
+    // --- b. caching after a SELECT, also for another connection
+    // --- c. SELECT to a different file uses other entries
+    // --- d. modifying command invalidates entries of the card identity
+    // --- e. other card identity not affected
+    // --- f. failed SELECT, no caching
+    // --- g. unsuccessful response not cached
+    // --- h. logical channel not cached
+    // --- i. relative selections, same SFI in different DF
+    // --- j. PERFORM SECURITY OPERATION invalidates GET DATA
+    // --- k. no caching after a command possibly changing the security status
+    final var cache = new CachingApduLayer.Cache(10);
+    final var card = new CountingApduLayer();
+    final var other = new CountingApduLayer();
+    final var dut = new CachingApduLayer(card, "card", cache);
+    final var dutOther = new CachingApduLayer(other, "other", cache);
+
+    // --- a. no caching before a SELECT
+    dut.send(READ_GDO);
+    dut.send(READ_GDO);
+    assertEquals(2, card.insCounter);
+    assertEquals(0, cache.size());
+
+    // --- b. caching after a SELECT, also for another connection
+    dut.send(SELECT_MF);
+    final var rsp = dut.send(READ_GDO);
+    assertEquals(rsp, dut.send(READ_GDO));
+    assertEquals(0.0, dut.getTime());
+    {
+      final var reconnect = new CachingApduLayer(card, "card", cache);
+      reconnect.send(new CommandApdu("00 a4 0404")); // response-control bits are ignored
+
+      assertEquals(rsp, reconnect.send(READ_GDO));
+    } // end --- b.
+    assertEquals(5, card.insCounter);
+    assertEquals(2, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    // --- c. SELECT to a different file uses other entries
+    dut.send(SELECT_DF);
+    assertNotEquals(rsp, dut.send(READ_GDO));
+    dut.send(SELECT_MF);
+    assertEquals(rsp, dut.send(READ_GDO));
+    assertEquals(2, cache.size());
+
+    // --- d. modifying command invalidates entries of the card identity
+    // --- e. other card identity not affected
+    dutOther.send(SELECT_MF);
+    dutOther.send(READ_GDO);
+    assertEquals(3, cache.size());
+    dut.send(new CommandApdu("00 d6 8200 01 ff"));
+    assertEquals(1, cache.size());
+    final int counter = card.insCounter;
+    dut.send(READ_GDO);
+    assertEquals(counter + 1, card.insCounter);
+
+    // --- f. failed SELECT, no caching
+    dut.send(new CommandApdu("00 a4 040c 01 ff"));
+    dut.send(READ_GDO);
+    dut.send(READ_GDO);
+    assertEquals(counter + 4, card.insCounter);
+
+    // --- g. unsuccessful response not cached
+    dut.send(SELECT_MF);
+    final var readEmpty = new CommandApdu("00 b0 9f00 00");
+    assertEquals(0x6a82, dut.send(readEmpty).getSw());
+    assertEquals(0x6a82, dut.send(readEmpty).getSw());
+    assertEquals(counter + 7, card.insCounter);
+
+    // --- h. logical channel not cached
+    final var readChannel = new CommandApdu("01 b0 8200 00");
+    dut.send(readChannel);
+    dut.send(readChannel);
+    assertEquals(counter + 9, card.insCounter);
+
+    // --- i. relative selections, same SFI in different DF
+    {
+      final var selectDf1 = new CommandApdu("00 a4 010c 02 1000");
+      final var selectDf2 = new CommandApdu("00 a4 010c 02 2000");
+      final var selectParent = new CommandApdu("00 a4 030c");
+
+      dut.send(SELECT_MF);
+      dut.send(selectDf1);
+      final var rsp1 = dut.send(READ_GDO);
+      dut.send(selectParent);
+      dut.send(selectDf2);
+      final var rsp2 = dut.send(READ_GDO);
+      dut.send(selectParent);
+      dut.send(selectDf1);
+
+      assertNotEquals(rsp1, rsp2);
+      assertNotEquals(rsp1, dut.send(READ_GDO));
+      assertNotEquals(rsp2, dut.send(READ_GDO));
+      assertEquals(counter + 19, card.insCounter);
+    } // end --- i.
+
+    // --- j. PERFORM SECURITY OPERATION invalidates GET DATA
+    {
+      final var listPublicKeys = new CommandApdu("00 ca 0100 00");
+
+      dut.send(SELECT_MF);
+      final var before = dut.send(listPublicKeys);
+      assertEquals(before, dut.send(listPublicKeys));
+      dut.send(new CommandApdu("00 2a 00be 04 7f21 0100"));
+
+      assertNotEquals(before, dut.send(listPublicKeys));
+    } // end --- j.
+
+    // --- k. no caching after a command possibly changing the security status
+    for (final var security :
+        List.of(
+            "00 20 0001 06 313233343536", // VERIFY
+            "00 22 41a4 06 840109800154", // MANAGE SECURITY ENVIRONMENT
+            "00 82 0000 08 0102030405060708", // EXTERNAL AUTHENTICATE
+            "00 86 0000 02 7c00", // GENERAL AUTHENTICATE
+            "10 87 0000 02 7c00")) { // GENERAL AUTHENTICATE, command chaining
+      final var connection = new CachingApduLayer(card, security, cache);
+      final var readProtected = new CommandApdu("00 b0 8500 00");
+      connection.send(SELECT_MF);
+      final var rspPublic = connection.send(READ_GDO);
+
+      connection.send(new CommandApdu(security));
+
+      // responses stored before are still used
+      assertEquals(rspPublic, connection.send(READ_GDO), security);
+
+      // responses are no longer stored
+      final var rspProtected = connection.send(readProtected);
+      assertNotEquals(rspProtected, connection.send(readProtected), security);
+      final var reconnect = new CachingApduLayer(card, security, cache);
+      reconnect.send(SELECT_MF);
+      assertNotEquals(rspProtected, reconnect.send(readProtected), security);
+      assertEquals(rspPublic, reconnect.send(READ_GDO), security);
+    } // end For (security...)
+  } // end method */
+
+  /** Test method for {@link CachingApduLayer#selection(CommandApdu)}. */
+  @Test
+  void test_selection__CommandApdu() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. absolute selections
+    // --- b. relative selections
+
+    // --- a. absolute selections
+    for (final var entry :
+        List.of(
+            List.of("00 a4 000c", "mf"),
+            List.of("00 a4 0004 02 3f00", "mf"),
+            List.of("00 a4 040c 03 a00001", "0400a00001"),
+            List.of("00 a4 0404 03 a00001", "0400a00001"),
+            List.of("00 a4 080c 04 10002f01", "080010002f01"))) {
+      final var input = entry.get(0);
+
+      assertEquals(entry.get(1), CachingApduLayer.selection(new CommandApdu(input)), input);
+    } // end For (entry...)
+
+    // --- b. relative selections
+    for (final var input :
+        List.of(
+            "00 a4 000c 02 1000",
+            "00 a4 010c 02 1000",
+            "00 a4 020c 02 2f01",
+            "00 a4 030c",
+            "00 a4 090c 02 2f01")) {
+      assertNull(CachingApduLayer.selection(new CommandApdu(input)), input);
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link CachingApduLayer#send(byte[])}. */
+  @Test
+  void test_send__byteA() {
+    // Assertions:
+    // ... a. send(CommandApdu)-method works as expected
+
+    // Test strategy:
+    // --- a. modifying message invalidates entries
+    // --- b. SELECT message makes selection unknown
+    // --- c. VERIFY message stops caching
+    final var cache = new CachingApduLayer.Cache(10);
+    final var card = new CountingApduLayer();
+    final var dut = new CachingApduLayer(card, "card", cache);
+
+    // --- a. modifying message invalidates entries
+    dut.send(SELECT_MF);
+    dut.send(READ_GDO);
+    assertEquals(1, cache.size());
+    dut.send(new CommandApdu("00 0e 8200").getBytes());
+    assertEquals(0, cache.size());
+
+    // --- b. SELECT message makes selection unknown
+    dut.send(READ_GDO);
+    dut.send(SELECT_DF.getBytes());
+    final int counter = card.insCounter;
+    dut.send(READ_GDO);
+    dut.send(READ_GDO);
+    assertEquals(counter + 2, card.insCounter);
+
+    // --- c. VERIFY message stops caching
+    dut.send(SELECT_MF);
+    dut.send(new CommandApdu("00 20 0001 06 313233343536").getBytes());
+    final int size = cache.size();
+    final var readProtected = new CommandApdu("00 b0 8500 00");
+    dut.send(readProtected);
+    dut.send(readProtected);
+    assertEquals(counter + 6, card.insCounter);
+    assertEquals(size, cache.size());
+  } // end method */
+
+  /** Test method for {@link CachingApduLayer.Cache}. */
+  @Test
+  void test_Cache() {
+    // Assertions:
+    // ... a. send(CommandApdu)-method works as expected
+
+    // Test strategy:
+    // --- a. LRU eviction
+    // --- b. ERROR: invalid bound
+    final var cache = new CachingApduLayer.Cache(2);
+    final var dut = new CachingApduLayer(new CountingApduLayer(), "card", cache);
+    final var read1 = new CommandApdu("00 b0 8100 00");
+    final var read3 = new CommandApdu("00 b0 8300 00");
+
+    // --- a. LRU eviction
+    dut.send(SELECT_MF);
+    final var rsp1 = dut.send(read1);
+    dut.send(READ_GDO);
+    dut.send(read1); // read1 is most recently used
+    dut.send(read3); // evicts READ_GDO
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(rsp1, dut.send(read1));
+    final long misses = cache.getMissCount();
+    dut.send(READ_GDO);
+    assertEquals(misses + 1, cache.getMissCount());
+
+    // --- b. ERROR: invalid bound
+    final var e = assertThrows(IllegalArgumentException.class, () -> new CachingApduLayer.Cache(0));
+    assertEquals("maxEntries SHALL be positive", e.getMessage());
+  } // end method */
+
+  /**
+   * {@link ApduLayer} counting command APDU.
+   *
+   * <p>Responses contain the counter value as response data field, SELECT commands with command
+   * data field 'ff' and READ BINARY from SFI = 31 fail.
+   */
+  private static final class CountingApduLayer implements ApduLayer {
+
+    /** Number of command APDU sent. */
+    private int insCounter; // NOPMD no accessor */
+
+    /**
+     * Returns execution time of previous command-response pair.
+     *
+     * @return execution time in seconds of previous command-response pair
+     */
+    @Override
+    public double getTime() {
+      return 1;
+    } // end method */
+
+    /**
+     * Sends given message.
+     *
+     * @param message to be sent, typically a command
+     * @return corresponding response message
+     */
+    @Override
+    public byte[] send(final byte[] message) {
+      final var cmd = new CommandApdu(message);
+      insCounter++;
+
+      if (((0xa4 == cmd.getIns()) && (cmd.getNc() == 1) && (-1 == cmd.getData()[0]))
+          || ((0xb0 == cmd.getIns()) && (0x9f == cmd.getP1()))) {
+        return new ResponseApdu(new byte[0], 0x6a82).getBytes();
+      } // end fi
+
+      return new ResponseApdu(new byte[] {(byte) insCounter}, 0x9000).getBytes();
+    } // end method */
+  } // end inner class
+} // end class
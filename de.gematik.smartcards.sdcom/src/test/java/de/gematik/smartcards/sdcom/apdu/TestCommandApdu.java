@@ -45,10 +45,16 @@ import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -1678,6 +1684,69 @@ final class TestCommandApdu {
             }); // end forEach(nc -> ...)
   } // end method */
 
+  /** Test method for {@link CommandApdu#encodeTo(ByteBuffer)}. */
+  @Test
+  void test_encodeTo__ByteBuffer() {
+    // Assertions:
+    // ... a. getBytes()-method works as expected
+    // ... b. encodedLength()-method works as expected
+
+    // Test strategy:
+    // --- a. loop over relevant values for Nc and Ne, before and after caching
+    // --- b. ERROR: not enough space, buffer unchanged
+
+    // --- a. loop over relevant values for Nc and Ne, before and after caching
+    final var buffer = ByteBuffer.allocateDirect(4 + 3 + NC_SUPREMUM + 2 + 1);
+    for (final var dut : getCommandApdus()) {
+      for (final var useCache : List.of(false, true)) {
+        final byte[] expected = dut.getBytes(); // Note: fills the cache
+        final var uncached = useCache ? dut : new CommandApdu(dut.getBytes());
+        buffer.clear().put((byte) 0x42);
+
+        final int length = uncached.encodeTo(buffer);
+
+        assertEquals(expected.length, length);
+        assertEquals(1 + length, buffer.position());
+        final byte[] actual = new byte[length];
+        buffer.get(1, actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(0x42, buffer.get(0));
+      } // end For (useCache...)
+    } // end For (dut...)
+
+    // --- b. ERROR: not enough space, buffer unchanged
+    for (final var dut :
+        List.of(new CommandApdu(1, 2, 3, 4, 5), new CommandApdu(1, 2, 3, 4, new byte[300]))) {
+      final int length = dut.encodedLength();
+
+      for (final var useCache : List.of(false, true)) {
+        if (useCache) {
+          dut.getBytes();
+        } // end fi
+        final var buffer2 = ByteBuffer.allocate(length - 1);
+
+        assertThrows(BufferOverflowException.class, () -> dut.encodeTo(buffer2));
+        assertEquals(0, buffer2.position());
+      } // end For (useCache...)
+
+      final var readOnly = ByteBuffer.allocate(length).asReadOnlyBuffer();
+      assertThrows(ReadOnlyBufferException.class, () -> dut.encodeTo(readOnly));
+    } // end For (dut...)
+  } // end method */
+
+  /** Test method for {@link CommandApdu#encodedLength()}. */
+  @Test
+  void test_encodedLength() {
+    // Assertions:
+    // ... a. getBytes()-method works as expected
+
+    // Test strategy:
+    // --- a. loop over relevant values for Nc and Ne
+    for (final var dut : getCommandApdus()) {
+      assertEquals(dut.getBytes().length, dut.encodedLength(), dut::toString);
+    } // end For (dut...)
+  } // end method */
+
   /** Test method for {@link CommandApdu#equals(Object)}. */
   @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops"})
   @Test
@@ -2277,6 +2346,31 @@ final class TestCommandApdu {
     } // end For (nc...)
   } // end method */
 
+  /** Test method for {@link CommandApdu#getEncoded()}. */
+  @Test
+  void test_getEncoded() {
+    // Assertions:
+    // ... a. getBytes()-method works as expected
+
+    // Test strategy:
+    // --- a. content equals getBytes()
+    // --- b. buffer is read-only and independent of other calls
+    final var dut = new CommandApdu(1, 2, 3, 4, RNG.nextBytes(1, 20), 5);
+
+    // --- a. content equals getBytes()
+    final var present = dut.getEncoded();
+    assertEquals(0, present.position());
+    assertEquals(dut.encodedLength(), present.limit());
+    final byte[] actual = new byte[present.remaining()];
+    present.get(actual);
+    assertArrayEquals(dut.getBytes(), actual);
+
+    // --- b. buffer is read-only and independent of other calls
+    assertTrue(present.isReadOnly());
+    assertEquals(0, dut.getEncoded().position());
+    assertNotSame(present, dut.getEncoded());
+  } // end method */
+
   /** Test method for {@link CommandApdu#getIns()}. */
   @Test
   void test_getIns() {
@@ -2729,6 +2823,80 @@ final class TestCommandApdu {
     // end --- b, c, d, e, f.
   } // end method */
 
+  /** Test method for {@link CommandApdu#writeTo(java.io.DataOutput)}. */
+  @Test
+  void test_writeTo__DataOutput() throws IOException {
+    // Assertions:
+    // ... a. readFrom(DataInput)-method works as expected
+
+    // Test strategy:
+    // --- a. compact encoding of a short APDU
+    // --- b. round trip for all ISO-cases and relevant values of Nc and Ne
+    // --- c. ERROR: invalid content
+    // --- d. ERROR: Nc too large, rejected before allocating memory
+
+    // --- a. compact encoding of a short APDU
+    {
+      final var baos = new ByteArrayOutputStream();
+      new CommandApdu("00 b0 8100 04").writeTo(new DataOutputStream(baos));
+
+      assertEquals("00b08100" + "00" + "04", Hex.toHexDigits(baos.toByteArray()));
+    } // end --- a.
+
+    // --- b. round trip for all ISO-cases and relevant values of Nc and Ne
+    for (final int nc : List.of(0, NC_INFIMUM, NC_SUPREMUM_SHORT + 1, NC_SUPREMUM)) {
+      for (final int ne : NE_VALUES) {
+        final byte[] data = RNG.nextBytes(nc);
+        final var baos = new ByteArrayOutputStream();
+        final var output = new DataOutputStream(baos);
+        final var originals =
+            List.of(
+                new CommandApdu(data, 0x01, 0xa4, 0x04, 0x0c, 0),
+                new CommandApdu(data, 0x81, 0xb0, 0x00, 0x00, ne));
+        for (final var dut : originals) {
+          dut.writeTo(output);
+        } // end For (dut...)
+
+        final var input = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        for (final var dut : originals) {
+          final var present = CommandApdu.readFrom(input);
+
+          assertEquals(dut, present);
+          assertEquals(dut.getNe(), present.getNe());
+        } // end For (dut...)
+        assertEquals(-1, input.read());
+      } // end For (ne...)
+    } // end For (nc...)
+
+    // --- c. ERROR: invalid content
+    for (final var input : List.of("ff000000-00-00", "00000000-00-818004")) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              CommandApdu.readFrom(
+                  new DataInputStream(new ByteArrayInputStream(Hex.toByteArray(input)))),
+          input);
+    } // end For (input...)
+    assertThrows(
+        EOFException.class,
+        () ->
+            CommandApdu.readFrom(
+                new DataInputStream(new ByteArrayInputStream(Hex.toByteArray("00000000-02-01")))));
+
+    // --- d. ERROR: Nc too large, rejected before allocating memory
+    for (final var input : List.of("00000000-808004", "00000000-ffffffff07")) {
+      final var e =
+          assertThrows(
+              StreamCorruptedException.class,
+              () ->
+                  CommandApdu.readFrom(
+                      new DataInputStream(new ByteArrayInputStream(Hex.toByteArray(input)))),
+              input);
+
+      assertTrue(e.getMessage().startsWith("Nc too large: "), input);
+    } // end For (input...)
+  } // end method */
+
   /** Test method for serialisation. */
   @Test
   void test_serialize() {
@@ -2937,4 +3105,23 @@ final class TestCommandApdu {
                   }); // end forEach(ne -> ...)
             }); // end forEach(nc -> ...)
   } // end method */
+
+  /**
+   * Returns command APDUs for all ISO-cases with relevant values for Nc and Ne.
+   *
+   * @return list of command APDUs
+   */
+  private static List<CommandApdu> getCommandApdus() {
+    final List<CommandApdu> result = new ArrayList<>();
+
+    for (final int nc :
+        List.of(0, NC_INFIMUM, NC_SUPREMUM_SHORT, NC_SUPREMUM_SHORT + 1, NC_SUPREMUM)) {
+      final byte[] data = RNG.nextBytes(nc);
+
+      result.add(new CommandApdu(data, 1, 2, 3, 4, 0));
+      NE_VALUES.forEach(ne -> result.add(new CommandApdu(data, 1, 2, 3, 4, ne)));
+    } // end For (nc...)
+
+    return result;
+  } // end method */
 } // end class
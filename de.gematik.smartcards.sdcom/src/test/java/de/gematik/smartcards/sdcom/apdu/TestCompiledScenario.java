@@ -0,0 +1,216 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.slf4j.event.Level.INFO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class performing white-box tests on {@link CompiledScenario}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestCompiledScenario {
+
+  /** Logger. */
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestCompiledScenario.class); // */
+
+  /** Scenario where all status words are expected. */
+  private static final Scenario7816 SUCCESS =
+      new Scenario7816(
+          List.of(
+              new Scenario7816.LoggingInformation(INFO, "start"),
+              List.of(0x9000, 0x6282),
+              new CommandApdu(0x00, 0xa4, 0x90, 0x00),
+              new CommandApdu(0x00, 0xb0, 0x62, 0x82, 2),
+              new Scenario7816.LoggingInformation(INFO, "next"),
+              List.of(0x6a82),
+              new CommandApdu(0x00, 0xa4, 0x6a, 0x82),
+              new Scenario7816.LoggingInformation(INFO, "end"))); // */
+
+  /** Scenario stopping at the second command APDU. */
+  private static final Scenario7816 FAILURE =
+      new Scenario7816(
+          List.of(
+              List.of(0x9000),
+              new CommandApdu(0x00, 0xa4, 0x90, 0x00),
+              new CommandApdu(0x00, 0xb0, 0x62, 0x82, 2),
+              new CommandApdu(0x00, 0xa4, 0x90, 0x00))); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link CompiledScenario#CompiledScenario(Scenario7816)}. */
+  @Test
+  void test_CompiledScenario__Scenario7816() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. scenario without command APDU
+    assertEquals(3, new CompiledScenario(SUCCESS).size());
+    assertEquals(0, new CompiledScenario(new Scenario7816(List.of(List.of(0x9000)))).size());
+  } // end method */
+
+  /** Test method for {@link CompiledScenario#run(ApduLayer, Logger)}. */
+  @Test
+  void test_run__ApduLayer_Logger() {
+    // Assertions:
+    // ... a. Scenario7816.run(ApduLayer, Logger)-method works as expected
+
+    // Test strategy:
+    // --- a. same responses as Scenario7816.run(...)
+    // --- b. commands before any expected status words
+    // --- c. ERROR: exception from ApduLayer
+    final ApduLayer apduLayer = new TestApduLayer.MyApduLayer();
+
+    // --- a. same responses as Scenario7816.run(...)
+    // --- b. commands before any expected status words
+    for (final var scenario :
+        List.of(
+            SUCCESS,
+            FAILURE,
+            new Scenario7816(
+                List.of(
+                    new CommandApdu(0x00, 0xa4, 0x90, 0x00),
+                    new CommandApdu(0x00, 0xa4, 0x90, 0x00))))) {
+      final var expected = scenario.run(apduLayer, LOGGER);
+
+      final var present = new CompiledScenario(scenario).run(apduLayer, LOGGER);
+
+      assertSame(apduLayer, present.getApduLayer());
+      assertEquals(expected, present.getResponses());
+      assertEquals(SUCCESS == scenario, present.isSuccess()); // NOPMD compare objects with equals
+      assertNull(present.getException());
+      assertFalse(present.getDuration().isNegative());
+      assertEquals(
+          expected.size() * (0xa4 / 1000.0), present.getCardTime(), expected.size() * 0.02);
+    } // end For (scenario...)
+
+    // --- c. ERROR: exception from ApduLayer
+    {
+      final var dut =
+          new CompiledScenario(new Scenario7816(List.of(new CommandApdu(0x80, 1, 2, 3))));
+
+      assertThrows(IllegalArgumentException.class, () -> dut.run(apduLayer, LOGGER));
+    } // end --- c.
+  } // end method */
+
+  /** Test method for {@link CompiledScenario#runAll(java.util.Collection, int, Logger)}. */
+  @Test
+  void test_runAll__Collection_int_Logger() throws InterruptedException {
+    // Assertions:
+    // ... a. run(ApduLayer, Logger)-method works as expected
+
+    // Test strategy:
+    // --- a. many cards, results in order of input
+    // --- b. exception from one ApduLayer does not affect others
+    // --- c. empty collection
+    // --- d. ERROR: parallelism not positive
+    final var dut = new CompiledScenario(SUCCESS);
+    final var expected = SUCCESS.run(new TestApduLayer.MyApduLayer(), LOGGER);
+
+    // --- a. many cards, results in order of input
+    // --- b. exception from one ApduLayer does not affect others
+    final List<ApduLayer> cards = new ArrayList<>();
+    IntStream.range(0, 50).forEach(i -> cards.add(new TestApduLayer.MyApduLayer()));
+    final ApduLayer broken =
+        new TestApduLayer.MyApduLayer() {
+          @Override
+          public byte[] send(final byte[] message) {
+            throw new IllegalStateException("card removed");
+          } // end method */
+        };
+    cards.set(17, broken);
+
+    final var present = dut.runAll(cards, 4, LOGGER);
+
+    assertEquals(cards.size(), present.size());
+    for (int i = 0; i < cards.size(); i++) {
+      final var result = present.get(i);
+
+      assertSame(cards.get(i), result.getApduLayer());
+      if (17 == i) { // NOPMD literal in if statement
+        assertFalse(result.isSuccess());
+        assertEquals(List.of(), result.getResponses());
+        assertEquals("card removed", result.getException().getMessage());
+      } else {
+        assertTrue(result.isSuccess());
+        assertEquals(expected, result.getResponses());
+        assertNull(result.getException());
+      } // end else
+    } // end For (i...)
+
+    // --- c. empty collection
+    assertEquals(List.of(), dut.runAll(List.of(), 1, LOGGER));
+
+    // --- d. ERROR: parallelism not positive
+    {
+      final var e =
+          assertThrows(IllegalArgumentException.class, () -> dut.runAll(cards, 0, LOGGER));
+
+      assertEquals("parallelism SHALL be positive", e.getMessage());
+    } // end --- d.
+  } // end method */
+} // end class
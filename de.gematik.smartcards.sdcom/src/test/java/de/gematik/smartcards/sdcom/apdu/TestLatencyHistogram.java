@@ -0,0 +1,184 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link LatencyHistogram}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestLatencyHistogram {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link LatencyHistogram#index(long)}. */
+  @Test
+  void test_index__long() {
+    // Assertions:
+    // ... a. lowerBound(int)-method works as expected
+
+    // Test strategy:
+    // --- a. small values have their own bucket
+    // --- b. each bucket covers the range between its lower bound and the next one
+    // --- c. largest value
+    final var input = new ArrayList<Long>();
+    for (int shift = 0; shift < 62; shift++) {
+      for (final long delta : List.of(-1L, 0L, 1L, 3L)) {
+        input.add((1L << shift) + delta);
+      } // end For (delta...)
+    } // end For (shift...)
+
+    // --- a. small values have their own bucket
+    IntStream.range(0, 8).forEach(i -> assertEquals(i, LatencyHistogram.index(i)));
+
+    // --- b. each bucket covers the range between its lower bound and the next one
+    for (final long nanos : input) {
+      final int index = LatencyHistogram.index(nanos);
+
+      assertTrue(LatencyHistogram.lowerBound(index) <= nanos, () -> Long.toString(nanos));
+      assertTrue(nanos < LatencyHistogram.lowerBound(index + 1), () -> Long.toString(nanos));
+    } // end For (nanos...)
+
+    // --- c. largest value
+    assertEquals(LatencyHistogram.NO_BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+  } // end method */
+
+  /** Test method for {@link LatencyHistogram#record(long)}. */
+  @Test
+  void test_record__long() {
+    // Assertions:
+    // ... a. snapshot()-method works as expected
+
+    // Test strategy:
+    // --- a. empty histogram
+    // --- b. record values from 1 to 1000 and check statistics
+    // --- c. negative values count as zero
+    // --- d. concurrent recording
+    // --- e. ERROR: percentile out of range
+    final var dut = new LatencyHistogram();
+
+    // --- a. empty histogram
+    {
+      final var present = dut.snapshot();
+
+      assertEquals(0, present.getCount());
+      assertEquals(0, present.getSum());
+      assertEquals(0, present.getMax());
+      assertEquals(0.0, present.getMean());
+      assertEquals(0, present.getPercentile(50));
+    } // end --- a.
+
+    // --- b. record values from 1 to 1000 and check statistics
+    {
+      IntStream.rangeClosed(1, 1000).forEach(dut::record);
+
+      final var present = dut.snapshot();
+
+      assertEquals(1000, present.getCount());
+      assertEquals(500_500, present.getSum());
+      assertEquals(1000, present.getMax());
+      assertEquals(500.5, present.getMean());
+      assertEquals(1, present.getPercentile(0));
+      assertEquals(1000, present.getPercentile(100));
+      for (final int percentile : List.of(10, 50, 90, 99)) {
+        final long estimate = present.getPercentile(percentile);
+
+        // relative error less than 12.5 %
+        assertTrue(estimate >= percentile * 10, () -> percentile + ": " + estimate);
+        assertTrue(estimate < percentile * 10 * 1.125, () -> percentile + ": " + estimate);
+      } // end For (percentile...)
+      assertEquals("count=1000 mean=0.5 p50=0.5 p90=1.0 p99=1.0 max=1.0", present.toString());
+    } // end --- b.
+
+    // --- c. negative values count as zero
+    {
+      final var histogram = new LatencyHistogram();
+      histogram.record(-5);
+
+      final var present = histogram.snapshot();
+
+      assertEquals(1, present.getCount());
+      assertEquals(0, present.getMax());
+    } // end --- c.
+
+    // --- d. concurrent recording
+    {
+      final var histogram = new LatencyHistogram();
+
+      IntStream.range(0, 10_000).parallel().forEach(i -> histogram.record(i % 100));
+
+      final var present = histogram.snapshot();
+
+      assertEquals(10_000, present.getCount());
+      assertEquals(495_000, present.getSum());
+      assertEquals(99, present.getMax());
+    } // end --- d.
+
+    // --- e. ERROR: percentile out of range
+    {
+      final var present = dut.snapshot();
+
+      for (final double percentile : List.of(-0.1, 100.1)) {
+        assertThrows(IllegalArgumentException.class, () -> present.getPercentile(percentile));
+      } // end For (percentile...)
+    } // end --- e.
+  } // end method */
+} // end class
@@ -0,0 +1,206 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link LatencyRecorder} and {@link ApduInstrumentation}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestLatencyRecorder {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link ApduInstrumentation#set(ApduInstrumentation)}. */
+  @Test
+  void test_set__ApduInstrumentation() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. default is NONE
+    // --- b. install and uninstall
+    // --- c. ERROR: null
+    final var dut = new LatencyRecorder();
+
+    try {
+      // --- a. default is NONE
+      assertSame(ApduInstrumentation.NONE, ApduInstrumentation.get());
+
+      // --- b. install and uninstall
+      ApduInstrumentation.set(dut);
+      assertSame(dut, ApduInstrumentation.get());
+    } finally {
+      ApduInstrumentation.set(ApduInstrumentation.NONE);
+    } // end finally
+    assertSame(ApduInstrumentation.NONE, ApduInstrumentation.get());
+
+    // --- c. ERROR: null
+    assertThrows(NullPointerException.class, () -> ApduInstrumentation.set(null));
+    assertSame(ApduInstrumentation.NONE, ApduInstrumentation.get());
+  } // end method */
+
+  /**
+   * Test method for {@link LatencyRecorder#onResponse(String, CommandApdu, ResponseApdu, long)}.
+   */
+  @Test
+  void test_onResponse__String_CommandApdu_ResponseApdu_long() {
+    // Assertions:
+    // ... a. onError(...)-method works as expected
+    // ... b. snapshot()-method works as expected
+
+    // Test strategy:
+    // --- a. record command-response pairs and errors for two layers
+    // --- b. check snapshot
+    // --- c. snapshot is unmodifiable
+    // --- d. clear
+    final var dut = new LatencyRecorder();
+    final var read = new CommandApdu("00 b0 8100 04");
+    final var select = new CommandApdu("00 a4 040c 02 3f00");
+
+    // --- a. record command-response pairs and errors for two layers
+    dut.onResponse("Icc", read, new ResponseApdu("01020304 9000"), 2_000);
+    dut.onResponse("Icc", read, new ResponseApdu("6282"), 4_000);
+    dut.onResponse("Icc", select, new ResponseApdu("9000"), 1_000);
+    dut.onResponse("SecureMessagingLayer", read, new ResponseApdu("9000"), 8_000);
+    dut.onError("Icc", select, new IllegalStateException(), 500);
+
+    // --- b. check snapshot
+    final var present = dut.snapshot();
+    assertEquals(List.of("Icc", "SecureMessagingLayer"), List.copyOf(present.keySet()));
+    {
+      final var icc = present.get("Icc");
+
+      assertEquals(Set.of(0xa4, 0xb0), icc.getByIns().keySet());
+      assertEquals(2, icc.getByIns().get(0xb0).getCount());
+      assertEquals(4_000, icc.getByIns().get(0xb0).getMax());
+      assertEquals(1, icc.getByIns().get(0xa4).getCount());
+      assertEquals(List.of(0x6282, 0x9000), List.copyOf(icc.getBySw().keySet()));
+      assertEquals(2, icc.getBySw().get(0x9000).getCount());
+      assertEquals(3_000, icc.getBySw().get(0x9000).getSum());
+      assertEquals(2 * 5 + 2 * 7, icc.getBytesOut());
+      assertEquals(6 + 2 + 2, icc.getBytesIn());
+      assertEquals(1, icc.getErrorCount());
+    } // end --- b.
+
+    // --- c. snapshot is unmodifiable
+    assertThrows(UnsupportedOperationException.class, () -> present.remove("Icc"));
+    assertThrows(
+        UnsupportedOperationException.class, () -> present.get("Icc").getByIns().remove(0xb0));
+
+    // --- d. clear
+    dut.clear();
+    assertTrue(dut.snapshot().isEmpty());
+    assertEquals(2, present.size()); // snapshot is not affected
+  } // end method */
+
+  /** Test method for {@link LatencyRecorder#export(Appendable)}. */
+  @Test
+  void test_export__Appendable() {
+    // Assertions:
+    // ... a. LatencyHistogram.Snapshot.toString()-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. toString() equals export
+    final var dut = new LatencyRecorder();
+    final var histogram = new LatencyHistogram();
+    dut.onResponse("Icc", new CommandApdu("00 b0 0000 02"), new ResponseApdu("0102 9000"), 3_000);
+    histogram.record(3_000);
+
+    // --- a. smoke test
+    final var present = new StringBuilder();
+    dut.export(present);
+
+    assertEquals(
+        String.format(
+            "Icc: bytesOut=5 bytesIn=4 errors=0%n" + "Icc: INS='b0' %s%n" + "Icc: SW='9000' %s%n",
+            histogram.snapshot(), histogram.snapshot()),
+        present.toString());
+
+    // --- b. toString() equals export
+    assertEquals(present.toString(), dut.toString());
+  } // end method */
+
+  /** Test method for concurrent calls of {@link LatencyRecorder#onResponse}. */
+  @Test
+  void test_onResponse__concurrent() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. concurrent recording loses no events
+    final var dut = new LatencyRecorder();
+    final var cmd = new CommandApdu("00 b0 0000 02");
+    final var rsp = new ResponseApdu("0102 9000");
+
+    IntStream.range(0, 10_000).parallel().forEach(i -> dut.onResponse("L" + (i % 4), cmd, rsp, i));
+
+    final var present = dut.snapshot();
+    assertEquals(4, present.size());
+    for (final var layer : present.values()) {
+      assertEquals(2_500, layer.getByIns().get(0xb0).getCount());
+      assertEquals(2_500 * 5, layer.getBytesOut());
+      assertEquals(2_500 * 4, layer.getBytesIn());
+    } // end For (layer...)
+  } // end method */
+} // end class
@@ -0,0 +1,222 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Class performing white-box tests on {@link RecordingApduLayer}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestRecordingApduLayer {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link RecordingApduLayer#readLog(java.io.InputStream)}. */
+  @Test
+  void test_readLog__InputStream() throws IOException {
+    // Assertions:
+    // ... a. send(...)-methods work as expected
+
+    // Test strategy:
+    // --- a. round trip, records not kept in memory
+    // --- b. ERROR: truncated log
+    // --- c. ERROR: invalid lengths
+    // --- d. maximum lengths
+    final var log = new ByteArrayOutputStream();
+    final var dut = new RecordingApduLayer(new TestApduLayer.MyApduLayer(), log);
+    dut.send(new CommandApdu(0, 1, 0x90, 0x00));
+    dut.send(Hex.toByteArray("00 b0 6282 02"));
+    final byte[] octets = log.toByteArray();
+
+    // --- a. round trip, records not kept in memory
+    {
+      final var present = RecordingApduLayer.readLog(new ByteArrayInputStream(octets));
+
+      assertTrue(dut.getRecords().isEmpty());
+      assertEquals(2, present.size());
+      assertEquals("00019000", Hex.toHexDigits(present.get(0).getCommand()));
+      assertEquals("9000", Hex.toHexDigits(present.get(0).getResponse()));
+      assertEquals("00b0628202", Hex.toHexDigits(present.get(1).getCommand()));
+      assertEquals("00b06282", Hex.toHexDigits(present.get(1).getResponse()));
+      assertTrue(present.get(0).getNanos() >= 0);
+      assertTrue(present.get(1).getNanos() >= 0);
+    } // end --- a.
+
+    // --- b. ERROR: truncated log
+    {
+      final var input = new ByteArrayInputStream(Arrays.copyOf(octets, octets.length - 1));
+
+      assertThrows(EOFException.class, () -> RecordingApduLayer.readLog(input));
+    } // end --- b.
+
+    // --- c. ERROR: invalid lengths
+    for (final var entry :
+        List.of(
+            List.of("0000000000000000-ffffffff", "invalid length of command: -1"),
+            List.of("0000000000000000-00010009", "invalid length of command: 65545"),
+            List.of("0000000000000000-7fffffff", "invalid length of command: 2147483647"),
+            List.of("0000000000000000-00000000-ffffffff", "invalid length of response: -1"),
+            List.of("0000000000000000-00000000-00010003", "invalid length of response: 65539"))) {
+      final var input = new ByteArrayInputStream(Hex.toByteArray(entry.get(0)));
+
+      final var e =
+          assertThrows(StreamCorruptedException.class, () -> RecordingApduLayer.readLog(input));
+
+      assertEquals(entry.get(1), e.getMessage());
+    } // end For (entry...)
+
+    // --- d. maximum lengths
+    {
+      final int maxCommand = RecordingApduLayer.MAX_COMMAND;
+      final int maxResponse = RecordingApduLayer.MAX_RESPONSE;
+      final var buffer = ByteBuffer.allocate(8 + 4 + maxCommand + 4 + maxResponse);
+      buffer.putLong(42).putInt(maxCommand).position(buffer.position() + maxCommand);
+      buffer.putInt(maxResponse);
+
+      final var present =
+          RecordingApduLayer.readLog(new ByteArrayInputStream(buffer.array())).getFirst();
+
+      assertEquals(65_544, present.getCommand().length);
+      assertEquals(65_538, present.getResponse().length);
+      assertEquals(42, present.getNanos());
+    } // end --- d.
+  } // end method */
+
+  /** Test method for {@link RecordingApduLayer#send(byte[])}. */
+  @Test
+  void test_send__byteA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. defensive cloning
+    final ApduLayer apduLayer = new TestApduLayer.MyApduLayer();
+    final var dut = new RecordingApduLayer(apduLayer);
+    final byte[] command = Hex.toByteArray("00 b0 6282 02");
+
+    // --- a. smoke test
+    final byte[] response = dut.send(command);
+
+    assertSame(apduLayer, dut.getApduLayer());
+    assertArrayEquals(apduLayer.send(command), response);
+    assertEquals(apduLayer.getTime(), dut.getTime());
+
+    // --- b. defensive cloning
+    command[0]++;
+    response[0]++;
+
+    final var rec = dut.getRecords().getFirst();
+    assertEquals("00b0628202", Hex.toHexDigits(rec.getCommand()));
+    assertEquals("00b06282", Hex.toHexDigits(rec.getResponse()));
+    assertTrue(rec.getNanos() >= 0);
+  } // end method */
+
+  /** Test method for {@link RecordingApduLayer#send(CommandApdu)}. */
+  @Test
+  void test_send__CommandApdu() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    final ApduLayer apduLayer = new TestApduLayer.MyApduLayer();
+    final var dut = new RecordingApduLayer(apduLayer);
+    final var cmd = new CommandApdu(0, 1, 0x6a, 0x82);
+
+    assertEquals(apduLayer.send(cmd), dut.send(cmd));
+    assertEquals(1, dut.getRecords().size());
+    assertEquals("00016a82", Hex.toHexDigits(dut.getRecords().getFirst().getCommand()));
+    assertEquals("6a82", Hex.toHexDigits(dut.getRecords().getFirst().getResponse()));
+  } // end method */
+
+  /** Test method for {@link RecordingApduLayer#toScenario()}. */
+  @Test
+  void test_toScenario() {
+    // Assertions:
+    // ... a. Scenario7816 works as expected
+
+    // Test strategy:
+    // --- a. replay of scenario gives recorded responses
+    final var dut = new RecordingApduLayer(new TestApduLayer.MyApduLayer());
+    final var commands =
+        List.of(
+            new CommandApdu(0, 1, 0x90, 0x00),
+            new CommandApdu(0, 2, 0x62, 0x82, 3),
+            new CommandApdu(0, 3, 0x6a, 0x82));
+    final var expected = commands.stream().map(dut::send).toList();
+
+    final var present = dut.toScenario();
+
+    assertEquals(present, new Scenario7816(present.toTlv()));
+    assertEquals(
+        expected, present.run(new TestApduLayer.MyApduLayer(), LoggerFactory.getLogger("test")));
+  } // end method */
+} // end class
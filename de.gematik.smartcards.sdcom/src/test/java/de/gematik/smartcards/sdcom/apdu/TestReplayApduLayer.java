@@ -0,0 +1,138 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.sdcom.apdu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.sdcom.apdu.RecordingApduLayer.Record;
+import de.gematik.smartcards.utils.Hex;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link ReplayApduLayer}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestReplayApduLayer {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link ReplayApduLayer#send(byte[])}. */
+  @Test
+  void test_send__byteA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. recorded responses, repeated commands in the order of recording
+    // --- b. send(CommandApdu) from a recording
+    // --- c. simulated latency
+    // --- d. ERROR: command not recorded
+    final var records =
+        List.of(
+            new Record(Hex.toByteArray("0084000008"), Hex.toByteArray("0102030405060708-9000"), 1),
+            new Record(Hex.toByteArray("00a4040c"), Hex.toByteArray("6a82"), 2_000_000),
+            new Record(Hex.toByteArray("0084000008"), Hex.toByteArray("1112131415161718-9000"), 3));
+
+    // --- a. recorded responses, repeated commands in the order of recording
+    {
+      final var dut = new ReplayApduLayer(records, false);
+
+      for (final var expected :
+          List.of(
+              "01020304050607089000",
+              "11121314151617189000",
+              "01020304050607089000",
+              "11121314151617189000")) {
+        assertEquals(expected, Hex.toHexDigits(dut.send(Hex.toByteArray("0084000008"))));
+      } // end For (expected...)
+      assertEquals(3e-9, dut.getTime(), 1e-12);
+
+      assertEquals("6a82", Hex.toHexDigits(dut.send(Hex.toByteArray("00a4040c"))));
+      assertEquals(2e-3, dut.getTime(), 1e-12);
+    } // end --- a.
+
+    // --- b. send(CommandApdu) from a recording
+    {
+      final var recording = new RecordingApduLayer(new TestApduLayer.MyApduLayer());
+      final var cmd = new CommandApdu(0, 2, 0x62, 0x82, 3);
+      final var expected = recording.send(cmd);
+
+      final var dut = new ReplayApduLayer(recording.getRecords(), false);
+
+      assertEquals(expected, dut.send(cmd));
+    } // end --- b.
+
+    // --- c. simulated latency
+    {
+      final var dut = new ReplayApduLayer(records, true);
+      final long start = System.nanoTime();
+
+      dut.send(Hex.toByteArray("00a4040c"));
+
+      assertTrue(System.nanoTime() - start >= 2_000_000);
+    } // end --- c.
+
+    // --- d. ERROR: command not recorded
+    {
+      final var dut = new ReplayApduLayer(records, false);
+      final byte[] command = Hex.toByteArray("00b0000000");
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> dut.send(command));
+
+      assertEquals("command not recorded: 00b0000000", e.getMessage());
+    } // end --- d.
+  } // end method */
+} // end class
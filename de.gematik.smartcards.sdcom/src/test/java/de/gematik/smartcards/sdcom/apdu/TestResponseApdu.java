@@ -38,9 +38,16 @@ import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -393,6 +400,96 @@ final class TestResponseApdu {
         }); // end forEach(trailer -> ...)
   } // end method */
 
+  /** Test method for {@link ResponseApdu#ResponseApdu(ByteBuffer)}. */
+  @Test
+  void test_ResponseApdu__ByteBuffer() {
+    // Assertions:
+    // ... a. ResponseApdu(byte[], int, int)-constructor works as expected
+
+    // Test strategy:
+    // --- a. loop over various lengths, heap and direct buffers
+    // --- b. buffer reused after construction
+    // --- c. ERROR: less than two octets remaining
+
+    // --- a. loop over various lengths, heap and direct buffers
+    for (final var buffer : List.of(ByteBuffer.allocate(0x400), ByteBuffer.allocateDirect(0x400))) {
+      RNG.intsClosed(0, 0x3f0, 20)
+          .forEach(
+              nr -> {
+                final byte[] apdu = RNG.nextBytes(nr + 2);
+                buffer.clear().put(RNG.nextBytes(7)).mark().put(apdu).put(RNG.nextBytes(3));
+                buffer.limit(buffer.position() - 3).reset();
+
+                final var dut = new ResponseApdu(buffer);
+
+                assertEquals(new ResponseApdu(apdu), dut);
+                assertEquals(buffer.limit(), buffer.position());
+              }); // end forEach(nr -> ...)
+    } // end For (buffer...)
+
+    // --- b. buffer reused after construction
+    {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("0102-9000"));
+      final var dut = new ResponseApdu(buffer);
+
+      buffer.clear().put(Hex.toByteArray("ffff-6a82"));
+
+      assertEquals("01029000", Hex.toHexDigits(dut.getBytes()));
+    } // end --- b.
+
+    // --- c. ERROR: less than two octets remaining
+    for (final var input : List.of("", "90")) {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray(input));
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> new ResponseApdu(buffer));
+
+      assertEquals("response APDU without trailer", e.getMessage());
+      assertEquals(0, buffer.position());
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link ResponseApdu#dataView()}. */
+  @Test
+  void test_dataView() {
+    // Assertions:
+    // ... a. getData()-method works as expected
+
+    // Test strategy:
+    // --- a. arbitrary data fields
+    // --- b. views are read-only and independent
+    // --- c. WILDCARD_DATA
+
+    // --- a. arbitrary data fields
+    RNG.intsClosed(0, 20, 5)
+        .forEach(
+            nr -> {
+              final var dut = new ResponseApdu(RNG.nextBytes(nr), 0x9000);
+
+              final var present = dut.dataView();
+
+              assertEquals(0, present.position());
+              assertEquals(nr, present.remaining());
+              assertEquals(ByteBuffer.wrap(dut.getData()), present);
+            }); // end forEach(nr -> ...)
+
+    // --- b. views are read-only and independent
+    {
+      final var dut = new ResponseApdu("010203-9000");
+      final var view1 = dut.dataView();
+      final var view2 = dut.dataView();
+
+      assertTrue(view1.isReadOnly());
+      assertThrows(ReadOnlyBufferException.class, () -> view1.put(0, (byte) 0));
+      assertEquals(1, view1.get());
+      assertEquals(1, view1.position());
+      assertEquals(0, view2.position());
+      assertEquals(1, view2.get());
+    } // end --- b.
+
+    // --- c. WILDCARD_DATA
+    assertEquals(0, new ResponseApdu(WILDCARD_DATA, 0x9000).dataView().remaining());
+  } // end method */
+
   /** Test method for {@link ResponseApdu#difference(ResponseApdu)}. */
   @SuppressWarnings({
     "PMD.AvoidInstantiatingObjectsInLoops",
@@ -1544,6 +1641,83 @@ final class TestResponseApdu {
     assertFalse(new ResponseApdu(AfiUtils.EMPTY_OS, 0x9000).isWildcardData());
   } // end method */
 
+  /** Test method for {@link ResponseApdu#writeTo(java.io.DataOutput)}. */
+  @Test
+  void test_writeTo__DataOutput() throws IOException {
+    // Assertions:
+    // ... a. readFrom(DataInput)-method works as expected
+
+    // Test strategy:
+    // --- a. compact encoding
+    // --- b. round trip including wildcards
+    // --- c. ERROR: wildcard data with non-empty data field
+    // --- d. ERROR: Nr too large, rejected before allocating memory
+    // --- e. ERROR: writing a response data field with more than NR_SUPREMUM octet
+
+    // --- a. compact encoding
+    for (final var entry :
+        List.of(
+            Map.entry(new ResponseApdu("9000"), "00-9000"),
+            Map.entry(new ResponseApdu("0102 6282"), "08-0102-6282"),
+            Map.entry(new ResponseApdu(WILDCARD_DATA, WILDCARD_TRAILER), "03"),
+            Map.entry(new ResponseApdu(WILDCARD_DATA, 0x9000), "01-9000"),
+            Map.entry(new ResponseApdu(AfiUtils.EMPTY_OS, WILDCARD_TRAILER), "02"))) {
+      final var baos = new ByteArrayOutputStream();
+
+      entry.getKey().writeTo(new DataOutputStream(baos));
+
+      assertEquals(Hex.extractHexDigits(entry.getValue()), Hex.toHexDigits(baos.toByteArray()));
+    } // end For (entry...)
+
+    // --- b. round trip including wildcards
+    for (final byte[] data : List.of(WILDCARD_DATA, AfiUtils.EMPTY_OS, RNG.nextBytes(1, 300))) {
+      for (final int trailer :
+          IntStream.concat(
+                  IntStream.of(0x9000, WILDCARD_TRAILER), TRAILER_VALUES.stream().mapToInt(i -> i))
+              .toArray()) {
+        final var dut = new ResponseApdu(data, trailer);
+        final var baos = new ByteArrayOutputStream();
+        dut.writeTo(new DataOutputStream(baos));
+
+        final var present =
+            ResponseApdu.readFrom(
+                new DataInputStream(new ByteArrayInputStream(baos.toByteArray())));
+
+        assertEquals(dut, present);
+        assertEquals(dut.isWildcardData(), present.isWildcardData());
+        assertEquals(dut.getTrailer(), present.getTrailer());
+      } // end For (trailer...)
+    } // end For (data...)
+
+    // --- c. ERROR: wildcard data with non-empty data field
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ResponseApdu.readFrom(
+                new DataInputStream(new ByteArrayInputStream(Hex.toByteArray("05-01-9000")))));
+
+    // --- d. ERROR: Nr too large, rejected before allocating memory
+    for (final var input : List.of("848010", "ffffffff07")) {
+      final var e =
+          assertThrows(
+              StreamCorruptedException.class,
+              () ->
+                  ResponseApdu.readFrom(
+                      new DataInputStream(new ByteArrayInputStream(Hex.toByteArray(input)))),
+              input);
+
+      assertTrue(e.getMessage().startsWith("Nr too large: "), input);
+    } // end For (input...)
+
+    // --- e. ERROR: writing a response data field with more than NR_SUPREMUM octet
+    {
+      final var dut = new ResponseApdu(new byte[ApduCodec.NR_SUPREMUM + 1], 0x9000);
+      final var output = new DataOutputStream(new ByteArrayOutputStream());
+
+      assertThrows(IllegalArgumentException.class, () -> dut.writeTo(output));
+    } // end --- e.
+  } // end method */
+
   /** Test method for serialisation. */
   @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops"})
   @Test
@@ -1566,7 +1740,8 @@ final class TestResponseApdu {
             AfiUtils.EMPTY_OS,
             new byte[0],
             RNG.nextBytes(1, 20),
-            RNG.nextBytes(NE_EXTENDED_WILDCARD))
+            RNG.nextBytes(NE_EXTENDED_WILDCARD),
+            RNG.nextBytes(NE_EXTENDED_WILDCARD + 1)) // default serialization
         .forEach(
             data -> {
               TRAILER_VALUES.forEach(
@@ -1653,4 +1828,106 @@ final class TestResponseApdu {
                       }); // end forEach(trailer -> ...)
             }); // end forEach(nr -> ...)
   } // end method */
+
+  /** Test method for {@link ResponseApdu#writeDataTo(ByteBuffer)}. */
+  @Test
+  void test_writeDataTo__ByteBuffer() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: not enough space, buffer unchanged
+    // --- c. ERROR: read-only buffer
+    final var dut = new ResponseApdu("010203-6282");
+
+    // --- a. smoke test
+    {
+      final var dst = ByteBuffer.allocate(5).put((byte) 0xa5);
+
+      assertEquals(3, dut.writeDataTo(dst));
+      assertEquals(4, dst.position());
+      assertEquals("a501020300", Hex.toHexDigits(dst.array()));
+    } // end --- a.
+
+    // --- b. ERROR: not enough space, buffer unchanged
+    {
+      final var dst = ByteBuffer.allocate(4).position(2);
+
+      assertThrows(BufferOverflowException.class, () -> dut.writeDataTo(dst));
+      assertEquals(2, dst.position());
+      assertEquals("00000000", Hex.toHexDigits(dst.array()));
+    } // end --- b.
+
+    // --- c. ERROR: read-only buffer
+    {
+      final var dst = ByteBuffer.allocate(4).asReadOnlyBuffer();
+
+      assertThrows(ReadOnlyBufferException.class, () -> dut.writeDataTo(dst));
+    } // end --- c.
+  } // end method */
+
+  /** Test method for {@link ResponseApdu#writeDataTo(java.io.OutputStream)}. */
+  @Test
+  void test_writeDataTo__OutputStream() throws IOException {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. data of several response APDU are concatenated
+    // --- b. data longer than one chunk
+    // --- c. stream modifying and retaining the array does not affect the response APDU
+
+    // --- a. data of several response APDU are concatenated
+    {
+      final var out = new ByteArrayOutputStream();
+
+      assertEquals(2, new ResponseApdu("0102-9000").writeDataTo(out));
+      assertEquals(0, new ResponseApdu("6a82").writeDataTo(out));
+      assertEquals(1, new ResponseApdu("03-6282").writeDataTo(out));
+
+      assertEquals("010203", Hex.toHexDigits(out.toByteArray()));
+    } // end --- a.
+
+    // --- b. data longer than one chunk
+    for (final var nr :
+        List.of(
+            ResponseApdu.CHUNK_SIZE - 1,
+            ResponseApdu.CHUNK_SIZE,
+            ResponseApdu.CHUNK_SIZE + 1,
+            ApduCodec.NR_SUPREMUM)) {
+      final byte[] data = RNG.nextBytes(nr);
+      final var dut = new ResponseApdu(data, 0x9000);
+      final var out = new ByteArrayOutputStream();
+
+      assertEquals(nr, dut.writeDataTo(out));
+
+      assertArrayEquals(data, out.toByteArray());
+    } // end For (nr...)
+
+    // --- c. stream modifying and retaining the array does not affect the response APDU
+    {
+      final var retained = new ArrayList<byte[]>();
+      final var out =
+          new OutputStream() {
+            @Override
+            public void write(final int b) {
+              throw new UnsupportedOperationException();
+            } // end method */
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+              Arrays.fill(b, off, off + len, (byte) 0xff);
+              retained.add(b);
+            } // end method */
+          };
+      final var dut = new ResponseApdu("010203-9000");
+
+      assertEquals(3, dut.writeDataTo(out));
+      retained.forEach(b -> Arrays.fill(b, (byte) 0x55));
+
+      assertEquals("010203", Hex.toHexDigits(dut.getData()));
+      assertEquals(new ResponseApdu("010203-9000"), dut);
+    } // end --- c.
+  } // end method */
 } // end class
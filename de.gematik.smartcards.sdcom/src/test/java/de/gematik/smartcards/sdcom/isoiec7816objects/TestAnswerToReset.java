@@ -22,12 +22,18 @@ package de.gematik.smartcards.sdcom.isoiec7816objects;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.gematik.smartcards.utils.AfiRng;
 import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -422,6 +428,83 @@ final class TestAnswerToReset {
     } // end --- h.
   } // end method */
 
+  /** Test method for {@link AnswerToReset#of(byte[])}. */
+  @Test
+  void test_of__byteA() throws IOException, ClassNotFoundException {
+    // Assertions:
+    // ... a. constructor(s) work as expected
+    // ... b. check()-method works as expected
+    // ... c. explain()-method works as expected
+
+    // Test strategy:
+    // --- a. equal input results in same instance, equal to constructor result
+    // --- b. input byte[] is not stored
+    // --- c. memoized lists are not affected by callers
+    // --- d. cache is bounded
+    // --- e. deserialized instances are interned
+    // --- f. ERROR: invalid input
+
+    // --- a. equal input results in same instance, equal to constructor result
+    final byte[] input =
+        Hex.toByteArray("3b 8f 80 01 80 4f 0c a0 00 00 03 06 03 00 01 00 00 00 00 6a");
+    final AnswerToReset dut = AnswerToReset.of(input);
+    assertSame(dut, AnswerToReset.of(input.clone()));
+    assertEquals(new AnswerToReset(input), dut);
+    assertEquals(new AnswerToReset(input).explain(), dut.explain());
+    assertEquals(new AnswerToReset(input).check(), dut.check());
+
+    // --- b. input byte[] is not stored
+    {
+      final byte[] octets = input.clone();
+      final AnswerToReset other = AnswerToReset.of(octets);
+      octets[1] = 0;
+
+      assertSame(dut, other);
+      assertEquals(Hex.toHexDigits(input), Hex.toHexDigits(dut.getBytes()));
+    } // end --- b.
+
+    // --- c. memoized lists are not affected by callers
+    {
+      final List<String> explanation = dut.explain();
+      final List<String> findings = dut.check();
+      final int size = explanation.size();
+
+      explanation.clear();
+      findings.add("afi");
+
+      assertEquals(size, dut.explain().size());
+      assertFalse(dut.check().contains("afi"));
+    } // end --- c.
+
+    // --- d. cache is bounded
+    // Note: After more than CACHE_SIZE other entries the cache has been cleared at
+    //       least once. Thus, a new instance is returned.
+    IntStream.rangeClosed(0, AnswerToReset.CACHE_SIZE)
+        .forEach(i -> AnswerToReset.of(Hex.toByteArray(String.format("3b 02 %04x", i))));
+    final AnswerToReset fresh = AnswerToReset.of(input);
+    assertNotSame(dut, fresh);
+    assertEquals(dut, fresh);
+
+    // --- e. deserialized instances are interned
+    {
+      final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+        oos.writeObject(new AnswerToReset(input));
+      } // end try-with-resources
+
+      try (ObjectInputStream ois =
+          new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+        final Object present = ois.readObject();
+
+        assertSame(AnswerToReset.of(input), present);
+        assertEquals(dut.explain(), ((AnswerToReset) present).explain());
+      } // end try-with-resources
+    } // end --- e.
+
+    // --- f. ERROR: invalid input
+    assertThrows(IllegalArgumentException.class, () -> AnswerToReset.of(Hex.toByteArray("3b 01")));
+  } // end method */
+
   /** Test method for {@link AnswerToReset#equals(Object)}. */
   @Test
   void test_equals__Object() {
@@ -24,20 +24,27 @@ import static de.gematik.smartcards.utils.AfiUtils.UNEXPECTED;
 import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -96,6 +103,14 @@ public abstract class BerTlv {
    */
   @VisibleForTesting /* package */ static final int NO_TAG_FIELD = 8; // */
 
+  /**
+   * Error message in case a tag-field contains more than {@link #NO_TAG_FIELD} octets.
+   *
+   * <p><i><b>Note:</b> For backward compatibility this is the message of {@link
+   * BigInteger#longValueExact()}.</i>
+   */
+  private static final String EM_TAG_TOO_LONG = "BigInteger out of long range"; // */
+
   /**
    * Flag indicating the form of the length-field.
    *
@@ -181,6 +196,25 @@ public abstract class BerTlv {
   /** Concatenation of tag-field and length-field. */
   /* package */ byte[] insTagLengthField; // */
 
+  /**
+   * Cache for the encoding.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally the visibility of this instance attribute is "default" (i.e., package
+   *       private). Thus, subclasses in this package are able to read it.</i>
+   *   <li><i>Because only immutable instance attributes of this class and all subclasses are taken
+   *       into account for this instance attribute lazy initialization is possible.</i>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>The content of this array <b>SHALL NOT</b> be changed.</i>
+   * </ol>
+   *
+   * @see #encoded()
+   */
+  /* package */ volatile @CheckForNull byte[] insEncoded; // NOPMD volatile */
+
   /**
    * Constructor reading a TLV-object from a buffer.
    *
@@ -208,11 +242,37 @@ public abstract class BerTlv {
    *     </ol>
    */
   /* package */ BerTlv(final byte[] tag, final ByteBuffer buffer) {
+    this(toTag(tag), buffer);
+  } // end constructor */
+
+  /**
+   * Constructor reading a TLV-object from a buffer.
+   *
+   * <p>This constructor takes the given tag and reads the length-field from {@code buffer}. Neither
+   * for the tag nor for the length-field intermediate objects are created.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>If the {@code buffer} {@link ByteBuffer#hasRemaining()} then at least one octet is
+   *       read which changes the {@code position} of {@code buffer}.</i>
+   *   <li><i>This constructor is NOT thread-safe, because it is possible to change the content of
+   *       the input parameter(s) while this constructor is running.</i>
+   *   <li><i>Object sharing is not a problem here, because input parameter(s) are only read.</i>
+   * </ol>
+   *
+   * @param tag integer representation of tag-field
+   * @param buffer from which the length-field is read
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws IllegalArgumentException if tag is not in accordance to ISO/IEC 8825-1:2021
+   */
+  /* package */ BerTlv(final long tag, final ByteBuffer buffer) {
     super();
 
     checkTag(tag);
-    final long[] lengthInfo = readLength(buffer);
-    final long lenVfStream = lengthInfo[0];
+    final int start = buffer.position();
+    final long lenVfStream = decodeLength(buffer);
     if (lenVfStream < 0) {
       // ... indefinite form of length-field
       insIndefiniteForm = true;
@@ -222,12 +282,11 @@ public abstract class BerTlv {
       insIndefiniteForm = false;
       insLengthOfValueFieldFromStream = lenVfStream;
     } // end fi
-    final byte[] lengthField = Hex.toByteArray(getLengthField(insLengthOfValueFieldFromStream));
 
-    insLengthOfLengthFieldFromStream = (int) lengthInfo[1];
-    insLengthOfTagField = tag.length;
-    insTag = convertTag(tag);
-    insTagLengthField = AfiUtils.concatenate(tag, lengthField);
+    insLengthOfLengthFieldFromStream = buffer.position() - start;
+    insLengthOfTagField = calculateLengthOfTagField(tag);
+    insTag = tag;
+    insTagLengthField = createTagLengthField(tag, insLengthOfValueFieldFromStream);
   } // end constructor */
 
   /**
@@ -302,13 +361,14 @@ public abstract class BerTlv {
   /* package */ BerTlv(final long tag, final long lengthOfValueField) {
     // CT_CONSTRUCTOR_THROW
     super();
-    final byte[] tagField = convertTag(tag);
-    checkTag(tagField);
-    final byte[] lengthField = Hex.toByteArray(getLengthField(lengthOfValueField));
+    checkTag(tag);
+    if (lengthOfValueField < 0) {
+      throw new IllegalArgumentException("length of value-field SHALL NOT be negative");
+    } // end fi
 
-    insLengthOfTagField = tagField.length;
+    insLengthOfTagField = calculateLengthOfTagField(tag);
     insTag = tag;
-    insTagLengthField = AfiUtils.concatenate(tagField, lengthField);
+    insTagLengthField = createTagLengthField(tag, lengthOfValueField);
 
     // Note 1: Instance attributes
     //         a. insDefiniteForm
@@ -393,6 +453,77 @@ public abstract class BerTlv {
     return result;
   } // end method */
 
+  /**
+   * Calculates the number of octets in a tag-field.
+   *
+   * <p><i><b>Note:</b> This method is thread-safe.</i>
+   *
+   * @param tag of BER-TLV object, integer representation
+   * @return number of octets in octet string representation of {@code tag}, at least one
+   */
+  /* package */
+  static int calculateLengthOfTagField(final long tag) {
+    return Math.max(1, (Long.SIZE + 7 - Long.numberOfLeadingZeros(tag)) >> 3);
+  } // end method */
+
+  /**
+   * Checks whether a tag indicates a constructed TLV-object.
+   *
+   * <p><i><b>Note:</b> This method is thread-safe.</i>
+   *
+   * @param tag of BER-TLV object, integer representation
+   * @return {@code TRUE} if bit b6 of the leading octet in the tag-field is set, {@code FALSE}
+   *     otherwise
+   */
+  /* package */
+  static boolean isConstructed(final long tag) {
+    return 0 != ((tag >>> ((calculateLengthOfTagField(tag) - 1) << 3)) & 0x20);
+  } // end method */
+
+  /**
+   * Creates tag-field concatenated with length-field.
+   *
+   * <p>Octets are written directly into the result, i.e., no intermediate objects are created.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because input parameter(s) are primitive and
+   *       return value is never used again by this method.</i>
+   * </ol>
+   *
+   * @param tag of BER-TLV object, integer representation
+   * @param lengthOfValueField non-negative number of octets in value-field
+   * @return tag-field || length-field, the length-field is encoded with the minimum number of
+   *     octets
+   */
+  /* package */
+  static byte[] createTagLengthField(final long tag, final long lengthOfValueField) {
+    final int lengthOfTagField = calculateLengthOfTagField(tag);
+    final int lengthOfLengthField = calculateLengthOfLengthField(lengthOfValueField);
+    final byte[] result = new byte[lengthOfTagField + lengthOfLengthField];
+
+    // --- tag-field
+    for (int i = lengthOfTagField, shift = 0; i-- > 0; shift += 8) { // NOPMD assignment in operand
+      result[i] = (byte) (tag >>> shift);
+    } // end For (i...)
+
+    // --- length-field
+    if (1 == lengthOfLengthField) {
+      // ... short form
+      result[lengthOfTagField] = (byte) lengthOfValueField;
+    } else {
+      // ... long form
+      result[lengthOfTagField] = (byte) (0x80 + lengthOfLengthField - 1);
+      for (int i = result.length, shift = 0; i-- > lengthOfTagField + 1; shift += 8) { // NOPMD
+        result[i] = (byte) (lengthOfValueField >>> shift);
+      } // end For (i...)
+    } // end else
+
+    return result;
+  } // end method */
+
   /**
    * Checks if {@code tag} conforms to <a
    * href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause 8.1.2.
@@ -428,6 +559,51 @@ public abstract class BerTlv {
     } // end else
   } // end method */
 
+  /**
+   * Checks if {@code tag} conforms to <a
+   * href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause 8.1.2.
+   *
+   * <p>This is the equivalent to {@link #checkTag(byte[])} for the integer representation of a
+   * tag-field. In case of success no objects are created.
+   *
+   * <p><i><b>Note:</b> This method is thread-safe.</i>
+   *
+   * @param tag of BER-TLV object, integer representation
+   * @throws IllegalArgumentException if tag is not in accordance to ISO/IEC 8825-1:2021
+   */
+  /* package */
+  static void checkTag(final long tag) {
+    final int lengthOfTagField = calculateLengthOfTagField(tag);
+    final int msByte = (int) (tag >>> ((lengthOfTagField - 1) << 3)) & 0xff;
+
+    if (1 == lengthOfTagField) {
+      // ... tag has only one byte, see ISO/IEC 8825-1:2021 clause 8.1.2.2
+      if (0x1f == (msByte & 0x1f)) { // NOPMD literals in a conditional statement
+        checkTag1(convertTag(tag)); // throws exception
+      } // end fi
+
+      return;
+    } // end fi
+    // ... tag has more than one byte, see ISO/IEC 8825-1:2021 clause 8.1.2.4
+
+    // --- check leading octet and bit b8 in subsequent octets
+    // Note: See ISO/IEC 8825-1:2021 clause 8.1.2.4.1 item c and clause 8.1.3.4.3 item a
+    boolean isOkay = 0x1f == (msByte & 0x1f); // NOPMD literals in a conditional statement
+    for (int shift = (lengthOfTagField - 2) << 3; shift > 0; shift -= 8) {
+      isOkay &= 0 != ((tag >>> shift) & 0x80);
+    } // end For (shift...)
+
+    // --- check first subsequent octet and last subsequent octet
+    // Note: See ISO/IEC 8825-1:2021 clause 8.1.2.4.2 item c
+    final int firstSubsequent = (int) (tag >>> ((lengthOfTagField - 2) << 3)) & 0x7f;
+    isOkay &= (0 != firstSubsequent) && ((lengthOfTagField > 2) || (firstSubsequent >= 31));
+    isOkay &= 0 == (tag & 0x80);
+
+    if (!isOkay) {
+      checkTag2345678(convertTag(tag)); // throws exception with appropriate message
+    } // end fi
+  } // end method */
+
   /**
    * Checks if {@code tag} consisting of one octet conforms to <a
    * href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause 8.1.2.
@@ -513,8 +689,37 @@ public abstract class BerTlv {
    */
   /* package */
   static long convertTag(final byte[] tag) {
-    return ((NO_TAG_FIELD == tag.length) ? new BigInteger(tag) : new BigInteger(1, tag))
-        .longValueExact();
+    if (tag.length > NO_TAG_FIELD) {
+      // ... possibly too long
+      return new BigInteger(1, tag).longValueExact();
+    } // end fi
+
+    // Note: For tag-fields with eight octets the result is the signed number representation.
+    long result = 0;
+    for (final byte octet : tag) {
+      result = (result << 8) | (octet & 0xff);
+    } // end For (octet...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Checks and converts octet string representation of a tag into {@code long} representation.
+   *
+   * @param tag of BER-TLV object, octet string representation
+   * @return {@code long} representation of tag
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>the given octet string is empty
+   *       <li>tag is not in accordance to ISO/IEC 8825-1:2021
+   *       <li>tag contains more than eight octet
+   *     </ol>
+   */
+  /* package */
+  static long toTag(final byte[] tag) {
+    checkTag(tag);
+
+    return convertTag(tag);
   } // end method */
 
   /**
@@ -585,24 +790,15 @@ public abstract class BerTlv {
 
       // --- move bits from number to an octet string in groups of seven bits,
       //     start with the least significant bits
-      final List<Byte> octet = new ArrayList<>();
-      for (; number > 0; number >>= 7) { // NOPMD reassigning parameters
-        octet.addFirst((byte) (number & 0x7f));
-      } // end For (not all bits moved)
-
-      // --- set most significant bit in all subsequent octets but the last subsequent octet
-      for (int i = octet.size() - 1; i-- > 0; ) { // NOPMD assignment in operand
-        octet.set(i, (byte) (octet.get(i) | 0x80));
+      final int noSubsequentOctets = (Long.SIZE + 6 - Long.numberOfLeadingZeros(number)) / 7;
+      final byte[] result = new byte[1 + noSubsequentOctets];
+      for (int i = result.length; i-- > 1; number >>= 7) { // NOPMD reassigning parameters
+        // Note: Most significant bit is set in all subsequent octets but the last one.
+        result[i] = (byte) ((number & 0x7f) | ((result.length - 1 == i) ? 0x00 : 0x80));
       } // end For (i...)
 
       // --- add class information as leading octet
-      octet.addFirst((byte) (b8b7b6 + 0x1f));
-
-      // --- convert ArrayList<Byte> into byte[]
-      final byte[] result = new byte[octet.size()];
-      for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
-        result[i] = octet.get(i);
-      } // end For (i...)
+      result[0] = (byte) (b8b7b6 + 0x1f);
 
       return result;
     } // end else
@@ -803,7 +999,48 @@ public abstract class BerTlv {
    * @return {@link Base64} encoding of octet string representation
    */
   public final String getBase64() {
-    return BASE64_ENCODER.encodeToString(getEncoded());
+    return BASE64_ENCODER.encodeToString(encoded());
+  } // end method */
+
+  /**
+   * Returns the encoding of this BER-TLV object without defensive cloning.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is a problem here, because the return value is cached. Thus, callers
+   *       <b>SHALL NOT</b> change the content of the return value.</i>
+   *   <li><i>Because only immutable instance attributes are taken into account it is possible to
+   *       use Racy-Single-Check-Idiom hereafter which gives good performance.</i>
+   * </ol>
+   *
+   * @return octet string representation of a BER-TLV object
+   */
+  /* package */ final byte[] encoded() {
+    byte[] result = insEncoded; // read attribute from main memory into thread local memory
+    if (null == result) {
+      // ... attribute has never been calculated (lazy initialization)
+      //     => do so now
+      result = encode();
+      insEncoded = result; // store attribute into thread local memory
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Encodes this BER-TLV object.
+   *
+   * <p>This method is called by {@link #encoded()} at most once per thread and object.
+   *
+   * <p>Subclasses which implement {@link #getEncoded()} based on {@link #encoded()} <b>SHALL</b>
+   * overwrite this method.
+   *
+   * @return octet string representation of a BER-TLV object
+   */
+  /* package */ byte[] encode() {
+    return getEncoded();
   } // end method */
 
   /**
@@ -843,6 +1080,98 @@ public abstract class BerTlv {
     return out;
   } // end method */
 
+  /**
+   * Writes the encoding of this BER-TLV object to given buffer.
+   *
+   * <p>The encoding is calculated once per object and cached. It is copied into {@code buffer}
+   * without any intermediate copy.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is not thread-safe, care must be taken to ensure that the buffer is not
+   *       accessed until the operation completes.</i>
+   *   <li><i>Object sharing is not a problem here, because octets are copied into {@code
+   *       buffer}.</i>
+   *   <li><i>In case of success the buffer's {@code position} is advanced by {@link
+   *       #getLengthOfTlvObject()}.</i>
+   * </ol>
+   *
+   * @param buffer where the encoding is written to
+   * @return {@code buffer}
+   * @throws java.nio.BufferOverflowException if there is insufficient space in {@code buffer}, in
+   *     that case the buffer's {@code position} does not change
+   * @throws java.nio.ReadOnlyBufferException if {@code buffer} is read-only
+   */
+  public final ByteBuffer writeTo(final ByteBuffer buffer) {
+    return buffer.put(encoded());
+  } // end method */
+
+  /**
+   * Writes the encoding of this BER-TLV object to given stream.
+   *
+   * <p>The encoding is calculated once per object and cached. It is passed to {@code out} without
+   * defensive cloning.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is NOT thread-safe, because it is possible that the stream is accessed
+   *       concurrently while this method is running.</i>
+   *   <li><i>Object sharing is a problem here, because the cached encoding is passed to {@link
+   *       OutputStream#write(byte[])}. Implementations of {@link OutputStream} in the JDK do not
+   *       change their input. Implementations not from the JDK <b>SHALL NOT</b> change their
+   *       input.</i>
+   * </ol>
+   *
+   * @param out where the encoding is written to
+   * @throws IOException if underlying methods do so
+   */
+  public final void writeTo(final OutputStream out) throws IOException {
+    out.write(encoded());
+  } // end method */
+
+  /**
+   * Decodes all top-level TLV-objects in a file.
+   *
+   * <p>The file is memory-mapped and TLV-objects are decoded lazily one after another while the
+   * returned stream is consumed. Thus, apart from the TLV-objects retained by the caller, the heap
+   * usage does not depend on the size of the file. This is useful for large files, e.g., images of
+   * smart cards or bundles of concatenated certificates.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>The returned stream SHALL be closed after use, e.g., by a try-with-resources
+   *       statement. Otherwise, the underlying file stays open.</i>
+   *   <li><i>The file SHALL NOT be changed while the stream is consumed.</i>
+   *   <li><i>If the content of the file is not in accordance to ISO/IEC 8825-1:2021 or the file
+   *       ends within a TLV-object, then an {@link IllegalArgumentException} is thrown during
+   *       stream consumption, i.e., after all previous TLV-objects were delivered.</i>
+   *   <li><i>An empty file results in an empty stream.</i>
+   * </ol>
+   *
+   * @param path of file containing zero or more concatenated TLV-objects
+   * @return sequential, ordered stream of TLV-objects in the order of their occurrence in the file
+   * @throws IOException if opening or mapping the file fails
+   */
+  public static Stream<BerTlv> decodeAll(final Path path) throws IOException {
+    final MappedBerTlvIterator iterator = new MappedBerTlvIterator(path);
+
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(
+            () -> {
+              try {
+                iterator.close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              } // end Catch (...)
+            });
+  } // end method */
+
   /**
    * Pseudo constructor using an octet string.
    *
@@ -1165,9 +1494,63 @@ public abstract class BerTlv {
    *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
    *     </ol>
    */
-  @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.SingletonClassReturningNewInstance"})
   /* package */ static BerTlv getFromBuffer(final ByteBuffer buffer) {
-    final byte[] tagField = readTag(buffer); // read tag-field
+    return getFromBuffer(buffer, null);
+  } // end method */
+
+  /**
+   * Pseudo constructor from {@link ByteBuffer}, possibly decoding in parallel.
+   *
+   * @param buffer containing the data for the new object
+   * @param decoder for decoding value-fields of constructed TLV-objects in parallel, {@code null}
+   *     for sequential decoding
+   * @return an object of known subclass
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   *
+   * @see #getFromBuffer(ByteBuffer)
+   */
+  /* package */ static BerTlv getFromBuffer(
+      final ByteBuffer buffer, final @Nullable ParallelBerTlvDecoder decoder) {
+    final TlvInternCache cache = TlvInternCache.getDefaultOrNull();
+
+    if (null == cache) {
+      // ... interning disabled
+      return createFromBuffer(buffer, decoder);
+    } // end fi
+
+    // --- look for an interned TLV-object
+    final int start = buffer.position();
+    skipTag(buffer); // skip tag-field
+    final BerTlv interned = cache.lookup(buffer, start);
+
+    if (null != interned) {
+      return interned;
+    } // end fi
+
+    buffer.position(start);
+
+    return cache.add(createFromBuffer(buffer, decoder));
+  } // end method */
+
+  /**
+   * Creates a TLV-object from a buffer.
+   *
+   * @param buffer containing the data for the new object
+   * @param decoder for decoding value-fields of constructed TLV-objects in parallel, {@code null}
+   *     for sequential decoding
+   * @return an object of known subclass
+   * @see #getFromBuffer(ByteBuffer, ParallelBerTlvDecoder)
+   */
+  @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.SingletonClassReturningNewInstance"})
+  private static BerTlv createFromBuffer(
+      final ByteBuffer buffer, final @Nullable ParallelBerTlvDecoder decoder) {
+    final long tagLong = decodeTag(buffer); // read tag-field
+    // ... no exception thrown, i.e., tag-field short enough for this implementation
 
     // Note 1: Intentionally here the tag is cast into an int as a preparation
     //         for the following switch-statement. As long as that switch
@@ -1175,8 +1558,7 @@ public abstract class BerTlv {
     //         octets that is okay.
     // Note 2: The "default" branch takes care of all other tags, even those
     //         with more than four octets.
-    final int tag = (int) convertTag(tagField);
-    // ... no exception thrown, i.e., tag-field short enough for this implementation
+    final int tag = (int) tagLong;
 
     // switch on tag to create instances of special subclasses
     return switch (tag) {
@@ -1188,8 +1570,8 @@ public abstract class BerTlv {
       case DerNull.TAG -> DerNull.readInstance(buffer); //                           tag-number =  5
       case DerOid.TAG -> new DerOid(buffer); //                                      tag-number =  6
       case DerUtf8String.TAG -> new DerUtf8String(buffer); //                        tag-number = 12
-      case DerSequence.TAG -> new DerSequence(buffer); //                            tag-number = 16
-      case DerSet.TAG -> new DerSet(buffer); //                                      tag-number = 17
+      case DerSequence.TAG -> new DerSequence(buffer, decoder); //                   tag-number = 16
+      case DerSet.TAG -> new DerSet(buffer, decoder); //                             tag-number = 17
       case DerPrintableString.TAG -> new DerPrintableString(buffer); //              tag-number = 19
       case DerTeletexString.TAG -> new DerTeletexString(buffer); //                  tag-number = 20
       case DerIa5String.TAG -> new DerIa5String(buffer); //                          tag-number = 22
@@ -1197,14 +1579,22 @@ public abstract class BerTlv {
       case DerDate.TAG -> new DerDate(buffer); //                                    tag-number = 31
 
       default ->
-          (0 == (tagField[0] & 0x20)) // ... tag-value has no specific subclass
-              ? new PrimitiveBerTlv(tagField, buffer) // => create generic subclass
-              : new ConstructedBerTlv(tagField, buffer);
+          isConstructed(tagLong) // ... tag-value has no specific subclass
+              ? new ConstructedBerTlv(tagLong, buffer, decoder) // => create generic subclass
+              : new PrimitiveBerTlv(tagLong, buffer);
     }; // end Switch (tag)
   } // end method */
 
   private static BerTlv getFromInputStream(final byte[] tagField, final InputStream inputStream)
       throws IOException {
+    final BerTlv result = createFromInputStream(tagField, inputStream);
+    final TlvInternCache cache = TlvInternCache.getDefaultOrNull();
+
+    return (null == cache) ? result : cache.intern(result);
+  } // end method */
+
+  private static BerTlv createFromInputStream(final byte[] tagField, final InputStream inputStream)
+      throws IOException {
     // Note 1: Intentionally here the tag is cast into an int as a preparation
     //         for the following switch-statement. As long as that switch
     //         statement contains only cases for tags no longer than four
@@ -1412,26 +1802,73 @@ public abstract class BerTlv {
    */
   /* package */
   static long[] readLength(final ByteBuffer buffer) {
+    final int start = buffer.position();
+    final long length = decodeLength(buffer);
+
+    return new long[] {length, buffer.position() - start};
+  } // end method */
+
+  /**
+   * Decodes a length-field from given {@link ByteBuffer}.
+   *
+   * <p>In contrast to {@link #readLength(ByteBuffer)} this method creates no objects (unless an
+   * exception is thrown). The number of octets in the length-field is the difference of the
+   * buffer's {@code position} after and before calling this method.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>If the {@code buffer} {@link ByteBuffer#hasRemaining()} then at least one octet is
+   *       read which changes the {@code position} of {@code buffer}.</i>
+   *   <li><i>This method is NOT thread-safe, because it is possible to change the content of the
+   *       input parameter(s) while this method is running.</i>
+   * </ol>
+   *
+   * @param buffer the buffer from which the length field is read
+   * @return number of octets in the value-field or -1 in case of indefinite form (see <a
+   *     href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause
+   *     8.1.3.6)
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws BufferUnderflowException if the end of the buffer is reached before the whole
+   *     length-field is read
+   */
+  /* package */
+  static long decodeLength(final ByteBuffer buffer) {
     final int len = buffer.get() & 0xff; // read next octet
 
     if (len < 0x80) { // NOPMD literal in if statement
       // ... definite short form according to ISO/IEC 8825-1:2015 clause 8.1.3.4
-      return new long[] {len, 1};
+      return len;
     } else if (0x80 == len) { // NOPMD literals in conditional statement
       // ... indefinite form according to ISO/IEC 8825-1:2015 clause 8.1.3.6
-      return new long[] {-1, 1};
-    } else {
-      // ... definite long form according to ISO/IEC 8825-1:2015 clause 8.1.3.5
-      //     => length-field consists of more than one octet
+      return -1;
+    } // end else if
+    // ... definite long form according to ISO/IEC 8825-1:2015 clause 8.1.3.5
+    //     => length-field consists of more than one octet
 
-      // --- allocate memory space for remaining octets of length-field
-      final byte[] length = new byte[len & 0x7f]; // number of subsequent octets in length-field
+    final int noOctets = len & 0x7f; // number of subsequent octets in length-field
+    if (noOctets > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    } // end fi
 
-      // --- read subsequent octets of length field
-      buffer.get(length);
+    // --- read subsequent octets of length field
+    final int start = buffer.position();
+    buffer.position(start + noOctets);
+    long result = 0;
+    for (int i = start; i < start + noOctets; i++) {
+      if (0 != (result >>> 55)) { // NOPMD literal in if statement
+        // ... next shift exceeds 63 bits
+        final byte[] octets = new byte[noOctets];
+        buffer.get(start, octets);
+
+        throw new ArithmeticException(emLengthTooBig(octets));
+      } // end fi
 
-      return investigateLengthField(length);
-    } // end fi
+      result = (result << 8) | (buffer.get(i) & 0xff);
+    } // end For (i...)
+
+    return result;
   } // end method */
 
   /**
@@ -1495,15 +1932,30 @@ public abstract class BerTlv {
 
   private static long[] investigateLengthField(final byte[] length) {
     // --- convert octet string representation of length-field into long
-    final BigInteger result = new BigInteger(1, length);
+    long result = 0;
+    for (final byte octet : length) {
+      if (0 != (result >>> 55)) { // NOPMD literal in if statement
+        // ... next shift exceeds 63 bits
+        throw new ArithmeticException(emLengthTooBig(length));
+      } // end fi
 
-    // --- check the length of the value-field
-    if (result.bitLength() > 63) { // NOPMD literal in if statement
-      throw new ArithmeticException(
-          "length of value-field too big for this implementation: '" + result.toString(16) + "'");
-    } // end fi
+      result = (result << 8) | (octet & 0xff);
+    } // end For (octet...)
+
+    return new long[] {result, 1 + length.length};
+  } // end method */
 
-    return new long[] {result.longValueExact(), 1 + length.length};
+  /**
+   * Creates error message for a length-field indicating a length greater than {@link
+   * Long#MAX_VALUE}.
+   *
+   * @param length subsequent octets of length-field
+   * @return error message
+   */
+  private static String emLengthTooBig(final byte[] length) {
+    return "length of value-field too big for this implementation: '"
+        + new BigInteger(1, length).toString(16)
+        + "'";
   } // end method */
 
   /**
@@ -1526,33 +1978,75 @@ public abstract class BerTlv {
    */
   /* package */
   static byte[] readTag(final ByteBuffer buffer) {
-    byte octet;
+    final int start = buffer.position();
+    skipTag(buffer);
 
-    // --- read first (and possibly only) byte of tag
-    octet = buffer.get();
+    final byte[] result = new byte[buffer.position() - start];
+    buffer.get(start, result);
 
-    final List<Byte> tag = new ArrayList<>();
-    tag.add(octet);
+    return result;
+  } // end method */
 
-    if (0x1f == (octet & 0x1f)) { // NOPMD literals in conditional statement
-      // ... tag has more than one octet
+  /**
+   * Decodes a tag-field from given buffer.
+   *
+   * <p>In contrast to {@link #readTag(ByteBuffer)} this method creates no objects (unless an
+   * exception is thrown). The number of octets in the tag-field is given by {@link
+   * #calculateLengthOfTagField(long)}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>If the {@code buffer} {@link ByteBuffer#hasRemaining()} then at least one octet is
+   *       read which changes the {@code position} of {@code buffer}.</i>
+   *   <li><i>This method is NOT thread-safe, because it is possible to change the content of the
+   *       input parameter(s) while this method is running.</i>
+   *   <li><i>The tag is not checked for conformance to ISO/IEC 8825-1:2021, see {@link
+   *       #checkTag(long)}.</i>
+   * </ol>
+   *
+   * @param buffer from which the tag is read
+   * @return integer representation of tag-field read from buffer
+   * @throws ArithmeticException if the tag-field contains more than eight octets, in that case all
+   *     octets of the tag-field are read
+   * @throws BufferUnderflowException if the buffer limit is reached before reading the whole tag
+   */
+  /* package */
+  static long decodeTag(final ByteBuffer buffer) {
+    final int start = buffer.position();
+    skipTag(buffer);
+    final int end = buffer.position();
 
-      // --- read remaining octets of tag-field
-      do {
-        octet = buffer.get();
-        tag.add(octet);
-      } while ((octet & 0xff) >= 0x80);
-    } // end fi (more than one byte in tag)
+    if (end - start > NO_TAG_FIELD) {
+      throw new ArithmeticException(EM_TAG_TOO_LONG);
+    } // end fi
 
-    // --- convert ArrayList<Byte> into byte[]
-    final byte[] result = new byte[tag.size()];
-    for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
-      result[i] = tag.get(i);
+    long result = 0;
+    for (int i = start; i < end; i++) {
+      result = (result << 8) | (buffer.get(i) & 0xff);
     } // end For (i...)
 
     return result;
   } // end method */
 
+  /**
+   * Skips a tag-field.
+   *
+   * @param buffer with a tag-field at its current position
+   * @throws BufferUnderflowException if the buffer limit is reached before reading the whole tag
+   */
+  private static void skipTag(final ByteBuffer buffer) {
+    // --- read first (and possibly only) byte of tag
+    if (0x1f == (buffer.get() & 0x1f)) { // NOPMD literals in conditional statement
+      // ... tag has more than one octet
+
+      // --- read remaining octets of tag-field
+      while (buffer.get() < 0) {
+        // intentionally empty
+      } // end While (...)
+    } // end fi (more than one byte in tag)
+  } // end method */
+
   /**
    * Reads a tag-field from given stream.
    *
@@ -1582,30 +2076,29 @@ public abstract class BerTlv {
       throw new EOFException(message);
     } // end fi
 
-    final List<Integer> tag = new ArrayList<>();
-    tag.add(octet);
-
-    if (0x1f == (octet & 0x1f)) { // NOPMD literals in a conditional statement
-      // ... tag has more than one octet
-
-      // --- read remaining octets of tag-field
-      do {
-        octet = inputStream.read();
-        if (octet < 0) {
-          throw new EOFException(message);
-        } // end fi
-        tag.add(octet);
-      } while (octet >= 0x80);
-    } // end fi (more than one byte in tag)
+    if (0x1f != (octet & 0x1f)) { // NOPMD literals in a conditional statement
+      // ... tag has one octet
+      return new byte[] {(byte) octet};
+    } // end fi
+    // ... tag has more than one octet
+
+    // --- read remaining octets of tag-field
+    byte[] result = new byte[NO_TAG_FIELD];
+    int length = 0;
+    result[length++] = (byte) octet;
+    do {
+      octet = inputStream.read();
+      if (octet < 0) {
+        throw new EOFException(message);
+      } // end fi
 
-    // --- convert List<Integer> into byte[]
-    final byte[] result = new byte[tag.size()];
-    int index = 0;
-    for (final var element : tag) {
-      result[index++] = element.byteValue();
-    } // end For (element...)
+      if (length == result.length) {
+        result = Arrays.copyOf(result, 2 * length);
+      } // end fi
+      result[length++] = (byte) octet;
+    } while (octet >= 0x80);
 
-    return result;
+    return Arrays.copyOf(result, length);
   } // end method */
 
   /**
@@ -1697,7 +2190,7 @@ public abstract class BerTlv {
    */
   @Override
   public final String toString() {
-    return Hex.toHexDigits(getEncoded());
+    return Hex.toHexDigits(encoded());
   } // end method */
 
   /**
@@ -1790,6 +2283,47 @@ public abstract class BerTlv {
     return toString(" ", "|  ", 0, true);
   } // end method */
 
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * <p>With {@link TreeFormatOptions#DEFAULT} the output is identical to {@link #toStringTree()}.
+   * In contrast to {@link #toStringTree()} the output is written incrementally, i.e., no string
+   * containing the complete output is created. Thus, this method is appropriate for streaming large
+   * TLV-objects to a log-file or a network connection. Furthermore, the output is limited in
+   * accordance to {@code options}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is NOT thread-safe, because it is possible to use {@code out}
+   *       concurrently.</i>
+   *   <li><i>Object sharing is not a problem here, because input parameter(s) are used only while
+   *       this method is running.</i>
+   * </ol>
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @throws IOException if {@code out} does so
+   */
+  public final void toStringTree(final Appendable out, final TreeFormatOptions options)
+      throws IOException {
+    toStringTree(out, options, 0);
+  } // end method */
+
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation depth of this TLV-object, i.e., how often the indentation is used before
+   *     printing the tag
+   * @throws IOException if {@code out} does so
+   * @see #toStringTree(Appendable, TreeFormatOptions)
+   */
+  /* package */
+  abstract void toStringTree(Appendable out, TreeFormatOptions options, int noIndentation)
+      throws IOException; // */
+
   /**
    * Empty finalizer method prevents finalizer attacks.
    *
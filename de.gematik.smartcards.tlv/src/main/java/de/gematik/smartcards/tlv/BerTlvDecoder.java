@@ -0,0 +1,429 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Incremental, resumable decoder for BER-TLV objects.
+ *
+ * <p>This class is intended for octets arriving in arbitrary chunks, e.g., from a non-blocking
+ * {@link java.nio.channels.SocketChannel}. In contrast to {@link BerTlv#getInstance(ByteBuffer)}
+ * (which throws a {@link BufferUnderflowException} on partial input) and {@link
+ * BerTlv#getInstance(java.io.InputStream)} (which blocks) an instance of this class keeps its parse
+ * state between calls to {@link #decode(ByteBuffer)}. Thus, a single selector thread is able to
+ * serve many connections by using one decoder per connection.
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * while (Status.OBJECT_COMPLETE == decoder.decode(chunk)) {
+ *   final BerTlv tlv = decoder.getResult();
+ *   ...
+ * }
+ * // ... chunk exhausted, wait for more octets
+ * }</pre>
+ *
+ * <p>Tag- and length-fields are read with {@link BerTlv#readTag(ByteBuffer)} and {@link
+ * BerTlv#readLength(ByteBuffer)}, i.e., the same validation as for all other pseudo constructors
+ * applies. As soon as all octets of a TLV-object are available, that object is constructed by the
+ * same code as {@link BerTlv#getInstance(ByteBuffer)}, i.e., the result is identical.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are mutable, one instance is intended to serve one stream of octets.
+ *   <li>methods are NOT thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class BerTlvDecoder {
+
+  /** Status returned by {@link #decode(ByteBuffer)}. */
+  public enum Status {
+    /** The current TLV-object is not yet complete, more octets are necessary. */
+    NEED_MORE_INPUT,
+
+    /** A TLV-object is complete and available via {@link #getResult()}. */
+    OBJECT_COMPLETE,
+  } // end enum
+
+  /** Marker for a constructed TLV-object with indefinite form of length-field. */
+  private static final long INDEFINITE = -1; // */
+
+  /** Initial capacity of {@link #insOctets}. */
+  @VisibleForTesting /* package */ static final int INITIAL_CAPACITY = 64; // */
+
+  /**
+   * Supremum of octets in a tag- and length-field.
+   *
+   * <p>A tag-field contains at most {@link BerTlv#NO_TAG_FIELD} octets and a length-field contains
+   * at most 128 octets.
+   */
+  @VisibleForTesting /* package */
+  static final int MAX_TAG_LENGTH_FIELD = BerTlv.NO_TAG_FIELD + 128;
+
+  /** Capacity of {@link #insOctets} retained after {@link #reset()}. */
+  @VisibleForTesting /* package */ static final int MAX_RETAINED_CAPACITY = 0x1_0000; // */
+
+  /** Maximum number of octets in a TLV-object accepted by this decoder. */
+  private final long insMaxLengthOfTlvObject; // */
+
+  /** Octets of the TLV-object currently decoded. */
+  private byte[] insOctets = new byte[INITIAL_CAPACITY]; // */
+
+  /** Number of valid octets in {@link #insOctets}. */
+  private int insLength; // */
+
+  /**
+   * Offset in {@link #insOctets} where the next tag-field starts.
+   *
+   * <p>Octets in range [{@code insOffset}, {@link #insLength}) belong to a tag- and length-field
+   * which is not yet complete.
+   */
+  private int insOffset; // */
+
+  /** Number of octets of a value-field still missing. */
+  private long insSkip; // */
+
+  /**
+   * Stack of constructed TLV-objects not yet complete.
+   *
+   * <p>Each entry is either {@link #INDEFINITE} or the offset in {@link #insOctets} where the
+   * corresponding value-field ends.
+   */
+  private long[] insStack = new long[8]; // */
+
+  /** Number of entries in {@link #insStack}. */
+  private int insDepth; // */
+
+  /** Flag indicating that the tag- and length-field of the outermost TLV-object are read. */
+  private boolean insStarted; // */
+
+  /** Result of the latest successful decoding, {@code null} if not (yet) available. */
+  @CheckForNull private BerTlv insResult; // */
+
+  /**
+   * Default constructor.
+   *
+   * <p>The number of octets in a TLV-object is only limited by the maximum size of an array.
+   */
+  public BerTlvDecoder() {
+    this(Integer.MAX_VALUE - 8L);
+  } // end constructor */
+
+  /**
+   * Constructor limiting the size of TLV-objects.
+   *
+   * <p>Limiting the size of TLV-objects prevents a peer from forcing huge memory allocations.
+   *
+   * @param maxLengthOfTlvObject maximum number of octets in a TLV-object (including tag- and
+   *     length-field), values greater than the maximum size of an array are truncated
+   * @throws IllegalArgumentException if {@code maxLengthOfTlvObject} is not positive
+   */
+  public BerTlvDecoder(final long maxLengthOfTlvObject) {
+    if (maxLengthOfTlvObject <= 0) {
+      throw new IllegalArgumentException("maxLengthOfTlvObject SHALL be positive");
+    } // end fi
+
+    insMaxLengthOfTlvObject = Math.min(maxLengthOfTlvObject, Integer.MAX_VALUE - 8L);
+  } // end constructor */
+
+  /**
+   * Decodes octets from the given buffer.
+   *
+   * <p>This method reads octets from {@code buffer} until either the buffer is exhausted or a
+   * TLV-object is complete. Octets following a complete TLV-object are not read, i.e., they stay in
+   * {@code buffer} for the next call.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is NOT thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because octets are copied from the {@code
+   *       buffer}.</i>
+   *   <li><i>This method does not change the buffer's {@code limit} or {@code mark} attribute.</i>
+   *   <li><i>In case an exception is thrown, the parse state is reset, i.e., the next call to this
+   *       method starts with a new TLV-object.</i>
+   * </ol>
+   *
+   * @param buffer containing (possibly just a part of) the octets of a TLV-object
+   * @return {@link Status#OBJECT_COMPLETE} if a TLV-object is complete, {@link
+   *     Status#NEED_MORE_INPUT} otherwise
+   * @throws IllegalArgumentException if octets are not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a TLV-object contains more octets than supported by this decoder
+   *     </ol>
+   */
+  public Status decode(final ByteBuffer buffer) {
+    try {
+      return decodeBuffer(buffer);
+    } catch (RuntimeException e) {
+      reset();
+
+      throw e;
+    } // end Catch (...)
+  } // end method */
+
+  private Status decodeBuffer(final ByteBuffer buffer) {
+    insResult = null; // NOPMD assigning to null
+
+    for (; ; ) {
+      // --- copy (possibly a part of) a value-field
+      if (insSkip > 0) {
+        final int noOctets = (int) Math.min(insSkip, buffer.remaining());
+        append(buffer, noOctets);
+        insSkip -= noOctets;
+        insOffset = insLength;
+
+        if (insSkip > 0) {
+          // ... value-field not yet complete
+          return Status.NEED_MORE_INPUT;
+        } // end fi
+      } // end fi
+      // ... no octets of a value-field missing
+
+      // --- pop all constructed TLV-objects with definite form which are complete
+      while ((insDepth > 0)
+          && (INDEFINITE != insStack[insDepth - 1])
+          && (insOffset >= insStack[insDepth - 1])) {
+        insDepth--;
+      } // end While (...)
+
+      if (insStarted && (0 == insDepth)) {
+        // ... outermost TLV-object complete
+        //     => construct it
+        final BerTlv result = BerTlv.getFromBuffer(ByteBuffer.wrap(insOctets, 0, insLength));
+        reset();
+        insResult = result;
+
+        return Status.OBJECT_COMPLETE;
+      } // end fi
+      // ... outermost TLV-object not yet complete
+
+      if (!readTagLength(buffer)) {
+        // ... tag- and length-field not yet complete
+        return Status.NEED_MORE_INPUT;
+      } // end fi
+    } // end forever-loop
+  } // end method */
+
+  /**
+   * Reads tag- and length-field.
+   *
+   * @param buffer containing (possibly just a part of) a tag- and length-field
+   * @return {@code TRUE} if tag- and length-field are complete, {@code FALSE} otherwise
+   */
+  private boolean readTagLength(final ByteBuffer buffer) {
+    final int position = buffer.position();
+    final int pending = insLength - insOffset;
+
+    // Note 1: Octets of an incomplete tag- and length-field are stored in
+    //         insOctets. Intentionally, up to MAX_TAG_LENGTH_FIELD octets are
+    //         appended (without increasing insLength) such that tag- and
+    //         length-field are read by the methods from BerTlv. Afterward, the position of
+    //         buffer is adjusted according to the number of octets actually used.
+    final int noOctets = Math.min(buffer.remaining(), MAX_TAG_LENGTH_FIELD - pending);
+    ensureCapacity((long) insLength + noOctets);
+    buffer.get(insOctets, insLength, noOctets);
+
+    final var view = ByteBuffer.wrap(insOctets, insOffset, pending + noOctets);
+    final byte[] tagField;
+    final long[] lengthInfo;
+    try {
+      tagField = BerTlv.readTag(view);
+      BerTlv.convertTag(tagField); // throws ArithmeticException, if tag-field is too long
+      BerTlv.checkTag(tagField);
+      lengthInfo = BerTlv.readLength(view);
+    } catch (BufferUnderflowException e) {
+      // ... tag- or length-field incomplete
+      //     => keep all octets for the next call
+      insLength += noOctets;
+
+      if (isTagTooLong()) {
+        // ... more than NO_TAG_FIELD octets in tag-field
+        throw new ArithmeticException("tag too long for this implementation"); // NOPMD
+      } // end fi
+
+      return false;
+    } // end Catch (...)
+    // ... tag- and length-field complete
+
+    final int lengthTagLengthField = view.position() - insOffset;
+    insLength = insOffset + lengthTagLengthField;
+    insOffset = insLength;
+    buffer.position(position + lengthTagLengthField - pending);
+
+    final long lengthOfValueField = lengthInfo[0];
+    final boolean isConstructed = 0x20 == (tagField[0] & 0x20); // NOPMD literals in condition
+    if (isConstructed) {
+      // ... constructed TLV-object
+      push((lengthOfValueField < 0) ? INDEFINITE : checkLength(lengthOfValueField));
+    } else {
+      // ... primitive TLV-object
+      if (lengthOfValueField < 0) {
+        throw new IllegalArgumentException(PrimitiveBerTlv.EM_INDEFINITE);
+      } // end fi
+
+      if ((1 == tagField.length)
+          && (DerEndOfContent.TAG == tagField[0])
+          && (insDepth > 0)
+          && (INDEFINITE == insStack[insDepth - 1])) {
+        // ... end-of-contents for a constructed TLV-object with indefinite form
+        insDepth--;
+      } // end fi
+
+      checkLength(lengthOfValueField);
+      insSkip = lengthOfValueField;
+    } // end else
+    insStarted = true;
+
+    return true;
+  } // end method */
+
+  /**
+   * Checks whether the pending tag-field has more than {@link BerTlv#NO_TAG_FIELD} octets.
+   *
+   * @return {@code TRUE} if the pending tag-field is too long for this implementation, {@code
+   *     FALSE} otherwise
+   */
+  private boolean isTagTooLong() {
+    if ((insLength - insOffset <= BerTlv.NO_TAG_FIELD)
+        || (0x1f != (insOctets[insOffset] & 0x1f))) { // NOPMD literals in conditional statement
+      // ... too few octets  OR  one octet tag-field
+      return false;
+    } // end fi
+
+    for (int i = BerTlv.NO_TAG_FIELD; i > 0; i--) {
+      if (insOctets[insOffset + i] >= 0) {
+        // ... last octet of tag-field found
+        return false;
+      } // end fi
+    } // end For (i...)
+
+    return true;
+  } // end method */
+
+  /**
+   * Checks whether a value-field fits into a TLV-object supported by this decoder.
+   *
+   * @param lengthOfValueField number of octets in a value-field starting at {@link #insOffset}
+   * @return offset in {@link #insOctets} where the value-field ends
+   * @throws ArithmeticException if the value-field exceeds the maximum length of a TLV-object
+   */
+  private long checkLength(final long lengthOfValueField) {
+    if (lengthOfValueField > insMaxLengthOfTlvObject - insOffset) {
+      throw new ArithmeticException(PrimitiveBerTlv.EM_TOO_LONG);
+    } // end fi
+
+    return insOffset + lengthOfValueField;
+  } // end method */
+
+  /**
+   * Appends octets from the given buffer.
+   *
+   * @param buffer from which octets are read
+   * @param noOctets number of octets to read
+   */
+  private void append(final ByteBuffer buffer, final int noOctets) {
+    ensureCapacity((long) insLength + noOctets);
+    buffer.get(insOctets, insLength, noOctets);
+    insLength += noOctets;
+  } // end method */
+
+  /**
+   * Ensures that {@link #insOctets} is able to store the given number of octets.
+   *
+   * @param capacity minimum capacity
+   */
+  private void ensureCapacity(final long capacity) {
+    if (capacity > insOctets.length) {
+      final long newCapacity = Math.max(capacity, 2L * insOctets.length);
+      insOctets = Arrays.copyOf(insOctets, (int) Math.min(newCapacity, Integer.MAX_VALUE - 8L));
+    } // end fi
+  } // end method */
+
+  /**
+   * Pushes an entry on {@link #insStack}.
+   *
+   * @param entry to be pushed
+   */
+  private void push(final long entry) {
+    if (insDepth == insStack.length) {
+      insStack = Arrays.copyOf(insStack, 2 * insDepth);
+    } // end fi
+
+    insStack[insDepth++] = entry;
+  } // end method */
+
+  /**
+   * Returns the number of octets buffered for the current (incomplete) TLV-object.
+   *
+   * @return number of octets buffered
+   */
+  public int getBuffered() {
+    return insLength;
+  } // end method */
+
+  /**
+   * Returns the TLV-object decoded by the latest call to {@link #decode(ByteBuffer)}.
+   *
+   * @return TLV-object decoded by the latest call to {@link #decode(ByteBuffer)}
+   * @throws IllegalStateException if the latest call to {@link #decode(ByteBuffer)} did not return
+   *     {@link Status#OBJECT_COMPLETE}
+   */
+  public BerTlv getResult() {
+    final BerTlv result = insResult;
+
+    if (null == result) {
+      throw new IllegalStateException("no TLV-object available");
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Resets the parse state.
+   *
+   * <p>Octets of an incomplete TLV-object are discarded. Afterward, the next call to {@link
+   * #decode(ByteBuffer)} starts with a new TLV-object.
+   */
+  public void reset() {
+    if (insOctets.length > MAX_RETAINED_CAPACITY) {
+      // ... huge TLV-object decoded recently
+      //     => release memory
+      insOctets = new byte[INITIAL_CAPACITY];
+    } // end fi
+
+    insLength = 0;
+    insOffset = 0;
+    insSkip = 0;
+    insDepth = 0;
+    insStarted = false;
+    insResult = null; // NOPMD assigning to null
+  } // end method */
+} // end class
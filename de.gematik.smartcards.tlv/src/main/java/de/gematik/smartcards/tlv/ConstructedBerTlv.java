@@ -19,8 +19,11 @@
  */
 package de.gematik.smartcards.tlv; // NOPMD high amount of different objects
 
+import static de.gematik.smartcards.utils.AfiUtils.LINE_SEPARATOR;
+
 import de.gematik.smartcards.utils.Hex;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -28,6 +31,7 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -78,9 +82,33 @@ public class ConstructedBerTlv extends BerTlv {
   @VisibleForTesting
   /* package */ static final String EMP = "tag-field indicates primitive encoding"; // */
 
+  /**
+   * Supremum number of TLV-objects in value-field searched linearly.
+   *
+   * <p>If the value-field contains more TLV-objects than this value, then searching for a tag uses
+   * {@link #insTagIndex}.
+   */
+  @VisibleForTesting /* package */ static final int LINEAR_SEARCH_LIMIT = 8; // */
+
   /** Value-field as list of {@link BerTlv}. */
   /* package */ final List<BerTlv> insValueField; // */
 
+  /**
+   * Cache for an index mapping tags to positions in {@link #insValueField}.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>The index is created lazily by {@link #getTagIndex()} the first time a tag is searched
+   *       in a value-field with more than {@link #LINEAR_SEARCH_LIMIT} TLV-objects.</i>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead). Because {@link
+   *       #insValueField} is immutable, the index calculated by concurrent threads is always the
+   *       same.</i>
+   * </ol>
+   */
+  private volatile @CheckForNull TagIndex insTagIndex; // NOPMD volatile */
+
   /**
    * Constructor reading length- and value-field from a {@link ByteBuffer}.
    *
@@ -106,6 +134,31 @@ public class ConstructedBerTlv extends BerTlv {
    *     </ol>
    */
   /* package */ ConstructedBerTlv(final byte[] tag, final ByteBuffer buffer) {
+    this(toTag(tag), buffer, null);
+  } // end constructor */
+
+  /**
+   * Constructor reading length- and value-field from a {@link ByteBuffer}, possibly in parallel.
+   *
+   * <p>If {@code decoder} is present and the value-field is in definite form and long enough, then
+   * the TLV-objects in the value-field are decoded in parallel, see {@link ParallelBerTlvDecoder}.
+   * Otherwise, they are decoded sequentially. The result is the same in both cases.
+   *
+   * @param tag integer representation of tag
+   * @param buffer form which the length- and value-field are read
+   * @param decoder for decoding the value-field in parallel, {@code null} for sequential decoding
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>the tag is not in accordance to <a
+   *           href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause
+   *           8.1.2
+   *       <li>bit b6 of the leading octet in the tag-field does not indicate "constructed" encoding
+   *     </ol>
+   */
+  /* package */ ConstructedBerTlv(
+      final long tag, final ByteBuffer buffer, final @Nullable ParallelBerTlvDecoder decoder) {
     // CT_CONSTRUCTOR_THROW
     // --- read length-field from inputStream (there defensive cloning is used)
     super(tag, buffer);
@@ -121,7 +174,7 @@ public class ConstructedBerTlv extends BerTlv {
       // Note 1: According to ISO/IEC 8815-1:2008 clause 8.1.5 the end-of-contents, is encoded
       //         as a primitive TLV-object with tag-field '00' and length-field '00'.
       for (; ; ) {
-        final BerTlv tlv = getFromBuffer(buffer);
+        final BerTlv tlv = getFromBuffer(buffer, decoder);
         insLengthOfValueFieldFromStream +=
             tlv.getLengthOfTagField()
                 + tlv.insLengthOfLengthFieldFromStream
@@ -140,15 +193,20 @@ public class ConstructedBerTlv extends BerTlv {
       //     => loop until the complete value-field is read from inputStream
 
       long length = insLengthOfValueFieldFromStream;
-      while (length > 0) {
-        final BerTlv tlv = getFromBuffer(buffer);
-        value.add(tlv);
-
-        length -= // length of TLV-object from stream
-            tlv.getLengthOfTagField()
-                + tlv.insLengthOfLengthFieldFromStream
-                + tlv.insLengthOfValueFieldFromStream;
-      } // end While (length > 0)
+      if ((null != decoder) && decoder.isParallel(length)) {
+        // ... value-field long enough for parallel decoding
+        value.addAll(decoder.decodeValueField(buffer, length));
+      } else {
+        while (length > 0) {
+          final BerTlv tlv = getFromBuffer(buffer, decoder);
+          value.add(tlv);
+
+          length -= // length of TLV-object from stream
+              tlv.getLengthOfTagField()
+                  + tlv.insLengthOfLengthFieldFromStream
+                  + tlv.insLengthOfValueFieldFromStream;
+        } // end While (length > 0)
+      } // end else
     } // end else
 
     // --- set instance attributes
@@ -159,13 +217,7 @@ public class ConstructedBerTlv extends BerTlv {
     insLengthOfValueField = insValueField.stream().mapToLong(BerTlv::getLengthOfTlvObject).sum();
 
     // set insTagLengthField
-    final var minLengthOfLf = calculateLengthOfLengthField(insLengthOfValueField);
-    final var lengthOfTagField = getLengthOfTagField();
-    final var tagLengthField = new byte[lengthOfTagField + minLengthOfLf];
-    System.arraycopy(insTagLengthField, 0, tagLengthField, 0, lengthOfTagField); // copy tag-field
-    final var lf = Hex.toByteArray(getLengthField(insLengthOfValueField));
-    System.arraycopy(lf, 0, tagLengthField, lengthOfTagField, minLengthOfLf); // copy length-field
-    insTagLengthField = tagLengthField;
+    insTagLengthField = createTagLengthField(getTag(), insLengthOfValueField);
   } // end constructor */
 
   /**
@@ -357,6 +409,43 @@ public class ConstructedBerTlv extends BerTlv {
     insLengthOfValueField = insValueField.stream().mapToLong(BerTlv::getLengthOfTlvObject).sum();
   } // end method */
 
+  /**
+   * Tag-Value-Constructor with precalculated length of value-field.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This constructor is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because input parameter(s) are primitive or
+   *       immutable.</i>
+   *   <li><i>Intentionally, the value-field is neither copied nor is its length recalculated. Thus,
+   *       this constructor runs in constant time, see {@link Builder}.</i>
+   * </ol>
+   *
+   * @param tag contains the tag of the new object
+   * @param value unmodifiable list with the TLV-objects of the value-field
+   * @param lengthOfValueField sum of {@link BerTlv#getLengthOfTlvObject()} over all elements in
+   *     {@code value}
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>the tag is not in accordance to <a
+   *           href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a> clause
+   *           8.1.2
+   *       <li>bit b6 of the leading octet in the tag-field does not indicate "constructed" encoding
+   *     </ol>
+   */
+  /* package */ ConstructedBerTlv(
+      final long tag, final List<BerTlv> value, final long lengthOfValueField) {
+    // CT_CONSTRUCTOR_THROW
+    super(tag, lengthOfValueField);
+    checkTag();
+    // ... value of tag is okay
+
+    // --- set instance attributes
+    insValueField = value;
+    insLengthOfValueField = lengthOfValueField;
+  } // end constructor */
+
   /**
    * Appends given TLV-object at the end of the value-field.
    *
@@ -376,10 +465,7 @@ public class ConstructedBerTlv extends BerTlv {
    * @return clone of this TLV object where the given TLV object is appended to its value-field
    */
   public ConstructedBerTlv add(final BerTlv tlv) {
-    final List<BerTlv> valueField = new ArrayList<>(insValueField);
-    valueField.add(tlv);
-
-    return new ConstructedBerTlv(getTag(), valueField);
+    return new Builder(getTag()).addAll(insValueField).add(tlv).build();
   } // end method */
 
   /**
@@ -527,6 +613,16 @@ public class ConstructedBerTlv extends BerTlv {
    *     Optional#empty()}
    */
   public final Optional<BerTlv> get(final long tag, int position) {
+    if (insValueField.size() > LINEAR_SEARCH_LIMIT) {
+      // ... many TLV-objects in value-field
+      //     => use index
+      final int index = getTagIndex().indexOf(tag, Math.max(0, position));
+
+      return (index < 0) ? Optional.empty() : Optional.of(insValueField.get(index));
+    } // end fi
+    // ... just a few TLV-objects in value-field
+    //     => search linearly
+
     for (final BerTlv i : insValueField) {
       // Note: The following if-statement uses "position-- <= 0".
       //       The usage of (similar) "--position < 0" has a different behavior
@@ -539,6 +635,33 @@ public class ConstructedBerTlv extends BerTlv {
     return Optional.empty();
   } // end method */
 
+  /**
+   * Returns an index mapping tags to positions in the value-field.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because the return value is immutable.</i>
+   *   <li><i>Because only immutable instance attributes are taken into account it is possible to
+   *       use Racy-Single-Check-Idiom hereafter which gives good performance.</i>
+   * </ol>
+   *
+   * @return index of tags in value-field
+   */
+  @VisibleForTesting
+  /* package */ final TagIndex getTagIndex() {
+    TagIndex result = insTagIndex; // read attribute from main memory into thread local memory
+    if (null == result) {
+      // ... attribute has never been calculated (lazy initialization)
+      //     => do so now
+      result = new TagIndex(insValueField);
+      insTagIndex = result; // store attribute into thread local memory
+    } // end fi
+
+    return result;
+  } // end method */
+
   /**
    * Searches in all elements of the value-field for a TLV-object with given tag.
    *
@@ -1158,6 +1281,17 @@ public class ConstructedBerTlv extends BerTlv {
    */
   @Override
   public final byte[] getEncoded() {
+    return encoded().clone();
+  } // end method */
+
+  /**
+   * Encodes this BER-TLV object.
+   *
+   * @return octet string representation of a BER-TLV object
+   * @see BerTlv#encode()
+   */
+  @Override
+  /* package */ final byte[] encode() {
     final ByteArrayOutputStream baos = new ByteArrayOutputStream((int) getLengthOfTlvObject());
     getEncoded(baos);
 
@@ -1182,6 +1316,14 @@ public class ConstructedBerTlv extends BerTlv {
   @Override
   @VisibleForTesting
   /* package */ final ByteArrayOutputStream getEncoded(final ByteArrayOutputStream out) {
+    final byte[] encoded = insEncoded;
+    if (null != encoded) {
+      // ... encoding already available
+      out.writeBytes(encoded);
+
+      return out;
+    } // end fi
+
     // --- write tag-field and length-field
     super.getEncoded(out);
 
@@ -1295,4 +1437,271 @@ public class ConstructedBerTlv extends BerTlv {
               .collect(Collectors.joining());
     } // end else
   } // end method */
+
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * <p>If the depth of this TLV-object is {@link TreeFormatOptions#getMaxDepth()}, then instead of
+   * the TLV-objects in the value-field just their number is shown.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation depth of this TLV-object, i.e., how often the indentation is used before
+   *     printing the tag
+   * @throws IOException if {@code out} does so
+   * @see BerTlv#toStringTree(Appendable, TreeFormatOptions, int)
+   */
+  @Override
+  /* package */ final void toStringTree(
+      final Appendable out, final TreeFormatOptions options, final int noIndentation)
+      throws IOException {
+    out.append(tagLength2String(" ", "|  ", noIndentation)).append(getComment());
+
+    if (noIndentation < options.getMaxDepth()) {
+      // ... children within depth limit
+      for (final BerTlv tlv : insValueField) {
+        out.append(LINE_SEPARATOR);
+        tlv.toStringTree(out, options, noIndentation + 1);
+      } // end For (tlv...)
+    } else if (!insValueField.isEmpty()) {
+      // ... children beyond depth limit
+      //     => show their number only
+      out.append(LINE_SEPARATOR)
+          .append(indentation("|  ", noIndentation + 1))
+          .append("... ")
+          .append(Integer.toString(insValueField.size()))
+          .append(" TLV-object(s)");
+    } // end else if
+  } // end method */
+
+  /**
+   * Builder for {@link ConstructedBerTlv}.
+   *
+   * <p>Appending TLV-objects one by one with {@link ConstructedBerTlv#add(BerTlv)} copies the
+   * value-field on each call. Thus, creating a value-field with {@code n} TLV-objects that way
+   * takes {@code O(n^2)}. A builder collects TLV-objects and keeps track of the length of the
+   * value-field. Thus, {@link #build()} runs in {@code O(n)}.
+   *
+   * <p>Typical usage:
+   *
+   * <pre>{@code
+   * final ConstructedBerTlv tlv = new ConstructedBerTlv.Builder(0xa0)
+   *     .add(BerTlv.getInstance("81 01 01"))
+   *     .addAll(children)
+   *     .build();
+   * }</pre>
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are mutable.
+   *   <li>methods are NOT thread-safe.
+   *   <li>a builder remains usable after {@link #build()}, objects built earlier are not affected
+   *       by subsequent changes.
+   * </ol>
+   */
+  public static class Builder {
+
+    /** Tag of the TLV-object to be built. */
+    private final long insTag; // */
+
+    /** TLV-objects in value-field. */
+    /* package */ final ArrayList<BerTlv> insValueField =
+        new ArrayList<>(); // NOPMD loose coupling */
+
+    /** Number of octets in value-field. */
+    /* package */ long insLengthOfValueField; // */
+
+    /**
+     * Comfort constructor.
+     *
+     * @param tag of the TLV-object to be built
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to <a
+     *           href="https://www.itu.int/rec/T-REC-X.690-201508-I/en">ISO/IEC 8825-1:2015</a>
+     *           clause 8.1.2
+     *       <li>bit b6 of the leading octet in the tag-field does not indicate "constructed"
+     *           encoding
+     *     </ol>
+     */
+    public Builder(final long tag) {
+      final byte[] tagField = convertTag(tag);
+      checkTag(tagField);
+
+      if (0x20 != (tagField[0] & 0x20)) { // NOPMD literals in conditional statement
+        // ... bit b6 of leading octet in tag-field indicates "primitive" encoding
+        throw new IllegalArgumentException(EMP);
+      } // end fi
+
+      insTag = tag;
+    } // end constructor */
+
+    /**
+     * Appends given TLV-object at the end of the value-field.
+     *
+     * @param tlv object to be appended at the end of the value-field
+     * @return this builder
+     * @throws ArithmeticException if value-field contains more than {@link Long#MAX_VALUE} octet
+     */
+    public Builder add(final BerTlv tlv) {
+      insLengthOfValueField = Math.addExact(insLengthOfValueField, tlv.getLengthOfTlvObject());
+      insValueField.add(tlv);
+
+      return this;
+    } // end method */
+
+    /**
+     * Appends given TLV-objects at the end of the value-field.
+     *
+     * <p>The order of TLV-objects is the iteration order of {@code tlvs}.
+     *
+     * @param tlvs objects to be appended at the end of the value-field
+     * @return this builder
+     * @throws ArithmeticException if value-field contains more than {@link Long#MAX_VALUE} octet
+     */
+    public Builder addAll(final Collection<? extends BerTlv> tlvs) {
+      insValueField.ensureCapacity(insValueField.size() + tlvs.size());
+      for (final BerTlv tlv : tlvs) {
+        add(tlv);
+      } // end For (tlv...)
+
+      return this;
+    } // end method */
+
+    /**
+     * Creates an immutable TLV-object from the TLV-objects collected so far.
+     *
+     * <p>Like {@link BerTlv#getInstance(long, Collection)} the class of the result depends on the
+     * tag, i.e., for tag '30' a {@link DerSequence} and for tag '31' a {@link DerSet} with sorted
+     * value-field is returned. Thus, decoding the encoding of the result gives an equal TLV-object.
+     *
+     * @return TLV-object with the tag given to the constructor and the TLV-objects collected so far
+     *     in its value-field
+     * @throws IllegalArgumentException if tag is '31' and tags in value-field are not mutual
+     *     exclusive
+     */
+    public ConstructedBerTlv build() {
+      final List<BerTlv> valueField = List.copyOf(insValueField);
+
+      return switch ((int) insTag) {
+        case DerSequence.TAG -> new DerSequence(valueField, insLengthOfValueField);
+        case DerSet.TAG -> new DerSet(valueField);
+        default -> new ConstructedBerTlv(insTag, valueField, insLengthOfValueField);
+      }; // end Switch (tag)
+    } // end method */
+
+    /**
+     * Returns number of octets in value-field.
+     *
+     * @return number of octets in value-field of the TLV-object to be built
+     */
+    public long getLengthOfValueField() {
+      return insLengthOfValueField;
+    } // end method */
+
+    /**
+     * Returns number of TLV-objects in value-field.
+     *
+     * @return number of TLV-objects collected so far
+     */
+    public int size() {
+      return insValueField.size();
+    } // end method */
+  } // end inner class
+
+  /**
+   * Index mapping tags to positions of TLV-objects in a value-field.
+   *
+   * <p>The index uses primitive arrays only:
+   *
+   * <ol>
+   *   <li>{@link #insTags} contains all distinct tags in ascending order,
+   *   <li>{@link #insPositions} contains the positions of all TLV-objects in a value-field, grouped
+   *       by tag and in ascending order within each group,
+   *   <li>{@link #insStart} contains for each distinct tag the start of its group in {@link
+   *       #insPositions}, plus one extra element with the total number of positions.
+   * </ol>
+   *
+   * <p>From the perspective of this class instances are immutable.
+   */
+  @VisibleForTesting
+  /* package */ static final class TagIndex {
+
+    /** Distinct tags in ascending order. */
+    private final long[] insTags; // */
+
+    /** Start of group in {@link #insPositions} for each element in {@link #insTags}. */
+    private final int[] insStart; // */
+
+    /** Positions in value-field, grouped by tag. */
+    private final int[] insPositions; // */
+
+    /**
+     * Comfort constructor.
+     *
+     * @param valueField for which an index is created
+     */
+    /* package */ TagIndex(final List<BerTlv> valueField) {
+      final int size = valueField.size();
+      final long[] tags = new long[size];
+      for (int i = size; i-- > 0; ) { // NOPMD assignment in operand
+        tags[i] = valueField.get(i).getTag();
+      } // end For (i...)
+
+      // --- collect distinct tags
+      final long[] sorted = tags.clone();
+      Arrays.sort(sorted);
+      int noTags = 0;
+      for (int i = 0; i < size; i++) {
+        if ((0 == i) || (sorted[i] != sorted[i - 1])) {
+          sorted[noTags++] = sorted[i]; // NOPMD assignment in operand
+        } // end fi
+      } // end For (i...)
+      insTags = Arrays.copyOf(sorted, noTags);
+
+      // --- count occurrences of each tag
+      insStart = new int[noTags + 1];
+      final int[] group = new int[size];
+      for (int i = 0; i < size; i++) {
+        group[i] = Arrays.binarySearch(insTags, tags[i]);
+        insStart[group[i] + 1]++;
+      } // end For (i...)
+
+      for (int i = 0; i < noTags; i++) {
+        insStart[i + 1] += insStart[i];
+      } // end For (i...)
+
+      // --- fill positions, ascending order within each group
+      insPositions = new int[size];
+      final int[] next = Arrays.copyOf(insStart, noTags);
+      for (int i = 0; i < size; i++) {
+        insPositions[next[group[i]]++] = i;
+      } // end For (i...)
+    } // end constructor */
+
+    /**
+     * Returns position of a TLV-object with given tag.
+     *
+     * @param tag searched for
+     * @param position non-negative number, {@code position = 0} requests the first match, {@code
+     *     position = 1} requests the second match, etc.
+     * @return index in value-field of the {@code position}-th TLV-object with given tag, or -1 if
+     *     no such TLV-object exists
+     */
+    /* package */ int indexOf(final long tag, final int position) {
+      final int group = Arrays.binarySearch(insTags, tag);
+
+      if (group < 0) {
+        // ... tag absent
+        return -1;
+      } // end fi
+      // ... tag present
+
+      final int start = insStart[group];
+
+      // Note: Comparing before adding avoids an overflow for large positions.
+      return (position < insStart[group + 1] - start) ? insPositions[start + position] : -1;
+    } // end method */
+  } // end inner class
 } // end class
@@ -27,6 +27,7 @@ import java.math.BigInteger;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -180,11 +181,9 @@ public final class DerBitString extends PrimitiveSpecific<byte[]> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerBitString(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
 
     insNumberOfUnusedBits = (0 == insValueField.length) ? 0 : (insValueField[0] & 0xff);
-
-    check();
   } // end constructor */
 
   /**
@@ -208,24 +207,49 @@ public final class DerBitString extends PrimitiveSpecific<byte[]> {
     super(new byte[] {(byte) TAG}, inputStream);
 
     insNumberOfUnusedBits = (0 == insValueField.length) ? 0 : (insValueField[0] & 0xff);
-
-    check();
   } // end constructor */
 
-  private void check() {
-    if (0 == insValueField.length) {
-      insFindings.add("value-field absent");
-    } else {
-      // ... at least one octet in value-field
-
-      if (insNumberOfUnusedBits > 7) { // NOPMD literal in if statement
-        // ... invalid number of unused bits, see ISO/IEC 8825-1:2015 clause 8.6.2.2
-        insFindings.add(EM_7);
-      } else if ((0 != insNumberOfUnusedBits) && (1 == getLengthOfValueField())) {
-        // ... number of unused bits in range [1, 7], but empty bit-string
-        insFindings.add(EM_GT0);
-      } // end else if
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    final String finding = check(ByteBuffer.wrap(insValueField), 0, insValueField.length);
+
+    return (null == finding) ? List.of() : List.of(finding);
+  } // end method */
+
+  /**
+   * Checks the value-field of a BITSTRING.
+   *
+   * <p>This method contains the rules of {@link #validate()}, it is also used by {@link
+   * DerValidator}. The first octet of a value-field contains the number of unused bits.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    if (0 == length) {
+      return "value-field absent";
     } // end fi
+    // ... at least one octet in value-field
+
+    final int numberOfUnusedBits = buffer.get(offset) & 0xff;
+    if (numberOfUnusedBits > 7) { // NOPMD literal in if statement
+      // ... invalid number of unused bits, see ISO/IEC 8825-1:2015 clause 8.6.2.2
+      return EM_7;
+    } else if ((0 != numberOfUnusedBits) && (1 == length)) {
+      // ... number of unused bits in range [1, 7], but empty bit-string
+      return EM_GT0;
+    } // end else if
+
+    return null;
   } // end method */
 
   /**
@@ -429,4 +453,30 @@ public final class DerBitString extends PrimitiveSpecific<byte[]> {
 
     return result.toString();
   } // end method */
+
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * <p>In addition to the output of the superclass the decoded value is shown as nested
+   * TLV-objects, if possible and allowed by {@code options}.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation depth of this TLV-object, i.e., how often the indentation is used before
+   *     printing the tag
+   * @throws IOException if {@code out} does so
+   * @see PrimitiveBerTlv#toStringTree(Appendable, TreeFormatOptions, int)
+   */
+  @Override
+  /* package */ void toStringTree(
+      final Appendable out, final TreeFormatOptions options, final int noIndentation)
+      throws IOException {
+    super.toStringTree(out, options, noIndentation);
+
+    if (0 == getNumberOfUnusedBits()) {
+      // ... no unused bits
+      //     => try to decode bit-string as TLV-objects
+      commentDecoded(out, options, noIndentation, getDecoded());
+    } // end fi
+  } // end method */
 } // end class
@@ -20,11 +20,13 @@
 package de.gematik.smartcards.tlv;
 
 import de.gematik.smartcards.utils.Hex;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -77,11 +79,9 @@ public final class DerBoolean extends PrimitiveSpecific<Boolean> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   private DerBoolean(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
 
     insDecoded = (insValueField.length > 0) && (0 != insValueField[0]);
-
-    check();
   } // end constructor */
 
   /**
@@ -103,27 +103,46 @@ public final class DerBoolean extends PrimitiveSpecific<Boolean> {
     super(new byte[] {(byte) TAG}, inputStream);
 
     insDecoded = (insValueField.length > 0) && (0 != insValueField[0]);
-
-    check();
   } // end constructor */
 
   /**
-   * Check instance attributes.
+   * Checks whether this TLV-object is in accordance to its specification.
    *
-   * <p>Here a finding is added in case
+   * <p>Here a finding is reported in case
    *
    * <ol>
    *   <li>the value-field is present or
    *   <li>the length-field contains more than one octet
    * </ol>
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
    */
-  private void check() {
-    if (1 != getLengthOfValueField()) { // NOPMD literal in if statement
+  @Override
+  protected List<String> validate() {
+    final String finding = check(insValueField.length);
+
+    if (null != finding) {
       // ... length of value-field != 1
-      insFindings.add("length of value-field unequal to 1");
+      return List.of(finding);
     } else if (1 != insLengthOfLengthFieldFromStream) { // NOPMD literal in if statement
-      insFindings.add("original length-field unequal to '01'");
+      return List.of("original length-field unequal to '01'");
     } // end fi
+
+    return List.of();
+  } // end method */
+
+  /**
+   * Checks the length of the value-field of a BOOLEAN.
+   *
+   * <p>This method is also used by {@link DerValidator}. The check of the length-field in {@link
+   * #validate()} is covered there by the general check for minimal length-fields.
+   *
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(final int length) {
+    return (1 == length) ? null : "length of value-field unequal to 1"; // NOPMD literal
   } // end method */
 
   /**
@@ -20,6 +20,7 @@
 package de.gematik.smartcards.tlv;
 
 import de.gematik.smartcards.utils.Hex;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
@@ -27,8 +28,11 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -93,14 +97,26 @@ public final class DerDate extends PrimitiveSpecific<LocalDate> {
    */
   /* package */ static final Charset CHARSET = StandardCharsets.UTF_8; // */
 
+  /**
+   * Placeholder for the decoded value in case the value-field has a wrong format.
+   *
+   * <p><i><b>Note:</b> Intentionally, this is a distinct instance, such that it is detectable by an
+   * identity check.</i>
+   */
+  private static final LocalDate WRONG_FORMAT = LocalDate.of(1970, 1, 1); // */
+
   /**
    * De-coded value of value-field.
    *
-   * <p>Similar classes use lazy initialization for {@link DerDate#DerDate(InputStream)}.
-   * Intentionally no lazy initialization occurs here, because the value extracted from an {@link
-   * InputStream} is immediately checked.
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>{@link #WRONG_FORMAT} in case the value-field has a wrong format.</i>
+   * </ol>
    */
-  /* package */ final LocalDate insDecoded; // */
+  private volatile @Nullable LocalDate insDecoded; // NOPMD volatile not recommended */
 
   /**
    * Comfort constructor using value.
@@ -140,19 +156,7 @@ public final class DerDate extends PrimitiveSpecific<LocalDate> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerDate(final ByteBuffer buffer) {
-    super(TAG_FIELD, buffer);
-
-    // --- set instance attribute
-    LocalDate date; // NOPMD could be final (false positive)
-    try {
-      date = LocalDate.parse(new String(insValueField, CHARSET), FORMATTER);
-    } catch (DateTimeParseException e) {
-      // ... invalid format
-      insFindings.add("wrong format");
-      date = LocalDate.now(); // will never be used, because of findings
-    } // end Catch (...)
-
-    insDecoded = date;
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -174,18 +178,6 @@ public final class DerDate extends PrimitiveSpecific<LocalDate> {
    */
   /* package */ DerDate(final InputStream inputStream) throws IOException {
     super(TAG_FIELD, inputStream);
-
-    // --- set instance attribute
-    LocalDate date; // NOPMD could be final (false positive)
-    try {
-      date = LocalDate.parse(new String(insValueField, CHARSET), FORMATTER);
-    } catch (DateTimeParseException e) {
-      // ... invalid format
-      insFindings.add("wrong format");
-      date = LocalDate.now(); // will never be used, because of findings
-    } // end Catch (...)
-
-    insDecoded = date;
   } // end constructor */
 
   /**
@@ -226,6 +218,109 @@ public final class DerDate extends PrimitiveSpecific<LocalDate> {
    */
   @Override
   public LocalDate getDecoded() {
-    return insDecoded; // EI_EXPOSE_REP
+    // Note 1: Because object content is immutable, it is possible to use
+    //         Racy-Single-Check-Idiom hereafter which gives good performance.
+
+    LocalDate result = insDecoded; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously, attribute insDecoded has never been calculated (lazy initialization)
+      //     => do so now
+      result = parse(insValueField);
+
+      if (null == result) {
+        // ... not covered by fast path
+        //     => use formatter
+        try {
+          result = LocalDate.parse(new String(insValueField, CHARSET), FORMATTER);
+        } catch (DateTimeParseException e) {
+          // ... invalid format
+          result = WRONG_FORMAT;
+        } // end Catch (...)
+      } // end fi
+
+      insDecoded = result; // store insDecoded into thread local memory
+    } // end fi
+
+    return result; // EI_EXPOSE_REP
+  } // end method */
+
+  /**
+   * Convert given octet string to {@link LocalDate} without intermediate objects.
+   *
+   * <p>This is a fast path for value-fields consisting of exactly eight ASCII digits {@code
+   * YYYYMMDD} representing a valid date. For all other octet strings this method returns {@code
+   * null}. Then {@link #FORMATTER} is responsible for the conversion, which e.g. also accepts a
+   * trailing offset.
+   *
+   * <p><i><b>Note:</b> For each octet string where this method returns a non-null value, {@link
+   * #FORMATTER} returns an equal value.</i>
+   *
+   * @param octets to be converted
+   * @return corresponding {@link LocalDate} or {@code null} if the octet string is not covered by
+   *     this fast path
+   */
+  @VisibleForTesting
+  /* package */ static @Nullable LocalDate parse(final byte[] octets) {
+    if (8 != octets.length) { // NOPMD literal in if statement
+      return null;
+    } // end fi
+
+    final int century = DerUtcTime.twoDigits(octets, 0);
+    final int yearOfCentury = DerUtcTime.twoDigits(octets, 2);
+    final int month = DerUtcTime.twoDigits(octets, 4);
+    final int day = DerUtcTime.twoDigits(octets, 6);
+
+    if ((century < 0) || (yearOfCentury < 0) || (month < 1) || (month > 12) || (day < 1)) {
+      return null;
+    } // end fi
+
+    final int year = 100 * century + yearOfCentury;
+
+    return (day > Month.of(month).length(Year.isLeap(year)))
+        ? null
+        : LocalDate.of(year, month, day);
+  } // end method */
+
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    // Note 1: Intentionally, identity is checked here, because the decoded
+    //         value is WRONG_FORMAT only if decoding failed.
+    return (WRONG_FORMAT == getDecoded()) ? List.of("wrong format") : List.of(); // NOPMD ==
+  } // end method */
+
+  /**
+   * Checks the value-field of a DATE.
+   *
+   * <p>This method is also used by {@link DerValidator}. The value-field is in accordance to its
+   * specification, if either {@link #parse(byte[])} or {@link #FORMATTER} is able to decode it.
+   * Thus, the value-field is copied.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] valueField = new byte[length];
+    buffer.get(offset, valueField);
+
+    if (null == parse(valueField)) {
+      // ... not covered by fast path
+      //     => use formatter
+      try {
+        LocalDate.parse(new String(valueField, CHARSET), FORMATTER);
+      } catch (DateTimeParseException e) {
+        return "wrong format";
+      } // end Catch (...)
+    } // end fi
+
+    return null;
   } // end method */
 } // end class
@@ -23,7 +23,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -62,6 +64,16 @@ public final class DerIa5String extends DerRestrictedCharacterStringTypes {
   /** List with Unicode code points. */
   /* package */ static final List<Integer> UNICODE = new ArrayList<>();
 
+  /** Mapping from octet-value to Unicode character, precomputed from {@link #UNICODE}. */
+  private static final char[] FROM_IA5 = new char[256]; // */
+
+  /**
+   * Mapping from Unicode code point in range [0, 255] to octet-value.
+   *
+   * <p>An element with value -1 indicates a code point which has no encoding.
+   */
+  private static final int[] TO_IA5 = new int[256]; // */
+
   /*
    * Fill arrays with code points.
    */
@@ -93,6 +105,20 @@ public final class DerIa5String extends DerRestrictedCharacterStringTypes {
                     UNICODE.add(codePoint);
               } // end Switch (codePoint)
             }); // end forEach(codePoint -> ...)
+
+    // --- fill tables from lists
+    Arrays.fill(TO_IA5, -1);
+    for (int ia5 = 0; ia5 < IA5.size(); ia5++) {
+      final int unicode = UNICODE.get(ia5);
+
+      FROM_IA5[ia5] = (char) unicode;
+
+      if (TO_IA5[unicode] < 0) {
+        // ... first occurrence of unicode
+        //     => use it, this is the same as UNICODE.indexOf(unicode)
+        TO_IA5[unicode] = ia5;
+      } // end fi
+    } // end For (ia5...)
   } // end static */
 
   /**
@@ -129,7 +155,7 @@ public final class DerIa5String extends DerRestrictedCharacterStringTypes {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerIa5String(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -156,24 +182,32 @@ public final class DerIa5String extends DerRestrictedCharacterStringTypes {
   /**
    * Converts given {@code byte[]} into corresponding {@link String}.
    *
+   * <p>If {@code octets} contain no character which differs between DIN 66003 and ISO-8859-1 (which
+   * is the typical case), then {@code octets} are converted without a per-character mapping.
+   *
    * @param octets to be converted
    * @return corresponding {@link String}
    */
   /* package */
   @Override
   String fromBytes(final byte[] octets) {
-    final StringBuilder result = new StringBuilder();
-    final ByteBuffer buffer = ByteBuffer.wrap(octets);
+    for (final byte octet : octets) {
+      final int ia5 = octet & 0xff;
 
-    while (buffer.hasRemaining()) {
-      final int ia5 = buffer.get() & 0xff;
-      final int index = IA5.indexOf(ia5);
-      final int unicode = UNICODE.get(index);
+      if (FROM_IA5[ia5] != ia5) {
+        // ... character differs from ISO-8859-1
+        //     => map all octets
+        final char[] result = new char[octets.length];
+        for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
+          result[i] = FROM_IA5[octets[i] & 0xff];
+        } // end For (i...)
 
-      result.appendCodePoint(unicode);
-    } // end While (not all bytes read)
+        return String.valueOf(result);
+      } // end fi
+    } // end For (octet...)
+    // ... all characters are identical in ISO-8859-1 and DIN 66003
 
-    return result.toString();
+    return new String(octets, StandardCharsets.ISO_8859_1);
   } // end method */
 
   /**
@@ -229,16 +263,17 @@ public final class DerIa5String extends DerRestrictedCharacterStringTypes {
   static byte[] toBytes(final String value) {
     final byte[] result = new byte[value.length()];
 
-    try {
-      for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
-        final int codePoint = value.codePointAt(i);
-        final int index = UNICODE.indexOf(codePoint);
-        final int ia5 = IA5.get(index);
-        result[i] = (byte) ia5;
-      } // end For (i...)
-    } catch (IndexOutOfBoundsException e) {
-      throw new IllegalArgumentException(MESSAGE, e);
-    } // end Catch (...)
+    for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
+      final char character = value.charAt(i);
+      final int ia5 = (character < TO_IA5.length) ? TO_IA5[character] : -1;
+
+      if (ia5 < 0) {
+        // ... character has no encoding
+        throw new IllegalArgumentException(MESSAGE);
+      } // end fi
+
+      result[i] = (byte) ia5;
+    } // end For (i...)
 
     return result;
   } // end method */
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.List;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -103,9 +104,7 @@ public final class DerInteger extends PrimitiveSpecific<BigInteger> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerInteger(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
-
-    check();
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -127,23 +126,51 @@ public final class DerInteger extends PrimitiveSpecific<BigInteger> {
    */
   /* package */ DerInteger(final InputStream inputStream) throws IOException {
     super(new byte[] {(byte) TAG}, inputStream);
-
-    check();
   } // end constructor */
 
-  private void check() {
-    if (0 == insValueField.length) {
-      insFindings.add("value-field absent");
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    final String finding = check(ByteBuffer.wrap(insValueField), 0, insValueField.length);
+
+    return (null == finding) ? List.of() : List.of(finding);
+  } // end method */
+
+  /**
+   * Checks the value-field of an INTEGER.
+   *
+   * <p>This method contains the rules of {@link #validate()}, it is also used by {@link
+   * DerValidator}. The value-field is read with absolute get-methods.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    if (0 == length) {
+      return "value-field absent";
     } // end fi
 
-    if ((insValueField.length > 1)
-        && (((-1 == insValueField[0]) && (0x80 == (insValueField[1] & 0x80))) // 9x '1'
-            || ((0 == insValueField[0]) && (0x00 == (insValueField[1] & 0x80))) // 9x '0'
-        )) {
-      // ... more than one octet in value-field   AND  9 MSBit are all equal
-      insFindings.add(EM_9);
+    if (length > 1) {
+      final byte msByte = buffer.get(offset);
+      final int msBit = buffer.get(offset + 1) & 0x80;
+
+      if (((-1 == msByte) && (0x80 == msBit)) // 9x '1'
+          || ((0 == msByte) && (0x00 == msBit))) { // 9x '0'
+        // ... more than one octet in value-field   AND  9 MSBit are all equal
+        return EM_9;
+      } // end fi
     } // end fi
     // ... correct value-field
+
+    return null;
   } // end method */
 
   /**
@@ -20,10 +20,12 @@
 package de.gematik.smartcards.tlv;
 
 import de.gematik.smartcards.utils.AfiUtils;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Class representing a TLV object of universal class with tag-number 5, i.e. Null-type.
@@ -93,9 +95,7 @@ public final class DerNull extends PrimitiveSpecific<String> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   private DerNull(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
-
-    check();
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -117,28 +117,46 @@ public final class DerNull extends PrimitiveSpecific<String> {
    */
   private DerNull(final InputStream inputStream) throws IOException {
     super(new byte[] {(byte) TAG}, inputStream);
-
-    check();
   } // end constructor */
 
   /**
-   * Check instance attributes.
+   * Checks whether this TLV-object is in accordance to its specification.
    *
-   * <p>Here a finding is added in case
+   * <p>Here a finding is reported in case
    *
    * <ol>
    *   <li>the value-field is present or
    *   <li>the length-field contains more than one octet
    * </ol>
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
    */
-  private void check() {
-    if (0 != getLengthOfValueField()) { // NOPMD literal in if statement
+  @Override
+  protected List<String> validate() {
+    final String finding = check(insValueField.length);
+
+    if (null != finding) {
       // ... length of value-field not 0
-      insFindings.add("value-field present");
+      return List.of(finding);
     } else if (1 != insLengthOfLengthFieldFromStream) { // NOPMD literal in conditional stat.
       // ... value-field absent  AND  length of length-field not 1
-      insFindings.add("original length-field unequal to '00'");
+      return List.of("original length-field unequal to '00'");
     } // end fi
+
+    return List.of();
+  } // end method */
+
+  /**
+   * Checks the length of the value-field of a NULL.
+   *
+   * <p>This method is also used by {@link DerValidator}.
+   *
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is absent
+   */
+  /* package */ static @Nullable String check(final int length) {
+    return (0 == length) ? null : "value-field present";
   } // end method */
 
   /**
@@ -147,7 +165,7 @@ public final class DerNull extends PrimitiveSpecific<String> {
    * @param result being checked
    */
   private static DerNull checkInstance(final DerNull result) {
-    if (result.insFindings.isEmpty()) {
+    if (result.isValid()) {
       return NULL;
     } // end fi
     // ... findings present
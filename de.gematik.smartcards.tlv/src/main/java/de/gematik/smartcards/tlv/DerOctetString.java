@@ -89,7 +89,7 @@ public final class DerOctetString extends PrimitiveSpecific<byte[]> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerOctetString(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -186,4 +186,25 @@ public final class DerOctetString extends PrimitiveSpecific<byte[]> {
 
     return result.toString();
   } // end method */
+
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * <p>In addition to the output of the superclass the decoded value is shown as nested
+   * TLV-objects, if possible and allowed by {@code options}.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation depth of this TLV-object, i.e., how often the indentation is used before
+   *     printing the tag
+   * @throws IOException if {@code out} does so
+   * @see PrimitiveBerTlv#toStringTree(Appendable, TreeFormatOptions, int)
+   */
+  @Override
+  /* package */ void toStringTree(
+      final Appendable out, final TreeFormatOptions options, final int noIndentation)
+      throws IOException {
+    super.toStringTree(out, options, noIndentation);
+    commentDecoded(out, options, noIndentation, getDecoded());
+  } // end method */
 } // end class
@@ -21,10 +21,12 @@ package de.gematik.smartcards.tlv;
 
 import de.gematik.smartcards.utils.AfiOid;
 import de.gematik.smartcards.utils.Hex;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Class representing a TLV object of universal class with tag-number 6, i.e. OBJECT
@@ -65,8 +67,18 @@ public final class DerOid extends PrimitiveSpecific<AfiOid> {
    */
   public static final int TAG = 6; // */
 
-  /** De-coded value of value-field. */
-  /* package */ final AfiOid insDecoded; // */
+  /**
+   * De-coded value of value-field.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>{@link AfiOid#INVALID} in case the value-field does not contain a valid OID.</i>
+   * </ol>
+   */
+  private volatile @Nullable AfiOid insDecoded; // NOPMD volatile not recommended */
 
   /**
    * Comfort constructor using value.
@@ -100,22 +112,12 @@ public final class DerOid extends PrimitiveSpecific<AfiOid> {
    * </ol>
    *
    * @param buffer form which the length- and value-field are read
-   * @throws ArithmeticException if decoded value is not supported by this implementation, see
-   *     {@link AfiOid#AfiOid(byte[])}
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerOid(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
-
-    AfiOid decoded;
-    try {
-      decoded = new AfiOid(insValueField);
-    } catch (ArithmeticException | IllegalArgumentException e) {
-      decoded = AfiOid.INVALID;
-      insFindings.add("invalid OID");
-    } // end Catch (...)
-
-    insDecoded = decoded;
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -137,16 +139,6 @@ public final class DerOid extends PrimitiveSpecific<AfiOid> {
    */
   /* package */ DerOid(final InputStream inputStream) throws IOException {
     super(new byte[] {(byte) TAG}, inputStream);
-
-    AfiOid decoded;
-    try {
-      decoded = new AfiOid(insValueField);
-    } catch (ArithmeticException | IllegalArgumentException e) {
-      decoded = AfiOid.INVALID;
-      insFindings.add("invalid OID");
-    } // end Catch (...)
-
-    insDecoded = decoded;
   } // end constructor */
 
   /**
@@ -157,8 +149,9 @@ public final class DerOid extends PrimitiveSpecific<AfiOid> {
    */
   @Override
   public String getComment() {
-    final String point = insDecoded.getPoint();
-    final String name = insDecoded.getName(); // equal to point if OID is pre-defined in AfiOid
+    final AfiOid decoded = getDecoded();
+    final String point = decoded.getPoint();
+    final String name = decoded.getName(); // equal to point if OID is pre-defined in AfiOid
 
     return DELIMITER
         + "OBJECT IDENTIFIER := "
@@ -182,6 +175,77 @@ public final class DerOid extends PrimitiveSpecific<AfiOid> {
    */
   @Override
   public AfiOid getDecoded() {
-    return insDecoded; // EI_EXPOSE_REP
+    // Note 1: Because object content is immutable, it is possible to use
+    //         Racy-Single-Check-Idiom hereafter which gives good performance.
+
+    AfiOid result = insDecoded; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously, attribute insDecoded has never been calculated (lazy initialization)
+      //     => do so now
+      try {
+        result = new AfiOid(insValueField);
+      } catch (ArithmeticException | IllegalArgumentException e) {
+        result = AfiOid.INVALID;
+      } // end Catch (...)
+
+      insDecoded = result; // store insDecoded into thread local memory
+    } // end fi
+
+    return result; // EI_EXPOSE_REP
+  } // end method */
+
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    if (AfiOid.INVALID != getDecoded()) { // NOPMD compare objects with equals
+      // ... decoding succeeded
+      return List.of();
+    } // end fi
+    // ... either decoding failed or value is AfiOid.INVALID (rare case)
+    //     => check again
+
+    final String finding = check(insValueField);
+
+    return (null == finding) ? List.of() : List.of(finding);
+  } // end method */
+
+  /**
+   * Checks the value-field of an OBJECT IDENTIFIER.
+   *
+   * <p>This method is also used by {@link DerValidator}. The check relies on {@link
+   * AfiOid#AfiOid(byte[])}, thus, the value-field is copied.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] valueField = new byte[length];
+    buffer.get(offset, valueField);
+
+    return check(valueField);
+  } // end method */
+
+  /**
+   * Checks the value-field of an OBJECT IDENTIFIER.
+   *
+   * @param valueField to be checked
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  private static @Nullable String check(final byte[] valueField) {
+    try {
+      new AfiOid(valueField); // NOPMD unused object
+
+      return null;
+    } catch (ArithmeticException | IllegalArgumentException e) {
+      return "invalid OID";
+    } // end Catch (...)
   } // end method */
 } // end class
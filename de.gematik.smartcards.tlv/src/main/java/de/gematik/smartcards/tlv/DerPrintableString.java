@@ -48,6 +48,26 @@ public final class DerPrintableString extends DerRestrictedCharacterStringTypes
    */
   public static final int TAG = 19; // */
 
+  /**
+   * Valid characters, see <a href="https://www.itu.int/rec/T-REC-X.680-202102-I/en">ISO/IEC
+   * 8824-1:2021</a> clause 41.4, table 10.
+   *
+   * <p>The index is the value of an octet (i.e., in range [0, 255]), the element is {@code TRUE} if
+   * that octet encodes a valid character.
+   */
+  private static final boolean[] PRINTABLE = new boolean[256]; // */
+
+  /*
+   * Fill table with valid characters.
+   */
+  static {
+    for (final char character :
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 '()+,-./:=?"
+            .toCharArray()) {
+      PRINTABLE[character] = true;
+    } // end For (character...)
+  } // end static */
+
   /**
    * Comfort constructor using value.
    *
@@ -82,7 +102,7 @@ public final class DerPrintableString extends DerRestrictedCharacterStringTypes
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerPrintableString(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -118,7 +138,7 @@ public final class DerPrintableString extends DerRestrictedCharacterStringTypes
   @Override
   String fromBytes(final byte[] octets) {
     // see ISO/IEC 8824-1:2021 clause 41.4
-    return new String(insValueField, StandardCharsets.US_ASCII);
+    return new String(octets, StandardCharsets.US_ASCII);
   } // end method */
 
   /**
@@ -141,38 +161,35 @@ public final class DerPrintableString extends DerRestrictedCharacterStringTypes
    * href="https://www.itu.int/rec/T-REC-X.680-202102-I/en">ISO/IEC 8824-1:2021</a> clause 41.4,
    * table 10.
    *
+   * <p>The check operates on the value-field, i.e., the value-field is not converted to a {@link
+   * String}.
+   *
    * @return {@code TRUE} if value-field contains invalid characters, {@code FALSE} otherwise
    */
   @Override
   /* package */ boolean invalidCharacters() {
-    // spotless:off
-    return insDecoded
-        .chars()
-        .anyMatch(
-            character -> {
-              final var upperCase = ('A' <= character) && (character <= 'Z');
-              final var lowerCase = upperCase || ('a' <= character) && (character <= 'z');
-              final var digits = lowerCase || ('0' <= character) && (character <= '9');
-              final var special = digits || switch (character) {
-                case ' ',   // SPACE
-                     '\'',  // APOSTROPHE
-                     '(',   // LEFT PARENTHESIS
-                     ')',   // RIGHT PARENTHESIS
-                     '+',   // PLUS SIGN
-                     ',',   // COMMA
-                     '-',   // HYPHEN-MINUS
-                     '.',   // FULL-STOP
-                     '/',   // SOLIDUS
-                     ':',   // COLON
-                     '=',   // EQUALS SIGN
-                     '?' -> // QUESTION MARK
-                    true;
-                default -> false;
-              };
-
-              return !special;
-            });
-    // spotless:on
+    return invalidCharacters(ByteBuffer.wrap(insValueField), 0, insValueField.length);
+  } // end method */
+
+  /**
+   * Checks whether a value-field contains characters invalid for PrintableString.
+   *
+   * <p>This method is also used by {@link DerValidator}.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return {@code TRUE} if value-field contains invalid characters, {@code FALSE} otherwise
+   */
+  /* package */ static boolean invalidCharacters(
+      final ByteBuffer buffer, final int offset, final int length) {
+    for (int index = offset + length; index-- > offset; ) { // NOPMD assignment in operand
+      if (!PRINTABLE[buffer.get(index) & 0xff]) {
+        return true;
+      } // end fi
+    } // end For (index...)
+
+    return false;
   } // end method */
 
   /**
@@ -180,12 +197,29 @@ public final class DerPrintableString extends DerRestrictedCharacterStringTypes
    *
    * <p>This is the inverse function to {@link #fromBytes(byte[])}.
    *
+   * <p><i><b>Note:</b> Characters from US-ASCII are encoded even if they are not valid for a
+   * PrintableString, see {@link #invalidCharacters()}.</i>
+   *
    * @param value {@link String} to be converted
    * @return appropriate octet-string
+   * @throws IllegalArgumentException if {@code value} contains characters not in US-ASCII
    */
   /* package */
   static byte[] toBytes(final String value) {
     // see ISO/IEC 8824-1:2021 clause 41.4
-    return value.getBytes(StandardCharsets.US_ASCII);
+    final byte[] result = new byte[value.length()];
+
+    for (int i = result.length; i-- > 0; ) { // NOPMD assignment in operand
+      final char character = value.charAt(i);
+
+      if (character > 0x7f) { // NOPMD literals in a conditional statement
+        // ... character not in US-ASCII, thus not encodable
+        throw new IllegalArgumentException(MESSAGE);
+      } // end fi
+
+      result[i] = (byte) character;
+    } // end For (i...)
+
+    return result;
   } // end method */
 } // end class
@@ -19,10 +19,12 @@
  */
 package de.gematik.smartcards.tlv;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Superclass for restricted character string types.
@@ -62,11 +64,14 @@ public abstract class DerRestrictedCharacterStringTypes extends PrimitiveSpecifi
   /**
    * De-coded value of value-field.
    *
-   * <p>Similar classes use lazy initialization for this attribute. Intentionally no lazy
-   * initialization occurs here, because the value extracted from an {@link InputStream} is
-   * immediately checked.
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   * </ol>
    */
-  /* package */ final String insDecoded; // */
+  private volatile @Nullable String insDecoded; // NOPMD volatile not recommended */
 
   /**
    * Comfort constructor using value.
@@ -114,16 +119,23 @@ public abstract class DerRestrictedCharacterStringTypes extends PrimitiveSpecifi
    *     Long#MAX_VALUE}
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
-  /* package */
-  @SuppressWarnings({"PMD.ConstructorCallsOverridableMethod"})
-  DerRestrictedCharacterStringTypes(final byte[] tag, final ByteBuffer buffer) {
+  /* package */ DerRestrictedCharacterStringTypes(final byte[] tag, final ByteBuffer buffer) {
     // CT_CONSTRUCTOR_THROW
     super(tag, buffer);
+  } // end constructor */
 
-    // --- set instance attribute
-    insDecoded = fromBytes(insValueField); // NOPMD MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR
-
-    check();
+  /**
+   * Constructor reading length- and value-field from an {@link ByteBuffer}.
+   *
+   * @param tag integer representation of tag
+   * @param buffer form which the length- and value-field are read
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws BufferUnderflowException if the length-field or the value-field ends early
+   */
+  /* package */ DerRestrictedCharacterStringTypes(final long tag, final ByteBuffer buffer) {
+    // CT_CONSTRUCTOR_THROW
+    super(tag, buffer);
   } // end constructor */
 
   /**
@@ -144,26 +156,12 @@ public abstract class DerRestrictedCharacterStringTypes extends PrimitiveSpecifi
    *     Long#MAX_VALUE}
    * @throws IOException if underlying methods do so
    */
-  /* package */
-  @SuppressWarnings({"PMD.ConstructorCallsOverridableMethod"})
-  DerRestrictedCharacterStringTypes(final byte[] tag, final InputStream inputStream)
+  /* package */ DerRestrictedCharacterStringTypes(final byte[] tag, final InputStream inputStream)
       throws IOException {
     // CT_CONSTRUCTOR_THROW
     super(tag, inputStream);
-
-    // --- set instance attribute
-    insDecoded = fromBytes(insValueField); // NOPMD MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR
-
-    check();
   } // end constructor */
 
-  private void check() {
-    if (invalidCharacters()) {
-      // ... invalid characters in value-field
-      insFindings.add(MESSAGE);
-    } // end fi
-  } // end method */
-
   /**
    * Converts given {@code byte[]} into corresponding {@link String}.
    *
@@ -204,7 +202,19 @@ public abstract class DerRestrictedCharacterStringTypes extends PrimitiveSpecifi
    */
   @Override
   public final String getDecoded() {
-    return insDecoded;
+    // Note 1: Because object content is immutable, it is possible to use
+    //         Racy-Single-Check-Idiom hereafter which gives good performance.
+
+    String result = insDecoded; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously, attribute insDecoded has never been calculated (lazy initialization)
+      //     => do so now
+      result = fromBytes(insValueField);
+
+      insDecoded = result; // store insDecoded into thread local memory
+    } // end fi
+
+    return result;
   } // end method */
 
   /**
@@ -215,6 +225,17 @@ public abstract class DerRestrictedCharacterStringTypes extends PrimitiveSpecifi
   /* package */
   abstract boolean invalidCharacters(); // */
 
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected final List<String> validate() {
+    return invalidCharacters() ? List.of(MESSAGE) : List.of();
+  } // end method */
+
   /**
    * Converts given {@link String} to appropriate {@code byte[]}.
    *
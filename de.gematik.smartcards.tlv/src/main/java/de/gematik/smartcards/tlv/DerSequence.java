@@ -19,11 +19,11 @@
  */
 package de.gematik.smartcards.tlv;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -70,6 +70,18 @@ public final class DerSequence extends ConstructedBerTlv implements DerSpecific
     super(TAG, value);
   } // end constructor */
 
+  /**
+   * Constructor with precalculated length of value-field, see {@link
+   * ConstructedBerTlv#ConstructedBerTlv(long, List, long)}.
+   *
+   * @param value unmodifiable list with the TLV-objects of the value-field
+   * @param lengthOfValueField sum of {@link BerTlv#getLengthOfTlvObject()} over all elements in
+   *     {@code value}
+   */
+  /* package */ DerSequence(final List<BerTlv> value, final long lengthOfValueField) {
+    super(TAG, value, lengthOfValueField);
+  } // end constructor */
+
   /**
    * Constructor reading length- and value-field from {@link ByteBuffer}.
    *
@@ -88,7 +100,22 @@ public final class DerSequence extends ConstructedBerTlv implements DerSpecific
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerSequence(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    this(buffer, null);
+  } // end constructor */
+
+  /**
+   * Constructor reading length- and value-field from {@link ByteBuffer}, possibly in parallel.
+   *
+   * @param buffer form which the length- and value-field are read
+   * @param decoder for decoding the value-field in parallel, {@code null} for sequential decoding
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws BufferUnderflowException if the length-field or the value-field ends early
+   * @see ConstructedBerTlv#ConstructedBerTlv(long, ByteBuffer, ParallelBerTlvDecoder)
+   */
+  /* package */ DerSequence(
+      final ByteBuffer buffer, final @Nullable ParallelBerTlvDecoder decoder) {
+    super(TAG, buffer, decoder);
   } // end constructor */
 
   /**
@@ -132,12 +159,60 @@ public final class DerSequence extends ConstructedBerTlv implements DerSpecific
    */
   @Override
   public DerSequence add(final BerTlv tlv) {
-    final List<BerTlv> valueField = new ArrayList<>(insValueField);
-    valueField.add(tlv);
-
-    return new DerSequence(valueField);
+    return new Builder().addAll(insValueField).add(tlv).build();
   } // end method */
 
+  /**
+   * Builder for {@link DerSequence}.
+   *
+   * <p>For details see {@link ConstructedBerTlv.Builder}.
+   */
+  public static final class Builder extends ConstructedBerTlv.Builder {
+
+    /** Default constructor. */
+    public Builder() {
+      super(TAG);
+    } // end constructor */
+
+    /**
+     * Appends given TLV-object at the end of the value-field.
+     *
+     * @param tlv object to be appended at the end of the value-field
+     * @return this builder
+     * @throws ArithmeticException if value-field contains more than {@link Long#MAX_VALUE} octet
+     */
+    @Override
+    public Builder add(final BerTlv tlv) {
+      super.add(tlv);
+
+      return this;
+    } // end method */
+
+    /**
+     * Appends given TLV-objects at the end of the value-field.
+     *
+     * @param tlvs objects to be appended at the end of the value-field
+     * @return this builder
+     * @throws ArithmeticException if value-field contains more than {@link Long#MAX_VALUE} octet
+     */
+    @Override
+    public Builder addAll(final Collection<? extends BerTlv> tlvs) {
+      super.addAll(tlvs);
+
+      return this;
+    } // end method */
+
+    /**
+     * Creates an immutable {@link DerSequence} from the TLV-objects collected so far.
+     *
+     * @return SEQUENCE with the TLV-objects collected so far in its value-field
+     */
+    @Override
+    public DerSequence build() {
+      return new DerSequence(List.copyOf(insValueField), insLengthOfValueField);
+    } // end method */
+  } // end inner class
+
   /**
    * Returns a comment describing the content of the object.
    *
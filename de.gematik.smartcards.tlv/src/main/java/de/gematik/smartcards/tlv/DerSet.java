@@ -19,6 +19,7 @@
  */
 package de.gematik.smartcards.tlv;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
@@ -52,6 +53,12 @@ public final class DerSet extends ConstructedBerTlv implements DerSpecific {
    */
   public static final int TAG = 0x31; // */
 
+  /** Finding in case tags are not sorted. */
+  /* package */ static final String EM_SORTED = "tags not correctly sorted"; // */
+
+  /** Finding in case tags are not mutual exclusive. */
+  /* package */ static final String EM_EXCLUSIVE = "tags not mutual exclusive"; // */
+
   /** Findings in case TLV-object is not in accordance to its specification. */
   /* package */ final List<String> insFindings = new ArrayList<>(); // */
 
@@ -101,7 +108,21 @@ public final class DerSet extends ConstructedBerTlv implements DerSpecific {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerSet(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    this(buffer, null);
+  } // end constructor */
+
+  /**
+   * Constructor reading length- and value-field from {@link ByteBuffer}, possibly in parallel.
+   *
+   * @param buffer form which the length- and value-field are read
+   * @param decoder for decoding the value-field in parallel, {@code null} for sequential decoding
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Long#MAX_VALUE}
+   * @throws BufferUnderflowException if the length-field or the value-field ends early
+   * @see ConstructedBerTlv#ConstructedBerTlv(long, ByteBuffer, ParallelBerTlvDecoder)
+   */
+  /* package */ DerSet(final ByteBuffer buffer, final @Nullable ParallelBerTlvDecoder decoder) {
+    super(TAG, buffer, decoder);
 
     check();
   } // end constructor */
@@ -138,14 +159,122 @@ public final class DerSet extends ConstructedBerTlv implements DerSpecific {
 
     if (sorted.size() == getTemplate().size()) {
       if (!sorted.equals(getTemplate())) {
-        insFindings.add("tags not correctly sorted");
+        insFindings.add(EM_SORTED);
       } // end fi
     } else {
       // ... tags not mutual exclusive
-      insFindings.add("tags not mutual exclusive");
+      insFindings.add(EM_EXCLUSIVE);
     } // end else
   } // end method */
 
+  /**
+   * Checks the order of tags in an encoded value-field.
+   *
+   * <p>This is the counterpart of {@link #check()} used by {@link DerValidator}, i.e., the same
+   * findings are detected without constructing TLV-objects. In a first pass it is checked whether
+   * the tags are strictly increasing in accordance to {@link #sort(Collection)}. Only if not, a
+   * second pass with quadratic effort distinguishes between unsorted and duplicate tags.
+   *
+   * <p>The buffer's {@code position} is not changed.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field, end-of-contents excluded
+   * @return finding, or {@code null} if the tags are sorted and mutual exclusive
+   * @throws IllegalArgumentException if the value-field is not in accordance to ISO/IEC 8825-1:2021
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final int end = offset + length;
+    final int position = buffer.position();
+
+    try {
+      buffer.position(offset);
+      boolean isSorted = true;
+      boolean isFirst = true;
+      long previous = 0;
+      while (buffer.position() < end) {
+        final long tag = nextTag(buffer);
+
+        if (isFirst) {
+          isFirst = false;
+        } else {
+          final int comparison = compareTags(previous, tag);
+
+          if (0 == comparison) {
+            return EM_EXCLUSIVE;
+          } // end fi
+
+          isSorted &= comparison < 0;
+        } // end else
+
+        previous = tag;
+      } // end While (...)
+
+      if (isSorted) {
+        return null;
+      } // end fi
+
+      // --- search for duplicates
+      buffer.position(offset);
+      while (buffer.position() < end) {
+        final long tag = nextTag(buffer);
+        final int next = buffer.position();
+
+        while (buffer.position() < end) {
+          if (tag == nextTag(buffer)) {
+            return EM_EXCLUSIVE;
+          } // end fi
+        } // end While (...)
+
+        buffer.position(next);
+      } // end While (...)
+
+      return EM_SORTED;
+    } finally {
+      buffer.position(position);
+    } // end finally
+  } // end method */
+
+  /**
+   * Compares two tags in accordance to {@link #sort(Collection)}.
+   *
+   * @param tag1 first tag
+   * @param tag2 second tag
+   * @return negative, zero or positive if {@code tag1} is less than, equal to or greater than
+   *     {@code tag2}
+   */
+  private static int compareTags(final long tag1, final long tag2) {
+    final int result = Integer.compare(classOfTag(tag1), classOfTag(tag2));
+
+    return (0 == result) ? Long.compare(tag1, tag2) : result;
+  } // end method */
+
+  /**
+   * Returns bits b8 and b7 of the leading octet of a tag.
+   *
+   * @param tag integer representation
+   * @return class of {@code tag}, ordered like {@link ClassOfTag#values()}
+   */
+  private static int classOfTag(final long tag) {
+    return (int) (tag >>> ((calculateLengthOfTagField(tag) - 1) << 3)) & 0xc0;
+  } // end method */
+
+  /**
+   * Reads the tag of the next TLV-object and skips that TLV-object.
+   *
+   * @param buffer with a TLV-object at its current position
+   * @return tag of the TLV-object
+   */
+  private static long nextTag(final ByteBuffer buffer) {
+    final int start = buffer.position();
+    final long tag = decodeTag(buffer);
+    buffer.position(start);
+    TlvExtractor.skip(buffer);
+
+    return tag;
+  } // end method */
+
   /**
    * Sorts the elements in given {@link Collection} in accordance to <a
    * href="https://www.itu.int/rec/T-REC-X.690-202102-I/en">ISO/IEC 8825-1:2021</a> clause 10.3.
@@ -19,12 +19,14 @@
  */
 package de.gematik.smartcards.tlv;
 
-import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
@@ -172,6 +174,39 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
   /** List with Unicode code points. */
   /* package */ static final List<Integer> UNICODE = new ArrayList<>();
 
+  /**
+   * Value in {@link #FROM_T61}, {@link #FROM_T61_DIACRITIC} and {@link #TO_T61} indicating an
+   * invalid character.
+   */
+  private static final int INVALID = -1; // */
+
+  /** Value in {@link #FROM_T61} indicating the first octet of a two-octet code point. */
+  private static final int DIACRITIC = -2; // */
+
+  /**
+   * Mapping from single-octet T.61 code points to Unicode code points.
+   *
+   * <p>The index is the value of an octet. Octets in range ['c0', 'cf'] are mapped to {@link
+   * #DIACRITIC}, octets without a character are mapped to {@link #INVALID}.
+   */
+  private static final int[] FROM_T61 = new int[256]; // */
+
+  /**
+   * Mapping from two-octet T.61 code points to Unicode code points.
+   *
+   * <p>The index is {@code ((firstOctet & 0xf) << 8) | secondOctet}, code points without a
+   * character are mapped to {@link #INVALID}.
+   */
+  private static final int[] FROM_T61_DIACRITIC = new int[16 << 8]; // */
+
+  /**
+   * Mapping from Unicode code points to T.61 code points, precomputed from {@link #UNICODE}.
+   *
+   * <p>The index is a Unicode code point, code points without a T.61 character are mapped to {@link
+   * #INVALID}. The length is one more than the largest Unicode code point in {@link #UNICODE}.
+   */
+  private static final int[] TO_T61; // */
+
   /*
    * Fill arrays with code points.
    */
@@ -256,6 +291,29 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
                 UNICODE.add(unicode[i]);
               } // end For (i...)
             });
+
+    // --- fill tables from lists
+    Arrays.fill(FROM_T61, INVALID);
+    Arrays.fill(FROM_T61, 0xc0, 0xd0, DIACRITIC);
+    Arrays.fill(FROM_T61_DIACRITIC, INVALID);
+    final int[] toT61 = new int[UNICODE.stream().mapToInt(Integer::intValue).max().orElse(0) + 1];
+    Arrays.fill(toT61, INVALID);
+    for (int index = 0; index < T61.size(); index++) {
+      final int t61 = T61.get(index);
+      final int unicode = UNICODE.get(index);
+
+      if (t61 > 0xff) { // NOPMD literals in a conditional statement
+        FROM_T61_DIACRITIC[t61 & 0xfff] = unicode;
+      } else {
+        FROM_T61[t61] = unicode;
+      } // end else
+
+      // Note: The first occurrence wins, this is the same as UNICODE.indexOf(unicode).
+      if (INVALID == toT61[unicode]) {
+        toT61[unicode] = t61;
+      } // end fi
+    } // end For (index...)
+    TO_T61 = toT61;
   } // end static */
 
   /**
@@ -292,7 +350,7 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerTeletexString(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -319,48 +377,62 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
   /**
    * Converts given {@code byte[]} into corresponding {@link String}.
    *
+   * <p>If {@code octets} contain only characters which are identical in T.61 and ISO-8859-1 (which
+   * is the typical case, e.g., for names), then {@code octets} are converted without a
+   * per-character mapping.
+   *
+   * <p>Characters not allowed for a TeletexString are converted to a placeholder. This includes a
+   * first octet of a two-octet code point (i.e. an octet with high nibble 'c') at the end of {@code
+   * octets}. Such a value-field is reported by {@link #invalidCharacters()}.
+   *
    * @param octets to be converted
    * @return corresponding {@link String}
-   * @throws IllegalArgumentException if last octet in {@code octets} has a high nibble with value
-   *     'c'.
    */
   /* package */
   @Override
   String fromBytes(final byte[] octets) {
-    try {
-      final StringBuilder result = new StringBuilder();
-      final ByteBuffer buffer = ByteBuffer.wrap(octets);
-
-      while (buffer.hasRemaining()) {
-        int t61 = buffer.get() & 0xff;
-
-        if ((0xc0 <= t61) && (t61 <= 0xcf)) {
-          t61 = (t61 << 8) + (buffer.get() & 0xff);
-        } // end fi
-
-        final int index = T61.indexOf(t61);
-
-        // --- convert to Unicode code point
-        // Note: Invalid characters are substituted by • = bullet point.
-        try {
-          final int unicode = UNICODE.get(index);
-
-          result.appendCodePoint(unicode);
-        } catch (IndexOutOfBoundsException ei) {
-          // Note 1: The following "placeHolder" = '•' = 0x2022 is used for
-          //         characters not allowed for a TeletexString. '•' works at
-          //         least in the following environments:
-          //         - IntelliJ-Run window (but IntelliJ-Terminal shows a different glyph)
-          //         - bash console
-          //         - text-files opened with Notepad
-          result.append('•');
-        } // end Catch (...)
-      } // end While (not all bytes read)
-
-      return result.toString();
-    } catch (BufferUnderflowException e) {
-      throw new IllegalArgumentException(MESSAGE, e);
-    } // end Catch (...)
+    // --- fast path: check whether all characters are identical in T.61 and ISO-8859-1
+    int index = 0;
+    while ((index < octets.length) && (FROM_T61[octets[index] & 0xff] == (octets[index] & 0xff))) {
+      index++;
+    } // end While (...)
+
+    if (octets.length == index) {
+      // ... all characters are identical in T.61 and ISO-8859-1
+      return new String(octets, StandardCharsets.ISO_8859_1);
+    } // end fi
+
+    // --- slow path: map remaining characters
+    final StringBuilder result = new StringBuilder(octets.length);
+    result.append(new String(octets, 0, index, StandardCharsets.ISO_8859_1));
+
+    while (index < octets.length) {
+      int unicode = FROM_T61[octets[index++] & 0xff];
+
+      if (DIACRITIC == unicode) {
+        // ... first octet of a two-octet code point
+        //     => a diacritic at the end of octets is an invalid character
+        unicode =
+            (octets.length == index)
+                ? INVALID
+                : FROM_T61_DIACRITIC[((octets[index - 1] & 0xf) << 8) | (octets[index++] & 0xff)];
+      } // end fi
+
+      // --- convert to Unicode code point
+      if (INVALID == unicode) {
+        // Note 1: The following "placeHolder" = '•' = 0x2022 is used for
+        //         characters not allowed for a TeletexString. '•' works at
+        //         least in the following environments:
+        //         - IntelliJ-Run window (but IntelliJ-Terminal shows a different glyph)
+        //         - bash console
+        //         - text-files opened with Notepad
+        result.append('•');
+      } else {
+        result.appendCodePoint(unicode);
+      } // end else
+    } // end While (not all bytes read)
+
+    return result.toString();
   } // end method */
 
   /**
@@ -383,12 +455,50 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
    * href="https://www.itu.int/rec/T-REC-X.680-202102-I/en">ISO/IEC 8824-1:2021</a> clause 41.4,
    * table 10.
    *
+   * <p>The check operates on the value-field, i.e., the value-field is not converted to a {@link
+   * String}. A value-field ending with the first octet of a two-octet code point contains invalid
+   * characters.
+   *
    * @return {@code TRUE} if value-field contains invalid characters, {@code FALSE} otherwise
    */
   /* package */
   @Override
   boolean invalidCharacters() {
-    return insDecoded.codePoints().anyMatch(codePoint -> !UNICODE.contains(codePoint));
+    return invalidCharacters(ByteBuffer.wrap(insValueField), 0, insValueField.length);
+  } // end method */
+
+  /**
+   * Checks whether a value-field contains characters invalid for TeletexString.
+   *
+   * <p>This method is also used by {@link DerValidator}. A value-field ending with the first octet
+   * of a two-octet code point contains invalid characters.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return {@code TRUE} if value-field contains invalid characters, {@code FALSE} otherwise
+   */
+  /* package */ static boolean invalidCharacters(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final int end = offset + length;
+
+    for (int index = offset; index < end; ) {
+      final int octet = buffer.get(index++) & 0xff;
+      int unicode = FROM_T61[octet];
+
+      if (DIACRITIC == unicode) {
+        unicode =
+            (end == index)
+                ? INVALID
+                : FROM_T61_DIACRITIC[((octet & 0xf) << 8) | (buffer.get(index++) & 0xff)];
+      } // end fi
+
+      if (INVALID == unicode) {
+        return true;
+      } // end fi
+    } // end For (index...)
+
+    return false;
   } // end method */
 
   /**
@@ -402,22 +512,23 @@ public final class DerTeletexString extends DerRestrictedCharacterStringTypes {
    */
   /* package */
   static byte[] toBytes(final String value) {
-    final StringBuilder result = new StringBuilder();
+    final ByteArrayOutputStream result = new ByteArrayOutputStream(value.length());
 
     value
         .codePoints()
         .forEach(
             codePoint -> {
-              try {
-                final int index = UNICODE.indexOf(codePoint);
-                final int t61 = T61.get(index);
-
-                result.append(String.format((t61 > 0xff) ? "%04x" : "%02x", t61));
-              } catch (IndexOutOfBoundsException e) {
-                throw new IllegalArgumentException(MESSAGE, e);
-              } // end Catch (...)
+              final int t61 = (codePoint < TO_T61.length) ? TO_T61[codePoint] : INVALID;
+
+              if (INVALID == t61) {
+                throw new IllegalArgumentException(MESSAGE);
+              } else if (t61 > 0xff) { // NOPMD literals in a conditional statement
+                result.write(t61 >> 8);
+              } // end fi
+
+              result.write(t61);
             }); // end forEach(codePoint -> ...)
 
-    return Hex.toByteArray(result.toString());
+    return result.toByteArray();
   } // end method */
 } // end class
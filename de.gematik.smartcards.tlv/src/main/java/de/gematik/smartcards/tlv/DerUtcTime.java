@@ -22,18 +22,24 @@ package de.gematik.smartcards.tlv;
 import static de.gematik.smartcards.tlv.DerUtcTime.UtcTimeFormat.HH_MM_SS_Z;
 import static de.gematik.smartcards.tlv.DerUtcTime.UtcTimeFormat.HH_MM_Z;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import org.jetbrains.annotations.VisibleForTesting;
 
 /**
  * Class representing a TLV object of universal class with tag-number 23, i.e. UTCTime-type.
@@ -73,14 +79,27 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
   /** UTC time zone. */
   /* package */ static final ZoneId UTC_TIME_ZONE = ZoneId.of("Z"); // */
 
+  /**
+   * Placeholder for the decoded value in case the value-field has a wrong format.
+   *
+   * <p><i><b>Note:</b> Intentionally, this is a distinct instance, such that it is detectable by an
+   * identity check.</i>
+   */
+  private static final ZonedDateTime WRONG_FORMAT =
+      ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, UTC_TIME_ZONE); // */
+
   /**
    * De-coded value of value-field.
    *
-   * <p>Similar classes use lazy initialization for {@link DerUtcTime#DerUtcTime(InputStream)}.
-   * Intentionally no lazy initialization occurs here, because the value extracted from an {@link
-   * InputStream} is immediately checked.
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>{@link #WRONG_FORMAT} in case the value-field has a wrong format.</i>
+   * </ol>
    */
-  /* package */ final ZonedDateTime insDecoded; // */
+  private volatile @Nullable ZonedDateTime insDecoded; // NOPMD volatile not recommended */
 
   /**
    * Comfort constructor using value.
@@ -100,7 +119,7 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
     super(TAG, fromDateTime(value, formatter).getBytes(StandardCharsets.US_ASCII));
 
     // --- set instance attribute
-    insDecoded = (ZonedDateTime) fromValueField().orElseThrow();
+    insDecoded = fromValueField().orElseThrow();
   } // end constructor */
 
   /**
@@ -121,19 +140,7 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerUtcTime(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
-
-    // --- set instance attribute
-    final Optional<?> dateTime = fromValueField();
-
-    if (dateTime.isEmpty()) {
-      // ... unknown format in value-field
-      insFindings.add("wrong format");
-      insDecoded = ZonedDateTime.now(); // will never be used, because of findings
-    } else {
-      // ... known format
-      insDecoded = (ZonedDateTime) dateTime.get();
-    } // end fi
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -155,18 +162,6 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
    */
   /* package */ DerUtcTime(final InputStream inputStream) throws IOException {
     super(new byte[] {(byte) TAG}, inputStream);
-
-    // --- set instance attribute
-    final Optional<?> dateTime = fromValueField();
-
-    if (dateTime.isEmpty()) {
-      // ... unknown format in value-field
-      insFindings.add("wrong format");
-      insDecoded = ZonedDateTime.now(); // will never be used, because of findings
-    } else {
-      // ... known format
-      insDecoded = (ZonedDateTime) dateTime.get();
-    } // end fi
   } // end constructor */
 
   /**
@@ -227,7 +222,54 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
    */
   @Override
   public ZonedDateTime getDecoded() {
-    return insDecoded; // EI_EXPOSE_REP
+    // Note 1: Because object content is immutable, it is possible to use
+    //         Racy-Single-Check-Idiom hereafter which gives good performance.
+
+    ZonedDateTime result = insDecoded; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously, attribute insDecoded has never been calculated (lazy initialization)
+      //     => do so now
+      result = fromValueField().orElse(WRONG_FORMAT);
+
+      insDecoded = result; // store insDecoded into thread local memory
+    } // end fi
+
+    return result; // EI_EXPOSE_REP
+  } // end method */
+
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    // Note 1: Intentionally, identity is checked here, because the decoded
+    //         value is WRONG_FORMAT only if decoding failed.
+    return (WRONG_FORMAT == getDecoded()) ? List.of("wrong format") : List.of(); // NOPMD ==
+  } // end method */
+
+  /**
+   * Checks the value-field of an UTCTime.
+   *
+   * <p>This method is also used by {@link DerValidator}. The value-field is in accordance to its
+   * specification, if either {@link #parse(byte[])} or {@link #fromValueField(byte[])} is able to
+   * decode it. Thus, the value-field is copied.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return finding, or {@code null} if the value-field is in accordance to its specification
+   */
+  /* package */ static @Nullable String check(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final byte[] valueField = new byte[length];
+    buffer.get(offset, valueField);
+
+    return ((null == parse(valueField)) && fromValueField(valueField).isEmpty())
+        ? "wrong format"
+        : null;
   } // end method */
 
   /**
@@ -237,21 +279,131 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
    *     from {@link UtcTimeFormat}, otherwise an {@link Optional} with appropriate {@link
    *     ZonedDateTime} object
    */
-  private Optional<?> fromValueField() {
-    final String input = new String(insValueField, StandardCharsets.US_ASCII);
-
-    return Arrays.stream(UtcTimeFormat.values())
-        .map(
-            format -> {
-              try {
-                return Optional.of(ZonedDateTime.parse(input, format.getFormatter()));
-              } catch (DateTimeParseException e) {
-                return Optional.empty();
-              } // end Catch (...)
-            })
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .findAny();
+  private Optional<ZonedDateTime> fromValueField() {
+    final ZonedDateTime result = parse(insValueField);
+
+    return (null == result) ? fromValueField(insValueField) : Optional.of(result);
+  } // end method */
+
+  /**
+   * Convert given octet string to {@link ZonedDateTime} using {@link DateTimeFormatter}.
+   *
+   * <p>This is the general (but slow) way of converting. It handles all values-fields {@link
+   * #parse(byte[])} refuses to handle.
+   *
+   * @param octets to be converted
+   * @return {@link Optional#empty()} in case the octet string is not in accordance to any format
+   *     from {@link UtcTimeFormat}, otherwise an {@link Optional} with appropriate {@link
+   *     ZonedDateTime} object
+   */
+  @VisibleForTesting
+  /* package */ static Optional<ZonedDateTime> fromValueField(final byte[] octets) {
+    final String input = new String(octets, StandardCharsets.US_ASCII);
+
+    for (final UtcTimeFormat format : UtcTimeFormat.values()) {
+      try {
+        return Optional.of(ZonedDateTime.parse(input, format.getFormatter()));
+      } catch (DateTimeParseException e) { // NOPMD empty catch block
+        // ... format does not fit, try next one
+      } // end Catch (...)
+    } // end For (format...)
+
+    return Optional.empty();
+  } // end method */
+
+  /**
+   * Convert given octet string to {@link ZonedDateTime} without intermediate objects.
+   *
+   * <p>This is a fast path for value-fields in one of the formats from {@link UtcTimeFormat} with
+   *
+   * <ol>
+   *   <li>each field in its valid range, e.g., month in range [1, 12], and
+   *   <li>a time differential (if present) in range [-17:59, +17:59], except for "-0000".
+   * </ol>
+   *
+   * <p>For all other octet strings this method returns {@code null}. Then {@link
+   * #fromValueField(byte[])} is responsible for the conversion, which is able to handle corner
+   * cases in exactly the same way as {@link DateTimeFormatter} does, e.g. hour 24 or a day of month
+   * beyond the end of a month.
+   *
+   * <p><i><b>Note:</b> For each octet string where this method returns a non-null value, {@link
+   * #fromValueField(byte[])} returns an equal value.</i>
+   *
+   * @param octets to be converted
+   * @return corresponding {@link ZonedDateTime} or {@code null} if the octet string is not covered
+   *     by this fast path
+   */
+  @VisibleForTesting
+  /* package */ static @Nullable ZonedDateTime parse(final byte[] octets) {
+    final int length = octets.length;
+    final int noDigits; // number of digits in front of time-zone
+    final ZoneOffset offset;
+
+    if ((11 == length) || (13 == length)) { // NOPMD literal in if statement
+      // ... length fits HH_MM_Z or HH_MM_SS_Z
+      if ('Z' != octets[length - 1]) {
+        return null;
+      } // end fi
+
+      noDigits = length - 1;
+      offset = ZoneOffset.UTC;
+    } else if ((15 == length) || (17 == length)) { // NOPMD literal in if statement
+      // ... length fits HH_MM_DIFF or HH_MM_SS_DIFF
+      noDigits = length - 5;
+      final byte sign = octets[noDigits];
+      final int hours = twoDigits(octets, noDigits + 1);
+      final int minutes = twoDigits(octets, noDigits + 3);
+
+      if ((hours < 0) || (hours > 17) || (minutes < 0) || (minutes > 59)) {
+        return null;
+      } else if ('+' == sign) {
+        offset = ZoneOffset.ofHoursMinutes(hours, minutes);
+      } else if (('-' == sign) && ((hours + minutes) > 0)) {
+        offset = ZoneOffset.ofHoursMinutes(-hours, -minutes);
+      } else {
+        return null;
+      } // end else
+    } else {
+      return null;
+    } // end else
+
+    final int year = twoDigits(octets, 0);
+    final int month = twoDigits(octets, 2);
+    final int day = twoDigits(octets, 4);
+    final int hour = twoDigits(octets, 6);
+    final int minute = twoDigits(octets, 8);
+    final int second = (12 == noDigits) ? twoDigits(octets, 10) : 0; // NOPMD literal
+
+    if ((year < 0)
+        || (month < 1)
+        || (month > 12)
+        || (day < 1)
+        || (day > Month.of(month).length(Year.isLeap(2000L + year)))
+        || (hour < 0)
+        || (hour > 23)
+        || (minute < 0)
+        || (minute > 59)
+        || (second < 0)
+        || (second > 59)) {
+      return null;
+    } // end fi
+
+    // Note 1: In a DateTimeFormatter pattern "yy" maps to the years 2000 to 2099.
+    return ZonedDateTime.of(2000 + year, month, day, hour, minute, second, 0, offset);
+  } // end method */
+
+  /**
+   * Converts two ASCII digits to an integer.
+   *
+   * @param octets containing the digits
+   * @param offset of the first digit
+   * @return integer in range [0, 99], or -1 if at least one of the octets is not a digit
+   */
+  /* package */ static int twoDigits(final byte[] octets, final int offset) {
+    final int high = octets[offset] - '0';
+    final int low = octets[offset + 1] - '0';
+
+    return ((high < 0) || (high > 9) || (low < 0) || (low > 9)) ? -1 : (10 * high + low);
   } // end method */
 
   // ###########################################################################
@@ -366,6 +518,17 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
      */
     private final String insFormatter;
 
+    /**
+     * Formatters, one for each element of this enumeration in the order of their ordinal.
+     *
+     * <p><i><b>Note:</b> A {@link DateTimeFormatter} is immutable and thread-safe. Thus, it is
+     * sufficient to build each formatter once.</i>
+     */
+    private static final DateTimeFormatter[] FORMATTERS =
+        Arrays.stream(values())
+            .map(format -> DateTimeFormatter.ofPattern(format.insFormatter))
+            .toArray(DateTimeFormatter[]::new); // */
+
     /**
      * Comfort constructor.
      *
@@ -381,7 +544,7 @@ public final class DerUtcTime extends PrimitiveSpecific<ZonedDateTime> {
      * @return {@link DateTimeFormatter}
      */
     public DateTimeFormatter getFormatter() {
-      return DateTimeFormatter.ofPattern(insFormatter);
+      return FORMATTERS[ordinal()];
     } // end method */
   } // end enumeration
 } // end class
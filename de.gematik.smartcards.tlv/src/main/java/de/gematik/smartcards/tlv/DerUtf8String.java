@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.jetbrains.annotations.VisibleForTesting;
 
 /**
@@ -49,6 +50,9 @@ public final class DerUtf8String extends PrimitiveSpecific<String> {
    */
   public static final int TAG = 12; // */
 
+  /** Finding in case the value-field is not in conformance to UTF-8. */
+  /* package */ static final String EM_ENCODING = "invalid encoding"; // */
+
   /**
    * De-coded value of value-field.
    *
@@ -97,7 +101,7 @@ public final class DerUtf8String extends PrimitiveSpecific<String> {
    * @throws BufferUnderflowException if the length-field or the value-field ends early
    */
   /* package */ DerUtf8String(final ByteBuffer buffer) {
-    super(new byte[] {(byte) TAG}, buffer);
+    super(TAG, buffer);
   } // end constructor */
 
   /**
@@ -157,10 +161,6 @@ public final class DerUtf8String extends PrimitiveSpecific<String> {
       //     => do so now
       // ... assertion: instance attributes are never null
 
-      if (!checkEncoding(insValueField)) {
-        insFindings.add("invalid encoding");
-      } // end fi
-
       result = new String(insValueField, StandardCharsets.UTF_8);
 
       insDecoded = result; // store insDecoded into thread local memory
@@ -169,6 +169,17 @@ public final class DerUtf8String extends PrimitiveSpecific<String> {
     return result;
   } // end method */
 
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   * @see PrimitiveSpecific#validate()
+   */
+  @Override
+  protected List<String> validate() {
+    return checkEncoding(insValueField) ? List.of() : List.of(EM_ENCODING);
+  } // end method */
+
   /**
    * Checks if octet string is in conformance to UFT-8.
    *
@@ -198,44 +209,71 @@ public final class DerUtf8String extends PrimitiveSpecific<String> {
    * @return {@code TRUE} if no findings are detected, {@code FALSE} otherwise
    */
   @VisibleForTesting // otherwise = private
+  /* package */ static boolean checkEncoding(final byte[] octet) {
+    return checkEncoding(ByteBuffer.wrap(octet), 0, octet.length);
+  } // end method */
+
+  /**
+   * Checks if a value-field is in conformance to UFT-8.
+   *
+   * <p>This method is also used by {@link DerValidator}. The value-field is read with absolute
+   * get-methods, i.e., the buffer's position is not changed.
+   *
+   * @param buffer containing the value-field
+   * @param offset index of the first octet of the value-field in {@code buffer}
+   * @param length number of octets in the value-field
+   * @return {@code TRUE} if no findings are detected, {@code FALSE} otherwise
+   * @see #checkEncoding(byte[])
+   */
   @SuppressWarnings({
-    "PMD.AvoidReassigningLoopVariables", // "index" is reassigned in the for-loop
     "PMD.AvoidLiteralsInIfCondition", // lots of literals in if-statements
   })
-  /* package */ static boolean checkEncoding(final byte[] octet) {
-    try {
-      final var buffer = ByteBuffer.wrap(octet);
-      while (buffer.hasRemaining()) {
-        final var b1 = buffer.get();
-        final boolean finding;
-        if (0xc0 == (b1 & 0xe0)) {
-          // ... code point on two bytes
-          final var b2 = buffer.get();
-          finding = checkEncoding2(b1, b2);
-        } else if (0xe0 == (b1 & 0xf0)) {
-          // ... code point on three bytes
-          final var b2 = buffer.get();
-          final var b3 = buffer.get();
-          finding = checkEncoding3(b1, b2, b3);
-        } else if (0xf0 == (b1 & 0xf8)) {
-          // ... code point on four bytes
-          final var b2 = buffer.get();
-          final var b3 = buffer.get();
-          final var b4 = buffer.get();
-          finding = checkEncoding4(b1, b2, b3, b4);
-        } else {
-          // ... code point on more than four bytes
-          //     => invalid encoding
-          finding = b1 < 0; // code point on more than four bytes?
-        } // end else
+  /* package */ static boolean checkEncoding(
+      final ByteBuffer buffer, final int offset, final int length) {
+    final int end = offset + length;
+    int index = offset;
+    while (index < end) {
+      final var b1 = buffer.get(index);
+      final int noOctets;
+      if (0xc0 == (b1 & 0xe0)) {
+        // ... code point on two bytes
+        noOctets = 2;
+      } else if (0xe0 == (b1 & 0xf0)) {
+        // ... code point on three bytes
+        noOctets = 3;
+      } else if (0xf0 == (b1 & 0xf8)) {
+        // ... code point on four bytes
+        noOctets = 4;
+      } else if (b1 < 0) {
+        // ... code point on more than four bytes
+        //     => invalid encoding
+        return false;
+      } else {
+        // ... code point on one byte
+        noOctets = 1;
+      } // end else
+
+      if (index + noOctets > end) {
+        // ... code point truncated
+        return false;
+      } // end fi
+
+      final boolean finding =
+          switch (noOctets) {
+            case 2 -> checkEncoding2(b1, buffer.get(index + 1));
+            case 3 -> checkEncoding3(b1, buffer.get(index + 1), buffer.get(index + 2));
+            case 4 ->
+                checkEncoding4(
+                    b1, buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3));
+            default -> false;
+          }; // end Switch (noOctets)
+
+      if (finding) {
+        return false;
+      } // end fi
 
-        if (finding) {
-          return false;
-        } // end fi
-      } // end While (buffer.hasRemaining)
-    } catch (BufferUnderflowException e) {
-      return false;
-    } // end Catch (...)
+      index += noOctets;
+    } // end While (index < end)
 
     return true;
   } // end method */
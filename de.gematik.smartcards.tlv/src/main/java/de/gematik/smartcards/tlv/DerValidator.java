@@ -0,0 +1,508 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Checker for conformance of an octet string to the distinguished encoding rules (DER).
+ *
+ * <p>The checker scans the octet string in a single pass and reports each violation together with
+ * the offset of the tag-field of the offending TLV-object to a {@link ViolationHandler}. In
+ * contrast to {@link BerTlv#getInstance(ByteBuffer)} followed by {@link DerSpecific#isValid()} no
+ * {@link BerTlv} objects are created. Apart from the value-fields of {@link DerOid}, {@link
+ * DerUtcTime} and {@link DerDate}, which are copied for the check, no allocations occur per
+ * TLV-object.
+ *
+ * <p>The following rules are checked:
+ *
+ * <ol>
+ *   <li>tag-field in accordance to ISO/IEC 8825-1:2021 clause 8.1.2,
+ *   <li>length-field in definite form and with minimal number of octets, see ISO/IEC 8825-1:2021
+ *       clause 10.1,
+ *   <li>primitive encoding of primitive universal types, e.g. OCTET STRING, see ISO/IEC 8825-1:2021
+ *       clause 10.2,
+ *   <li>the same rules for value-fields as {@link DerSpecific#isValid()} of {@link DerBitString},
+ *       {@link DerBoolean}, {@link DerDate}, {@link DerEndOfContent}, {@link DerInteger}, {@link
+ *       DerNull}, {@link DerOid}, {@link DerPrintableString}, {@link DerSet}, {@link
+ *       DerTeletexString}, {@link DerUtcTime} and {@link DerUtf8String}.
+ * </ol>
+ *
+ * <p>Violations of the structure, e.g. too few octets or a child TLV-object exceeding the
+ * value-field of its parent, stop the scan, because offsets of subsequent TLV-objects are unknown.
+ * The same applies to constructed TLV-objects nested deeper than {@link #MAX_DEPTH} levels.
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * final boolean isDer = DerValidator.validate(
+ *     buffer,
+ *     (offset, tag, message) -> {
+ *       LOGGER.atWarn().log("offset {}: {}", offset, message);
+ *
+ *       return true; // continue scanning
+ *     });
+ * }</pre>
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe, as long as input parameters are not changed concurrently.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class DerValidator {
+
+  /** Finding in case a constructed TLV-object uses the indefinite form. */
+  /* package */ static final String EM_INDEFINITE = "indefinite form of length-field"; // */
+
+  /** Finding in case the length-field contains more octets than necessary. */
+  /* package */ static final String EM_LENGTH_FIELD = "length-field not minimal"; // */
+
+  /** Finding in case a primitive universal type uses the constructed encoding. */
+  /* package */ static final String EM_CONSTRUCTED = "constructed encoding of primitive type"; // */
+
+  /** Finding in case the octet string ends before a TLV-object is complete. */
+  /* package */ static final String EM_TRUNCATED = "too few octets"; // */
+
+  /** Finding in case octets follow the TLV-object. */
+  /* package */ static final String EM_TRAILING = "octets after TLV-object"; // */
+
+  /** Finding in case constructed TLV-objects are nested deeper than {@link #MAX_DEPTH}. */
+  /* package */ static final String EM_DEPTH = "nesting too deep"; // */
+
+  /**
+   * Maximum number of nested constructed TLV-objects.
+   *
+   * <p>The scan is recursive. This limit keeps the stack usage bounded for arbitrary input, e.g.
+   * for a long sequence of {@code '30 80'} octets.
+   */
+  public static final int MAX_DEPTH = 256; // */
+
+  /** Handler stopping at the first violation. */
+  private static final ViolationHandler STOP = (offset, tag, message) -> false; // */
+
+  /** Default constructor. */
+  private DerValidator() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Checks whether an octet string is exactly one TLV-object in accordance to DER.
+   *
+   * @param octets octet string to be checked
+   * @return {@code TRUE} if {@code octets} is exactly one TLV-object in accordance to DER, {@code
+   *     FALSE} otherwise
+   */
+  public static boolean isValid(final byte[] octets) {
+    return validate(octets, STOP);
+  } // end method */
+
+  /**
+   * Checks whether the TLV-object at the buffer's {@code position} is in accordance to DER.
+   *
+   * <p>The scan stops at the first violation. For the buffer's {@code position} see {@link
+   * #validate(ByteBuffer, ViolationHandler)}.
+   *
+   * @param buffer with a TLV-object at its current position
+   * @return {@code TRUE} if the TLV-object is in accordance to DER, {@code FALSE} otherwise
+   */
+  public static boolean isValid(final ByteBuffer buffer) {
+    return validate(buffer, STOP);
+  } // end method */
+
+  /**
+   * Checks whether an octet string is exactly one TLV-object in accordance to DER.
+   *
+   * <p>Offsets reported to {@code handler} are indices in {@code octets}. If octets follow the
+   * TLV-object, then {@link #EM_TRAILING} is reported with the offset of the first such octet.
+   *
+   * @param octets octet string to be checked
+   * @param handler receiving violations
+   * @return {@code TRUE} if {@code octets} is exactly one TLV-object in accordance to DER, {@code
+   *     FALSE} otherwise
+   */
+  public static boolean validate(final byte[] octets, final ViolationHandler handler) {
+    final ByteBuffer buffer = ByteBuffer.wrap(octets);
+    final Scanner scanner = new Scanner(buffer, handler);
+
+    if (scanner.scan(octets.length) && buffer.hasRemaining()) {
+      scanner.report(buffer.position(), 0, EM_TRAILING);
+    } // end fi
+
+    return scanner.insValid;
+  } // end method */
+
+  /**
+   * Checks whether the TLV-object at the buffer's {@code position} is in accordance to DER.
+   *
+   * <p>Offsets reported to {@code handler} are relative to the buffer's {@code position} at the
+   * time this method is called. The buffer's {@code limit} is treated as the end of the octet
+   * string.
+   *
+   * <p>If the scan is complete, then the buffer's {@code position} is advanced behind the
+   * TLV-object. If the scan stops early, either because of a violation of the structure or because
+   * {@code handler} returns {@code FALSE}, then the buffer's {@code position} does not change.
+   *
+   * <p><i><b>Note:</b> This method is not thread-safe, care must be taken to ensure that the buffer
+   * is not accessed until the operation completes.</i>
+   *
+   * @param buffer with a TLV-object at its current position
+   * @param handler receiving violations
+   * @return {@code TRUE} if the TLV-object is in accordance to DER, {@code FALSE} otherwise
+   */
+  public static boolean validate(final ByteBuffer buffer, final ViolationHandler handler) {
+    final int position = buffer.position();
+    final Scanner scanner = new Scanner(buffer, handler);
+
+    if (!scanner.scan(buffer.limit())) {
+      buffer.position(position);
+
+      return false;
+    } // end fi
+
+    return scanner.insValid;
+  } // end method */
+
+  /**
+   * Handler receiving violations found by {@link DerValidator}.
+   *
+   * <p>Implementations decide whether the scan continues after a violation.
+   */
+  @FunctionalInterface
+  public interface ViolationHandler {
+
+    /**
+     * Receives a violation.
+     *
+     * <p>For violations of the structure the return value is ignored, and the scan stops.
+     *
+     * @param offset of the tag-field of the offending TLV-object, relative to the start of the scan
+     * @param tag integer representation of the offending TLV-object's tag, zero if the tag-field is
+     *     not available
+     * @param message describing the violation
+     * @return {@code TRUE} if the scan continues, {@code FALSE} if the scan stops
+     */
+    boolean onViolation(int offset, long tag, String message);
+  } // end interface
+
+  /**
+   * State of one scan.
+   *
+   * <p>One instance is created per scan, independent of the number of TLV-objects.
+   */
+  private static final class Scanner {
+
+    /** Buffer scanned. */
+    private final ByteBuffer insBuffer; // */
+
+    /** Position of the first octet scanned, offsets are relative to this position. */
+    private final int insOrigin; // */
+
+    /** Handler receiving violations. */
+    private final ViolationHandler insHandler; // */
+
+    /** Number of violations reported so far. */
+    private int insViolations; // */
+
+    /** Number of constructed TLV-objects enclosing the TLV-object currently scanned. */
+    private int insDepth; // */
+
+    /** Flag indicating whether no violations were found so far. */
+    private boolean insValid = true; // */
+
+    /**
+     * Constructor.
+     *
+     * @param buffer with a TLV-object at its current position
+     * @param handler receiving violations
+     */
+    private Scanner(final ByteBuffer buffer, final ViolationHandler handler) {
+      insBuffer = buffer;
+      insOrigin = buffer.position();
+      insHandler = handler;
+    } // end constructor */
+
+    /**
+     * Scans the TLV-object at the buffer's {@code position}.
+     *
+     * <p>If the scan continues, then the buffer's {@code position} is behind the TLV-object.
+     *
+     * @param end index behind the last octet available for the TLV-object
+     * @return {@code TRUE} if the scan continues, {@code FALSE} if the scan stops
+     */
+    private boolean scan(final int end) {
+      final int start = insBuffer.position();
+
+      // --- tag-field
+      final long tag;
+      try {
+        tag = BerTlv.decodeTag(insBuffer);
+      } catch (BufferUnderflowException e) {
+        return fatal(start, 0, EM_TRUNCATED);
+      } catch (ArithmeticException e) {
+        return fatal(start, 0, e.getMessage());
+      } // end Catch (...)
+
+      try {
+        BerTlv.checkTag(tag);
+      } catch (IllegalArgumentException e) {
+        if (!report(start, tag, e.getMessage())) {
+          return false;
+        } // end fi
+      } // end Catch (...)
+
+      // --- length-field
+      final int lengthStart = insBuffer.position();
+      final long length;
+      try {
+        length = BerTlv.decodeLength(insBuffer);
+      } catch (BufferUnderflowException e) {
+        return fatal(start, tag, EM_TRUNCATED);
+      } catch (ArithmeticException e) {
+        return fatal(start, tag, e.getMessage());
+      } // end Catch (...)
+
+      final int valueStart = insBuffer.position();
+      if (valueStart > end) {
+        return fatal(start, tag, TlvSchema.EM_LENGTH);
+      } // end fi
+
+      final boolean isConstructed = BerTlv.isConstructed(tag);
+      if (isConstructed && isPrimitiveType(tag) && !report(start, tag, EM_CONSTRUCTED)) {
+        return false;
+      } // end fi
+
+      if (isConstructed && (MAX_DEPTH == insDepth)) {
+        // ... children would exceed the depth limit
+        return fatal(start, tag, EM_DEPTH);
+      } // end fi
+
+      if (length < 0) {
+        // ... indefinite form
+        return isConstructed
+            ? scanIndefinite(start, tag, end)
+            : fatal(start, tag, PrimitiveBerTlv.EM_INDEFINITE);
+      } // end fi
+      // ... definite form
+
+      if ((valueStart - lengthStart != BerTlv.calculateLengthOfLengthField(length))
+          && !report(start, tag, EM_LENGTH_FIELD)) {
+        return false;
+      } // end fi
+
+      if (length > end - valueStart) {
+        return fatal(start, tag, (insBuffer.limit() == end) ? EM_TRUNCATED : TlvSchema.EM_LENGTH);
+      } // end fi
+
+      final int valueEnd = valueStart + (int) length;
+
+      if (isConstructed) {
+        final int violations = insViolations;
+        insDepth++;
+        while (insBuffer.position() < valueEnd) {
+          if (!scan(valueEnd)) {
+            return false;
+          } // end fi
+        } // end While (...)
+        insDepth--;
+
+        return checkSet(start, tag, valueStart, valueEnd, violations);
+      } // end fi
+      // ... primitive TLV-object
+
+      final String finding = checkValueField(tag, valueStart, (int) length);
+      insBuffer.position(valueEnd);
+
+      return (null == finding) || report(start, tag, finding);
+    } // end method */
+
+    /**
+     * Scans the value-field of a constructed TLV-object in indefinite form.
+     *
+     * @param start index of the tag-field
+     * @param tag integer representation of the tag
+     * @param end index behind the last octet available for the TLV-object
+     * @return {@code TRUE} if the scan continues, {@code FALSE} if the scan stops
+     */
+    private boolean scanIndefinite(final int start, final long tag, final int end) {
+      if (!report(start, tag, EM_INDEFINITE)) {
+        return false;
+      } // end fi
+
+      final int valueStart = insBuffer.position();
+      final int violations = insViolations;
+      insDepth++;
+      for (; ; ) {
+        final int position = insBuffer.position();
+
+        if (position + 2 > end) {
+          return fatal(start, tag, (insBuffer.limit() == end) ? EM_TRUNCATED : TlvSchema.EM_LENGTH);
+        } // end fi
+
+        if ((0 == insBuffer.get(position)) && (0 == insBuffer.get(position + 1))) {
+          // ... end-of-contents
+          insBuffer.position(position + 2);
+          insDepth--;
+
+          return checkSet(start, tag, valueStart, position, violations);
+        } // end fi
+
+        if (!scan(end)) {
+          return false;
+        } // end fi
+      } // end For (;;)
+    } // end method */
+
+    /**
+     * Checks the order of TLV-objects in a {@link DerSet}.
+     *
+     * <p>The check is performed only if no violations were found in the value-field, because
+     * otherwise the order is not well-defined.
+     *
+     * @param start index of the tag-field
+     * @param tag integer representation of the tag
+     * @param valueStart index of the first octet of the value-field
+     * @param valueEnd index behind the last TLV-object in the value-field
+     * @param violations number of violations before the value-field was scanned
+     * @return {@code TRUE} if the scan continues, {@code FALSE} if the scan stops
+     */
+    private boolean checkSet(
+        final int start,
+        final long tag,
+        final int valueStart,
+        final int valueEnd,
+        final int violations) {
+      if ((DerSet.TAG != tag) || (violations != insViolations)) {
+        return true;
+      } // end fi
+
+      final String finding = DerSet.check(insBuffer, valueStart, valueEnd - valueStart);
+
+      return (null == finding) || report(start, tag, finding);
+    } // end method */
+
+    /**
+     * Checks the value-field of a primitive TLV-object.
+     *
+     * @param tag integer representation of the tag
+     * @param offset index of the first octet of the value-field
+     * @param length number of octets in the value-field
+     * @return finding, or {@code null} if no rule applies or the value-field is in accordance to
+     *     the rule
+     */
+    private @Nullable String checkValueField(final long tag, final int offset, final int length) {
+      if (DerDate.TAG == tag) {
+        return DerDate.check(insBuffer, offset, length);
+      } else if ((tag < 0) || (tag > 0x1e)) { // NOPMD literal in conditional statement
+        // ... no universal class tag with one octet
+        return null;
+      } // end else if
+
+      return switch ((int) tag) {
+        case DerEndOfContent.TAG -> DerEndOfContent.check(length);
+        case DerBoolean.TAG -> DerBoolean.check(length);
+        case DerInteger.TAG -> DerInteger.check(insBuffer, offset, length);
+        case DerBitString.TAG -> DerBitString.check(insBuffer, offset, length);
+        case DerNull.TAG -> DerNull.check(length);
+        case DerOid.TAG -> DerOid.check(insBuffer, offset, length);
+        case DerUtf8String.TAG ->
+            DerUtf8String.checkEncoding(insBuffer, offset, length)
+                ? null
+                : DerUtf8String.EM_ENCODING;
+        case DerPrintableString.TAG ->
+            DerPrintableString.invalidCharacters(insBuffer, offset, length)
+                ? DerRestrictedCharacterStringTypes.MESSAGE
+                : null;
+        case DerTeletexString.TAG ->
+            DerTeletexString.invalidCharacters(insBuffer, offset, length)
+                ? DerRestrictedCharacterStringTypes.MESSAGE
+                : null;
+        case DerUtcTime.TAG -> DerUtcTime.check(insBuffer, offset, length);
+        default -> null;
+      }; // end Switch (...)
+    } // end method */
+
+    /**
+     * Reports a violation.
+     *
+     * @param position index of the tag-field of the offending TLV-object
+     * @param tag integer representation of the tag
+     * @param message describing the violation
+     * @return {@code TRUE} if the scan continues, {@code FALSE} if the scan stops
+     */
+    private boolean report(final int position, final long tag, final String message) {
+      insViolations++;
+      insValid = false;
+
+      return insHandler.onViolation(position - insOrigin, tag, message);
+    } // end method */
+
+    /**
+     * Reports a violation of the structure.
+     *
+     * @param position index of the tag-field of the offending TLV-object
+     * @param tag integer representation of the tag
+     * @param message describing the violation
+     * @return always {@code FALSE}, i.e., the scan stops
+     */
+    private boolean fatal(final int position, final long tag, final String message) {
+      report(position, tag, message);
+
+      return false;
+    } // end method */
+  } // end inner class
+
+  /**
+   * Checks whether a constructed tag belongs to a primitive universal type.
+   *
+   * <p>According to ISO/IEC 8825-1:2021 clause 10.2 such types use the primitive encoding.
+   *
+   * @param tag integer representation of a constructed tag
+   * @return {@code TRUE} if {@code tag} belongs to a primitive universal type, {@code FALSE}
+   *     otherwise
+   */
+  private static boolean isPrimitiveType(final long tag) {
+    if ((tag < 0x21) || (tag > 0x3e)) { // NOPMD literal in conditional statement
+      // ... not universal class with one octet
+      return false;
+    } // end fi
+
+    return switch ((int) tag & 0x1f) {
+      case DerBoolean.TAG,
+              DerInteger.TAG,
+              DerBitString.TAG,
+              DerOctetString.TAG,
+              DerNull.TAG,
+              DerOid.TAG,
+              DerUtf8String.TAG,
+              DerPrintableString.TAG,
+              DerTeletexString.TAG,
+              DerIa5String.TAG,
+              DerUtcTime.TAG ->
+          true;
+      default -> false;
+    }; // end Switch (...)
+  } // end method */
+} // end class
@@ -0,0 +1,201 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Iterator over top-level TLV-objects in a memory-mapped file.
+ *
+ * <p>The file is mapped in segments (windows) of at most {@link #DEFAULT_WINDOW_SIZE} octets. A
+ * TLV-object crossing the end of a window is read after mapping a new window starting at the
+ * tag-field of that TLV-object. If a single TLV-object is larger than a window, then the window is
+ * enlarged. Thus, apart from the TLV-objects themselves, the heap usage does not depend on the size
+ * of the file.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are mutable.
+ *   <li>methods are NOT thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ * @see BerTlv#decodeAll(Path)
+ */
+/* package */ final class MappedBerTlvIterator implements Iterator<BerTlv>, Closeable {
+
+  /** Default number of octets mapped at once. */
+  /* package */ static final int DEFAULT_WINDOW_SIZE = 1 << 28; // */
+
+  /** Channel of mapped file. */
+  private final FileChannel insChannel; // */
+
+  /** Number of octets in file. */
+  private final long insSize; // */
+
+  /** Number of octets mapped at once (unless a TLV-object is larger). */
+  private final int insWindowSize; // */
+
+  /** Offset in file of the first octet in {@link #insWindow}. */
+  private long insOffset; // */
+
+  /** Currently mapped segment of the file. */
+  private ByteBuffer insWindow; // */
+
+  /**
+   * Constructor.
+   *
+   * @param path of file to be mapped
+   * @throws IOException if opening or mapping the file fails
+   */
+  /* package */ MappedBerTlvIterator(final Path path) throws IOException {
+    this(path, DEFAULT_WINDOW_SIZE);
+  } // end constructor */
+
+  /**
+   * Constructor with configurable window size.
+   *
+   * @param path of file to be mapped
+   * @param windowSize number of octets mapped at once
+   * @throws IOException if opening or mapping the file fails
+   */
+  @VisibleForTesting // otherwise = private
+  /* package */ MappedBerTlvIterator(final Path path, final int windowSize) throws IOException {
+    insChannel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      insSize = insChannel.size();
+      insWindowSize = windowSize;
+      insWindow = map(0, windowSize);
+    } catch (IOException e) {
+      insChannel.close();
+
+      throw e;
+    } // end Catch (...)
+  } // end constructor */
+
+  /**
+   * Closes the underlying file channel.
+   *
+   * <p><i><b>Note:</b> Already mapped segments stay valid until they are garbage collected.</i>
+   *
+   * @throws IOException if closing the channel fails
+   */
+  @Override
+  public void close() throws IOException {
+    insChannel.close();
+  } // end method */
+
+  /**
+   * Returns {@code true} if more TLV-objects are available.
+   *
+   * @return {@code TRUE} if not all octets of the file are consumed, {@code FALSE} otherwise
+   */
+  @Override
+  public boolean hasNext() {
+    return insOffset + insWindow.position() < insSize;
+  } // end method */
+
+  /**
+   * Returns next TLV-object.
+   *
+   * @return next top-level TLV-object in file
+   * @throws NoSuchElementException if all octets of the file are consumed
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>octets are not in accordance to ISO/IEC 8825-1:2021
+   *       <li>the file ends within a TLV-object
+   *       <li>a TLV-object is larger than the largest segment which can be mapped, i.e., {@link
+   *           Integer#MAX_VALUE} octet
+   *     </ol>
+   *
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   *
+   * @throws UncheckedIOException if mapping a segment of the file fails
+   */
+  @Override
+  public BerTlv next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    } // end fi
+
+    int windowSize = insWindowSize;
+    for (; ; ) {
+      try {
+        return BerTlv.getInstance(insWindow);
+      } catch (BufferUnderflowException e) {
+        // ... TLV-object crosses the end of the window
+        final long start = insOffset + insWindow.position();
+
+        if (start + insWindow.limit() - insWindow.position() >= insSize) {
+          // ... window already contains the end of file
+          throw new IllegalArgumentException("file ends within a TLV-object", e);
+        } // end fi
+
+        // --- map a new window starting at the TLV-object
+        if (0 == insWindow.position()) {
+          // ... TLV-object larger than window
+          if (Integer.MAX_VALUE == insWindow.limit()) {
+            // ... window cannot be enlarged any further
+            throw new IllegalArgumentException("TLV-object too large for mapping", e);
+          } // end fi
+
+          //     => enlarge window
+          windowSize = (int) Math.min(Integer.MAX_VALUE, 2L * insWindow.limit());
+        } // end fi
+
+        try {
+          insWindow = map(start, windowSize);
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        } // end Catch (...)
+      } // end Catch (...)
+    } // end For (...)
+  } // end method */
+
+  /**
+   * Maps a segment of the file.
+   *
+   * @param offset in file of the first octet to be mapped
+   * @param windowSize maximum number of octets to be mapped
+   * @return mapped segment
+   * @throws IOException if mapping fails
+   */
+  private ByteBuffer map(final long offset, final int windowSize) throws IOException {
+    insOffset = offset;
+
+    return insChannel.map(
+        FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, insSize - offset));
+  } // end method */
+} // end class
@@ -0,0 +1,305 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Decoder for BER-TLV objects decoding large constructed TLV-objects in parallel.
+ *
+ * <p>A {@link ConstructedBerTlv} with a value-field in definite form and at least {@link
+ * #getThreshold()} octets (e.g., a sequence of certificates or the complete file dump of a smart
+ * card) is decoded in two steps:
+ *
+ * <ol>
+ *   <li>A sequential scan locates the TLV-objects in the value-field. Here just tag- and
+ *       length-fields are read, value-fields are skipped.
+ *   <li>The TLV-objects found in step 1 are decoded independently by fork/join tasks. Children
+ *       large enough are themselves decoded in parallel.
+ * </ol>
+ *
+ * <p>All other TLV-objects are decoded sequentially by the same code as {@link
+ * BerTlv#getInstance(ByteBuffer)}. For octet strings in accordance to ISO/IEC 8825-1:2021 the
+ * result of {@link #decode(ByteBuffer)} is identical to the result of {@link
+ * BerTlv#getInstance(ByteBuffer)}.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe, as long as input parameters are not changed concurrently.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class ParallelBerTlvDecoder {
+
+  /** Default for the minimum number of octets in a value-field decoded in parallel. */
+  public static final long DEFAULT_THRESHOLD = 0x1_0000; // */
+
+  /**
+   * Minimum number of octets in a value-field decoded in parallel.
+   *
+   * <p>The same value is used as the minimum number of octets decoded by one fork/join task.
+   */
+  private final long insThreshold; // */
+
+  /** Pool used for decoding in parallel. */
+  private final ForkJoinPool insPool; // */
+
+  /**
+   * Default constructor.
+   *
+   * <p>Uses {@link #DEFAULT_THRESHOLD} and {@link ForkJoinPool#commonPool()}.
+   */
+  public ParallelBerTlvDecoder() {
+    this(DEFAULT_THRESHOLD);
+  } // end constructor */
+
+  /**
+   * Constructor using {@link ForkJoinPool#commonPool()}.
+   *
+   * @param threshold minimum number of octets in a value-field decoded in parallel
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   */
+  public ParallelBerTlvDecoder(final long threshold) {
+    this(threshold, ForkJoinPool.commonPool());
+  } // end constructor */
+
+  /**
+   * Constructor.
+   *
+   * @param threshold minimum number of octets in a value-field decoded in parallel
+   * @param pool used for decoding in parallel
+   * @throws IllegalArgumentException if {@code threshold} is not positive
+   */
+  public ParallelBerTlvDecoder(final long threshold, final ForkJoinPool pool) {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold SHALL be positive");
+    } // end fi
+
+    insThreshold = threshold;
+    insPool = pool;
+  } // end constructor */
+
+  /**
+   * Decodes a TLV-object from given buffer.
+   *
+   * <p>The behavior is the same as for {@link BerTlv#getInstance(ByteBuffer)}, i.e., the buffer's
+   * {@code position} is advanced behind the encoded TLV-object, and in case a {@link
+   * BufferUnderflowException} occurs then the buffer's {@code position} attribute does not change.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is not thread-safe, care must be taken to ensure that the buffer is not
+   *       accessed until the operation completes.</i>
+   *   <li><i>If more than one TLV-object in a value-field is not in accordance to ISO/IEC
+   *       8825-1:2021, then it is not specified which one causes the exception thrown.</i>
+   * </ol>
+   *
+   * @param buffer containing the data for the new object
+   * @return an object of known subclass
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>tag-field contains more than eight octets
+   *       <li>the length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  public BerTlv decode(final ByteBuffer buffer) {
+    final var position = buffer.position();
+
+    try {
+      return BerTlv.getFromBuffer(buffer, this);
+    } catch (BufferUnderflowException e) {
+      // ... not enough octets in buffer
+      //     => restore "position"
+      buffer.position(position);
+
+      throw e;
+    } // end Catch (...)
+  } // end method */
+
+  /**
+   * Returns minimum number of octets in a value-field decoded in parallel.
+   *
+   * @return minimum number of octets in a value-field decoded in parallel
+   */
+  public long getThreshold() {
+    return insThreshold;
+  } // end method */
+
+  /**
+   * Checks whether a value-field is decoded in parallel.
+   *
+   * @param lengthOfValueField number of octets in a value-field in definite form
+   * @return {@code TRUE} if the value-field is decoded in parallel, {@code FALSE} otherwise
+   */
+  /* package */ boolean isParallel(final long lengthOfValueField) {
+    return lengthOfValueField >= insThreshold;
+  } // end method */
+
+  /**
+   * Decodes the TLV-objects in a value-field in definite form.
+   *
+   * <p>In case of success the buffer's {@code position} is advanced behind the value-field.
+   *
+   * @param buffer with the value-field at its current position
+   * @param lengthOfValueField number of octets in the value-field
+   * @return TLV-objects in the value-field in the order of their occurrence
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>tag-field contains more than eight octets
+   *       <li>the length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  /* package */ List<BerTlv> decodeValueField(
+      final ByteBuffer buffer, final long lengthOfValueField) {
+    // --- sequential scan for the start of each TLV-object
+    // Note: offsets[i] is the position of the tag-field of TLV-object i,
+    //       offsets[noChildren] is the position behind the last TLV-object.
+    int[] offsets = new int[64];
+    int noChildren = 0;
+    offsets[0] = buffer.position();
+    long length = lengthOfValueField;
+    while (length > 0) {
+      TlvExtractor.skip(buffer);
+      length -= buffer.position() - offsets[noChildren];
+
+      if (++noChildren == offsets.length) { // NOPMD assignment in operand
+        offsets = Arrays.copyOf(offsets, 2 * noChildren);
+      } // end fi
+      offsets[noChildren] = buffer.position();
+    } // end While (length > 0)
+
+    // --- decode TLV-objects in parallel
+    final BerTlv[] result = new BerTlv[noChildren];
+    final DecodeTask task = new DecodeTask(this, buffer, offsets, result, 0, noChildren);
+    try {
+      if (ForkJoinTask.inForkJoinPool()) {
+        // ... nested parallel decoding
+        //     => use the pool of the current task
+        task.invoke();
+      } else {
+        insPool.invoke(task);
+      } // end else
+    } catch (RuntimeException e) {
+      // Note: If an exception is thrown by another thread, then fork/join rethrows a
+      //       copy of it with the original as cause. Here the original is rethrown,
+      //       such that exceptions are the same as for sequential decoding.
+      final Throwable cause = e.getCause();
+
+      throw (cause instanceof RuntimeException original && (original.getClass() == e.getClass()))
+          ? original
+          : e;
+    } // end Catch (...)
+
+    return Arrays.asList(result);
+  } // end method */
+
+  /** Task decoding a range of TLV-objects from a value-field. */
+  private static final class DecodeTask extends RecursiveAction {
+
+    /** Automatically generated UID. */
+    private static final long serialVersionUID = -1_541_216_789_203_612_083L; // */
+
+    /** Decoder, used for nested parallel decoding. */
+    private final transient ParallelBerTlvDecoder insDecoder; // */
+
+    /** Buffer containing the value-field. */
+    private final transient ByteBuffer insBuffer; // */
+
+    /** Positions of tag-fields in {@link #insBuffer}. */
+    private final int[] insOffsets; // */
+
+    /** Array where decoded TLV-objects are stored. */
+    private final BerTlv[] insResult; // */
+
+    /** Index of the first TLV-object decoded by this task. */
+    private final int insFrom; // */
+
+    /** Index behind the last TLV-object decoded by this task. */
+    private final int insTo; // */
+
+    /**
+     * Constructor.
+     *
+     * @param decoder used for nested parallel decoding
+     * @param buffer containing the value-field
+     * @param offsets positions of tag-fields in {@code buffer}
+     * @param result where decoded TLV-objects are stored
+     * @param from index of the first TLV-object decoded by this task
+     * @param to index behind the last TLV-object decoded by this task
+     */
+    private DecodeTask(
+        final ParallelBerTlvDecoder decoder,
+        final ByteBuffer buffer,
+        final int[] offsets,
+        final BerTlv[] result,
+        final int from,
+        final int to) {
+      super();
+      insDecoder = decoder;
+      insBuffer = buffer;
+      insOffsets = offsets; // NOPMD array is stored directly
+      insResult = result; // NOPMD array is stored directly
+      insFrom = from;
+      insTo = to;
+    } // end constructor */
+
+    /** Decodes the TLV-objects in range [{@link #insFrom}, {@link #insTo}). */
+    @Override
+    protected void compute() {
+      if ((insTo - insFrom > 1)
+          && (insOffsets[insTo] - insOffsets[insFrom] >= insDecoder.insThreshold)) {
+        // ... range large enough for splitting
+        final int middle = (insFrom + insTo) >>> 1;
+        invokeAll(
+            new DecodeTask(insDecoder, insBuffer, insOffsets, insResult, insFrom, middle),
+            new DecodeTask(insDecoder, insBuffer, insOffsets, insResult, middle, insTo));
+
+        return;
+      } // end fi
+
+      for (int i = insFrom; i < insTo; i++) {
+        final int start = insOffsets[i];
+
+        try {
+          insResult[i] =
+              BerTlv.getFromBuffer(insBuffer.slice(start, insOffsets[i + 1] - start), insDecoder);
+        } catch (BufferUnderflowException e) {
+          // ... TLV-object longer than found by the scan, i.e., nested length-fields
+          //     are inconsistent
+          throw new IllegalArgumentException("value-field does not match length-field", e);
+        } // end Catch (...)
+      } // end For (i...)
+    } // end method */
+  } // end inner class
+} // end class
@@ -110,6 +110,31 @@ public class PrimitiveBerTlv extends BerTlv {
    *     </ol>
    */
   /* package */ PrimitiveBerTlv(final byte[] tag, final ByteBuffer buffer) {
+    this(toTag(tag), buffer);
+  } // end constructor */
+
+  /**
+   * Constructor reading length- and value-field from a {@link ByteBuffer}.
+   *
+   * <p>In contrast to {@link #PrimitiveBerTlv(byte[], ByteBuffer)} the tag is given in its integer
+   * representation, as returned by {@link #decodeTag(ByteBuffer)}.
+   *
+   * @param tag integer representation of tag
+   * @param buffer form which the length- and value-field are read
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Integer#MAX_VALUE}
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>tag is not in accordance to <a
+   *           href="https://www.itu.int/rec/T-REC-X.690-202102-I/en">ISO/IEC 8825-1:2021</a> clause
+   *           8.1.2
+   *       <li>bit b6 of the leading octet in the tag-field does not indicate "primitive" encoding
+   *       <li>the length-field indicates the indefinite form, see <a
+   *           href="https://www.itu.int/rec/T-REC-X.690-202102-I/en">ISO/IEC 8825-1:2021</a>
+   *           8.1.3.6
+   *     </ol>
+   */
+  /* package */ PrimitiveBerTlv(final long tag, final ByteBuffer buffer) {
     // CT_CONSTRUCTOR_THROW
     // --- read length-field from inputStream (there defensive cloning is used)
     super(tag, buffer);
@@ -403,6 +428,17 @@ public class PrimitiveBerTlv extends BerTlv {
    */
   @Override
   public final byte[] getEncoded() {
+    return encoded().clone();
+  } // end method */
+
+  /**
+   * Encodes this BER-TLV object.
+   *
+   * @return octet string representation of a BER-TLV object
+   * @see BerTlv#encode()
+   */
+  @Override
+  /* package */ final byte[] encode() {
     return AfiUtils.concatenate(insTagLengthField, insValueField);
   } // end method */
 
@@ -424,8 +460,14 @@ public class PrimitiveBerTlv extends BerTlv {
   @Override
   @VisibleForTesting
   /* package */ final ByteArrayOutputStream getEncoded(final ByteArrayOutputStream out) {
-    super.getEncoded(out) // write tag-field and length-field
-        .writeBytes(insValueField); // write value-field
+    final byte[] encoded = insEncoded;
+    if (null == encoded) {
+      super.getEncoded(out) // write tag-field and length-field
+          .writeBytes(insValueField); // write value-field
+    } else {
+      // ... encoding already available
+      out.writeBytes(encoded);
+    } // end else
 
     return out;
   } // end method */
@@ -476,4 +518,29 @@ public class PrimitiveBerTlv extends BerTlv {
         .append(comment) // handle comment
         .toString(); // StringBuilder.toString()
   } // end method */
+
+  /**
+   * Writes a tree representation of this TLV-object to given destination.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation depth of this TLV-object, i.e., how often the indentation is used before
+   *     printing the tag
+   * @throws IOException if {@code out} does so
+   * @see BerTlv#toStringTree(Appendable, TreeFormatOptions, int)
+   */
+  @Override
+  /* package */ void toStringTree(
+      final Appendable out, final TreeFormatOptions options, final int noIndentation)
+      throws IOException {
+    out.append(tagLength2String(" ", "|  ", noIndentation)); // tag-field and length-field
+
+    if (insValueField.length > 0) {
+      // ... value-field present
+      out.append(' ');
+      options.appendValueField(out, insValueField);
+    } // end fi
+
+    out.append(getComment());
+  } // end method */
 } // end class
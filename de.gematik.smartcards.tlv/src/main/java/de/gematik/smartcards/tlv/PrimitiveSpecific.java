@@ -21,6 +21,7 @@ package de.gematik.smartcards.tlv;
 
 import static de.gematik.smartcards.utils.AfiUtils.LINE_SEPARATOR;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -45,6 +46,11 @@ import java.util.stream.Collectors;
  * construction of such DER-TLV objects violating their specification, the construction is allowed,
  * but the violation is registered and shown.
  *
+ * <p>Checking the value-field and decoding it are deferred until a result is needed, i.e., until
+ * {@link #isValid()}, {@link #getDecoded()} or {@link #getComment()} is called for the first time.
+ * Thus, TLV-objects which are just parsed and forwarded (e.g. as part of a certificate) pay neither
+ * for the check nor for the decoding. Findings are calculated by {@link #validate()}.
+ *
  * <p>From the perspective of this class instances are immutable value-types, although {@link
  * PrimitiveBerTlv#equals(Object) equals()} and {@link PrimitiveBerTlv#hashCode() hashCode()} are
  * not overwritten because they are declared {@code final} in the superclass.
@@ -65,8 +71,19 @@ import java.util.stream.Collectors;
 }) // */
 public abstract class PrimitiveSpecific<T> extends PrimitiveBerTlv implements DerSpecific {
 
-  /** Findings in case TLV-object is not in accordance to its specification. */
-  protected final List<String> insFindings = new ArrayList<>(); // */
+  /**
+   * Findings in case TLV-object is not in accordance to its specification.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>Intentionally, this instance attribute is neither final (because of lazy
+   *       initialization) nor synchronized (to avoid synchronization overhead).</i>
+   *   <li><i>{@code null} as long as the value-field has not been checked, see {@link
+   *       #getFindingList()}.</i>
+   * </ol>
+   */
+  private volatile @Nullable List<String> insFindings; // NOPMD volatile not recommended */
 
   /**
    * Constructor.
@@ -107,6 +124,28 @@ public abstract class PrimitiveSpecific<T> extends PrimitiveBerTlv implements De
     super(tag, buffer);
   } // end constructor */
 
+  /**
+   * Constructor.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This constructor is NOT thread-safe, because it is possible to change the content of
+   *       the input parameter(s) while this constructor is running.</i>
+   *   <li><i>Object sharing is not a problem here, because object is immutable.</i>
+   * </ol>
+   *
+   * @param tag integer representation of tag
+   * @param buffer form which the TLV object is constructed
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Integer#MAX_VALUE}
+   * @throws IllegalArgumentException if underlying constructors do so
+   */
+  protected PrimitiveSpecific(final long tag, final ByteBuffer buffer) {
+    // CT_CONSTRUCTOR_THROW
+    super(tag, buffer);
+  } // end constructor */
+
   /**
    * Constructor.
    *
@@ -183,6 +222,81 @@ public abstract class PrimitiveSpecific<T> extends PrimitiveBerTlv implements De
     } // end Catch (...)
   } // end method */
 
+  /**
+   * Writes comment for decoded value-field to given destination.
+   *
+   * <p>This is the streaming counterpart of {@link #commentDecoded(int, byte[])}. Nothing is
+   * written if
+   *
+   * <ol>
+   *   <li>nested decoding is disabled in {@code options}, or
+   *   <li>{@code decoded} contains more than {@link TreeFormatOptions#getMaxValueBytes()} octets,
+   *       or
+   *   <li>the depth of this TLV-object is {@link TreeFormatOptions#getMaxDepth()}, i.e., decoded
+   *       TLV-objects would be beyond the depth limit, or
+   *   <li>{@code decoded} is not a sequence of valid TLV-objects.
+   * </ol>
+   *
+   * <p>Decoded TLV-objects count as children of this TLV-object with respect to {@link
+   * TreeFormatOptions#getMaxDepth()}.
+   *
+   * <p>In contrast to {@link #commentDecoded(int, byte[])} the octet string is decoded from a
+   * {@link ByteBuffer}, i.e., no thread is started.
+   *
+   * @param out destination of the output
+   * @param options limiting the output
+   * @param noIndentation indicates how often the indentation is used before printing the tag
+   * @param decoded decoded value, here an octet-string
+   * @throws IOException if {@code out} does so
+   */
+  /* package */ void commentDecoded(
+      final Appendable out,
+      final TreeFormatOptions options,
+      final int noIndentation,
+      final byte[] decoded)
+      throws IOException {
+    if (!options.isNestedDecoding()
+        || (decoded.length > options.getMaxValueBytes())
+        || (noIndentation >= options.getMaxDepth())) {
+      // ... nested decoding not requested or decoded TLV-objects beyond depth limit
+      return;
+    } // end fi
+
+    // --- decode all TLV-objects before anything is written
+    final List<BerTlv> list = new ArrayList<>();
+    try {
+      final ByteBuffer buffer = ByteBuffer.wrap(decoded);
+      while (buffer.hasRemaining()) {
+        list.add(getInstance(buffer));
+      } // end While (...)
+    } catch (RuntimeException e) { // NOPMD avoid catching generic exceptions
+      // ... decoded is not a valid TLV-object
+      //     => do not comment decoded value
+      return;
+    } // end Catch (...)
+
+    if (!list.isEmpty()) {
+      // ... at least one element in list
+      //     => add all elements to output
+      final String indentation = indentation("|  ", noIndentation).toString();
+      final String prefix = indentation + "   # ";
+      final Appendable comment = new PrefixAppendable(out, prefix);
+      final TreeFormatOptions nestedOptions = options.nested(noIndentation + 1);
+
+      // --- add prefix for commenting decoded TLV-object
+      out.append(LINE_SEPARATOR).append(indentation).append("   ##########");
+
+      // --- add decoded TLV-objects
+      for (final BerTlv tlv : list) {
+        out.append(LINE_SEPARATOR).append(prefix);
+        tlv.toStringTree(comment, nestedOptions, 0);
+      } // end For (tlv...)
+
+      // --- add suffix for commenting decoded TLV-object
+      out.append(LINE_SEPARATOR).append(indentation).append("   ##########");
+    } // end fi
+  } // end method */
+
   /**
    * Getter.
    *
@@ -190,15 +304,45 @@ public abstract class PrimitiveSpecific<T> extends PrimitiveBerTlv implements De
    */
   public abstract T getDecoded(); // */
 
+  /**
+   * Returns findings, performs lazy-initialization, if necessary.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is thread-safe.</i>
+   *   <li><i>Object sharing is not a problem here, because return value is immutable.</i>
+   * </ol>
+   *
+   * @return unmodifiable list of findings, possibly empty
+   */
+  protected final List<String> getFindingList() {
+    // Note 1: Because object content is immutable, it is possible to use
+    //         Racy-Single-Check-Idiom hereafter which gives good performance.
+
+    List<String> result = insFindings; // read from the main memory into thread local memory
+    if (null == result) {
+      // ... obviously, attribute insFindings has never been calculated (lazy initialization)
+      //     => do so now
+      result = List.copyOf(validate());
+
+      insFindings = result; // store insFindings into thread local memory
+    } // end fi
+
+    return result;
+  } // end method */
+
   /**
    * Concatenates findings.
    *
    * @return concatenated findings
    */
   protected final String getFindings() {
-    return insFindings.isEmpty()
+    final List<String> findings = getFindingList();
+
+    return findings.isEmpty()
         ? ""
-        : insFindings.stream()
+        : findings.stream()
             .collect(
                 Collectors.joining(
                     ", ", // delimiter
@@ -216,6 +360,73 @@ public abstract class PrimitiveSpecific<T> extends PrimitiveBerTlv implements De
    */
   @Override
   public final boolean isValid() {
-    return getFindings().isEmpty();
+    return getFindingList().isEmpty();
+  } // end method */
+
+  /**
+   * Checks whether this TLV-object is in accordance to its specification.
+   *
+   * <p>This method is called at most once per thread, see {@link #getFindingList()}. Thus,
+   * implementations <b>SHALL</b> be free of side effects.
+   *
+   * <p>This implementation returns an empty list. Subclasses with requirements for their
+   * value-field overwrite this method.
+   *
+   * @return findings, empty list if TLV-object is in accordance to its specification
+   */
+  protected List<String> validate() {
+    return List.of();
   } // end method */
+
+  /** {@link Appendable} adding a prefix after each line separator. */
+  private static final class PrefixAppendable implements Appendable {
+
+    /** Destination of the output. */
+    private final Appendable insOut; // */
+
+    /** Prefix added after each line separator. */
+    private final String insPrefix; // */
+
+    /**
+     * Constructor.
+     *
+     * @param out destination of the output
+     * @param prefix added after each line separator
+     */
+    private PrefixAppendable(final Appendable out, final String prefix) {
+      insOut = out;
+      insPrefix = prefix;
+    } // end constructor */
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+      return append(csq, 0, csq.length());
+    } // end method */
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end)
+        throws IOException {
+      int from = start;
+      for (int i = start; i < end; i++) {
+        if ('\n' == csq.charAt(i)) {
+          insOut.append(csq, from, i + 1).append(insPrefix);
+          from = i + 1;
+        } // end fi
+      } // end For (i...)
+      insOut.append(csq, from, end);
+
+      return this;
+    } // end method */
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+      insOut.append(c);
+
+      if ('\n' == c) {
+        insOut.append(insPrefix);
+      } // end fi
+
+      return this;
+    } // end method */
+  } // end inner class
 } // end class
@@ -0,0 +1,150 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Result of decoding a TLV-object with a {@link TlvSchema}.
+ *
+ * <p>A binding maps the names declared in a schema to the values found in a TLV-object and collects
+ * findings about deviations from the schema.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are effectively immutable, as soon as they are returned by {@link TlvSchema}.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TlvBinding {
+
+  /** Mapping from name to value-fields, in the order of their occurrence. */
+  private final Map<String, List<byte[]>> insValueFields = new HashMap<>(); // */
+
+  /** Mapping from name to TLV-object. */
+  private final Map<String, BerTlv> insTlvs = new HashMap<>(); // */
+
+  /** Findings in case the TLV-object is not in accordance to the schema. */
+  private final List<String> insFindings = new ArrayList<>(); // */
+
+  /** Default constructor, used by {@link TlvSchema}. */
+  /* package */ TlvBinding() {
+    // intentionally empty
+  } // end constructor */
+
+  /**
+   * Returns findings about deviations from the schema.
+   *
+   * @return unmodifiable list of findings in the order of their detection, empty if the TLV-object
+   *     is in accordance to the schema
+   */
+  public List<String> getFindings() {
+    return Collections.unmodifiableList(insFindings);
+  } // end method */
+
+  /**
+   * Returns TLV-object bound to given name.
+   *
+   * @param name declared in the schema
+   * @return TLV-object bound to {@code name}, or {@link Optional#empty()} if no such TLV-object is
+   *     present
+   */
+  public Optional<BerTlv> getTlv(final String name) {
+    return Optional.ofNullable(insTlvs.get(name));
+  } // end method */
+
+  /**
+   * Returns value-field bound to given name.
+   *
+   * <p>If the name is declared by {@link TlvSchema.Builder#values(long, String)}, then the first
+   * value-field is returned.
+   *
+   * <p><i><b>Note:</b> Object sharing is not a problem here, because the return value is
+   * defensively cloned.</i>
+   *
+   * @param name declared in the schema
+   * @return value-field bound to {@code name}, or {@link Optional#empty()} if no such TLV-object is
+   *     present
+   */
+  public Optional<byte[]> getValueField(final String name) {
+    final List<byte[]> valueFields = insValueFields.get(name);
+
+    return (null == valueFields) ? Optional.empty() : Optional.of(valueFields.get(0).clone());
+  } // end method */
+
+  /**
+   * Returns value-fields bound to given name.
+   *
+   * <p><i><b>Note:</b> Object sharing is not a problem here, because the return value is
+   * defensively cloned.</i>
+   *
+   * @param name declared in the schema
+   * @return value-fields bound to {@code name} in the order of their occurrence, possibly empty
+   */
+  public List<byte[]> getValueFields(final String name) {
+    return insValueFields.getOrDefault(name, List.of()).stream().map(byte[]::clone).toList();
+  } // end method */
+
+  /**
+   * Returns whether the TLV-object is in accordance to the schema.
+   *
+   * @return {@code TRUE} if no findings are present, {@code FALSE} otherwise
+   */
+  public boolean isValid() {
+    return insFindings.isEmpty();
+  } // end method */
+
+  /**
+   * Adds a finding.
+   *
+   * @param finding to be added
+   */
+  /* package */ void addFinding(final String finding) {
+    insFindings.add(finding);
+  } // end method */
+
+  /**
+   * Binds a TLV-object to a name.
+   *
+   * @param name declared in the schema
+   * @param tlv TLV-object
+   */
+  /* package */ void addTlv(final String name, final BerTlv tlv) {
+    insTlvs.put(name, tlv);
+  } // end method */
+
+  /**
+   * Binds a value-field to a name.
+   *
+   * @param name declared in the schema
+   * @param valueField value-field, not cloned
+   */
+  /* package */ void addValueField(final String name, final byte[] valueField) {
+    insValueFields.computeIfAbsent(name, key -> new ArrayList<>()).add(valueField);
+  } // end method */
+} // end class
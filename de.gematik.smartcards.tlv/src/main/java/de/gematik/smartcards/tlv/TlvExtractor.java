@@ -0,0 +1,383 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts TLV-objects matching a set of {@link TlvPath}s in a single traversal.
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * final TlvPath car = TlvPath.compile("7f21/42");
+ * final TlvPath puk = TlvPath.compile("7f21/7f4e/86");
+ * final TlvExtractor extractor = new TlvExtractor(List.of(car, puk));
+ *
+ * final Map<TlvPath, List<BerTlv>> result = extractor.extract(cvc);
+ * }</pre>
+ *
+ * <p>Extraction is possible from
+ *
+ * <ol>
+ *   <li>a {@link BerTlv} object, see {@link #extract(BerTlv)},
+ *   <li>an encoded TLV-object in a {@link ByteBuffer}, see {@link #extract(ByteBuffer)}. Here only
+ *       the matching TLV-objects are constructed, value-fields of all other TLV-objects are
+ *       skipped. Thus, it is possible to pull a few fields out of a big structure without
+ *       materializing all of it.
+ * </ol>
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe, as long as input parameters are not changed concurrently.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TlvExtractor {
+
+  /** Paths in the order given to the constructor. */
+  private final List<TlvPath> insPaths; // */
+
+  /** Root of a tree of tags built from {@link #insPaths}. */
+  private final Node insRoot = new Node(); // */
+
+  /**
+   * Comfort constructor.
+   *
+   * @param paths to be extracted, duplicates are ignored
+   */
+  public TlvExtractor(final Collection<TlvPath> paths) {
+    insPaths = paths.stream().distinct().toList();
+
+    for (final TlvPath path : insPaths) {
+      Node node = insRoot;
+      for (int level = 0; level < path.size(); level++) {
+        node = node.getOrAddChild(path.getTag(level));
+      } // end For (level...)
+      node.insPaths.add(path);
+    } // end For (path...)
+  } // end constructor */
+
+  /**
+   * Extracts TLV-objects from given tree.
+   *
+   * @param tlv root of tree
+   * @return mapping from each path to the (possibly empty) list of matching TLV-objects in the
+   *     order of their occurrence, the iteration order of the map is the order of paths given to
+   *     the constructor
+   */
+  public Map<TlvPath, List<BerTlv>> extract(final BerTlv tlv) {
+    final Map<TlvPath, List<BerTlv>> result = createResult();
+    walk(tlv, insRoot, result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Extracts TLV-objects from an encoded TLV-object.
+   *
+   * <p>Exactly one TLV-object is read from {@code buffer}. Only the TLV-objects matching a path are
+   * constructed. For all other TLV-objects just tag- and length-fields are read and value-fields
+   * are skipped.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is not thread-safe, care must be taken to ensure that the buffer is not
+   *       accessed until the operation completes.</i>
+   *   <li><i>This method does not change the buffer's {@code limit} attribute.</i>
+   *   <li><i>In case of success the buffer's {@code position} is advanced behind the encoded
+   *       TLV-object.</i>
+   *   <li><i>In case a {@link BufferUnderflowException} occurs then the buffer's {@code position}
+   *       attribute does not change.</i>
+   *   <li><i>Skipped value-fields are not checked for conformance to ISO/IEC 8825-1:2021, only
+   *       their tag- and length-fields are.</i>
+   * </ol>
+   *
+   * @param buffer containing an encoded TLV-object at its current position
+   * @return mapping from each path to the (possibly empty) list of matching TLV-objects in the
+   *     order of their occurrence, the iteration order of the map is the order of paths given to
+   *     the constructor
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  public Map<TlvPath, List<BerTlv>> extract(final ByteBuffer buffer) {
+    final int position = buffer.position();
+    final Map<TlvPath, List<BerTlv>> result = createResult();
+
+    try {
+      walk(buffer, insRoot, result);
+    } catch (BufferUnderflowException e) {
+      // ... not enough octets in buffer
+      //     => restore "position"
+      buffer.position(position);
+
+      throw e;
+    } // end Catch (...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Creates an empty result.
+   *
+   * @return mapping from each path to an empty list
+   */
+  private Map<TlvPath, List<BerTlv>> createResult() {
+    final Map<TlvPath, List<BerTlv>> result = new LinkedHashMap<>();
+    for (final TlvPath path : insPaths) {
+      result.put(path, new ArrayList<>());
+    } // end For (path...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Walks recursively through a tree of TLV-objects.
+   *
+   * @param tlv TLV-object to be matched against children of {@code parent}
+   * @param parent node matching the parent of {@code tlv}
+   * @param result where matching TLV-objects are added
+   */
+  private void walk(final BerTlv tlv, final Node parent, final Map<TlvPath, List<BerTlv>> result) {
+    final Node node = parent.getChild(tlv.getTag());
+
+    if (null == node) {
+      // ... tlv not on any path
+      return;
+    } // end fi
+
+    for (final TlvPath path : node.insPaths) {
+      result.get(path).add(tlv);
+    } // end For (path...)
+
+    if ((node.insNoChildren > 0) && (tlv instanceof ConstructedBerTlv constructed)) {
+      for (final BerTlv child : constructed.insValueField) {
+        walk(child, node, result);
+      } // end For (child...)
+    } // end fi
+  } // end method */
+
+  /**
+   * Walks recursively through an encoded TLV-object.
+   *
+   * @param buffer containing an encoded TLV-object at its current position
+   * @param parent node matching the parent of the TLV-object in {@code buffer}
+   * @param result where matching TLV-objects are added
+   */
+  private void walk(
+      final ByteBuffer buffer, final Node parent, final Map<TlvPath, List<BerTlv>> result) {
+    final int start = buffer.position();
+    final long tag = BerTlv.decodeTag(buffer);
+    final Node node = parent.getChild(tag);
+    BerTlv.checkTag(tag);
+
+    if ((null != node) && !node.insPaths.isEmpty()) {
+      // ... TLV-object matches at least one path
+      //     => construct it
+      buffer.position(start);
+      walk(BerTlv.getFromBuffer(buffer), parent, result);
+
+      return;
+    } // end fi
+
+    final long length = BerTlv.decodeLength(buffer);
+    final boolean isConstructed = BerTlv.isConstructed(tag);
+
+    if (!isConstructed) {
+      // ... primitive TLV-object not matching any path
+      //     => skip value-field
+      if (length < 0) {
+        throw new IllegalArgumentException(PrimitiveBerTlv.EM_INDEFINITE);
+      } // end fi
+
+      skip(buffer, length);
+    } else if (length < 0) {
+      // ... constructed TLV-object with indefinite form
+      //     => walk through (or skip) children until end-of-contents
+      while (!isEndOfContents(buffer)) {
+        if (null == node) {
+          skip(buffer);
+        } else {
+          walk(buffer, node, result);
+        } // end else
+      } // end While (...)
+    } else if (null == node) {
+      // ... constructed TLV-object with definite form not on any path
+      skip(buffer, length);
+    } else {
+      // ... constructed TLV-object with definite form on a path
+      //     => walk through children
+      final long end = buffer.position() + length;
+      if (end > buffer.limit()) {
+        throw new BufferUnderflowException();
+      } // end fi
+
+      while (buffer.position() < end) {
+        walk(buffer, node, result);
+      } // end While (...)
+
+      if (buffer.position() != end) {
+        throw new IllegalArgumentException("value-field does not match length-field");
+      } // end fi
+    } // end else
+  } // end method */
+
+  /**
+   * Checks for end-of-contents and consumes it if present.
+   *
+   * @param buffer with a TLV-object at its current position
+   * @return {@code TRUE} if end-of-contents were consumed, {@code FALSE} otherwise
+   */
+  /* package */ static boolean isEndOfContents(final ByteBuffer buffer) {
+    final int position = buffer.position();
+    if (position >= buffer.limit()) {
+      throw new BufferUnderflowException();
+    } // end fi
+
+    if (0 == buffer.get(position)) {
+      // ... tag-field '00', i.e., end-of-contents
+      BerTlv.getFromBuffer(buffer);
+
+      return true;
+    } // end fi
+
+    return false;
+  } // end method */
+
+  /**
+   * Skips an encoded TLV-object.
+   *
+   * <p>Only tag- and length-fields are read, value-fields are skipped.
+   *
+   * @param buffer with a TLV-object at its current position
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if a tag- or length-field is not in accordance to ISO/IEC
+   *     8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  /* package */ static void skip(final ByteBuffer buffer) {
+    final long tag = BerTlv.decodeTag(buffer);
+    BerTlv.checkTag(tag);
+    final long length = BerTlv.decodeLength(buffer);
+
+    if (length >= 0) {
+      // ... definite form
+      skip(buffer, length);
+    } else if (!BerTlv.isConstructed(tag)) {
+      // ... primitive TLV-object with indefinite form
+      throw new IllegalArgumentException(PrimitiveBerTlv.EM_INDEFINITE);
+    } else {
+      // ... constructed TLV-object with indefinite form
+      while (!isEndOfContents(buffer)) {
+        skip(buffer);
+      } // end While (...)
+    } // end else
+  } // end method */
+
+  /**
+   * Skips octets.
+   *
+   * @param buffer where octets are skipped
+   * @param length number of octets to skip
+   * @throws BufferUnderflowException if fewer than {@code length} octets remain
+   */
+  /* package */ static void skip(final ByteBuffer buffer, final long length) {
+    if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    } // end fi
+
+    buffer.position(buffer.position() + (int) length);
+  } // end method */
+
+  /** Node in a tree of tags. */
+  private static final class Node {
+
+    /** Paths ending in this node. */
+    private final List<TlvPath> insPaths = new ArrayList<>(); // */
+
+    /** Tags of children. */
+    private long[] insTags = new long[0]; // */
+
+    /** Children, same order as {@link #insTags}. */
+    private Node[] insChildren = new Node[0]; // */
+
+    /** Number of children. */
+    private int insNoChildren; // */
+
+    /**
+     * Returns child with given tag.
+     *
+     * @param tag of child
+     * @return child with given tag, or {@code null} if no such child exists
+     */
+    private @CheckForNull Node getChild(final long tag) {
+      // Note: Typically, a node has just a few children. Thus, a linear search is appropriate.
+      for (int i = insNoChildren; i-- > 0; ) { // NOPMD assignment in operand
+        if (insTags[i] == tag) {
+          return insChildren[i];
+        } // end fi
+      } // end For (i...)
+
+      return null;
+    } // end method */
+
+    /**
+     * Returns child with given tag, a child is added if necessary.
+     *
+     * @param tag of child
+     * @return child with given tag
+     */
+    private Node getOrAddChild(final long tag) {
+      final Node child = getChild(tag);
+      if (null != child) {
+        return child;
+      } // end fi
+
+      final Node result = new Node();
+      insTags = Arrays.copyOf(insTags, insNoChildren + 1);
+      insChildren = Arrays.copyOf(insChildren, insNoChildren + 1);
+      insTags[insNoChildren] = tag;
+      insChildren[insNoChildren++] = result;
+
+      return result;
+    } // end method */
+  } // end inner class
+} // end class
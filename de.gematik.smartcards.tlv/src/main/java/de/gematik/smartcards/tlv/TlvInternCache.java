@@ -0,0 +1,326 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache for interning small, frequently occurring primitive TLV-objects.
+ *
+ * <p>Collections of certificates contain the same primitive TLV-objects over and over again, e.g.,
+ * OIDs of domain parameters or algorithm identifiers, {@link DerNull}, version numbers or
+ * references to certification authorities. If a cache is installed via {@link
+ * #setDefault(TlvInternCache)} then decoders (i.e., {@link BerTlv#getInstance(ByteBuffer)}, {@link
+ * BerTlv#getInstance(java.io.InputStream)} and all methods based on those) return a shared instance
+ * for such TLV-objects. This reduces heap usage and speeds up {@link BerTlv#equals(Object)} because
+ * equal objects are often identical.
+ *
+ * <p>The following TLV-objects are candidates for interning:
+ *
+ * <ol>
+ *   <li>{@link DerBoolean} and {@link DerNull},
+ *   <li>{@link DerInteger} with at most {@link #MAX_LENGTH_INTEGER} octets in the value-field,
+ *   <li>{@link DerOid} with at most {@link #MAX_LENGTH_OID} octets in the value-field,
+ *   <li>{@link PrimitiveBerTlv} (but not its subclasses) with at most {@link #MAX_LENGTH_PRIMITIVE}
+ *       octets in the value-field, e.g., CAR or CHR of a card-verifiable certificate.
+ * </ol>
+ *
+ * <p>TLV-objects are keyed by their encoding. TLV-objects read with a length-field which is not
+ * encoded with the minimum number of octets are never interned. Neither are TLV-objects created by
+ * constructors other than those reading from a stream (except for those with an empty value-field).
+ *
+ * <p>The number of entries is bounded by the capacity given to the constructor. If a cache is full
+ * then no further entries are added, i.e., the entries seen first are kept. Typically, those are
+ * the ones occurring most often. {@link #clear()} empties a cache.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are mutable, but the cached TLV-objects are immutable.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TlvInternCache {
+
+  /** Default number of entries. */
+  public static final int DEFAULT_CAPACITY = 4096; // */
+
+  /** Maximum number of octets in the value-field of an interned {@link DerInteger}. */
+  public static final int MAX_LENGTH_INTEGER = 4; // */
+
+  /** Maximum number of octets in the value-field of an interned {@link DerOid}. */
+  public static final int MAX_LENGTH_OID = 32; // */
+
+  /** Maximum number of octets in the value-field of an interned {@link PrimitiveBerTlv}. */
+  public static final int MAX_LENGTH_PRIMITIVE = 16; // */
+
+  /**
+   * Maximum number of octets in the value-field of any interned TLV-object.
+   *
+   * <p>Encodings with a longer value-field are not looked up at all.
+   */
+  private static final int MAX_LENGTH = Math.max(MAX_LENGTH_OID, MAX_LENGTH_PRIMITIVE); // */
+
+  /**
+   * Cache used by decoders, {@code null} if interning is disabled.
+   *
+   * <p><i><b>Note:</b> Intentionally, interning is disabled by default.</i>
+   */
+  private static volatile @Nullable TlvInternCache claDefault; // NOPMD volatile */
+
+  /** Maximum number of entries. */
+  private final int insCapacity; // */
+
+  /** Mapping from encoding to interned TLV-object. */
+  private final Map<ByteBuffer, BerTlv> insCache = new ConcurrentHashMap<>(); // */
+
+  /** Number of lookups returning an interned TLV-object. */
+  private final LongAdder insHits = new LongAdder(); // */
+
+  /** Number of lookups for candidates not (yet) interned. */
+  private final LongAdder insMisses = new LongAdder(); // */
+
+  /** Default constructor with capacity {@link #DEFAULT_CAPACITY}. */
+  public TlvInternCache() {
+    this(DEFAULT_CAPACITY);
+  } // end constructor */
+
+  /**
+   * Constructor.
+   *
+   * @param capacity maximum number of entries
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   */
+  public TlvInternCache(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity SHALL be positive");
+    } // end fi
+
+    insCapacity = capacity;
+  } // end constructor */
+
+  /**
+   * Returns cache used by decoders.
+   *
+   * @return cache used by decoders, {@link Optional#empty()} if interning is disabled
+   */
+  public static Optional<TlvInternCache> getDefault() {
+    return Optional.ofNullable(claDefault);
+  } // end method */
+
+  /**
+   * Sets cache used by decoders.
+   *
+   * @param cache used by decoders from now on, {@code null} disables interning
+   */
+  public static void setDefault(final @Nullable TlvInternCache cache) {
+    claDefault = cache;
+  } // end method */
+
+  /**
+   * Returns cache used by decoders.
+   *
+   * @return cache used by decoders, {@code null} if interning is disabled
+   */
+  /* package */
+  static @CheckForNull TlvInternCache getDefaultOrNull() {
+    return claDefault;
+  } // end method */
+
+  /** Removes all entries and resets statistics. */
+  public void clear() {
+    insCache.clear();
+    insHits.reset();
+    insMisses.reset();
+  } // end method */
+
+  /**
+   * Returns maximum number of entries.
+   *
+   * @return maximum number of entries
+   */
+  public int getCapacity() {
+    return insCapacity;
+  } // end method */
+
+  /**
+   * Returns number of lookups returning an interned TLV-object.
+   *
+   * @return number of hits since construction or latest {@link #clear()}
+   */
+  public long getHits() {
+    return insHits.sum();
+  } // end method */
+
+  /**
+   * Returns number of lookups for candidates not (yet) interned.
+   *
+   * @return number of misses since construction or latest {@link #clear()}
+   */
+  public long getMisses() {
+    return insMisses.sum();
+  } // end method */
+
+  /**
+   * Returns number of entries.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    return insCache.size();
+  } // end method */
+
+  /**
+   * Returns interned TLV-object equal to the given one.
+   *
+   * <p>If {@code tlv} is a candidate for interning, but not yet interned, then it is added to this
+   * cache (as long as this cache is not full).
+   *
+   * @param tlv TLV-object
+   * @return interned TLV-object equal to {@code tlv}, or {@code tlv} itself
+   */
+  public BerTlv intern(final BerTlv tlv) {
+    if (isCandidate(tlv)) {
+      final BerTlv result = insCache.get(ByteBuffer.wrap(tlv.encoded()));
+
+      if (null != result) {
+        insHits.increment();
+
+        return result;
+      } // end fi
+
+      return add(tlv);
+    } // end fi
+
+    return tlv;
+  } // end method */
+
+  /**
+   * Looks up an encoded TLV-object.
+   *
+   * <p>In case of a hit, the {@code position} of {@code buffer} is set behind the encoded
+   * TLV-object. Otherwise, the {@code position} is set to {@code start}.
+   *
+   * @param buffer with the tag-field of a TLV-object before its current position
+   * @param start position of the tag-field in {@code buffer}
+   * @return interned TLV-object, or {@code null} if no such object exists
+   */
+  /* package */ @CheckForNull
+  BerTlv lookup(final ByteBuffer buffer, final int start) {
+    if (0x20 == (buffer.get(start) & 0x20)) { // NOPMD literals in a conditional statement
+      // ... constructed TLV-object, never interned
+      return null;
+    } // end fi
+
+    // --- peek at length-field
+    // Note: Only length-fields with the minimum number of octets are interned. Thus, here
+    //       it is sufficient to consider the short form of a length-field.
+    final int position = buffer.position();
+    if (position >= buffer.limit()) {
+      return null;
+    } // end fi
+
+    final int length = buffer.get(position);
+    if ((length < 0) || (length > MAX_LENGTH)) {
+      // ... long form or value-field too long for interning
+      return null;
+    } // end fi
+
+    final int end = position + 1 + length;
+    if (end > buffer.limit()) {
+      return null;
+    } // end fi
+
+    final BerTlv result = insCache.get(buffer.slice(start, end - start));
+
+    if (null == result) {
+      return null;
+    } // end fi
+
+    insHits.increment();
+    buffer.position(end);
+
+    return result;
+  } // end method */
+
+  /**
+   * Adds a TLV-object read from a buffer.
+   *
+   * <p>This method is called after {@link #lookup(ByteBuffer, int)} was not successful.
+   *
+   * @param tlv TLV-object
+   * @return interned TLV-object equal to {@code tlv}, or {@code tlv} itself
+   */
+  /* package */ BerTlv add(final BerTlv tlv) {
+    if (!isCandidate(tlv)) {
+      return tlv;
+    } // end fi
+
+    insMisses.increment();
+
+    if (insCache.size() >= insCapacity) {
+      // ... cache is full
+      return tlv;
+    } // end fi
+
+    final BerTlv result = insCache.putIfAbsent(ByteBuffer.wrap(tlv.encoded()), tlv);
+
+    return (null == result) ? tlv : result;
+  } // end method */
+
+  /**
+   * Checks whether given TLV-object is a candidate for interning.
+   *
+   * @param tlv TLV-object
+   * @return {@code TRUE} if {@code tlv} is a candidate, {@code FALSE} otherwise
+   */
+  /* package */
+  static boolean isCandidate(final BerTlv tlv) {
+    final long length = tlv.getLengthOfValueField();
+
+    // Note: Constructors of ConstructedBerTlv rely on the length of TLV-objects as read from
+    //       a stream. Thus, only TLV-objects are interned where those lengths are identical
+    //       to the lengths in their encoding.
+    if ((tlv.getLengthOfTagField() + tlv.insLengthOfLengthFieldFromStream
+            != tlv.insTagLengthField.length)
+        || (tlv.insLengthOfValueFieldFromStream != length)) {
+      // ... length-field not encoded with minimum number of octets or not read from stream
+      return false;
+    } // end fi
+
+    if ((tlv instanceof DerBoolean) || (tlv instanceof DerNull)) {
+      return true;
+    } else if (tlv instanceof DerInteger) {
+      return length <= MAX_LENGTH_INTEGER;
+    } else if (tlv instanceof DerOid) {
+      return length <= MAX_LENGTH_OID;
+    } // end else if
+
+    return (PrimitiveBerTlv.class == tlv.getClass()) && (length <= MAX_LENGTH_PRIMITIVE);
+  } // end method */
+} // end class
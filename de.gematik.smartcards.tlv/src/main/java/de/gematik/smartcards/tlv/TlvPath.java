@@ -0,0 +1,341 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import de.gematik.smartcards.utils.Hex;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled path to TLV-objects in a tree of nested TLV-objects.
+ *
+ * <p>A path is a sequence of tags. The first tag matches the root of a tree, each subsequent tag
+ * matches a TLV-object in the value-field of the TLV-object matched by the previous tag. E.g., the
+ * path {@code "7f21/7f4e/86"} matches the public key of a card-verifiable certificate. Thus,
+ *
+ * <pre>{@code
+ * TlvPath.compile("7f21/7f4e/86").find(cvc)
+ * }</pre>
+ *
+ * <p>is equivalent to
+ *
+ * <pre>{@code
+ * ((ConstructedBerTlv) cvc).getConstructed(0x7f4e).orElseThrow().getPrimitive(0x86)
+ * }</pre>
+ *
+ * <p>For extracting several paths from the same tree in a single traversal see {@link
+ * TlvExtractor}.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>Instances are immutable value-types. Thus, {@link Object#equals(Object) equals()}, {@link
+ *       Object#hashCode() hashCode()} are overwritten, but {@link Object#clone() clone()} isn't
+ *       overwritten.
+ *   <li>where data is passed in or out, defensive cloning is performed.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TlvPath {
+
+  /** Delimiter between tags in the string representation of a path. */
+  public static final String DELIMITER = "/"; // */
+
+  /** Tags of this path, the first one matches the root. */
+  private final long[] insTags; // */
+
+  /**
+   * Private constructor.
+   *
+   * @param tags of this path, the array is NOT cloned
+   */
+  private TlvPath(final long[] tags) {
+    insTags = tags;
+  } // end constructor */
+
+  /**
+   * Compiles a path from its string representation.
+   *
+   * <p>The string representation consists of tag-fields in hexadecimal notation separated by {@link
+   * #DELIMITER}, e.g., {@code "7f21/7f4e/86"}. Characters other than hexadecimal digits within a
+   * tag-field are ignored, see {@link Hex#toByteArray(CharSequence)}.
+   *
+   * @param path string representation of a path
+   * @return compiled path
+   * @throws ArithmeticException if a tag-field contains more than eight octets
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>{@code path} is empty
+   *       <li>a tag-field is not in accordance to ISO/IEC 8825-1:2021
+   *       <li>a tag other than the last one indicates primitive encoding
+   *     </ol>
+   */
+  public static TlvPath compile(final String path) {
+    final String[] segments = path.split(DELIMITER, -1);
+    final long[] tags = new long[segments.length];
+
+    for (int i = 0; i < segments.length; i++) {
+      final byte[] tagField = Hex.toByteArray(segments[i]);
+      final ByteBuffer buffer = ByteBuffer.wrap(tagField);
+
+      try {
+        BerTlv.readTag(buffer);
+      } catch (BufferUnderflowException e) {
+        throw new IllegalArgumentException("incomplete tag-field: \"" + segments[i] + '"', e);
+      } // end Catch (...)
+
+      if (buffer.hasRemaining()) {
+        throw new IllegalArgumentException("more than one tag: \"" + segments[i] + '"');
+      } // end fi
+
+      tags[i] = BerTlv.convertTag(tagField);
+      BerTlv.checkTag(tagField);
+    } // end For (i...)
+
+    return of(tags);
+  } // end method */
+
+  /**
+   * Creates a path from given tags.
+   *
+   * @param tags of path, the first one matches the root
+   * @return path
+   * @throws ArithmeticException if a tag-field contains more than eight octets
+   * @throws IllegalArgumentException if
+   *     <ol>
+   *       <li>{@code tags} is empty
+   *       <li>a tag is not in accordance to ISO/IEC 8825-1:2021
+   *       <li>a tag other than the last one indicates primitive encoding
+   *     </ol>
+   */
+  public static TlvPath of(final long... tags) {
+    if (0 == tags.length) {
+      throw new IllegalArgumentException("empty path");
+    } // end fi
+
+    for (int i = 0; i < tags.length; i++) {
+      final byte[] tagField = BerTlv.convertTag(tags[i]);
+      BerTlv.checkTag(tagField);
+
+      if ((i < tags.length - 1) && (0 == (tagField[0] & 0x20))) {
+        throw new IllegalArgumentException(
+            "primitive tag within path: " + Hex.toHexDigits(tagField));
+      } // end fi
+    } // end For (i...)
+
+    return new TlvPath(tags.clone());
+  } // end method */
+
+  /**
+   * The implementation of this method fulfills the equals-contract.
+   *
+   * @param obj object used for comparison, can be null
+   * @return true if objects are equal, false otherwise
+   * @see java.lang.Object#equals(java.lang.Object)
+   */
+  @Override
+  public boolean equals(final @CheckForNull Object obj) {
+    // Note 1: Because this class is a direct subclass of Object calling super.equals(...)
+    //         would be wrong. Instead, special checks are performed.
+
+    // --- reflexive
+    if (this == obj) {
+      return true;
+    } // end fi
+    // ... obj not same as this
+
+    if (null == obj) {
+      // ... this differs from null
+      return false;
+    } // end fi
+    // ... obj not null
+
+    // Note 2: Although this class is final we use a check on class here.
+    if (getClass() != obj.getClass()) {
+      // ... different classes
+      return false;
+    } // end fi
+    // ... obj is instance of TlvPath
+
+    return Arrays.equals(insTags, ((TlvPath) obj).insTags);
+  } // end method */
+
+  /**
+   * The implementation of this method fulfills the hashCode-contract.
+   *
+   * @return hash-code of object
+   * @see java.lang.Object#hashCode()
+   */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(insTags);
+  } // end method */
+
+  /**
+   * Searches for the first TLV-object matching this path.
+   *
+   * <p>TLV-objects are searched depth-first, i.e., the result is the first match in the order
+   * TLV-objects occur in an encoding of {@code tlv}.
+   *
+   * @param tlv root of tree to be searched
+   * @return first TLV-object matching this path, or {@link Optional#empty()} if no such object
+   *     exists
+   */
+  public Optional<BerTlv> find(final BerTlv tlv) {
+    return (tlv.getTag() == insTags[0]) ? find(tlv, 0) : Optional.empty();
+  } // end method */
+
+  /**
+   * Searches recursively for the first TLV-object matching this path.
+   *
+   * @param tlv matching {@code insTags[level]}
+   * @param level index in {@link #insTags}
+   * @return first TLV-object matching this path, or {@link Optional#empty()}
+   */
+  private Optional<BerTlv> find(final BerTlv tlv, final int level) {
+    if (insTags.length - 1 == level) {
+      // ... end of path reached
+      return Optional.of(tlv);
+    } // end fi
+
+    if (tlv instanceof ConstructedBerTlv constructed) {
+      final long tag = insTags[level + 1];
+      for (int position = 0; ; position++) {
+        // Note: get(long, int) uses an index for large value-fields.
+        final Optional<BerTlv> child = constructed.get(tag, position);
+
+        if (child.isEmpty()) {
+          break;
+        } // end fi
+
+        final Optional<BerTlv> result = find(child.get(), level + 1);
+        if (result.isPresent()) {
+          return result;
+        } // end fi
+      } // end For (position...)
+    } // end fi
+
+    return Optional.empty();
+  } // end method */
+
+  /**
+   * Searches for the first TLV-object matching this path in an encoded TLV-object.
+   *
+   * <p>Only the matching TLV-object is constructed, all other value-fields are skipped, see {@link
+   * TlvExtractor#extract(ByteBuffer)}.
+   *
+   * <p><i><b>Note:</b> The buffer's {@code position} is advanced behind the encoded TLV-object.</i>
+   *
+   * @param buffer containing an encoded TLV-object at its current position
+   * @return first TLV-object matching this path, or {@link Optional#empty()} if no such object
+   *     exists
+   * @throws BufferUnderflowException if too few octets are available, in that case the buffer's
+   *     {@code position} attribute does not change
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  public Optional<BerTlv> find(final ByteBuffer buffer) {
+    return new TlvExtractor(List.of(this)).extract(buffer).get(this).stream().findFirst();
+  } // end method */
+
+  /**
+   * Searches for all TLV-objects matching this path.
+   *
+   * @param tlv root of tree to be searched
+   * @return list of TLV-objects matching this path, in the order of their occurrence, possibly
+   *     empty
+   */
+  public List<BerTlv> findAll(final BerTlv tlv) {
+    final List<BerTlv> result = new ArrayList<>();
+
+    if (tlv.getTag() == insTags[0]) {
+      findAll(tlv, 0, result);
+    } // end fi
+
+    return result;
+  } // end method */
+
+  /**
+   * Searches recursively for all TLV-objects matching this path.
+   *
+   * @param tlv matching {@code insTags[level]}
+   * @param level index in {@link #insTags}
+   * @param result list where matching TLV-objects are added
+   */
+  private void findAll(final BerTlv tlv, final int level, final List<BerTlv> result) {
+    if (insTags.length - 1 == level) {
+      // ... end of path reached
+      result.add(tlv);
+    } else if (tlv instanceof ConstructedBerTlv constructed) {
+      final long tag = insTags[level + 1];
+      for (final BerTlv child : constructed.insValueField) {
+        if (child.getTag() == tag) {
+          findAll(child, level + 1, result);
+        } // end fi
+      } // end For (child...)
+    } // end fi
+  } // end method */
+
+  /**
+   * Returns tag at given level.
+   *
+   * @param level index of tag, zero for the root
+   * @return tag at given level
+   * @throws ArrayIndexOutOfBoundsException if {@code level} is not in range [0, {@link #size()} -
+   *     1]
+   */
+  public long getTag(final int level) {
+    return insTags[level];
+  } // end method */
+
+  /**
+   * Returns number of tags in this path.
+   *
+   * @return number of tags in this path
+   */
+  public int size() {
+    return insTags.length;
+  } // end method */
+
+  /**
+   * Returns {@link String} representation.
+   *
+   * @return tag-fields in hexadecimal notation separated by {@link #DELIMITER}, e.g. {@code
+   *     "7f21/7f4e/86"}
+   */
+  @Override
+  public String toString() {
+    return Arrays.stream(insTags)
+        .mapToObj(tag -> Hex.toHexDigits(BerTlv.convertTag(tag)))
+        .collect(Collectors.joining(DELIMITER));
+  } // end method */
+} // end class
@@ -0,0 +1,806 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Schema of a constructed TLV-object with a fixed structure.
+ *
+ * <p>A schema declares which TLV-objects are expected in the value-field of a constructed
+ * TLV-object and binds them to names. A schema is compiled once (typically into a constant) and is
+ * used for decoding many TLV-objects.
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * final TlvSchema schema =
+ *     new TlvSchema.Builder(0x7f21)
+ *         .template(
+ *             new TlvSchema.Builder(0x7f4e)
+ *                 .tlv(0x42, "car")
+ *                 .template(new TlvSchema.Builder(0x7f49).value(0x86, "puk").build())
+ *                 .ordered()
+ *                 .build())
+ *         .value(0x5f37, "signature")
+ *         .build();
+ *
+ * final TlvBinding binding = schema.decode(octets);
+ * final byte[] puk = binding.getValueField("puk").orElseThrow();
+ * }</pre>
+ *
+ * <p>Decoding is possible from
+ *
+ * <ol>
+ *   <li>an encoded TLV-object, see {@link #decode(ByteBuffer)}. Here the octets are read in a
+ *       single pass, values are bound directly from the octet string, and TLV-objects not declared
+ *       in the schema are skipped. A {@link BerTlv} object is constructed only for elements
+ *       declared with {@link Builder#tlv(long, String)} or a named template.
+ *   <li>an already decoded {@link ConstructedBerTlv}, see {@link #bind(ConstructedBerTlv)}.
+ * </ol>
+ *
+ * <p>Deviations from the schema do not cause exceptions. Instead, they are reported as findings,
+ * see {@link TlvBinding#getFindings()}. Exceptions are thrown only if the octet string is not in
+ * accordance to ISO/IEC 8825-1:2021.
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe, as long as input parameters are not changed concurrently.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TlvSchema {
+
+  /** Error message in case a value-field does not match its length-field. */
+  /* package */ static final String EM_LENGTH = "value-field does not match length-field"; // */
+
+  /** Tag of the constructed TLV-object described by this schema. */
+  private final long insTag; // */
+
+  /** Expected TLV-objects in the value-field, in the order of declaration. */
+  private final Element[] insElements; // */
+
+  /** Flag indicating whether the order of declaration is mandatory. */
+  private final boolean insOrdered; // */
+
+  /**
+   * Constructor.
+   *
+   * @param builder with the declarations of this schema
+   */
+  private TlvSchema(final Builder builder) {
+    insTag = builder.insTag;
+    insElements = builder.insElements.toArray(new Element[0]);
+    insOrdered = builder.insOrdered;
+  } // end constructor */
+
+  /**
+   * Binds the elements of this schema from an already decoded TLV-object.
+   *
+   * <p><i><b>Note:</b> This method is thread-safe, because {@link ConstructedBerTlv} is
+   * immutable.</i>
+   *
+   * @param tlv TLV-object to be bound
+   * @return binding of elements found in {@code tlv}
+   */
+  public TlvBinding bind(final ConstructedBerTlv tlv) {
+    final TlvBinding result = new TlvBinding();
+    checkRootTag(tlv.getTag(), result);
+    bindTemplate(tlv, result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Binds the elements of this schema from the value-field of an already decoded TLV-object.
+   *
+   * <p>In contrast to {@link #bind(ConstructedBerTlv)} the tag of {@code tlv} is not checked. This
+   * is useful if the caller checks the tag on its own, see also {@link #decodeValueField(byte[])}.
+   *
+   * <p><i><b>Note:</b> This method is thread-safe, because {@link ConstructedBerTlv} is
+   * immutable.</i>
+   *
+   * @param tlv TLV-object with children to be bound
+   * @return binding of elements found in the value-field of {@code tlv}
+   */
+  public TlvBinding bindValueField(final ConstructedBerTlv tlv) {
+    final TlvBinding result = new TlvBinding();
+    bindTemplate(tlv, result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes an encoded TLV-object and binds the elements of this schema.
+   *
+   * @param octets encoded TLV-object, additional octets are ignored
+   * @return binding of elements found in {@code octets}
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   *
+   * @see #decode(ByteBuffer)
+   */
+  public TlvBinding decode(final byte[] octets) {
+    return decode(ByteBuffer.wrap(octets));
+  } // end method */
+
+  /**
+   * Decodes an encoded TLV-object and binds the elements of this schema.
+   *
+   * <p>Exactly one TLV-object is read from {@code buffer} in a single pass.
+   *
+   * <p><i><b>Notes:</b></i>
+   *
+   * <ol>
+   *   <li><i>This method is not thread-safe, care must be taken to ensure that the buffer is not
+   *       accessed until the operation completes.</i>
+   *   <li><i>In case of success the buffer's {@code position} is advanced behind the encoded
+   *       TLV-object.</i>
+   *   <li><i>In case a {@link BufferUnderflowException} occurs then the buffer's {@code position}
+   *       attribute does not change.</i>
+   *   <li><i>Value-fields of TLV-objects not declared in this schema are skipped. They are not
+   *       checked for conformance to ISO/IEC 8825-1:2021, only their tag- and length-fields
+   *       are.</i>
+   * </ol>
+   *
+   * @param buffer containing an encoded TLV-object at its current position
+   * @return binding of elements found in {@code buffer}
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  public TlvBinding decode(final ByteBuffer buffer) {
+    final int position = buffer.position();
+    final TlvBinding result = new TlvBinding();
+
+    try {
+      final long tag = BerTlv.decodeTag(buffer);
+      BerTlv.checkTag(tag);
+      checkRootTag(tag, result);
+
+      if (BerTlv.isConstructed(tag)) {
+        decodeValueField(buffer, BerTlv.decodeLength(buffer), result);
+      } else {
+        // ... primitive TLV-object, i.e., no elements
+        buffer.position(position);
+        BerTlv.getFromBuffer(buffer);
+        reportMissing(new boolean[insElements.length], result);
+      } // end else
+    } catch (BufferUnderflowException e) {
+      // ... not enough octets in buffer
+      //     => restore "position"
+      buffer.position(position);
+
+      throw e;
+    } // end Catch (...)
+
+    return result;
+  } // end method */
+
+  /**
+   * Decodes the value-field of a TLV-object and binds the elements of this schema.
+   *
+   * <p>This is useful if the tag- and length-field of the constructed TLV-object are not part of
+   * the octet string, e.g., the content of a file. The tag given to {@link Builder#Builder(long)}
+   * is not checked.
+   *
+   * @param valueField value-field of a constructed TLV-object
+   * @return binding of elements found in {@code valueField}
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if octet string is not in accordance to ISO/IEC 8825-1:2021
+   * @throws ArithmeticException if
+   *     <ol>
+   *       <li>a tag-field contains more than eight octets
+   *       <li>a length-field indicates a length greater than {@link Long#MAX_VALUE}
+   *     </ol>
+   */
+  public TlvBinding decodeValueField(final byte[] valueField) {
+    final TlvBinding result = new TlvBinding();
+    decodeValueField(ByteBuffer.wrap(valueField), valueField.length, result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Returns tag of the constructed TLV-object described by this schema.
+   *
+   * @return tag given to {@link Builder#Builder(long)}
+   */
+  public long getTag() {
+    return insTag;
+  } // end method */
+
+  /**
+   * Binds the children of given TLV-object.
+   *
+   * @param tlv TLV-object with children to be bound
+   * @param result where bindings and findings are added
+   */
+  private void bindTemplate(final ConstructedBerTlv tlv, final TlvBinding result) {
+    final boolean[] present = new boolean[insElements.length];
+    int previous = -1;
+
+    for (final BerTlv child : tlv.insValueField) {
+      final int index = match(child.getTag(), present, previous, result);
+
+      if (index < 0) {
+        // ... child not to be bound
+        continue;
+      } // end fi
+      previous = Math.max(previous, index);
+
+      final Element element = insElements[index];
+      switch (element.insKind) {
+        case VALUE -> result.addValueField(element.getName(), child.getValueField());
+        case TLV -> result.addTlv(element.getName(), child);
+        default -> { // TEMPLATE
+          final ConstructedBerTlv template = (ConstructedBerTlv) child;
+          if (null != element.insName) {
+            result.addTlv(element.getName(), template);
+          } // end fi
+
+          element.getContent().bindTemplate(template, result);
+        } // end default
+      } // end Switch (kind)
+    } // end For (child...)
+
+    reportMissing(present, result);
+  } // end method */
+
+  /**
+   * Decodes children from a value-field.
+   *
+   * @param buffer with a value-field at its current position
+   * @param length number of octets in the value-field, -1 for indefinite form
+   * @param result where bindings and findings are added
+   */
+  private void decodeValueField(
+      final ByteBuffer buffer, final long length, final TlvBinding result) {
+    final boolean[] present = new boolean[insElements.length];
+    int previous = -1;
+
+    final long end;
+    if (length < 0) {
+      // ... indefinite form
+      end = Long.MAX_VALUE;
+    } else {
+      // ... definite form
+      end = buffer.position() + length;
+      if (end > buffer.limit()) {
+        throw new BufferUnderflowException();
+      } // end fi
+    } // end else
+
+    while ((length < 0) ? !TlvExtractor.isEndOfContents(buffer) : (buffer.position() < end)) {
+      final int start = buffer.position();
+      final long tag = BerTlv.decodeTag(buffer);
+      BerTlv.checkTag(tag);
+      final int index = match(tag, present, previous, result);
+
+      if (index < 0) {
+        // ... child not to be bound
+        //     => skip it
+        buffer.position(start);
+        TlvExtractor.skip(buffer);
+
+        continue;
+      } // end fi
+      previous = Math.max(previous, index);
+
+      final Element element = insElements[index];
+      if (Kind.VALUE == element.insKind) {
+        result.addValueField(element.getName(), readValueField(buffer));
+      } else if ((Kind.TLV == element.insKind) || (null != element.insName)) {
+        // ... TLV-object needed
+        buffer.position(start);
+        final BerTlv tlv = BerTlv.getFromBuffer(buffer);
+        result.addTlv(element.getName(), tlv);
+
+        if (Kind.TEMPLATE == element.insKind) {
+          element.getContent().bindTemplate((ConstructedBerTlv) tlv, result);
+        } // end fi
+      } else {
+        // ... unnamed template
+        element.getContent().decodeValueField(buffer, BerTlv.decodeLength(buffer), result);
+      } // end else
+    } // end While (...)
+
+    if ((length >= 0) && (buffer.position() != end)) {
+      throw new IllegalArgumentException(EM_LENGTH);
+    } // end fi
+
+    reportMissing(present, result);
+  } // end method */
+
+  /**
+   * Reads length- and value-field of a primitive TLV-object.
+   *
+   * @param buffer with a length-field at its current position
+   * @return value-field
+   * @throws BufferUnderflowException if too few octets are available
+   * @throws IllegalArgumentException if the length-field indicates the indefinite form
+   * @throws ArithmeticException if the length-field indicates a length greater than {@link
+   *     Integer#MAX_VALUE}
+   */
+  private static byte[] readValueField(final ByteBuffer buffer) {
+    final long length = BerTlv.decodeLength(buffer);
+
+    if (length < 0) {
+      throw new IllegalArgumentException(PrimitiveBerTlv.EM_INDEFINITE);
+    } else if (length > Integer.MAX_VALUE) {
+      throw new ArithmeticException(PrimitiveBerTlv.EM_TOO_LONG);
+    } else if (length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    } // end fi
+
+    final byte[] result = new byte[(int) length];
+    buffer.get(result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Checks the tag of the root TLV-object.
+   *
+   * @param tag of the root TLV-object
+   * @param result where a finding is added in case {@code tag} differs from {@link #insTag}
+   */
+  private void checkRootTag(final long tag, final TlvBinding result) {
+    if (tag != insTag) {
+      result.addFinding(String.format("DO'%02x' instead of DO'%02x'", tag, insTag));
+    } // end fi
+  } // end method */
+
+  /**
+   * Matches a tag against the elements of this schema.
+   *
+   * @param tag of a child
+   * @param present flags indicating which elements are already bound, the flag for the matching
+   *     element is set by this method
+   * @param previous index of the element matched latest, -1 if no element matched yet
+   * @param result where findings are added
+   * @return index of matching element, or -1 if the child is not to be bound
+   */
+  private int match(
+      final long tag, final boolean[] present, final int previous, final TlvBinding result) {
+    // Note: Typically, a schema has just a few elements. Thus, a linear search is appropriate.
+    int index = insElements.length;
+    while ((--index >= 0) && (insElements[index].insTag != tag)) { // NOPMD assignment in operand
+      // intentionally empty
+    } // end While (...)
+
+    if (index < 0) {
+      result.addFinding(String.format("unexpected DO'%02x' in DO'%02x'", tag, insTag));
+
+      return -1;
+    } // end fi
+
+    if (present[index] && !insElements[index].insRepeated) {
+      result.addFinding(String.format("DO'%02x' occurs more than once in DO'%02x'", tag, insTag));
+
+      return -1;
+    } // end fi
+
+    if (insOrdered && (index < previous)) {
+      result.addFinding(String.format("DO'%02x' out of order in DO'%02x'", tag, insTag));
+    } // end fi
+
+    present[index] = true;
+
+    return index;
+  } // end method */
+
+  /**
+   * Reports mandatory elements not present.
+   *
+   * @param present flags indicating which elements are bound
+   * @param result where findings are added
+   */
+  private void reportMissing(final boolean[] present, final TlvBinding result) {
+    for (int i = 0; i < insElements.length; i++) {
+      if (!present[i] && insElements[i].insMandatory) {
+        result.addFinding(
+            String.format("DO'%02x' missing in DO'%02x'", insElements[i].insTag, insTag));
+      } // end fi
+    } // end For (i...)
+  } // end method */
+
+  /**
+   * Returns names used in this schema, including those of nested templates.
+   *
+   * @return set of names
+   */
+  private Set<String> getNames() {
+    final Set<String> result = new HashSet<>();
+    for (final Element element : insElements) {
+      if (null != element.insName) {
+        result.add(element.insName);
+      } // end fi
+
+      if (Kind.TEMPLATE == element.insKind) {
+        result.addAll(element.getContent().getNames());
+      } // end fi
+    } // end For (element...)
+
+    return result;
+  } // end method */
+
+  /** Kinds of elements. */
+  private enum Kind {
+    /** Primitive TLV-object, the value-field is bound. */
+    VALUE,
+
+    /** Arbitrary TLV-object, the TLV-object is bound. */
+    TLV,
+
+    /** Constructed TLV-object with elements described by another schema. */
+    TEMPLATE,
+  } // end enum
+
+  /** Expected TLV-object in a value-field. */
+  private static final class Element {
+
+    /** Tag of TLV-object. */
+    private final long insTag; // */
+
+    /** Name used for binding, {@code null} for unnamed templates. */
+    private final @Nullable String insName; // */
+
+    /** Kind of element. */
+    private final Kind insKind; // */
+
+    /** Flag indicating whether the TLV-object is mandatory. */
+    private final boolean insMandatory; // */
+
+    /** Flag indicating whether the TLV-object may occur more than once. */
+    private final boolean insRepeated; // */
+
+    /** Schema of value-field for templates, {@code null} otherwise. */
+    private final @Nullable TlvSchema insContent; // */
+
+    /**
+     * Constructor.
+     *
+     * @param tag of TLV-object
+     * @param name used for binding, {@code null} for unnamed templates
+     * @param kind of element
+     * @param mandatory flag indicating whether the TLV-object is mandatory
+     * @param repeated flag indicating whether the TLV-object may occur more than once
+     * @param content schema of value-field for templates, {@code null} otherwise
+     */
+    private Element(
+        final long tag,
+        final @Nullable String name,
+        final Kind kind,
+        final boolean mandatory,
+        final boolean repeated,
+        final @Nullable TlvSchema content) {
+      insTag = tag;
+      insName = name;
+      insKind = kind;
+      insMandatory = mandatory;
+      insRepeated = repeated;
+      insContent = content;
+    } // end constructor */
+
+    /**
+     * Returns schema of value-field.
+     *
+     * @return schema of value-field
+     * @throws NullPointerException if this element is not a template
+     */
+    private TlvSchema getContent() {
+      return Objects.requireNonNull(insContent);
+    } // end method */
+
+    /**
+     * Returns name used for binding.
+     *
+     * @return name used for binding
+     * @throws NullPointerException if this element is an unnamed template
+     */
+    private String getName() {
+      return Objects.requireNonNull(insName);
+    } // end method */
+  } // end inner class
+
+  /**
+   * Builder for {@link TlvSchema}.
+   *
+   * <p>Each element is declared by a tag and a name. The name is used to retrieve the bound values
+   * from a {@link TlvBinding}. Elements not declared as optional are mandatory.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are mutable.
+   *   <li>methods are NOT thread-safe.
+   * </ol>
+   */
+  public static final class Builder {
+
+    /** Tag of the constructed TLV-object described by the schema. */
+    private final long insTag; // */
+
+    /** Declared elements. */
+    private final List<Element> insElements = new ArrayList<>(); // */
+
+    /** Names used so far, including those of nested templates. */
+    private final Set<String> insNames = new HashSet<>(); // */
+
+    /** Flag indicating whether the order of declaration is mandatory. */
+    private boolean insOrdered; // */
+
+    /**
+     * Comfort constructor.
+     *
+     * @param tag of the constructed TLV-object described by the schema
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>bit b6 of the leading octet in the tag-field does not indicate "constructed"
+     *           encoding
+     *     </ol>
+     */
+    public Builder(final long tag) {
+      BerTlv.checkTag(tag);
+
+      if (!BerTlv.isConstructed(tag)) {
+        throw new IllegalArgumentException(ConstructedBerTlv.EMP);
+      } // end fi
+
+      insTag = tag;
+    } // end constructor */
+
+    /**
+     * Declares a mandatory primitive TLV-object, its value-field is bound.
+     *
+     * @param tag of the primitive TLV-object
+     * @param name used for {@link TlvBinding#getValueField(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>bit b6 of the leading octet in the tag-field does not indicate "primitive" encoding
+     *       <li>the tag or the name is already declared
+     *     </ol>
+     */
+    public Builder value(final long tag, final String name) {
+      return addPrimitive(tag, name, true, false);
+    } // end method */
+
+    /**
+     * Declares an optional primitive TLV-object, its value-field is bound.
+     *
+     * @param tag of the primitive TLV-object
+     * @param name used for {@link TlvBinding#getValueField(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>bit b6 of the leading octet in the tag-field does not indicate "primitive" encoding
+     *       <li>the tag or the name is already declared
+     *     </ol>
+     */
+    public Builder optionalValue(final long tag, final String name) {
+      return addPrimitive(tag, name, false, false);
+    } // end method */
+
+    /**
+     * Declares a primitive TLV-object which occurs arbitrary often, its value-fields are bound.
+     *
+     * @param tag of the primitive TLV-object
+     * @param name used for {@link TlvBinding#getValueFields(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>bit b6 of the leading octet in the tag-field does not indicate "primitive" encoding
+     *       <li>the tag or the name is already declared
+     *     </ol>
+     */
+    public Builder values(final long tag, final String name) {
+      return addPrimitive(tag, name, false, true);
+    } // end method */
+
+    /**
+     * Declares a mandatory TLV-object, the TLV-object is bound.
+     *
+     * @param tag of the TLV-object
+     * @param name used for {@link TlvBinding#getTlv(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>the tag or the name is already declared
+     *     </ol>
+     */
+    public Builder tlv(final long tag, final String name) {
+      BerTlv.checkTag(tag);
+
+      return add(new Element(tag, name, Kind.TLV, true, false, null), Set.of(name));
+    } // end method */
+
+    /**
+     * Declares an optional TLV-object, the TLV-object is bound.
+     *
+     * @param tag of the TLV-object
+     * @param name used for {@link TlvBinding#getTlv(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if
+     *     <ol>
+     *       <li>the tag is not in accordance to ISO/IEC 8825-1:2021 clause 8.1.2
+     *       <li>the tag or the name is already declared
+     *     </ol>
+     */
+    public Builder optionalTlv(final long tag, final String name) {
+      BerTlv.checkTag(tag);
+
+      return add(new Element(tag, name, Kind.TLV, false, false, null), Set.of(name));
+    } // end method */
+
+    /**
+     * Declares a mandatory template, elements of its value-field are bound.
+     *
+     * @param content schema of the template
+     * @return this builder
+     * @throws IllegalArgumentException if the tag of {@code content} or a name used in {@code
+     *     content} is already declared
+     */
+    public Builder template(final TlvSchema content) {
+      return addTemplate(content, null, true);
+    } // end method */
+
+    /**
+     * Declares a mandatory template, the template and elements of its value-field are bound.
+     *
+     * @param content schema of the template
+     * @param name used for {@link TlvBinding#getTlv(String)}
+     * @return this builder
+     * @throws IllegalArgumentException if the tag of {@code content} or a name is already declared
+     */
+    public Builder template(final TlvSchema content, final String name) {
+      return addTemplate(content, name, true);
+    } // end method */
+
+    /**
+     * Declares an optional template, elements of its value-field are bound.
+     *
+     * <p>If the template is absent, then mandatory elements of {@code content} are not reported as
+     * missing.
+     *
+     * @param content schema of the template
+     * @return this builder
+     * @throws IllegalArgumentException if the tag of {@code content} or a name used in {@code
+     *     content} is already declared
+     */
+    public Builder optionalTemplate(final TlvSchema content) {
+      return addTemplate(content, null, false);
+    } // end method */
+
+    /**
+     * Declares that elements are expected in the order of their declaration.
+     *
+     * <p>If so, then elements out of order are reported as finding.
+     *
+     * @return this builder
+     */
+    public Builder ordered() {
+      insOrdered = true;
+
+      return this;
+    } // end method */
+
+    /**
+     * Compiles the declarations collected so far into a schema.
+     *
+     * @return immutable schema
+     */
+    public TlvSchema build() {
+      return new TlvSchema(this);
+    } // end method */
+
+    /**
+     * Declares a primitive TLV-object.
+     *
+     * @param tag of the primitive TLV-object
+     * @param name used for binding
+     * @param mandatory flag indicating whether the TLV-object is mandatory
+     * @param repeated flag indicating whether the TLV-object may occur more than once
+     * @return this builder
+     */
+    private Builder addPrimitive(
+        final long tag, final String name, final boolean mandatory, final boolean repeated) {
+      BerTlv.checkTag(tag);
+
+      if (BerTlv.isConstructed(tag)) {
+        throw new IllegalArgumentException(PrimitiveBerTlv.EMC);
+      } // end fi
+
+      return add(new Element(tag, name, Kind.VALUE, mandatory, repeated, null), Set.of(name));
+    } // end method */
+
+    /**
+     * Declares a template.
+     *
+     * @param content schema of the template
+     * @param name used for binding, {@code null} if the template itself is not bound
+     * @param mandatory flag indicating whether the template is mandatory
+     * @return this builder
+     */
+    private Builder addTemplate(
+        final TlvSchema content, final @Nullable String name, final boolean mandatory) {
+      final Set<String> names = new HashSet<>(content.getNames());
+      if ((null != name) && !names.add(name)) {
+        throw new IllegalArgumentException("name already declared: " + name);
+      } // end fi
+
+      return add(
+          new Element(content.insTag, name, Kind.TEMPLATE, mandatory, false, content), names);
+    } // end method */
+
+    /**
+     * Adds an element.
+     *
+     * @param element to be added
+     * @param names used by {@code element}
+     * @return this builder
+     * @throws IllegalArgumentException if the tag or a name of {@code element} is already declared
+     */
+    private Builder add(final Element element, final Set<String> names) {
+      for (final Element other : insElements) {
+        if (other.insTag == element.insTag) {
+          throw new IllegalArgumentException(
+              String.format("tag already declared: '%x'", element.insTag));
+        } // end fi
+      } // end For (other...)
+
+      for (final String name : names) {
+        if (insNames.contains(name)) {
+          throw new IllegalArgumentException("name already declared: " + name);
+        } // end fi
+      } // end For (name...)
+
+      insNames.addAll(names);
+      insElements.add(element);
+
+      return this;
+    } // end method */
+  } // end inner class
+} // end class
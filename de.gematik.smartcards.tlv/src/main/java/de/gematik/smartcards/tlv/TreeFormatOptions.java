@@ -0,0 +1,244 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import de.gematik.smartcards.utils.Hex;
+import java.io.IOException;
+
+/**
+ * Options for {@link BerTlv#toStringTree(Appendable, TreeFormatOptions)}.
+ *
+ * <p>Typical usage:
+ *
+ * <pre>{@code
+ * final TreeFormatOptions options = new TreeFormatOptions.Builder()
+ *     .maxDepth(3)
+ *     .maxValueBytes(32)
+ *     .nestedDecoding(false)
+ *     .build();
+ * }</pre>
+ *
+ * <p>From the perspective of this class
+ *
+ * <ol>
+ *   <li>instances are immutable.
+ *   <li>methods are thread-safe.
+ * </ol>
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+public final class TreeFormatOptions {
+
+  /**
+   * Options without limits.
+   *
+   * <p>With these options {@link BerTlv#toStringTree(Appendable, TreeFormatOptions)} produces the
+   * same output as {@link BerTlv#toStringTree()}.
+   */
+  public static final TreeFormatOptions DEFAULT = new Builder().build(); // */
+
+  /**
+   * Maximum depth of TLV-objects shown.
+   *
+   * <p>The TLV-object for which {@link BerTlv#toStringTree(Appendable, TreeFormatOptions)} is
+   * called has depth zero.
+   */
+  private final int insMaxDepth; // */
+
+  /** Maximum number of octets shown from a value-field. */
+  private final int insMaxValueBytes; // */
+
+  /** Flag indicating whether octet strings are decoded as nested TLV-objects. */
+  private final boolean insNestedDecoding; // */
+
+  /**
+   * Constructor.
+   *
+   * @param builder with options
+   */
+  private TreeFormatOptions(final Builder builder) {
+    insMaxDepth = builder.insMaxDepth;
+    insMaxValueBytes = builder.insMaxValueBytes;
+    insNestedDecoding = builder.insNestedDecoding;
+  } // end constructor */
+
+  /**
+   * Returns maximum depth of TLV-objects shown.
+   *
+   * @return maximum depth of TLV-objects shown
+   */
+  public int getMaxDepth() {
+    return insMaxDepth;
+  } // end method */
+
+  /**
+   * Returns maximum number of octets shown from a value-field.
+   *
+   * @return maximum number of octets shown from a value-field
+   */
+  public int getMaxValueBytes() {
+    return insMaxValueBytes;
+  } // end method */
+
+  /**
+   * Returns whether octet strings are decoded as nested TLV-objects.
+   *
+   * @return {@code TRUE} if octet strings are decoded as nested TLV-objects, {@code FALSE}
+   *     otherwise
+   */
+  public boolean isNestedDecoding() {
+    return insNestedDecoding;
+  } // end method */
+
+  /**
+   * Returns options for TLV-objects decoded from a value-field.
+   *
+   * <p>TLV-objects decoded from a value-field (e.g. of a {@link DerOctetString}) are written with
+   * depth zero. Thus, the maximum depth is reduced by the depth of the decoded TLV-objects within
+   * the tree.
+   *
+   * @param depth of the decoded TLV-objects within the tree, range [1, {@link #getMaxDepth()}]
+   * @return options with the remaining depth budget
+   */
+  /* package */ TreeFormatOptions nested(final int depth) {
+    if (Integer.MAX_VALUE == insMaxDepth) {
+      // ... no depth limit
+      return this;
+    } // end fi
+
+    return new Builder()
+        .maxDepth(insMaxDepth - depth)
+        .maxValueBytes(insMaxValueBytes)
+        .nestedDecoding(insNestedDecoding)
+        .build();
+  } // end method */
+
+  /**
+   * Writes the (possibly truncated) octet string representation of a value-field.
+   *
+   * <p>The value-field is converted in chunks, such that no string with the complete value-field is
+   * created. If more than {@link #getMaxValueBytes()} octets are present, then the output is
+   * truncated and "..." is appended.
+   *
+   * @param out destination of the output
+   * @param valueField value-field to be written
+   * @throws IOException if {@code out} does so
+   */
+  /* package */ void appendValueField(final Appendable out, final byte[] valueField)
+      throws IOException {
+    final int length = Math.min(valueField.length, insMaxValueBytes);
+    final int chunk = 0x1000;
+
+    for (int offset = 0; offset < length; offset += chunk) {
+      out.append(Hex.toHexDigits(valueField, offset, Math.min(chunk, length - offset)));
+    } // end For (offset...)
+
+    if (length < valueField.length) {
+      out.append("...");
+    } // end fi
+  } // end method */
+
+  /**
+   * Builder for {@link TreeFormatOptions}.
+   *
+   * <p>By default, no limits apply and nested decoding is enabled.
+   *
+   * <p>From the perspective of this class
+   *
+   * <ol>
+   *   <li>instances are mutable.
+   *   <li>methods are NOT thread-safe.
+   * </ol>
+   */
+  public static final class Builder {
+
+    /** Maximum depth of TLV-objects shown. */
+    private int insMaxDepth = Integer.MAX_VALUE; // */
+
+    /** Maximum number of octets shown from a value-field. */
+    private int insMaxValueBytes = Integer.MAX_VALUE; // */
+
+    /** Flag indicating whether octet strings are decoded as nested TLV-objects. */
+    private boolean insNestedDecoding = true; // */
+
+    /**
+     * Sets the maximum depth of TLV-objects shown.
+     *
+     * <p>Children of a {@link ConstructedBerTlv} at depth {@code maxDepth} are omitted, instead
+     * their number is shown.
+     *
+     * @param maxDepth maximum depth, zero means that just the TLV-object itself is shown
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxDepth} is negative
+     */
+    public Builder maxDepth(final int maxDepth) {
+      if (maxDepth < 0) {
+        throw new IllegalArgumentException("maxDepth SHALL NOT be negative");
+      } // end fi
+
+      insMaxDepth = maxDepth;
+
+      return this;
+    } // end method */
+
+    /**
+     * Sets the maximum number of octets shown from a value-field.
+     *
+     * <p>Octet strings with more octets are not decoded as nested TLV-objects.
+     *
+     * @param maxValueBytes maximum number of octets shown from a value-field
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxValueBytes} is negative
+     */
+    public Builder maxValueBytes(final int maxValueBytes) {
+      if (maxValueBytes < 0) {
+        throw new IllegalArgumentException("maxValueBytes SHALL NOT be negative");
+      } // end fi
+
+      insMaxValueBytes = maxValueBytes;
+
+      return this;
+    } // end method */
+
+    /**
+     * Sets whether octet strings are decoded as nested TLV-objects.
+     *
+     * <p>This concerns the decoded value of {@link DerOctetString} and {@link DerBitString}.
+     *
+     * @param nestedDecoding {@code TRUE} if octet strings are decoded as nested TLV-objects, {@code
+     *     FALSE} otherwise
+     * @return this builder
+     */
+    public Builder nestedDecoding(final boolean nestedDecoding) {
+      insNestedDecoding = nestedDecoding;
+
+      return this;
+    } // end method */
+
+    /**
+     * Creates {@link TreeFormatOptions} from the options of this builder.
+     *
+     * @return immutable options
+     */
+    public TreeFormatOptions build() {
+      return new TreeFormatOptions(this);
+    } // end method */
+  } // end inner class
+} // end class
@@ -27,16 +27,20 @@ import static de.gematik.smartcards.utils.AfiUtils.EMPTY_OS;
 import static de.gematik.smartcards.utils.AfiUtils.UNEXPECTED;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import de.gematik.smartcards.utils.AfiBigInteger;
+import de.gematik.smartcards.utils.AfiOid;
 import de.gematik.smartcards.utils.AfiRng;
 import de.gematik.smartcards.utils.AfiUtils;
 import de.gematik.smartcards.utils.Hex;
@@ -45,9 +49,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
@@ -664,6 +670,52 @@ final class TestBerTlv {
             }); // end forEach(class -> ...)
   } // end method */
 
+  /** Test method for {@link BerTlv#checkTag(long)}. */
+  @Test
+  void test_225_checkTag__long() {
+    // Assertions:
+    // ... a. checkTag(byte[])-method works as expected
+    // ... b. convertTag(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. loop over valid tags
+    // --- b. ERROR: invalid tags, same messages as for checkTag(byte[])
+
+    // --- a. loop over valid tags
+    VALID_TAGS.stream()
+        .filter(octets -> (octets.length <= BerTlv.NO_TAG_FIELD))
+        .forEach(octets -> BerTlv.checkTag(BerTlv.convertTag(octets)));
+
+    // --- b. ERROR: invalid tags, same messages as for checkTag(byte[])
+    for (final var input :
+        List.of(
+            "1f",
+            "3f",
+            "df",
+            "1f00",
+            "1f80",
+            "1f1e",
+            "1e1f",
+            "1f1f00",
+            "1f7f00",
+            "1f208000",
+            "1f21808000",
+            "1f84807f00",
+            "1f8580",
+            "1fffffff",
+            "ff8182838485868f",
+            "7f808080800f")) {
+      final byte[] octets = Hex.toByteArray(input);
+      final long tag = BerTlv.convertTag(octets);
+      final var expected =
+          assertThrows(IllegalArgumentException.class, () -> BerTlv.checkTag(octets));
+
+      final var present = assertThrows(IllegalArgumentException.class, () -> BerTlv.checkTag(tag));
+
+      assertEquals(expected.getMessage(), present.getMessage(), input);
+    } // end For (input...)
+  } // end method */
+
   /** Test method for {@link BerTlv#convertTag(byte[])}. */
   @Test
   void test_230_convertTag__byteA() {
@@ -1014,6 +1066,175 @@ final class TestBerTlv {
     } // end For (clazz...)
   } // end method */
 
+  /** Test method for {@link BerTlv#createTagLengthField(long, long)}. */
+  @Test
+  void test_251_createTagLengthField__long_long() {
+    // Assertions:
+    // ... a. getLengthField(long)-method works as expected
+
+    // Test strategy:
+    // --- a. loop over valid tags and relevant lengths
+    VALID_TAGS.stream()
+        .filter(octets -> (octets.length <= BerTlv.NO_TAG_FIELD))
+        .forEach(
+            octets -> {
+              final long tag = BerTlv.convertTag(octets);
+              assertEquals(octets.length, BerTlv.calculateLengthOfTagField(tag));
+
+              for (final var length :
+                  List.of(0L, 0x7fL, 0x80L, 0xffL, 0x100L, 0x1_0000L, Long.MAX_VALUE)) {
+                final var expected = Hex.toHexDigits(octets) + BerTlv.getLengthField(length);
+
+                final var present = Hex.toHexDigits(BerTlv.createTagLengthField(tag, length));
+
+                assertEquals(expected, present);
+              } // end For (length...)
+            }); // end forEach(octets -> ...)
+  } // end method */
+
+  /** Test method for {@link BerTlv#decodeLength(ByteBuffer)}. */
+  @Test
+  void test_252_decodeLength__ByteBuffer() {
+    // Assertions:
+    // ... a. readLength(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test with various length-fields
+    // --- b. ERROR: not all octets of length-field available
+    // --- c. ERROR: length too big
+
+    // --- a. smoke test with various length-fields
+    for (final var input :
+        List.of(
+            "00",
+            "7f",
+            "80",
+            "8180",
+            "81ff",
+            "820100",
+            "83010000",
+            "84ffffffff",
+            "887fffffffffffffff",
+            "8a00007fffffffffffffff")) {
+      final byte[] octets = Hex.toByteArray(input + "affe");
+      final var buffer = ByteBuffer.wrap(octets);
+
+      final long present = BerTlv.decodeLength(buffer);
+
+      assertEquals(BerTlv.readLength(ByteBuffer.wrap(octets))[0], present, input);
+      assertEquals(octets.length - 2, buffer.position());
+    } // end For (input...)
+
+    // --- b. ERROR: not all octets of length-field available
+    {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("83 0102"));
+
+      assertThrows(BufferUnderflowException.class, () -> BerTlv.decodeLength(buffer));
+      assertEquals(1, buffer.position());
+      assertThrows(
+          BufferUnderflowException.class, () -> BerTlv.decodeLength(ByteBuffer.allocate(0)));
+    } // end --- b.
+
+    // --- c. ERROR: length too big
+    for (final var input : List.of("888000000000000000", "890100000000000000ff")) {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray(input));
+
+      final var e = assertThrows(ArithmeticException.class, () -> BerTlv.decodeLength(buffer));
+
+      assertEquals(
+          "length of value-field too big for this implementation: '"
+              + new BigInteger(input.substring(2), 16).toString(16)
+              + "'",
+          e.getMessage());
+      assertFalse(buffer.hasRemaining());
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link BerTlv#decodeTag(ByteBuffer)}. */
+  @Test
+  void test_253_decodeTag__ByteBuffer() {
+    // Assertions:
+    // ... a. readTag(ByteBuffer)-method works as expected
+    // ... b. convertTag(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. loop over valid tags
+    // --- b. ERROR: not all octets of tag-field available
+    // --- c. ERROR: tag too long for this implementation
+
+    for (final var octets : VALID_TAGS) {
+      final var buffer = ByteBuffer.allocate(octets.length + 2).put(octets).put((byte) 0x81);
+
+      if (octets.length <= BerTlv.NO_TAG_FIELD) {
+        // --- a. loop over valid tags
+        buffer.flip();
+
+        final long present = BerTlv.decodeTag(buffer);
+
+        assertEquals(BerTlv.convertTag(octets), present);
+        assertEquals(octets.length, buffer.position());
+      } else {
+        // --- c. ERROR: tag too long for this implementation
+        buffer.flip();
+
+        final var e = assertThrows(ArithmeticException.class, () -> BerTlv.decodeTag(buffer));
+
+        assertEquals("BigInteger out of long range", e.getMessage());
+        assertEquals(octets.length, buffer.position());
+      } // end else
+
+      // --- b. ERROR: not all octets of tag-field available
+      buffer.clear().limit(octets.length - 1);
+
+      assertThrows(BufferUnderflowException.class, () -> BerTlv.decodeTag(buffer));
+    } // end For (octets...)
+  } // end method */
+
+  /** Test method for {@link BerTlv#encoded()}. */
+  @Test
+  void test_255_encoded() {
+    // Assertions:
+    // ... a. getEncoded()-method works as expected
+
+    // Test strategy:
+    // --- a. encoding is calculated once and cached
+    // --- b. getEncoded() returns a defensive clone of the cached encoding
+    // --- c. cached encoding is used when encoding a parent
+
+    for (final var input :
+        List.of(
+            "83-04-01020304", // primitive
+            "a1-07-[(81-01-03)(82-02-abcd)]" // constructed
+            )) {
+      final var dut = BerTlv.getInstance(input);
+      final var expected = Hex.toByteArray(input);
+      assertNull(dut.insEncoded);
+
+      // --- a. encoding is calculated once and cached
+      final var encoded = dut.encoded();
+      assertArrayEquals(expected, encoded);
+      assertSame(encoded, dut.insEncoded);
+      assertSame(encoded, dut.encoded());
+
+      // --- b. getEncoded() returns a defensive clone of the cached encoding
+      final var present = dut.getEncoded();
+      assertArrayEquals(expected, present);
+      assertNotSame(encoded, present);
+      present[0]++;
+      assertArrayEquals(expected, dut.getEncoded());
+      assertEquals(Hex.toHexDigits(expected), dut.toString());
+
+      // --- c. cached encoding is used when encoding a parent
+      final var parent = BerTlv.getInstance(0x30, List.of(dut, dut));
+      assertEquals(
+          "30"
+              + Hex.toHexDigits(new byte[] {(byte) (2 * expected.length)})
+              + Hex.toHexDigits(expected)
+              + Hex.toHexDigits(expected),
+          parent.toString());
+    } // end For (input...)
+  } // end method */
+
   /** Test method for {@link BerTlv#equals(Object)}. */
   @Test
   void test_260_equals__Object() {
@@ -2657,6 +2878,24 @@ final class TestBerTlv {
     assertEquals(hash, dut.hashCode());
   } // end method */
 
+  /** Test method for {@link BerTlv#isConstructed(long)}. */
+  @Test
+  void test_475_isConstructed__long() {
+    // Assertions:
+    // ... a. convertTag(byte[])-method works as expected
+
+    // Test strategy:
+    // --- a. loop over valid tags
+    VALID_TAGS.stream()
+        .filter(octets -> (octets.length <= BerTlv.NO_TAG_FIELD))
+        .forEach(
+            octets ->
+                assertEquals(
+                    0x20 == (octets[0] & 0x20),
+                    BerTlv.isConstructed(BerTlv.convertTag(octets)),
+                    () -> Hex.toHexDigits(octets))); // end forEach(octets -> ...)
+  } // end method */
+
   /** Test method for {@link BerTlv#readLength(ByteBuffer)}. */
   @Test
   void test_480_readLength__ByteBuffer() {
@@ -3410,6 +3649,194 @@ final class TestBerTlv {
         new MyBerTlv(0x80, 0).toStringTree());
   } // end method */
 
+  /** Test method for {@link BerTlv#toStringTree(Appendable, TreeFormatOptions)}. */
+  @Test
+  void test_565_toStringTree__Appendable_TreeFormatOptions() throws IOException {
+    // Assertions:
+    // ... a. toStringTree()-method works as expected
+
+    // Test strategy:
+    // --- a. random TLV-objects with default options, output same as toStringTree()
+    // --- b. nested TLV-objects in octet string and bit string
+    // --- c. maxDepth
+    // --- d. maxValueBytes
+    // --- e. nestedDecoding disabled
+    // --- f. maxDepth with nested encapsulated octet strings
+
+    // --- a. random TLV-objects with default options, output same as toStringTree()
+    for (int i = 20; i-- > 0; ) { // NOPMD assignment in operand
+      final var dut = TestConstructedBerTlv.createRandom(5, 0.5, 4, new byte[3][]);
+      final var present = new StringBuilder();
+
+      dut.toStringTree(present, TreeFormatOptions.DEFAULT);
+
+      assertEquals(dut.toStringTree(), present.toString());
+    } // end For (i...)
+
+    // --- b. nested TLV-objects in octet string and bit string
+    {
+      final byte[] inner =
+          new DerSequence(
+                  List.of(
+                      new DerInteger(BigInteger.TEN),
+                      new DerOctetString(Hex.toByteArray("(80-01-00)-(a1-03-(81-01-ff))"))))
+              .getEncoded();
+      final var dut =
+          new DerSequence(
+              List.of(
+                  new DerOctetString(inner),
+                  new DerBitString(inner),
+                  new DerBitString(3, Hex.toByteArray("8100")),
+                  new DerOctetString(Hex.toByteArray("8102"))));
+      final var present = new StringBuilder();
+
+      dut.toStringTree(present, TreeFormatOptions.DEFAULT);
+
+      assertEquals(dut.toStringTree(), present.toString());
+    } // end --- b.
+
+    // --- c. maxDepth
+    {
+      final var dut = BerTlv.getInstance("a0-08-(a1-04-(80-02-0102))-(81-00)");
+      final var options = new TreeFormatOptions.Builder().maxDepth(1).build();
+      final var present = new StringBuilder();
+
+      dut.toStringTree(present, options);
+
+      assertEquals(
+          String.format("a0 08%n|  a1 04%n|  |  ... 1 TLV-object(s)%n|  81 00"),
+          present.toString());
+    } // end --- c.
+
+    // --- d. maxValueBytes
+    {
+      final var dut = new DerOctetString(Hex.toByteArray("(80-01-00)"));
+      final var options = new TreeFormatOptions.Builder().maxValueBytes(2).build();
+      final var present = new StringBuilder();
+
+      dut.toStringTree(present, options);
+
+      assertEquals("04 03 8001... # OCTETSTRING", present.toString());
+    } // end --- d.
+
+    // --- e. nestedDecoding disabled
+    {
+      final var dut = new DerOctetString(Hex.toByteArray("(80-01-00)"));
+      final var options = new TreeFormatOptions.Builder().nestedDecoding(false).build();
+      final var present = new StringBuilder();
+
+      dut.toStringTree(present, options);
+
+      assertEquals("04 03 800100 # OCTETSTRING", present.toString());
+    } // end --- e.
+
+    // --- f. maxDepth with nested encapsulated octet strings
+    {
+      final var dut = BerTlv.getInstance("30-09-(04-07-(04-05-(04-03-(80-01-00))))");
+
+      final var lines =
+          List.of(
+              "30 09 # SEQUENCE with 1 element",
+              "|  04 07 04050403800100 # OCTETSTRING",
+              "|     ##########",
+              "|     # 04 05 0403800100 # OCTETSTRING",
+              "|     #    ##########",
+              "|     #    # 04 03 800100 # OCTETSTRING",
+              "|     #    ##########",
+              "|     ##########");
+
+      for (final var entry :
+          Map.of(
+                  1, lines.subList(0, 2),
+                  2, List.of(lines.get(0), lines.get(1), lines.get(2), lines.get(3), lines.get(7)),
+                  3, lines)
+              .entrySet()) {
+        final var options = new TreeFormatOptions.Builder().maxDepth(entry.getKey()).build();
+        final var present = new StringBuilder();
+
+        dut.toStringTree(present, options);
+
+        assertEquals(
+            String.join(System.lineSeparator(), entry.getValue()),
+            present.toString(),
+            entry::toString);
+      } // end For (entry...)
+
+      final var present = new StringBuilder();
+      dut.toStringTree(present, new TreeFormatOptions.Builder().maxDepth(4).build());
+      assertEquals(dut.toStringTree(), present.toString());
+    } // end --- f.
+  } // end method */
+
+  /** Test method for {@link BerTlv#writeTo(ByteBuffer)}. */
+  @Test
+  void test_570_writeTo__ByteBuffer() {
+    // Assertions:
+    // ... a. encoded()-method works as expected
+
+    // Test strategy:
+    // --- a. write to heap and direct buffer
+    // --- b. ERROR: insufficient space
+
+    final var input = "a1-07-[(81-01-03)(82-02-abcd)]";
+    final var dut = BerTlv.getInstance(input);
+    final var expected = Hex.toByteArray(input);
+
+    // --- a. write to heap and direct buffer
+    for (final var buffer : List.of(ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32))) {
+      buffer.put((byte) 0x42);
+
+      assertSame(buffer, dut.writeTo(buffer));
+      assertEquals(1 + expected.length, buffer.position());
+
+      final var present = new byte[expected.length];
+      buffer.flip().get();
+      buffer.get(present);
+      assertArrayEquals(expected, present);
+    } // end For (buffer...)
+    // end --- a.
+
+    // --- b. ERROR: insufficient space
+    {
+      final var buffer = ByteBuffer.allocate(expected.length - 1);
+
+      assertThrows(BufferOverflowException.class, () -> dut.writeTo(buffer));
+      assertEquals(0, buffer.position());
+    } // end --- b.
+  } // end method */
+
+  /** Test method for {@link BerTlv#writeTo(OutputStream)}. */
+  @Test
+  void test_580_writeTo__OutputStream() {
+    // Assertions:
+    // ... a. encoded()-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: IOException from stream
+
+    final var input = "83-04-01020304";
+    final var dut = BerTlv.getInstance(input);
+
+    // --- a. smoke test
+    try {
+      final var baos = new ByteArrayOutputStream();
+      baos.write(0x42);
+
+      dut.writeTo(baos);
+
+      assertEquals("42" + Hex.extractHexDigits(input), Hex.toHexDigits(baos.toByteArray()));
+    } catch (IOException e) {
+      fail(UNEXPECTED, e);
+    } // end Catch (...)
+    // end --- a.
+
+    // --- b. ERROR: IOException from stream
+    final var out = OutputStream.nullOutputStream();
+    assertDoesNotThrow(out::close);
+    assertThrows(IOException.class, () -> dut.writeTo(out));
+  } // end method */
+
   // ###########################################################################
   // ###############                manual tests                 ###############
   // ###########################################################################
@@ -3801,6 +4228,258 @@ final class TestBerTlv {
     } // end --- d.
   } // end method */
 
+  /**
+   * Benchmark for {@link ConstructedBerTlv#get(long, int)}.
+   *
+   * <p>Searching in a value-field uses an index if the value-field contains more than {@link
+   * ConstructedBerTlv#LINEAR_SEARCH_LIMIT} TLV-objects. Here the search time is compared to a
+   * linear search.
+   */
+  @EnabledIf("de.gematik.smartcards.tlv.TestBerTlv#isManualTest")
+  @Test
+  void test_910_ConstructedBerTlv_get__long_int() {
+    // Assertions:
+    // ... a. all automatic tests pass
+
+    // Test strategy:
+    // --- a. loop over templates with various number of children
+    // --- b. linear search
+    // --- c. search with index
+
+    final var noLookups = 1_000_000;
+
+    // --- a. loop over templates with various number of children
+    for (final var noChildren : List.of(10, 100, 10_000)) {
+      final var valueField = new ArrayList<BerTlv>();
+      for (int i = 0; i < noChildren; i++) {
+        // Note: Tags 'df8100' ... 'df817f', i.e., at most 128 different tags.
+        valueField.add(BerTlv.getInstance(0xdf8100 + (i & 0x7f), RNG.nextBytes(0, 4)));
+      } // end For (i...)
+      final var dut = new ConstructedBerTlv(0x30, valueField);
+
+      // precompute tag and position for each lookup
+      final var tags = new long[noLookups];
+      final var positions = new int[noLookups];
+      for (int i = noLookups; i-- > 0; ) { // NOPMD assignment in operand
+        final var index = RNG.nextIntClosed(0, noChildren - 1);
+        tags[i] = valueField.get(index).getTag();
+        positions[i] = index >> 7;
+      } // end For (i...)
+
+      // --- b. linear search
+      long startTime = System.nanoTime();
+      for (int i = noLookups; i-- > 0; ) { // NOPMD assignment in operand
+        int counter = positions[i];
+        BerTlv result = null;
+        for (final var tlv : dut.getTemplate()) {
+          if ((tlv.getTag() == tags[i]) && (counter-- <= 0)) { // NOPMD assignment in operand
+            result = tlv;
+            break;
+          } // end fi
+        } // end For (tlv...)
+        assertNotNull(result);
+      } // end For (i...)
+      final long timeLinear = System.nanoTime() - startTime;
+
+      // --- c. search with index
+      startTime = System.nanoTime();
+      for (int i = noLookups; i-- > 0; ) { // NOPMD assignment in operand
+        assertTrue(dut.get(tags[i], positions[i]).isPresent());
+      } // end For (i...)
+      final long timeIndex = System.nanoTime() - startTime;
+
+      LOGGER.atInfo().log(
+          "noChildren = {}: linear = {} ns/lookup, get(long, int) = {} ns/lookup",
+          String.format("%6d", noChildren),
+          String.format("%9.1f", (double) timeLinear / noLookups),
+          String.format("%9.1f", (double) timeIndex / noLookups));
+    } // end For (noChildren...)
+  } // end method */
+
+  /**
+   * Benchmark for restricted character string types.
+   *
+   * <p>Typical strings from card-verifiable certificates (CHR and CAR) and from X.509 names are
+   * decoded and validated.
+   */
+  @EnabledIf("de.gematik.smartcards.tlv.TestBerTlv#isManualTest")
+  @Test
+  void test_920_DerRestrictedCharacterStringTypes() {
+    // Assertions:
+    // ... a. all automatic tests pass
+
+    // Test strategy:
+    // --- a. loop over typical strings
+    // --- b. decode and validate
+
+    final var noRuns = 200_000;
+
+    // --- a. loop over typical strings
+    for (final var dut :
+        List.of(
+            new DerPrintableString("DEGXX820214"), // CAR
+            new DerPrintableString("DEGXX110218"), // CHR
+            new DerPrintableString("DE"), // countryName
+            new DerPrintableString("HBA-qCA4 TEST-ONLY"), // commonName
+            new DerIa5String("http://ocsp.example.org/ocsp"), // URI
+            new DerIa5String("Max Müller"), // DIN 66003 substitution
+            new DerTeletexString("gematik GmbH NOT-VALID"), // organizationName
+            new DerTeletexString("Jürgen Größe"))) { // diacritical marks
+      final var encoded = dut.getEncoded();
+
+      // --- b. decode and validate
+      // warm-up
+      for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+        assertTrue(((DerSpecific) BerTlv.getInstance(encoded)).isValid());
+      } // end For (i...)
+
+      final long startTime = System.nanoTime();
+      for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+        final var tlv = (DerRestrictedCharacterStringTypes) BerTlv.getInstance(encoded);
+        assertTrue(tlv.isValid());
+        assertEquals(dut.getDecoded().length(), tlv.getDecoded().length());
+      } // end For (i...)
+      final long time = System.nanoTime() - startTime;
+
+      LOGGER.atInfo().log(
+          "{}: {} ns/string, \"{}\"",
+          String.format("%-18s", dut.getClass().getSimpleName()),
+          String.format("%6.1f", (double) time / noRuns),
+          dut.getDecoded());
+    } // end For (dut...)
+  } // end method */
+
+  /**
+   * Benchmark for {@link ParallelBerTlvDecoder}.
+   *
+   * <p>A sequence with many certificate-like children is decoded sequentially and in parallel.
+   */
+  @EnabledIf("de.gematik.smartcards.tlv.TestBerTlv#isManualTest")
+  @Test
+  void test_930_ParallelBerTlvDecoder() {
+    // Assertions:
+    // ... a. all automatic tests pass
+
+    // Test strategy:
+    // --- a. loop over sequences with various number of children
+    // --- b. sequential decoding
+    // --- c. parallel decoding
+
+    final var noRuns = 20;
+    final var parallel = new ParallelBerTlvDecoder();
+
+    // --- a. loop over sequences with various number of children
+    for (final var noChildren : List.of(100, 1_000, 10_000, 100_000)) {
+      final var valueField = new ArrayList<BerTlv>();
+      for (int i = 0; i < noChildren; i++) {
+        valueField.add(
+            new DerSequence(
+                List.of(
+                    new DerInteger(BigInteger.valueOf(i)),
+                    new DerSequence(
+                        List.of(new DerOid(AfiOid.sha256WithRSAEncryption), DerNull.NULL)),
+                    new DerPrintableString("DEGXX" + i),
+                    new DerOctetString(RNG.nextBytes(64, 256)))));
+      } // end For (i...)
+      final var encoded = ByteBuffer.wrap(new DerSequence(valueField).getEncoded());
+      final var expected = BerTlv.getInstance(encoded.duplicate());
+
+      // warm-up
+      for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+        assertEquals(expected, BerTlv.getInstance(encoded.duplicate()));
+        assertEquals(expected, parallel.decode(encoded.duplicate()));
+      } // end For (i...)
+
+      // --- b. sequential decoding
+      long startTime = System.nanoTime();
+      for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+        assertEquals(
+            noChildren,
+            ((DerSequence) BerTlv.getInstance(encoded.duplicate())).getTemplate().size());
+      } // end For (i...)
+      final long timeSequential = System.nanoTime() - startTime;
+
+      // --- c. parallel decoding
+      startTime = System.nanoTime();
+      for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+        assertEquals(
+            noChildren, ((DerSequence) parallel.decode(encoded.duplicate())).getTemplate().size());
+      } // end For (i...)
+      final long timeParallel = System.nanoTime() - startTime;
+
+      LOGGER.atInfo().log(
+          "noChildren = {}, {} octets: sequential = {} ms, parallel = {} ms",
+          String.format("%6d", noChildren),
+          String.format("%9d", encoded.limit()),
+          String.format("%8.2f", timeSequential * 1e-6 / noRuns),
+          String.format("%8.2f", timeParallel * 1e-6 / noRuns));
+    } // end For (noChildren...)
+  } // end method */
+
+  /**
+   * Benchmark for the decoding of tag- and length-fields.
+   *
+   * <p>A sequence with many small children is decoded from a {@link ByteBuffer} and from an {@link
+   * InputStream}. The throughput is reported in nodes decoded per second.
+   */
+  @EnabledIf("de.gematik.smartcards.tlv.TestBerTlv#isManualTest")
+  @Test
+  void test_940_decodeNodes() throws IOException {
+    // Assertions:
+    // ... a. all automatic tests pass
+
+    // Test strategy:
+    // --- a. create a sequence with many small children of various tags
+    // --- b. decode from ByteBuffer
+    // --- c. decode from InputStream
+
+    final var noRuns = 20;
+
+    // --- a. create a sequence with many small children of various tags
+    final var noChildren = 100_000;
+    final var valueField = new ArrayList<BerTlv>();
+    for (int i = 0; i < noChildren; i++) {
+      valueField.add(
+          switch (i & 3) {
+            case 0 -> new DerInteger(BigInteger.valueOf(i));
+            case 1 -> BerTlv.getInstance(0x9f_7f, RNG.nextBytes(0, 8));
+            case 2 -> BerTlv.getInstance(0x5f_8120, RNG.nextBytes(0, 200));
+            default -> BerTlv.getInstance(0xa1, List.of(BerTlv.getInstance(0x80, "01")));
+          }); // end Switch (...)
+    } // end For (i...)
+    final var tlv = new DerSequence(valueField);
+    final byte[] encoded = tlv.getEncoded();
+    final long noNodes = noChildren + (noChildren >> 2) + 1; // children, grandchildren, root
+
+    // warm-up
+    for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+      assertEquals(tlv, BerTlv.getInstance(ByteBuffer.wrap(encoded)));
+      assertEquals(tlv, BerTlv.getInstance(new ByteArrayInputStream(encoded)));
+    } // end For (i...)
+
+    // --- b. decode from ByteBuffer
+    long startTime = System.nanoTime();
+    for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+      assertEquals(encoded.length, BerTlv.getInstance(ByteBuffer.wrap(encoded)).encoded().length);
+    } // end For (i...)
+    final long timeBuffer = System.nanoTime() - startTime;
+
+    // --- c. decode from InputStream
+    startTime = System.nanoTime();
+    for (int i = noRuns; i-- > 0; ) { // NOPMD assignment in operand
+      assertEquals(
+          encoded.length, BerTlv.getInstance(new ByteArrayInputStream(encoded)).encoded().length);
+    } // end For (i...)
+    final long timeStream = System.nanoTime() - startTime;
+
+    LOGGER.atInfo().log(
+        "{} nodes, {} octets: ByteBuffer = {} nodes/s, InputStream = {} nodes/s",
+        noNodes,
+        encoded.length,
+        String.format("%,12.0f", noNodes * noRuns * 1e9 / timeBuffer),
+        String.format("%,12.0f", noNodes * noRuns * 1e9 / timeStream));
+  } // end method */
+
   // ###########################################################################
   // ###########################################################################
   // ###########################################################################
@@ -3880,6 +4559,14 @@ final class TestBerTlv {
           "method not implemented: delimiter=%s, delo=%s, noIndentation=%d, addComment=%s",
           delimiter, delo, noIndentation, addComment);
     } // end inner method */
+
+    /* package */
+    @Override
+    void toStringTree(
+        final Appendable out, final TreeFormatOptions options, final int noIndentation)
+        throws IOException {
+      out.append("method not implemented");
+    } // end inner method */
   } // end inner class
 
   /**
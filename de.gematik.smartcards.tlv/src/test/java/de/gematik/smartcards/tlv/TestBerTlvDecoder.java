@@ -0,0 +1,266 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static de.gematik.smartcards.tlv.BerTlvDecoder.Status.NEED_MORE_INPUT;
+import static de.gematik.smartcards.tlv.BerTlvDecoder.Status.OBJECT_COMPLETE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.AfiUtils;
+import de.gematik.smartcards.utils.Hex;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link BerTlvDecoder}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestBerTlvDecoder {
+
+  /** Random Number Generator. */
+  private static final AfiRng RNG = new AfiRng(); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link BerTlvDecoder#BerTlvDecoder(long)}. */
+  @Test
+  void test_BerTlvDecoder__long() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: non-positive values
+
+    // --- a. smoke test
+    {
+      final var dut = new BerTlvDecoder(3);
+
+      assertEquals(OBJECT_COMPLETE, dut.decode(ByteBuffer.wrap(Hex.toByteArray("81-01-a5"))));
+      assertEquals("81 01 a5", dut.getResult().toString(" "));
+
+      assertThrows(
+          ArithmeticException.class, () -> dut.decode(ByteBuffer.wrap(Hex.toByteArray("81-02"))));
+      assertEquals(0, dut.getBuffered());
+    } // end --- a.
+
+    // --- b. ERROR: non-positive values
+    for (final var max : List.of(0L, -1L, Long.MIN_VALUE)) {
+      assertThrows(IllegalArgumentException.class, () -> new BerTlvDecoder(max));
+    } // end For (max...)
+  } // end method */
+
+  /** Test method for {@link BerTlvDecoder#decode(ByteBuffer)}. */
+  @Test
+  void test_decode__ByteBuffer() {
+    // Assertions:
+    // ... a. BerTlv.getInstance(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. manually chosen input, fed octet by octet
+    // --- b. random TLV-objects, fed in random chunks
+    // --- c. several TLV-objects in one chunk
+    // --- d. ERROR: invalid tag-field
+    // --- e. ERROR: primitive TLV-object with indefinite form
+    // --- f. ERROR: tag-field too long
+
+    final var dut = new BerTlvDecoder();
+
+    // --- a. manually chosen input, fed octet by octet
+    for (final var input :
+        List.of(
+            "00 00", // end-of-contents
+            "04 00", // empty primitive
+            "5f24 03 123456", // two octet tag
+            "81 8103 112233", // length-field not minimal
+            "a0 00", // empty constructed
+            "a0 05  81 03 112233", // definite form
+            "a0 80  81 01 11  00 00", // indefinite form
+            "30 80  a1 80  a2 04  80 02 0102  00 00  00 00", // nested indefinite form
+            "7f21 09  7f4e 06  5f29 01 70  00 00" // end-of-contents in definite form
+            )) {
+      final var octets = Hex.toByteArray(input);
+      final var expected = BerTlv.getInstance(octets);
+
+      for (int i = 0; i < octets.length - 1; i++) {
+        assertEquals(NEED_MORE_INPUT, dut.decode(ByteBuffer.wrap(octets, i, 1)), input);
+        assertEquals(i + 1, dut.getBuffered());
+        assertThrows(IllegalStateException.class, dut::getResult);
+      } // end For (i...)
+
+      final var buffer = ByteBuffer.wrap(octets, octets.length - 1, 1);
+      assertEquals(OBJECT_COMPLETE, dut.decode(buffer), input);
+      assertFalse(buffer.hasRemaining());
+      assertEquals(expected, dut.getResult());
+      assertEquals(0, dut.getBuffered());
+    } // end For (input...)
+    // end --- a.
+
+    // --- b. random TLV-objects, fed in random chunks
+    final var tlv = new byte[3][];
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var expected = TestConstructedBerTlv.createRandom(5, 0.5, 5, tlv);
+      final var octets = AfiUtils.concatenate(tlv);
+
+      BerTlvDecoder.Status status = NEED_MORE_INPUT;
+      int offset = 0;
+      while (offset < octets.length) {
+        assertEquals(NEED_MORE_INPUT, status);
+
+        final var noOctets = Math.min(RNG.nextIntClosed(0, 100), octets.length - offset);
+        final var buffer = ByteBuffer.wrap(octets, offset, noOctets);
+        status = dut.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        offset += noOctets;
+      } // end While (...)
+
+      assertEquals(OBJECT_COMPLETE, status);
+      assertEquals(expected, dut.getResult());
+    } // end For (counter...)
+    // end --- b.
+
+    // --- c. several TLV-objects in one chunk
+    {
+      final var buffer =
+          ByteBuffer.wrap(Hex.toByteArray("81 01 11  a0 80 82 00 00 00  30 03 04 01 22  a1"));
+      final var present = new ArrayList<String>();
+
+      while (OBJECT_COMPLETE == dut.decode(buffer)) {
+        present.add(dut.getResult().toString(" "));
+      } // end While (...)
+
+      assertEquals(List.of("81 01 11", "a0 02  82 00", "30 03  04 01 22"), present);
+      assertFalse(buffer.hasRemaining());
+      assertEquals(1, dut.getBuffered());
+      dut.reset();
+      assertEquals(0, dut.getBuffered());
+    } // end --- c.
+
+    // --- d. ERROR: invalid tag-field
+    {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("a0 06  1f 05 00"));
+
+      assertThrows(IllegalArgumentException.class, () -> dut.decode(buffer));
+      assertEquals(0, dut.getBuffered());
+    } // end --- d.
+
+    // --- e. ERROR: primitive TLV-object with indefinite form
+    {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("a0 80  81 80"));
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> dut.decode(buffer));
+
+      assertEquals(PrimitiveBerTlv.EM_INDEFINITE, e.getMessage());
+      assertEquals(0, dut.getBuffered());
+    } // end --- e.
+
+    // --- f. ERROR: tag-field too long
+    {
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("1f 8182838485868788 01 00"));
+
+      assertThrows(ArithmeticException.class, () -> dut.decode(buffer));
+      assertEquals(0, dut.getBuffered());
+    } // end --- f.
+
+    {
+      final var octets = new byte[BerTlvDecoder.MAX_TAG_LENGTH_FIELD];
+      octets[0] = 0x1f;
+      for (int i = 1; i < octets.length; i++) {
+        octets[i] = (byte) 0x81;
+      } // end For (i...)
+
+      assertThrows(ArithmeticException.class, () -> dut.decode(ByteBuffer.wrap(octets)));
+      assertEquals(0, dut.getBuffered());
+
+      assertEquals(NEED_MORE_INPUT, dut.decode(ByteBuffer.wrap(octets, 0, 4)));
+      assertEquals(NEED_MORE_INPUT, dut.decode(ByteBuffer.wrap(octets, 1, 4)));
+      assertEquals(8, dut.getBuffered());
+      assertThrows(ArithmeticException.class, () -> dut.decode(ByteBuffer.wrap(octets, 1, 1)));
+      assertEquals(0, dut.getBuffered());
+    } // end --- f.
+  } // end method */
+
+  /** Test method for {@link BerTlvDecoder#reset()}. */
+  @Test
+  void test_reset() {
+    // Assertions:
+    // ... a. decode(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. reset after a huge TLV-object
+    // --- b. decode after reset
+
+    final var dut = new BerTlvDecoder();
+
+    // --- a. reset after a huge TLV-object
+    final var tlv = new DerOctetString(RNG.nextBytes(BerTlvDecoder.MAX_RETAINED_CAPACITY));
+    final var octets = tlv.getEncoded();
+    assertEquals(NEED_MORE_INPUT, dut.decode(ByteBuffer.wrap(octets, 0, octets.length - 1)));
+    assertTrue(dut.getBuffered() > BerTlvDecoder.MAX_RETAINED_CAPACITY);
+
+    dut.reset();
+
+    assertEquals(0, dut.getBuffered());
+    assertThrows(IllegalStateException.class, dut::getResult);
+
+    // --- b. decode after reset
+    assertEquals(OBJECT_COMPLETE, dut.decode(ByteBuffer.wrap(octets)));
+    assertEquals(tlv, dut.getResult());
+  } // end method */
+} // end class
@@ -1801,6 +1801,94 @@ final class TestConstructedBerTlv {
     assertTrue(dutB.insValueField.getClass().getName().startsWith(CLASS_IMMUTABLE_LIST));
   } // end method */
 
+  /** Test method for {@link ConstructedBerTlv.Builder}. */
+  @Test
+  void test_Builder() {
+    // Assertions:
+    // ... a. BerTlv.getInstance(long, Collection)-method works as expected
+
+    // Test strategy:
+    // --- a. empty builder
+    // --- b. add and addAll, result equals the one from BerTlv.getInstance(long, Collection)
+    // --- c. builder remains usable after build()
+    // --- d. ERROR: invalid tag
+    // --- e. SEQUENCE and SET, result equals decoded encoding
+
+    // --- a. empty builder
+    {
+      final var dut = new ConstructedBerTlv.Builder(0xa0);
+
+      assertEquals(0, dut.size());
+      assertEquals(0, dut.getLengthOfValueField());
+
+      final var present = dut.build();
+
+      assertEquals(ConstructedBerTlv.class, present.getClass());
+      assertEquals("a0 00", present.toString(" "));
+    } // end --- a.
+
+    // --- b. add and addAll, result equals the one from BerTlv.getInstance(long, Collection)
+    final var tlv = new byte[3][];
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var template = createRandom(20, 0.5, 5, tlv);
+      if (DerSet.TAG == template.getTag()) {
+        // ... value-field of a SET is sorted, see --- e.
+        continue;
+      } // end fi
+      final var children = template.getTemplate();
+      final var split = RNG.nextIntClosed(0, children.size());
+      final var dut = new ConstructedBerTlv.Builder(template.getTag());
+
+      for (final var child : children.subList(0, split)) {
+        assertSame(dut, dut.add(child));
+      } // end For (child...)
+      assertSame(dut, dut.addAll(children.subList(split, children.size())));
+      assertEquals(children.size(), dut.size());
+      assertEquals(template.getLengthOfValueField(), dut.getLengthOfValueField());
+
+      final var present = dut.build();
+
+      assertEquals(BerTlv.getInstance(template.getTag(), children), present);
+      assertEquals(template.getLengthOfTlvObject(), present.getLengthOfTlvObject());
+      assertArrayEquals(template.getEncoded(), present.getEncoded());
+      assertTrue(present.insValueField.getClass().getName().startsWith(CLASS_IMMUTABLE_LIST));
+    } // end For (counter...)
+    // end --- b.
+
+    // --- c. builder remains usable after build()
+    {
+      final var dut = new ConstructedBerTlv.Builder(0xbf8101).add(BerTlv.getInstance("81 01 a1"));
+      final var first = dut.build();
+      final var second = dut.addAll(List.of(BerTlv.getInstance("a2 00"))).build();
+
+      assertEquals("bf8101 03  81 01 a1", first.toString(" "));
+      assertEquals("bf8101 05  81 01 a1  a2 00", second.toString(" "));
+    } // end --- c.
+
+    // --- d. ERROR: invalid tag
+    for (final var tag : List.of(0x80L, 0x1f05L, 0xbf80L)) {
+      assertThrows(IllegalArgumentException.class, () -> new ConstructedBerTlv.Builder(tag));
+    } // end For (tag...)
+
+    // --- e. SEQUENCE and SET, result equals decoded encoding
+    {
+      final var children = List.of(BerTlv.getInstance("82 01 22"), BerTlv.getInstance("81 01 11"));
+      final var sequence = new ConstructedBerTlv.Builder(DerSequence.TAG).addAll(children).build();
+      final var set = new ConstructedBerTlv.Builder(DerSet.TAG).addAll(children).build();
+
+      assertEquals(DerSequence.class, sequence.getClass());
+      assertEquals("30 06  82 01 22  81 01 11", sequence.toString(" "));
+      assertEquals(BerTlv.getInstance(sequence.getEncoded()), sequence);
+      assertEquals(DerSet.class, set.getClass());
+      assertEquals("31 06  81 01 11  82 01 22", set.toString(" "));
+      assertEquals(BerTlv.getInstance(set.getEncoded()), set);
+
+      final var duplicates =
+          new ConstructedBerTlv.Builder(DerSet.TAG).add(children.get(0)).add(children.get(0));
+      assertThrows(IllegalArgumentException.class, duplicates::build);
+    } // end --- e.
+  } // end method */
+
   /** Test method for {@link ConstructedBerTlv#createTag(ClassOfTag, long)}. */
   @Test
   void test_createTag__ClassOfTag_long() {
@@ -2208,6 +2296,45 @@ final class TestConstructedBerTlv {
               final Optional<BerTlv> resA = DUT.get(0xa0, position);
               assertTrue(resA.isEmpty());
             }); // end forEach(position -> ...)
+
+    // --- e. linear search and index give the same result
+    final var tags = List.of(0x80L, 0x81L, 0x9f20L, 0xa1L, 0xbf8100L);
+    for (final var size :
+        List.of(
+            0,
+            1,
+            ConstructedBerTlv.LINEAR_SEARCH_LIMIT,
+            ConstructedBerTlv.LINEAR_SEARCH_LIMIT + 1,
+            100)) {
+      final var valueField = new ArrayList<BerTlv>();
+      for (int i = 0; i < size; i++) {
+        final var index = RNG.nextIntClosed(0, tags.size() - 2); // last tag never used
+        final var tagChild = tags.get(index);
+        valueField.add(
+            (index < 3) // first three tags are primitive
+                ? BerTlv.getInstance(tagChild, RNG.nextBytes(0, 4))
+                : BerTlv.getInstance(tagChild, List.of()));
+      } // end For (i...)
+      final var dut = new ConstructedBerTlv(0x20, valueField);
+
+      for (final var tagSearch : tags) {
+        for (int position = -2; position <= size; position++) {
+          BerTlv expected = null;
+          int counter = position;
+          for (final var tlv : valueField) {
+            if ((tlv.getTag() == tagSearch) && (counter-- <= 0)) { // NOPMD assignment in operand
+              expected = tlv;
+              break;
+            } // end fi
+          } // end For (tlv...)
+
+          assertSame(expected, dut.get(tagSearch, position).orElse(null));
+        } // end For (position...)
+
+        // large position SHALL NOT overflow
+        assertEquals(Optional.empty(), dut.get(tagSearch, Integer.MAX_VALUE));
+      } // end For (tagSearch...)
+    } // end For (size...)
   } // end method */
 
   /** Test method for {@link ConstructedBerTlv#getConstructed(long)}. */
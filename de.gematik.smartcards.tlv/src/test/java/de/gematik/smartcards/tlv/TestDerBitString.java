@@ -165,7 +165,7 @@ final class TestDerBitString {
               assertEquals(input, Hex.toHexDigits(dut.getDecoded()));
               assertEquals(exp, dut.toString());
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(octets -> ...)
   } // end method */
 
@@ -197,7 +197,7 @@ final class TestDerBitString {
       assertEquals(0, dut.getNumberOfUnusedBits());
       assertEquals("030100", dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     }
 
     // --- b. all valid values for numberOfUnusedBits
@@ -231,7 +231,7 @@ final class TestDerBitString {
                                 + Hex.toHexDigits(octets),
                             dut.toString());
                         assertTrue(dut.isValid());
-                        assertTrue(dut.insFindings.isEmpty());
+                        assertTrue(dut.getFindingList().isEmpty());
                       }); // end forEach(length -> ...)
             }); // end forEach(noUnusedBits -> ...)
 
@@ -323,15 +323,15 @@ final class TestDerBitString {
         if (msByte > 7) { // NOPMD literal in if statement
           // --- e. FINDING: numberOfUnusedBits out of range
           assertFalse(dut.isValid());
-          assertEquals(List.of(EM_7), dut.insFindings);
+          assertEquals(List.of(EM_7), dut.getFindingList());
         } else if ((msByte > 0) && (0 == length)) {
           // --- d. FINDING: numberOfUnusedBits > 0 but empty bit-string
           assertFalse(dut.isValid());
-          assertEquals(List.of(EM_GT0), dut.insFindings);
+          assertEquals(List.of(EM_GT0), dut.getFindingList());
         } else {
           // ... input okay
           assertTrue(dut.isValid());
-          assertTrue(dut.insFindings.isEmpty());
+          assertTrue(dut.getFindingList().isEmpty());
         } // end else
       } // end For (length ...)
     } // end For (msByte ...)
@@ -346,7 +346,7 @@ final class TestDerBitString {
       assertNull(dut.insDecoded);
       assertNull(dut.insBitString);
       assertFalse(dut.isValid());
-      assertEquals(List.of("value-field absent"), dut.insFindings);
+      assertEquals(List.of("value-field absent"), dut.getFindingList());
     } // end --- f.
 
     // --- g. ERROR: ArithmeticException
@@ -415,15 +415,15 @@ final class TestDerBitString {
           if (msByte > 7) { // NOPMD literal in if statement
             // --- e. FINDING: numberOfUnusedBits out of range
             assertFalse(dut.isValid());
-            assertEquals(List.of(EM_7), dut.insFindings);
+            assertEquals(List.of(EM_7), dut.getFindingList());
           } else if ((msByte > 0) && (0 == length)) {
             // --- d. FINDING: numberOfUnusedBits > 0 but empty bit-string
             assertFalse(dut.isValid());
-            assertEquals(List.of(EM_GT0), dut.insFindings);
+            assertEquals(List.of(EM_GT0), dut.getFindingList());
           } else {
             // ... input okay
             assertTrue(dut.isValid());
-            assertTrue(dut.insFindings.isEmpty());
+            assertTrue(dut.getFindingList().isEmpty());
           } // end else
         } // end For (length ...)
       } // end For (msByte ...)
@@ -438,7 +438,7 @@ final class TestDerBitString {
         assertNull(dut.insDecoded);
         assertNull(dut.insBitString);
         assertFalse(dut.isValid());
-        assertEquals(List.of("value-field absent"), dut.insFindings);
+        assertEquals(List.of("value-field absent"), dut.getFindingList());
       } // end --- f.
 
       // --- g. ERROR: ArithmeticException
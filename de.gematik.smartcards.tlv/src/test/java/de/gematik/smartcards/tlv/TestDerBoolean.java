@@ -99,7 +99,7 @@ final class TestDerBoolean {
     assertEquals("01 01 ff", dut.toString(" "));
     assertEquals(DerSpecific.DELIMITER + "BOOLEAN := true", dut.getComment());
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
     assertFalse(dut.insIndefiniteForm);
     assertEquals(1, dut.insLengthOfLengthFieldFromStream);
     assertEquals(1L, dut.insLengthOfValueFieldFromStream);
@@ -115,7 +115,7 @@ final class TestDerBoolean {
     assertEquals("01 01 00", dut.toString(" "));
     assertEquals(DerSpecific.DELIMITER + "BOOLEAN := false", dut.getComment());
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
     assertFalse(dut.insIndefiniteForm);
     assertEquals(1, dut.insLengthOfLengthFieldFromStream);
     assertEquals(1L, dut.insLengthOfValueFieldFromStream);
@@ -210,14 +210,14 @@ final class TestDerBoolean {
       assertEquals("01 01 03", dut.toString(" "));
       assertEquals(DerSpecific.DELIMITER + "BOOLEAN := true", dut.getComment());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       assertFalse(dut.insIndefiniteForm);
       assertEquals(1, dut.insLengthOfLengthFieldFromStream);
       assertEquals(1L, dut.insLengthOfValueField);
       assertEquals(1L, dut.insLengthOfValueFieldFromStream);
       assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("010103", Hex.toHexDigits(dut.getEncoded()));
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       assertTrue(dut.isValid());
     } // end --- a.
 
@@ -246,7 +246,7 @@ final class TestDerBoolean {
         assertNotSame(DerBoolean.TRUE, dut);
       } // end fi
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (value...)
 
     // --- c. FINDING: wrong length
@@ -275,7 +275,7 @@ final class TestDerBoolean {
         assertEquals(length, dut.insLengthOfValueField);
         assertEquals(length, dut.insLengthOfValueFieldFromStream);
         assertEquals("01" + octets, Hex.toHexDigits(dut.getEncoded()));
-        assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+        assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
       } // end else
     } // end For (length...)
     // end --- c.
@@ -300,7 +300,7 @@ final class TestDerBoolean {
       assertEquals(0L, dut.insLengthOfValueField);
       assertEquals(1, dut.insLengthOfLengthFieldFromStream);
       assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-      assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+      assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0100", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("", Hex.toHexDigits(dut.insValueField));
@@ -317,7 +317,7 @@ final class TestDerBoolean {
       assertEquals(0L, dut.insLengthOfValueField);
       assertEquals(2, dut.insLengthOfLengthFieldFromStream);
       assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-      assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+      assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0100", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("", Hex.toHexDigits(dut.insValueField));
@@ -334,7 +334,7 @@ final class TestDerBoolean {
       assertEquals(1L, dut.insLengthOfValueField);
       assertEquals(1, dut.insLengthOfLengthFieldFromStream);
       assertEquals(1L, dut.insLengthOfValueFieldFromStream);
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("af", Hex.toHexDigits(dut.insValueField));
@@ -351,7 +351,7 @@ final class TestDerBoolean {
       assertEquals(1L, dut.insLengthOfValueField);
       assertEquals(2, dut.insLengthOfLengthFieldFromStream);
       assertEquals(1L, dut.insLengthOfValueFieldFromStream);
-      assertEquals(List.of("original length-field unequal to '01'"), dut.insFindings);
+      assertEquals(List.of("original length-field unequal to '01'"), dut.getFindingList());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("00", Hex.toHexDigits(dut.insValueField));
@@ -368,7 +368,7 @@ final class TestDerBoolean {
       assertEquals(2L, dut.insLengthOfValueField);
       assertEquals(1, dut.insLengthOfLengthFieldFromStream);
       assertEquals(2L, dut.insLengthOfValueFieldFromStream);
-      assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+      assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0102", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("ff00", Hex.toHexDigits(dut.insValueField));
@@ -385,7 +385,7 @@ final class TestDerBoolean {
       assertEquals(2L, dut.insLengthOfValueField);
       assertEquals(3, dut.insLengthOfLengthFieldFromStream);
       assertEquals(2L, dut.insLengthOfValueFieldFromStream);
-      assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+      assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
       assertFalse(dut.insIndefiniteForm);
       assertEquals("0102", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("00ff", Hex.toHexDigits(dut.insValueField));
@@ -443,14 +443,14 @@ final class TestDerBoolean {
         assertEquals("01 01 03", dut.toString(" "));
         assertEquals(DerSpecific.DELIMITER + "BOOLEAN := true", dut.getComment());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         assertFalse(dut.insIndefiniteForm);
         assertEquals(1, dut.insLengthOfLengthFieldFromStream);
         assertEquals(1L, dut.insLengthOfValueField);
         assertEquals(1L, dut.insLengthOfValueFieldFromStream);
         assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("010103", Hex.toHexDigits(dut.getEncoded()));
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         assertTrue(dut.isValid());
       } // end --- a.
 
@@ -479,7 +479,7 @@ final class TestDerBoolean {
           assertNotSame(DerBoolean.TRUE, dut);
         } // end fi
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (value...)
 
       // --- c. FINDING: wrong length
@@ -508,7 +508,7 @@ final class TestDerBoolean {
           assertEquals(length, dut.insLengthOfValueField);
           assertEquals(length, dut.insLengthOfValueFieldFromStream);
           assertEquals("01" + octets, Hex.toHexDigits(dut.getEncoded()));
-          assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+          assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
         } // end else
       } // end For (length...)
       // end --- c.
@@ -533,7 +533,7 @@ final class TestDerBoolean {
         assertEquals(0L, dut.insLengthOfValueField);
         assertEquals(1, dut.insLengthOfLengthFieldFromStream);
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+        assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0100", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("", Hex.toHexDigits(dut.insValueField));
@@ -550,7 +550,7 @@ final class TestDerBoolean {
         assertEquals(0L, dut.insLengthOfValueField);
         assertEquals(2, dut.insLengthOfLengthFieldFromStream);
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+        assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0100", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("", Hex.toHexDigits(dut.insValueField));
@@ -567,7 +567,7 @@ final class TestDerBoolean {
         assertEquals(1L, dut.insLengthOfValueField);
         assertEquals(1, dut.insLengthOfLengthFieldFromStream);
         assertEquals(1L, dut.insLengthOfValueFieldFromStream);
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("af", Hex.toHexDigits(dut.insValueField));
@@ -584,7 +584,7 @@ final class TestDerBoolean {
         assertEquals(1L, dut.insLengthOfValueField);
         assertEquals(2, dut.insLengthOfLengthFieldFromStream);
         assertEquals(1L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of("original length-field unequal to '01'"), dut.insFindings);
+        assertEquals(List.of("original length-field unequal to '01'"), dut.getFindingList());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0101", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("00", Hex.toHexDigits(dut.insValueField));
@@ -601,7 +601,7 @@ final class TestDerBoolean {
         assertEquals(2L, dut.insLengthOfValueField);
         assertEquals(1, dut.insLengthOfLengthFieldFromStream);
         assertEquals(2L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+        assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0102", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("ff00", Hex.toHexDigits(dut.insValueField));
@@ -618,7 +618,7 @@ final class TestDerBoolean {
         assertEquals(2L, dut.insLengthOfValueField);
         assertEquals(3, dut.insLengthOfLengthFieldFromStream);
         assertEquals(2L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of(MESSAGE_LENGTH), dut.insFindings);
+        assertEquals(List.of(MESSAGE_LENGTH), dut.getFindingList());
         assertFalse(dut.insIndefiniteForm);
         assertEquals("0102", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("00ff", Hex.toHexDigits(dut.insValueField));
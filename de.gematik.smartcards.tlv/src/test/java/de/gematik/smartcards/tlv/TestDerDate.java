@@ -41,6 +41,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -124,9 +125,9 @@ final class TestDerDate {
     final DerDate dut = new DerDate(input);
     assertEquals("1f1f 08 3139363530333234", dut.toString(" "));
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
-    assertSame(input, dut.insDecoded);
-    assertEquals("1965-03-24", dut.insDecoded.toString());
+    assertTrue(dut.getFindingList().isEmpty());
+    assertSame(input, dut.getDecoded());
+    assertEquals("1965-03-24", dut.getDecoded().toString());
   } // end method */
 
   /** Test method for {@link DerDate#DerDate(ByteBuffer)}. */
@@ -157,11 +158,11 @@ final class TestDerDate {
 
       assertEquals(TAG_FIELD + octets, dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
-      assertEquals(LocalDate.of(year, month, day), dut.insDecoded);
+      assertTrue(dut.getFindingList().isEmpty());
+      assertEquals(LocalDate.of(year, month, day), dut.getDecoded());
       assertEquals(
           String.format("%04d-%02d-%02d", year, month, day),
-          dut.insDecoded.toString(),
+          dut.getDecoded().toString(),
           () -> Integer.toString(i));
     } // end For (i...)
     // end --- a.
@@ -183,8 +184,8 @@ final class TestDerDate {
 
         assertEquals(TAG_FIELD + octets, dut.toString());
         assertFalse(dut.isValid());
-        assertEquals(1, dut.insFindings.size());
-        assertEquals(List.of("wrong format"), dut.insFindings);
+        assertEquals(1, dut.getFindingList().size());
+        assertEquals(List.of("wrong format"), dut.getFindingList());
       } // end For (input...)
     } // end --- b.
 
@@ -240,11 +241,11 @@ final class TestDerDate {
 
         assertEquals(TAG_FIELD + octets, dut.toString());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
-        assertEquals(LocalDate.of(year, month, day), dut.insDecoded);
+        assertTrue(dut.getFindingList().isEmpty());
+        assertEquals(LocalDate.of(year, month, day), dut.getDecoded());
         assertEquals(
             String.format("%04d-%02d-%02d", year, month, day),
-            dut.insDecoded.toString(),
+            dut.getDecoded().toString(),
             () -> Integer.toString(i));
       } // end For (i...)
       // end --- a.
@@ -266,8 +267,8 @@ final class TestDerDate {
 
           assertEquals(TAG_FIELD + octets, dut.toString());
           assertFalse(dut.isValid());
-          assertEquals(1, dut.insFindings.size());
-          assertEquals(List.of("wrong format"), dut.insFindings);
+          assertEquals(1, dut.getFindingList().size());
+          assertEquals(List.of("wrong format"), dut.getFindingList());
         } // end For (input...)
       } // end --- b.
     } catch (IOException e) {
@@ -355,8 +356,8 @@ final class TestDerDate {
       final DerDate dut = new DerDate(input);
       assertEquals("1f1f 08 3139363530333237", dut.toString(" "));
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
-      assertSame(input, dut.insDecoded);
+      assertTrue(dut.getFindingList().isEmpty());
+      assertSame(input, dut.getDecoded());
       assertEquals("1965-03-27", dut.getDecoded().toString());
     }
 
@@ -369,4 +370,57 @@ final class TestDerDate {
       assertEquals(LocalDate.of(1965, 3, 28), dut.getDecoded());
     } // end --- b.
   } // end method */
+
+  /** Test method for {@link DerDate#parse(byte[])}. */
+  @Test
+  void test_parse__byteA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. all days in a leap and a non-leap year are covered by fast path
+    // --- b. random (possibly invalid) fields, fast path agrees with DateTimeFormatter
+    // --- c. corner cases not covered by fast path
+
+    // --- a. all days in a leap and a non-leap year are covered by fast path
+    for (final var year : List.of(2024, 2025)) {
+      for (var date = LocalDate.of(year, 1, 1);
+          date.getYear() == year;
+          date = date.plusDays(1)) { // NOPMD reassignment of loop control variable
+        final var octets = date.format(DerDate.FORMATTER).getBytes(CHARSET);
+
+        assertEquals(date, DerDate.parse(octets));
+      } // end For (date...)
+    } // end For (year...)
+    // end --- a.
+
+    // --- b. random (possibly invalid) fields, fast path agrees with DateTimeFormatter
+    for (int counter = 10_000; counter-- > 0; ) { // NOPMD assignment in operand
+      final var input =
+          String.format(
+              "%04d%02d%02d",
+              RNG.nextIntClosed(0, 9999), RNG.nextIntClosed(0, 13), RNG.nextIntClosed(0, 32));
+      final var octets = input.getBytes(CHARSET);
+
+      final var present = DerDate.parse(octets);
+
+      if (null == present) {
+        assertThrows(
+            DateTimeParseException.class, () -> LocalDate.parse(input, DerDate.FORMATTER), input);
+      } else {
+        assertEquals(LocalDate.parse(input, DerDate.FORMATTER), present, input);
+      } // end else
+    } // end For (counter...)
+    // end --- b.
+
+    // --- c. corner cases not covered by fast path
+    for (final var input :
+        List.of(
+            "20210219Z", // with offset, accepted by FORMATTER
+            "2021021", // too short
+            "2021-219", // not a digit
+            "")) {
+      assertNull(DerDate.parse(input.getBytes(CHARSET)), input);
+    } // end For (input...)
+  } // end method */
 } // end class
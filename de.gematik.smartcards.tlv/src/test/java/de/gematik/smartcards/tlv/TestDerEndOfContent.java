@@ -90,14 +90,14 @@ final class TestDerEndOfContent {
     assertEquals("00 00", dut.toString(" "));
     assertEquals(DerSpecific.DELIMITER + "EndOfContent", dut.getComment());
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
     assertFalse(dut.insIndefiniteForm);
     assertEquals(1, dut.insLengthOfLengthFieldFromStream);
     assertEquals(0L, dut.insLengthOfValueField);
     assertEquals(0L, dut.insLengthOfValueFieldFromStream);
     assertEquals("0000", Hex.toHexDigits(dut.insTagLengthField)); // NOPMD appears often
     assertEquals("0000", Hex.toHexDigits(dut.getEncoded()));
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
   } // end method */
 
   /** Method executed after other tests. */
@@ -146,7 +146,7 @@ final class TestDerEndOfContent {
       assertEquals(0L, dut.insLengthOfValueFieldFromStream);
       assertEquals("0000", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("0000", Hex.toHexDigits(dut.getEncoded()));
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       assertTrue(dut.isValid());
     } // end --- a.
 
@@ -164,7 +164,7 @@ final class TestDerEndOfContent {
         assertEquals(Hex.toByteArray(input).length, dut.insLengthOfLengthFieldFromStream);
         assertEquals(0L, dut.insLengthOfValueField);
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of("original length-field unequal to '00'"), dut.insFindings);
+        assertEquals(List.of("original length-field unequal to '00'"), dut.getFindingList());
       } // end For (input...)
     } // end --- b.
 
@@ -182,7 +182,7 @@ final class TestDerEndOfContent {
       assertEquals(length, dut.insLengthOfValueField);
       assertEquals(length, dut.insLengthOfValueFieldFromStream);
       assertEquals("00" + input, Hex.toHexDigits(dut.getEncoded()));
-      assertEquals(List.of("value-field present"), dut.insFindings);
+      assertEquals(List.of("value-field present"), dut.getFindingList());
     } // end For (length...)
     // end --- c.
 
@@ -237,7 +237,7 @@ final class TestDerEndOfContent {
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
         assertEquals("0000", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("0000", Hex.toHexDigits(dut.getEncoded()));
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         assertTrue(dut.isValid());
       } // end --- a.
 
@@ -254,7 +254,7 @@ final class TestDerEndOfContent {
           assertEquals(Hex.toByteArray(input).length, dut.insLengthOfLengthFieldFromStream);
           assertEquals(0L, dut.insLengthOfValueField);
           assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-          assertEquals(List.of("original length-field unequal to '00'"), dut.insFindings);
+          assertEquals(List.of("original length-field unequal to '00'"), dut.getFindingList());
         } // end For (input...)
       } // end --- b.
 
@@ -272,7 +272,7 @@ final class TestDerEndOfContent {
         assertEquals(length, dut.insLengthOfValueField);
         assertEquals(length, dut.insLengthOfValueFieldFromStream);
         assertEquals("00" + input, Hex.toHexDigits(dut.getEncoded()));
-        assertEquals(List.of("value-field present"), dut.insFindings);
+        assertEquals(List.of("value-field present"), dut.getFindingList());
       } // end For (length...)
       // end --- c.
     } catch (IOException e) {
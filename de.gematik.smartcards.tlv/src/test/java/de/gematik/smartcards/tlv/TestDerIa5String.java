@@ -23,7 +23,6 @@ import static de.gematik.smartcards.utils.AfiUtils.UNEXPECTED;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -138,9 +137,9 @@ final class TestDerIa5String {
           "16" + BerTlv.getLengthField(valueField.length) + Hex.toHexDigits(valueField);
       final DerIa5String dut = new DerIa5String(input); // NOPMD new in loop
       assertEquals(expected, dut.toString());
-      assertSame(input, dut.insDecoded); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
+      assertSame(input, dut.getDecoded()); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (input...)
     // end --- a.
 
@@ -160,9 +159,9 @@ final class TestDerIa5String {
                   "16" + BerTlv.getLengthField(valueField.length) + Hex.toHexDigits(valueField);
               final DerIa5String dut = new DerIa5String(input);
               assertEquals(expected, dut.toString());
-              assertSame(input, dut.insDecoded); // ES_COMPARING_STRINGS_WITH_EQ
+              assertSame(input, dut.getDecoded()); // ES_COMPARING_STRINGS_WITH_EQ
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(size -> ...)
 
     // --- c. ERROR: invalid characters
@@ -205,9 +204,9 @@ final class TestDerIa5String {
       final var dut = new DerIa5String(buffer);
 
       assertEquals("16" + input, dut.toString());
-      assertEquals(decoded, dut.insDecoded);
+      assertEquals(decoded, dut.getDecoded());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (size...)
     // end --- a.
 
@@ -269,9 +268,9 @@ final class TestDerIa5String {
         final var dut = new DerIa5String(inputStream);
 
         assertEquals("16" + input, dut.toString());
-        assertEquals(decoded, dut.insDecoded);
+        assertEquals(decoded, dut.getDecoded());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (size...)
       // end --- a.
 
@@ -320,6 +319,7 @@ final class TestDerIa5String {
     // --- a. smoke test with valid characters
     // --- b. random input with valid characters
     // --- c. invalid characters
+    // --- d. all octet values, with and without characters differing from ISO-8859-1
 
     final DerIa5String dut = new DerIa5String("");
 
@@ -359,6 +359,16 @@ final class TestDerIa5String {
     // --- c. invalid characters
     // Note: No tests for invalid characters, because for each byte-value
     //       a valid character exists.
+
+    // --- d. all octet values, with and without characters differing from ISO-8859-1
+    for (int ia5 = 0; ia5 < DerIa5String.IA5.size(); ia5++) {
+      final var expected =
+          "A" + Character.toString(DerIa5String.UNICODE.get(DerIa5String.IA5.indexOf(ia5)));
+
+      final var actual = dut.fromBytes(new byte[] {0x41, (byte) ia5});
+
+      assertEquals(expected, actual);
+    } // end For (ia5...)
   } // end method */
 
   /** Test method for {@link DerIa5String#getComment()}. */
@@ -478,6 +488,7 @@ final class TestDerIa5String {
     // Test strategy:
     // --- a. smoke test with manually chosen input
     // --- b. invalid input
+    // --- c. all code points in range [0, 255]
 
     // --- a. smoke test with manually chosen input
     Map.ofEntries(
@@ -508,9 +519,20 @@ final class TestDerIa5String {
       final Throwable throwable =
           assertThrows(IllegalArgumentException.class, () -> DerIa5String.toBytes(input));
       assertEquals(DerIa5String.MESSAGE, throwable.getMessage());
-      final Throwable innerException = throwable.getCause();
-      assertNotNull(innerException);
-      assertEquals(IndexOutOfBoundsException.class, innerException.getClass());
+      assertNull(throwable.getCause());
     } // end For (input...)
+    // end --- b.
+
+    // --- c. all code points in range [0, 255]
+    for (int codePoint = 0; codePoint < 256; codePoint++) {
+      final var input = Character.toString(codePoint);
+      final int index = DerIa5String.UNICODE.indexOf(codePoint);
+
+      if (index < 0) {
+        assertThrows(IllegalArgumentException.class, () -> DerIa5String.toBytes(input));
+      } else {
+        assertEquals((int) DerIa5String.IA5.get(index), DerIa5String.toBytes(input)[0] & 0xff);
+      } // end else
+    } // end For (codePoint...)
   } // end method */
 } // end class
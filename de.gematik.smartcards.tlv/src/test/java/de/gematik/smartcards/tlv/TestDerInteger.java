@@ -120,7 +120,7 @@ final class TestDerInteger {
 
       assertNotNull(dut.insDecoded);
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
 
       if ((-128 <= value) && (value <= 127)) {
         // ... one byte value-field
@@ -144,7 +144,7 @@ final class TestDerInteger {
 
         assertEquals(exp, dut.toString());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (signum...)
     } // end For (bitLength...)
   } // end method */
@@ -174,7 +174,7 @@ final class TestDerInteger {
       assertNull(dut.insDecoded);
       assertEquals(value, dut.getDecoded().intValueExact());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (value...)
 
     // --- b. FINDING: wrong length
@@ -187,20 +187,20 @@ final class TestDerInteger {
       dut = new DerInteger(ByteBuffer.wrap(Hex.toByteArray("-00")));
       assertEquals(BigInteger.ZERO, dut.getDecoded());
       assertFalse(dut.isValid());
-      assertEquals(List.of("value-field absent"), dut.insFindings);
+      assertEquals(List.of("value-field absent"), dut.getFindingList());
 
       // b.2 value-field present, but 9 MSBit are all equal
       dut = new DerInteger(ByteBuffer.wrap(Hex.toByteArray("-02-007f"))); // 9 MSBit are '0'
 
       assertEquals(BigInteger.valueOf(0x7f), dut.getDecoded());
       assertFalse(dut.isValid());
-      assertEquals(List.of(EM_9), dut.insFindings);
+      assertEquals(List.of(EM_9), dut.getFindingList());
 
       dut = new DerInteger(ByteBuffer.wrap(Hex.toByteArray("-02-ff80"))); // 9 MSBit are '1'
 
       assertEquals(BigInteger.valueOf(-128), dut.getDecoded());
       assertFalse(dut.isValid());
-      assertEquals(List.of(EM_9), dut.insFindings);
+      assertEquals(List.of(EM_9), dut.getFindingList());
     }
     // end --- b.
 
@@ -252,7 +252,7 @@ final class TestDerInteger {
         assertNull(dut.insDecoded);
         assertEquals(value, dut.getDecoded().intValueExact());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (value...)
 
       // --- b. FINDING: wrong length
@@ -265,7 +265,7 @@ final class TestDerInteger {
         dut = new DerInteger(new ByteArrayInputStream(Hex.toByteArray("-00")));
         assertEquals(BigInteger.ZERO, dut.getDecoded());
         assertFalse(dut.isValid());
-        assertEquals(List.of("value-field absent"), dut.insFindings);
+        assertEquals(List.of("value-field absent"), dut.getFindingList());
 
         // b.2 value-field present, but 9 MSBit are all equal
         dut =
@@ -274,7 +274,7 @@ final class TestDerInteger {
 
         assertEquals(BigInteger.valueOf(0x7f), dut.getDecoded());
         assertFalse(dut.isValid());
-        assertEquals(List.of(EM_9), dut.insFindings);
+        assertEquals(List.of(EM_9), dut.getFindingList());
 
         dut =
             new DerInteger(
@@ -282,7 +282,7 @@ final class TestDerInteger {
 
         assertEquals(BigInteger.valueOf(-128), dut.getDecoded());
         assertFalse(dut.isValid());
-        assertEquals(List.of(EM_9), dut.insFindings);
+        assertEquals(List.of(EM_9), dut.getFindingList());
       }
     } catch (IOException e) {
       fail(UNEXPECTED, e);
@@ -89,14 +89,14 @@ final class TestDerNull {
     assertEquals("05 00", dut.toString(" "));
     assertEquals(DerSpecific.DELIMITER + "NULL", dut.getComment());
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
     assertFalse(dut.insIndefiniteForm);
     assertEquals(1, dut.insLengthOfLengthFieldFromStream);
     assertEquals(0L, dut.insLengthOfValueField);
     assertEquals(0L, dut.insLengthOfValueFieldFromStream);
     assertEquals("0500", Hex.toHexDigits(dut.insTagLengthField)); // NOPMD appears often
     assertEquals("0500", Hex.toHexDigits(dut.getEncoded()));
-    assertTrue(dut.insFindings.isEmpty());
+    assertTrue(dut.getFindingList().isEmpty());
   } // end method */
 
   /** Method executed after other tests. */
@@ -145,7 +145,7 @@ final class TestDerNull {
       assertEquals(0L, dut.insLengthOfValueFieldFromStream);
       assertEquals("0500", Hex.toHexDigits(dut.insTagLengthField));
       assertEquals("0500", Hex.toHexDigits(dut.getEncoded()));
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       assertTrue(dut.isValid());
     } // end --- a.
 
@@ -163,7 +163,7 @@ final class TestDerNull {
         assertEquals(Hex.toByteArray(input).length, dut.insLengthOfLengthFieldFromStream);
         assertEquals(0L, dut.insLengthOfValueField);
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-        assertEquals(List.of("original length-field unequal to '00'"), dut.insFindings);
+        assertEquals(List.of("original length-field unequal to '00'"), dut.getFindingList());
       } // end For (input...)
     } // end --- b.
 
@@ -181,7 +181,7 @@ final class TestDerNull {
       assertEquals(length, dut.insLengthOfValueField);
       assertEquals(length, dut.insLengthOfValueFieldFromStream);
       assertEquals("05" + input, Hex.toHexDigits(dut.getEncoded()));
-      assertEquals(List.of("value-field present"), dut.insFindings);
+      assertEquals(List.of("value-field present"), dut.getFindingList());
     } // end For (length...)
     // end --- c.
 
@@ -236,7 +236,7 @@ final class TestDerNull {
         assertEquals(0L, dut.insLengthOfValueFieldFromStream);
         assertEquals("0500", Hex.toHexDigits(dut.insTagLengthField));
         assertEquals("0500", Hex.toHexDigits(dut.getEncoded()));
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         assertTrue(dut.isValid());
       } // end --- a.
 
@@ -254,7 +254,7 @@ final class TestDerNull {
           assertEquals(Hex.toByteArray(input).length, dut.insLengthOfLengthFieldFromStream);
           assertEquals(0L, dut.insLengthOfValueField);
           assertEquals(0L, dut.insLengthOfValueFieldFromStream);
-          assertEquals(List.of("original length-field unequal to '00'"), dut.insFindings);
+          assertEquals(List.of("original length-field unequal to '00'"), dut.getFindingList());
         } // end For (input...)
       } // end --- b.
 
@@ -272,7 +272,7 @@ final class TestDerNull {
         assertEquals(length, dut.insLengthOfValueField);
         assertEquals(length, dut.insLengthOfValueFieldFromStream);
         assertEquals("05" + input, Hex.toHexDigits(dut.getEncoded()));
-        assertEquals(List.of("value-field present"), dut.insFindings);
+        assertEquals(List.of("value-field present"), dut.getFindingList());
       } // end For (length...)
       // end --- c.
     } catch (IOException e) {
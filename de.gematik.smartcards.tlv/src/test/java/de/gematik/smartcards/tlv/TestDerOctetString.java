@@ -133,7 +133,7 @@ final class TestDerOctetString {
       assertNotSame(octetString, dut.insValueField); // defensive cloning?
       assertEquals(expected, dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (octets ...)
   } // end method */
 
@@ -162,7 +162,7 @@ final class TestDerOctetString {
 
       assertEquals("04" + input, dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
       final byte[] deco1 = dut.getDecoded();
       assertNotNull(dut.insValueField);
       assertNotSame(octet, dut.insValueField);
@@ -224,7 +224,7 @@ final class TestDerOctetString {
 
         assertEquals("04" + input, dut.toString());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
         final byte[] deco1 = dut.getDecoded();
         assertNotNull(dut.insValueField);
         assertNotSame(octet, dut.insValueField);
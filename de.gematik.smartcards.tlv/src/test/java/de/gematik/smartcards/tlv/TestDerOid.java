@@ -108,14 +108,14 @@ final class TestDerOid {
       final DerOid dut = new DerOid(oid); // NOPMD new in loop
 
       final var oidOctetString = oid.getOctetString();
-      assertSame(oid, dut.insDecoded);
+      assertSame(oid, dut.getDecoded());
       assertEquals(
           "06" // tag-field
               + BerTlv.getLengthField(Hex.toByteArray(oidOctetString).length) // length-field
               + oidOctetString, // value-field
           dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (oid...)
   } // end method */
 
@@ -143,11 +143,11 @@ final class TestDerOid {
 
       final var dut = new DerOid(buffer);
 
-      assertNotNull(dut.insDecoded);
-      assertEquals(oid, dut.insDecoded);
+      assertNotNull(dut.getDecoded());
+      assertEquals(oid, dut.getDecoded());
       assertEquals("06" + input, dut.toString());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (oid...)
     // end --- a.
 
@@ -161,11 +161,11 @@ final class TestDerOid {
 
       final var dut = new DerOid(buffer);
 
-      assertNotNull(dut.insDecoded);
-      assertEquals(AfiOid.INVALID, dut.insDecoded);
+      assertNotNull(dut.getDecoded());
+      assertEquals(AfiOid.INVALID, dut.getDecoded());
       assertEquals("06" + input, dut.toString());
       assertFalse(dut.isValid());
-      assertEquals(List.of("invalid OID"), dut.insFindings);
+      assertEquals(List.of("invalid OID"), dut.getFindingList());
     } // end --- b.
 
     // --- c. ERROR: ArithmeticException
@@ -215,11 +215,11 @@ final class TestDerOid {
 
         final var dut = new DerOid(inputStream);
 
-        assertNotNull(dut.insDecoded);
-        assertEquals(oid, dut.insDecoded);
+        assertNotNull(dut.getDecoded());
+        assertEquals(oid, dut.getDecoded());
         assertEquals("06" + input, dut.toString());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (oid...)
       // end --- a.
 
@@ -233,11 +233,11 @@ final class TestDerOid {
 
         final var dut = new DerOid(inputStream);
 
-        assertNotNull(dut.insDecoded);
-        assertEquals(AfiOid.INVALID, dut.insDecoded);
+        assertNotNull(dut.getDecoded());
+        assertEquals(AfiOid.INVALID, dut.getDecoded());
         assertEquals("06" + input, dut.toString());
         assertFalse(dut.isValid());
-        assertEquals(List.of("invalid OID"), dut.insFindings);
+        assertEquals(List.of("invalid OID"), dut.getFindingList());
       } // end --- b.
     } catch (IOException e) {
       fail(UNEXPECTED, e);
@@ -283,7 +283,7 @@ final class TestDerOid {
     AfiOid.PREDEFINED.forEach(
         oid -> {
           final DerOid dut = new DerOid(oid);
-          assertSame(oid, dut.insDecoded);
+          assertSame(oid, dut.getDecoded());
           assertEquals(
               DerSpecific.DELIMITER
                   + "OBJECT IDENTIFIER := "
@@ -315,16 +315,16 @@ final class TestDerOid {
     // --- a. decode after DerInteger(BigInteger)-constructor
     input = AfiOid.brainpoolP384r1;
     dut = new DerOid(input);
-    assertNotNull(dut.insDecoded);
-    assertSame(input, dut.insDecoded);
+    assertNotNull(dut.getDecoded());
+    assertSame(input, dut.getDecoded());
     assertSame(input, dut.getDecoded());
 
     // --- b. decode after DerOid(InputStream)-constructor
     input = AfiOid.rsaEncryption;
     dut = (DerOid) BerTlv.getInstance(new ByteArrayInputStream(new DerOid(input).getEncoded()));
-    assertNotNull(dut.insDecoded);
-    assertNotSame(input, dut.insDecoded);
-    assertEquals(input, dut.insDecoded);
-    assertSame(dut.insDecoded, dut.getDecoded());
+    assertNotNull(dut.getDecoded());
+    assertNotSame(input, dut.getDecoded());
+    assertEquals(input, dut.getDecoded());
+    assertSame(dut.getDecoded(), dut.getDecoded());
   } // end method */
 } // end class
@@ -140,9 +140,9 @@ final class TestDerPrintableString {
       final DerPrintableString dut = new DerPrintableString(input); // NOPMD new in loop
 
       assertEquals(expected, dut.toString());
-      assertSame(input, dut.insDecoded); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
+      assertSame(input, dut.getDecoded()); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (input...)
 
     // --- b. bunch of test with random input
@@ -155,9 +155,9 @@ final class TestDerPrintableString {
                   "13" + BerTlv.getLengthField(valueField.length) + Hex.toHexDigits(valueField);
               final DerPrintableString dut = new DerPrintableString(input);
               assertEquals(expected, dut.toString());
-              assertSame(input, dut.insDecoded); // Spotbugs: ES_COMPARING_STRINGS_WITH_EQ
+              assertSame(input, dut.getDecoded()); // Spotbugs: ES_COMPARING_STRINGS_WITH_EQ
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(size -> ...)
 
     // --- c. ERROR: invalid characters
@@ -202,9 +202,9 @@ final class TestDerPrintableString {
       final var dut = new DerPrintableString(buffer);
 
       assertEquals("13" + input, dut.toString());
-      assertEquals(decoded, dut.insDecoded);
+      assertEquals(decoded, dut.getDecoded());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (size...)
     // end --- a.
 
@@ -217,10 +217,10 @@ final class TestDerPrintableString {
       final var dut = new DerPrintableString(buffer);
 
       assertEquals("13" + input, dut.toString());
-      assertEquals(decoded, dut.insDecoded);
+      assertEquals(decoded, dut.getDecoded());
       assertFalse(dut.isValid());
-      assertEquals(1, dut.insFindings.size());
-      assertEquals(List.of(DerPrintableString.MESSAGE), dut.insFindings);
+      assertEquals(1, dut.getFindingList().size());
+      assertEquals(List.of(DerPrintableString.MESSAGE), dut.getFindingList());
     } // end For (decoded...)
     // end --- b.
 
@@ -270,9 +270,9 @@ final class TestDerPrintableString {
         final var dut = new DerPrintableString(inputStream);
 
         assertEquals("13" + input, dut.toString());
-        assertEquals(decoded, dut.insDecoded);
+        assertEquals(decoded, dut.getDecoded());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (size...)
       // end --- a.
 
@@ -285,10 +285,10 @@ final class TestDerPrintableString {
         final var dut = new DerPrintableString(inputStream);
 
         assertEquals("13" + input, dut.toString());
-        assertEquals(decoded, dut.insDecoded);
+        assertEquals(decoded, dut.getDecoded());
         assertFalse(dut.isValid());
-        assertEquals(1, dut.insFindings.size());
-        assertEquals(List.of(DerPrintableString.MESSAGE), dut.insFindings);
+        assertEquals(1, dut.getFindingList().size());
+        assertEquals(List.of(DerPrintableString.MESSAGE), dut.getFindingList());
       } // end For (decoded...)
       // end --- b.
     } catch (IOException e) {
@@ -402,4 +402,46 @@ final class TestDerPrintableString {
               assertEquals(expected, present);
             }); // end forEach(size -> ...)
   } // end method */
+
+  /** Test method for {@link DerPrintableString#invalidCharacters()}. */
+  @Test
+  void test_invalidCharacters() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. check each octet value against ISO/IEC 8824-1:2021 clause 41.4, table 10
+    final var valid = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 '()+,-./:=?";
+    for (int octet = 0; octet < 256; octet++) {
+      final var dut =
+          (DerPrintableString)
+              BerTlv.getInstance(DerPrintableString.TAG, new byte[] {(byte) octet});
+
+      assertEquals(valid.indexOf(octet) < 0, dut.invalidCharacters(), Integer.toString(octet));
+    } // end For (octet...)
+  } // end method */
+
+  /** Test method for {@link DerPrintableString#toBytes(String)}. */
+  @Test
+  void test_toBytes__String() {
+    // Test strategy:
+    // --- a. smoke test with manually chosen input
+    // --- b. ERROR: characters not in US-ASCII
+
+    // --- a. smoke test with manually chosen input
+    for (final var input : List.of("", "Alfred", "DEGXX820214", "a*b")) {
+      assertEquals(
+          Hex.toHexDigits(input.getBytes(StandardCharsets.US_ASCII)),
+          Hex.toHexDigits(DerPrintableString.toBytes(input)),
+          input);
+    } // end For (input...)
+
+    // --- b. ERROR: characters not in US-ASCII
+    for (final var input : List.of("ä", "Max Müller", "\u0080")) {
+      final Throwable throwable =
+          assertThrows(IllegalArgumentException.class, () -> DerPrintableString.toBytes(input));
+      assertEquals(DerPrintableString.MESSAGE, throwable.getMessage());
+      assertNull(throwable.getCause());
+    } // end For (input...)
+  } // end method */
 } // end class
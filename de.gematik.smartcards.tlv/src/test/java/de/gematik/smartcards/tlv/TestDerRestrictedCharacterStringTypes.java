@@ -101,9 +101,9 @@ final class TestDerRestrictedCharacterStringTypes {
       final String input = "Hello";
       final var dut = new DerMyString(DerPrintableString.TAG, input);
       assertEquals(DerPrintableString.TAG, dut.getTag());
-      assertSame(input, dut.insDecoded); // ES_COMPARING_STRINGS_WITH_EQ
+      assertSame(input, dut.getDecoded()); // ES_COMPARING_STRINGS_WITH_EQ
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end --- a.
 
     // --- b. some "invalid" characters
@@ -154,14 +154,14 @@ final class TestDerRestrictedCharacterStringTypes {
 
       assertEquals(tag, dut.getTag());
       assertEquals(octets.length, dut.getLengthOfValueField());
-      assertEquals(string, dut.insDecoded);
+      assertEquals(string, dut.getDecoded());
       assertEquals(!dut.invalidCharacters(), dut.isValid());
 
       if (dut.isValid()) {
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } else {
-        assertEquals(1, dut.insFindings.size());
-        assertEquals(DerRestrictedCharacterStringTypes.MESSAGE, dut.insFindings.getFirst());
+        assertEquals(1, dut.getFindingList().size());
+        assertEquals(DerRestrictedCharacterStringTypes.MESSAGE, dut.getFindingList().getFirst());
       } // end else
     } // end For (string...)
   } // end method */
@@ -203,14 +203,14 @@ final class TestDerRestrictedCharacterStringTypes {
 
         assertEquals(tag, dut.getTag());
         assertEquals(octets.length, dut.getLengthOfValueField());
-        assertEquals(string, dut.insDecoded);
+        assertEquals(string, dut.getDecoded());
         assertEquals(!dut.invalidCharacters(), dut.isValid());
 
         if (dut.isValid()) {
-          assertTrue(dut.insFindings.isEmpty());
+          assertTrue(dut.getFindingList().isEmpty());
         } else {
-          assertEquals(1, dut.insFindings.size());
-          assertEquals(DerRestrictedCharacterStringTypes.MESSAGE, dut.insFindings.getFirst());
+          assertEquals(1, dut.getFindingList().size());
+          assertEquals(DerRestrictedCharacterStringTypes.MESSAGE, dut.getFindingList().getFirst());
         } // end else
       } catch (IOException e) {
         fail(UNEXPECTED, e);
@@ -357,7 +357,7 @@ final class TestDerRestrictedCharacterStringTypes {
     /* package */
     @Override
     boolean invalidCharacters() {
-      return insDecoded.length() > 10;
+      return getDecoded().length() > 10;
     } // end inner method */
 
     /**
@@ -293,6 +293,27 @@ final class TestDerSequence {
     assertTrue(dutC.insValueField.getClass().getName().startsWith(CLASS_IMMUTABLE_LIST));
   } // end method */
 
+  /** Test method for {@link DerSequence.Builder}. */
+  @Test
+  void test_Builder() {
+    // Assertions:
+    // ... a. ConstructedBerTlv.Builder works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    final var tlvA = BerTlv.getInstance("81 01 a1");
+    final var tlvB = BerTlv.getInstance("a2 00");
+    final var dut = new DerSequence.Builder();
+
+    final DerSequence.Builder builder = dut.add(tlvA).addAll(List.of(tlvB, tlvA));
+    final DerSequence present = builder.build();
+
+    assertSame(dut, builder);
+    assertEquals(new DerSequence(List.of(tlvA, tlvB, tlvA)), present);
+    assertEquals("30 08  81 01 a1  a2 00  81 01 a1", present.toString(" "));
+    assertTrue(present.insValueField.getClass().getName().startsWith(CLASS_IMMUTABLE_LIST));
+  } // end method */
+
   /** Test method for {@link DerSequence#getComment()}. */
   @Test
   void test_getComment() {
@@ -23,7 +23,6 @@ import static de.gematik.smartcards.utils.AfiUtils.UNEXPECTED;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,7 +42,6 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -135,9 +133,9 @@ final class TestDerTeletexString {
           "14" + BerTlv.getLengthField(valueField.length) + Hex.toHexDigits(valueField);
       final DerTeletexString dut = new DerTeletexString(input); // NOPMD new in loop
       assertEquals(expected, dut.toString());
-      assertSame(input, dut.insDecoded); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
+      assertSame(input, dut.getDecoded()); // ES_COMPARING_PARAMETER_STRING_WITH_EQ
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (input...)
 
     // --- b. bunch of test with random input
@@ -156,9 +154,9 @@ final class TestDerTeletexString {
                   "14" + BerTlv.getLengthField(valueField.length) + Hex.toHexDigits(valueField);
               final DerTeletexString dut = new DerTeletexString(input);
               assertEquals(expected, dut.toString());
-              assertSame(input, dut.insDecoded); // ES_COMPARING_STRINGS_WITH_EQ
+              assertSame(input, dut.getDecoded()); // ES_COMPARING_STRINGS_WITH_EQ
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(size -> ...)
 
     // --- c. ERROR: invalid characters
@@ -199,9 +197,9 @@ final class TestDerTeletexString {
       final var dut = new DerTeletexString(buffer);
 
       assertEquals("14" + input, dut.toString());
-      assertEquals(decoded, dut.insDecoded);
+      assertEquals(decoded, dut.getDecoded());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (size...)
     // end --- a.
 
@@ -219,10 +217,10 @@ final class TestDerTeletexString {
         final var dut = new DerTeletexString(buffer);
 
         assertEquals("14" + input, dut.toString());
-        assertEquals(decoded, dut.insDecoded);
+        assertEquals(decoded, dut.getDecoded());
         assertFalse(dut.isValid());
-        assertEquals(1, dut.insFindings.size());
-        assertEquals(List.of(DerTeletexString.MESSAGE), dut.insFindings);
+        assertEquals(1, dut.getFindingList().size());
+        assertEquals(List.of(DerTeletexString.MESSAGE), dut.getFindingList());
       } // end For (entry...)
     } // end --- b.
 
@@ -277,9 +275,9 @@ final class TestDerTeletexString {
         final var dut = new DerTeletexString(inputStream);
 
         assertEquals("14" + input, dut.toString());
-        assertEquals(decoded, dut.insDecoded);
+        assertEquals(decoded, dut.getDecoded());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (size...)
       // end --- a.
 
@@ -298,10 +296,10 @@ final class TestDerTeletexString {
           final var dut = new DerTeletexString(inputStream);
 
           assertEquals("14" + input, dut.toString());
-          assertEquals(decoded, dut.insDecoded);
+          assertEquals(decoded, dut.getDecoded());
           assertFalse(dut.isValid());
-          assertEquals(1, dut.insFindings.size());
-          assertEquals(List.of(DerTeletexString.MESSAGE), dut.insFindings);
+          assertEquals(1, dut.getFindingList().size());
+          assertEquals(List.of(DerTeletexString.MESSAGE), dut.getFindingList());
         } // end For (entry...)
       } // end --- b.
     } catch (IOException e) {
@@ -359,7 +357,21 @@ final class TestDerTeletexString {
     } // end For (input...)
 
     // --- b. random input with valid characters
-    // FIXME
+    for (int counter = 100; counter-- > 0; ) { // NOPMD assignment in operand
+      final var size = RNG.nextIntClosed(0, 20);
+      final var builder = new StringBuilder();
+      for (int i = size; i-- > 0; ) { // NOPMD assignment in operand
+        builder.appendCodePoint(
+            DerTeletexString.UNICODE.get(
+                RNG.nextIntClosed(0, DerTeletexString.UNICODE.size() - 1)));
+      } // end For (i...)
+      final var expected = builder.toString();
+      final byte[] octets = DerTeletexString.toBytes(expected);
+
+      final var actual = dut.fromBytes(octets);
+
+      assertEquals(expected, actual);
+    } // end For (counter...)
 
     // --- c. invalid characters
     Map.ofEntries(
@@ -373,17 +385,17 @@ final class TestDerTeletexString {
             }); // end forEach((input, output) -> ...)
 
     // --- d. too few octets
-    Stream.of("42 c2")
-        .forEach(
-            input -> {
-              final Throwable throwable =
-                  assertThrows(
-                      IllegalArgumentException.class, () -> dut.fromBytes(Hex.toByteArray(input)));
-              assertEquals(DerTeletexString.MESSAGE, throwable.getMessage());
-              assertNotNull(throwable.getCause());
-              final Throwable innerException = throwable.getCause();
-              assertEquals(BufferUnderflowException.class, innerException.getClass());
-            }); // end forEach (input -> ...)
+    for (final var entry :
+        Map.ofEntries(
+                Map.entry("42 c2", "B•"), Map.entry("c1", "•"), Map.entry("41 c9 41 cf", "A••"))
+            .entrySet()) {
+      final var input = entry.getKey();
+      final var expected = entry.getValue();
+
+      final var actual = dut.fromBytes(Hex.toByteArray(input));
+
+      assertEquals(expected, actual, input);
+    } // end For (entry...)
   } // end method */
 
   /** Test method for {@link DerTeletexString#getComment()}. */
@@ -392,6 +404,7 @@ final class TestDerTeletexString {
     // Test strategy:
     // --- a. smoke test without findings
     // --- b. smoke test with findings
+    // --- c. value-field ends with a diacritic, standalone and nested
 
     // --- a. smoke test without findings
     // --- b. smoke test with findings
@@ -420,6 +433,22 @@ final class TestDerTeletexString {
 
       assertEquals(expected, actual);
     } // end For (entry...)
+    // end --- a, b.
+
+    // --- c. value-field ends with a diacritic, standalone and nested
+    {
+      final var expected = " # TeletexString := \"B•\", findings: " + DerTeletexString.MESSAGE;
+      final var dut = (DerTeletexString) BerTlv.getInstance("14 02 42c2");
+      final var sequence = (DerSequence) BerTlv.getInstance("30 04 14 02 42c2");
+
+      assertEquals(expected, dut.getComment());
+      assertEquals("14 02 42c2" + expected, dut.toStringTree());
+      assertEquals(dut, sequence.get(DerTeletexString.TAG).orElseThrow());
+      assertFalse(dut.isValid());
+      assertEquals(
+          String.format("30 04 # SEQUENCE with 1 element%n|  14 02 42c2%s", expected),
+          sequence.toStringTree());
+    } // end --- c.
   } // end method */
 
   /** Test method for {@link DerTeletexString#getDecoded()}. */
@@ -476,9 +505,25 @@ final class TestDerTeletexString {
 
     // Test strategy:
     // --- a. smoke test
-    final var dut = new DerTeletexString("Foo Bar");
+    // --- b. invalid characters
+    // --- c. value-field ends early
+
+    // --- a. smoke test
+    for (final var input : List.of("", "Foo Bar", "ÀÈÌÒÙ", "$ # ¥")) {
+      final var dut = new DerTeletexString(input);
+
+      assertFalse(dut.invalidCharacters(), input);
+    } // end For (input...)
+    // end --- a.
 
-    assertFalse(dut.invalidCharacters());
+    // --- b. invalid characters
+    // --- c. value-field ends early
+    for (final var input : List.of("5e", "41 7b 42", "41 c9 41", "c1 c1", "ff", "42 c2")) {
+      final var dut = (DerTeletexString) BerTlv.getInstance(0x14, Hex.toByteArray(input));
+
+      assertTrue(dut.invalidCharacters(), input);
+      assertFalse(dut.isValid(), input);
+    } // end For (input...)
   } // end method */
 
   /** Test method for {@link DerTeletexString#toBytes(String)}. */
@@ -522,6 +567,11 @@ final class TestDerTeletexString {
     // end --- a.
 
     // --- b. invalid input
-    // FIXME
+    for (final var input : List.of("^", "a{b", "€", "\uD83D\uDE00")) {
+      final Throwable throwable =
+          assertThrows(IllegalArgumentException.class, () -> DerTeletexString.toBytes(input));
+      assertEquals(DerTeletexString.MESSAGE, throwable.getMessage());
+      assertNull(throwable.getCause());
+    } // end For (input...)
   } // end method */
 } // end class
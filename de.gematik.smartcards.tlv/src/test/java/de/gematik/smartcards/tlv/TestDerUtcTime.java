@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -119,9 +120,9 @@ final class TestDerUtcTime {
     final DerUtcTime dut = new DerUtcTime(input, DerUtcTime.UtcTimeFormat.HH_MM_Z);
     assertEquals("17 0b 323130323139313834335a", dut.toString(" "));
     assertTrue(dut.isValid());
-    assertTrue(dut.insFindings.isEmpty());
-    assertNotSame(input, dut.insDecoded);
-    assertEquals("2021-02-19T18:43Z", dut.insDecoded.toString());
+    assertTrue(dut.getFindingList().isEmpty());
+    assertNotSame(input, dut.getDecoded());
+    assertEquals("2021-02-19T18:43Z", dut.getDecoded().toString());
   } // end method */
 
   /** Test method for {@link DerUtcTime#DerUtcTime(ByteBuffer)}. */
@@ -154,7 +155,7 @@ final class TestDerUtcTime {
 
       assertEquals(tagField + input, dut.toString(" "));
       assertEquals(
-          ZonedDateTime.of(2021, 2, 19, 18, 44, 0, 0, DerUtcTime.UTC_TIME_ZONE), dut.insDecoded);
+          ZonedDateTime.of(2021, 2, 19, 18, 44, 0, 0, DerUtcTime.UTC_TIME_ZONE), dut.getDecoded());
 
       // a.2 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.2, c.1
       input = "0d 3231303231393138343432375a";
@@ -164,7 +165,7 @@ final class TestDerUtcTime {
 
       assertEquals(tagField + input, dut.toString(" "));
       assertEquals(
-          ZonedDateTime.of(2021, 2, 19, 18, 44, 27, 0, DerUtcTime.UTC_TIME_ZONE), dut.insDecoded);
+          ZonedDateTime.of(2021, 2, 19, 18, 44, 27, 0, DerUtcTime.UTC_TIME_ZONE), dut.getDecoded());
 
       // a.3 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.1, c.2
       input = "0f 323130323139313834352b30343330";
@@ -175,7 +176,7 @@ final class TestDerUtcTime {
       assertEquals(tagField + input, dut.toString(" "));
       assertEquals(
           ZonedDateTime.of(2021, 2, 19, 18, 45, 0, 0, ZoneOffset.ofHoursMinutes(4, 30)),
-          dut.insDecoded);
+          dut.getDecoded());
 
       // a.4 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.2, c.2
       input = "11 3231303231393138343530392d31303235";
@@ -186,7 +187,7 @@ final class TestDerUtcTime {
       assertEquals(tagField + input, dut.toString(" "));
       assertEquals(
           ZonedDateTime.of(2021, 2, 19, 18, 45, 9, 0, ZoneOffset.ofHoursMinutes(-10, -25)),
-          dut.insDecoded);
+          dut.getDecoded());
     } // end --- a.
 
     // --- b. FINDING: wrong format
@@ -205,8 +206,8 @@ final class TestDerUtcTime {
 
         assertEquals("17" + octets, dut.toString());
         assertFalse(dut.isValid());
-        assertEquals(1, dut.insFindings.size());
-        assertEquals(List.of("wrong format"), dut.insFindings);
+        assertEquals(1, dut.getFindingList().size());
+        assertEquals(List.of("wrong format"), dut.getFindingList());
       } // end For (input...)
     } // end --- b.
 
@@ -263,7 +264,8 @@ final class TestDerUtcTime {
 
         assertEquals(tagField + input, dut.toString(" "));
         assertEquals(
-            ZonedDateTime.of(2021, 2, 19, 18, 44, 0, 0, DerUtcTime.UTC_TIME_ZONE), dut.insDecoded);
+            ZonedDateTime.of(2021, 2, 19, 18, 44, 0, 0, DerUtcTime.UTC_TIME_ZONE),
+            dut.getDecoded());
 
         // a.2 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.2, c.1
         input = "0d 3231303231393138343432375a";
@@ -273,7 +275,8 @@ final class TestDerUtcTime {
 
         assertEquals(tagField + input, dut.toString(" "));
         assertEquals(
-            ZonedDateTime.of(2021, 2, 19, 18, 44, 27, 0, DerUtcTime.UTC_TIME_ZONE), dut.insDecoded);
+            ZonedDateTime.of(2021, 2, 19, 18, 44, 27, 0, DerUtcTime.UTC_TIME_ZONE),
+            dut.getDecoded());
 
         // a.3 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.1, c.2
         input = "0f 323130323139313834352b30343330";
@@ -284,7 +287,7 @@ final class TestDerUtcTime {
         assertEquals(tagField + input, dut.toString(" "));
         assertEquals(
             ZonedDateTime.of(2021, 2, 19, 18, 45, 0, 0, ZoneOffset.ofHoursMinutes(4, 30)),
-            dut.insDecoded);
+            dut.getDecoded());
 
         // a.4 ISO/IEC 8824-1:2021, clause 47.3, §1 a, b.2, c.2
         input = "11 3231303231393138343530392d31303235";
@@ -295,7 +298,7 @@ final class TestDerUtcTime {
         assertEquals(tagField + input, dut.toString(" "));
         assertEquals(
             ZonedDateTime.of(2021, 2, 19, 18, 45, 9, 0, ZoneOffset.ofHoursMinutes(-10, -25)),
-            dut.insDecoded);
+            dut.getDecoded());
       } // end --- a.
 
       // --- b. FINDING: wrong format
@@ -314,8 +317,8 @@ final class TestDerUtcTime {
 
           assertEquals("17" + octets, dut.toString());
           assertFalse(dut.isValid());
-          assertEquals(1, dut.insFindings.size());
-          assertEquals(List.of("wrong format"), dut.insFindings);
+          assertEquals(1, dut.getFindingList().size());
+          assertEquals(List.of("wrong format"), dut.getFindingList());
         } // end For (input...)
       } // end --- b.
     } catch (IOException e) {
@@ -844,8 +847,8 @@ final class TestDerUtcTime {
       final DerUtcTime dut = new DerUtcTime(input, DerUtcTime.UtcTimeFormat.HH_MM_Z);
       assertEquals("17 0b 323130323139313834385a", dut.toString(" "));
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
-      assertNotSame(input, dut.insDecoded);
+      assertTrue(dut.getFindingList().isEmpty());
+      assertNotSame(input, dut.getDecoded());
       assertEquals("2021-02-19T18:48Z", dut.getDecoded().toString());
     }
 
@@ -860,4 +863,115 @@ final class TestDerUtcTime {
           ZonedDateTime.of(2021, 2, 19, 18, 41, 0, 0, DerUtcTime.UTC_TIME_ZONE), dut.getDecoded());
     }
   } // end method */
+
+  /** Test method for {@link DerUtcTime#parse(byte[])}. */
+  @Test
+  void test_parse__byteA() {
+    // Assertions:
+    // ... a. fromValueField(byte[])-method works as expected
+    // ... b. fromDateTime(ZonedDateTime, UtcTimeFormat)-method works as expected
+
+    // Test strategy:
+    // --- a. canonical values are covered by fast path
+    // --- b. random (possibly invalid) fields, fast path agrees with DateTimeFormatter
+    // --- c. corner cases not covered by fast path
+
+    // --- a. canonical values are covered by fast path
+    for (final var format : DerUtcTime.UtcTimeFormat.values()) {
+      for (int counter = 100; counter-- > 0; ) { // NOPMD assignment in operand
+        final var input =
+            ZonedDateTime.of(
+                RNG.nextIntClosed(2000, 2099),
+                RNG.nextIntClosed(1, 12),
+                RNG.nextIntClosed(1, 28),
+                RNG.nextIntClosed(0, 23),
+                RNG.nextIntClosed(0, 59),
+                RNG.nextIntClosed(0, 59),
+                0,
+                ZoneOffset.ofHoursMinutes(RNG.nextIntClosed(-17, 17), 0));
+        final var octets =
+            DerUtcTime.fromDateTime(input, format).getBytes(StandardCharsets.US_ASCII);
+
+        final var present = DerUtcTime.parse(octets);
+
+        assertEquals(DerUtcTime.fromValueField(octets).orElseThrow(), present, format.name());
+      } // end For (counter...)
+    } // end For (format...)
+    // end --- a.
+
+    // --- b. random (possibly invalid) fields, fast path agrees with DateTimeFormatter
+    final var suffixes = List.of("Z", "+0100", "-0130", "+1759", "-0000", "+0060", "z", "+01");
+    for (int counter = 10_000; counter-- > 0; ) { // NOPMD assignment in operand
+      final var input =
+          String.format(
+              "%02d%02d%02d%02d%02d%s%s",
+              RNG.nextIntClosed(0, 99),
+              RNG.nextIntClosed(0, 13),
+              RNG.nextIntClosed(0, 32),
+              RNG.nextIntClosed(0, 24),
+              RNG.nextIntClosed(0, 60),
+              RNG.nextBoolean() ? String.format("%02d", RNG.nextIntClosed(0, 60)) : "",
+              suffixes.get(RNG.nextIntClosed(0, suffixes.size() - 1)));
+      final var octets = input.getBytes(StandardCharsets.US_ASCII);
+
+      final var present = DerUtcTime.parse(octets);
+
+      if (null != present) {
+        assertEquals(DerUtcTime.fromValueField(octets).orElseThrow(), present, input);
+      } // end fi
+    } // end For (counter...)
+    // end --- b.
+
+    // --- c. corner cases not covered by fast path
+    for (final var input :
+        List.of(
+            "2102192400Z", // hour 24
+            "2102301844Z", // day of month beyond end of month
+            "2102191844-0000", // negative zero time differential
+            "2102191844+1800", // maximum time differential
+            "2102191844UTC", // zone-id other than Z
+            "21021918446Z", // wrong length
+            "2102191844 Z", // not a digit
+            "")) {
+      assertNull(DerUtcTime.parse(input.getBytes(StandardCharsets.US_ASCII)), input);
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link DerUtcTime#twoDigits(byte[], int)}. */
+  @Test
+  void test_twoDigits__byteA_int() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. all combinations of two octets
+    final var octets = new byte[3];
+    for (int high = 256; high-- > 0; ) { // NOPMD assignment in operand
+      for (int low = 256; low-- > 0; ) { // NOPMD assignment in operand
+        octets[1] = (byte) high;
+        octets[2] = (byte) low;
+        final var isDigits =
+            Character.isDigit((char) high)
+                && Character.isDigit((char) low)
+                && (high < 0x80)
+                && (low < 0x80);
+        final var expected = isDigits ? 10 * (high - '0') + low - '0' : -1;
+
+        assertEquals(expected, DerUtcTime.twoDigits(octets, 1));
+      } // end For (low...)
+    } // end For (high...)
+  } // end method */
+
+  /** Test method for {@link DerUtcTime.UtcTimeFormat#getFormatter()}. */
+  @Test
+  void test_UtcTimeFormat_getFormatter() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. formatters are cached
+    for (final var format : DerUtcTime.UtcTimeFormat.values()) {
+      assertSame(format.getFormatter(), format.getFormatter());
+    } // end For (format...)
+  } // end method */
 } // end class
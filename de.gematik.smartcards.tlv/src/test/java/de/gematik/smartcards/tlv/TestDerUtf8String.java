@@ -405,7 +405,7 @@ final class TestDerUtf8String {
       assertEquals("0c00", dut.toString());
       assertEquals(0, dut.getLengthOfValueField());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     }
 
     // --- b. smoke test with manual values
@@ -444,7 +444,7 @@ final class TestDerUtf8String {
       assertNull(dut.insDecoded);
       assertEquals(value, dut.getDecoded());
       assertTrue(dut.isValid());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end For (value...)
     // end --- a.
 
@@ -496,7 +496,7 @@ final class TestDerUtf8String {
         assertNull(dut.insDecoded);
         assertEquals(value, dut.getDecoded());
         assertTrue(dut.isValid());
-        assertTrue(dut.insFindings.isEmpty());
+        assertTrue(dut.getFindingList().isEmpty());
       } // end For (value...)
       // end --- a.
     } catch (IOException e) {
@@ -568,7 +568,7 @@ final class TestDerUtf8String {
       assertNotNull(dut.insDecoded);
       assertEquals("0c 03 412039", dut.toString(" "));
       assertSame(input, dut.getDecoded()); // Spotbugs: ES_COMPARING_STRINGS_WITH_EQ
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end --- a.
 
     // --- b. decode after DerUtf8String(InputStream)-constructor
@@ -578,7 +578,7 @@ final class TestDerUtf8String {
               BerTlv.getInstance(new ByteArrayInputStream(Hex.toByteArray("0c 03 422031")));
       assertNull(dut.insDecoded);
       assertEquals("B 1", dut.getDecoded());
-      assertTrue(dut.insFindings.isEmpty());
+      assertTrue(dut.getFindingList().isEmpty());
     } // end --- b.
 
     // --- c. all valid code points
@@ -602,7 +602,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(codePoint -> ...)
 
     // c.2 valid two byte code point encodings
@@ -627,7 +627,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(codePoint -> ...)
 
     // c.3 valid three byte code point encodings
@@ -654,7 +654,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(codePoint -> ...)
 
     // c.4 valid four byte code point encodings
@@ -683,7 +683,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertTrue(dut.isValid());
-              assertTrue(dut.insFindings.isEmpty());
+              assertTrue(dut.getFindingList().isEmpty());
             }); // end forEach(codePoint -> ...)
 
     // Note: Here we define the replacement character, see
@@ -713,7 +713,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -739,7 +739,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -766,7 +766,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -796,7 +796,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -823,7 +823,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -853,7 +853,7 @@ final class TestDerUtf8String {
               assertEquals(expected, present);
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -891,7 +891,7 @@ final class TestDerUtf8String {
                         assertTrue(present.contains(rci));
                         assertNotNull(dut.insDecoded);
                         assertFalse(dut.isValid());
-                        assertEquals(expectedFindings, dut.insFindings);
+                        assertEquals(expectedFindings, dut.getFindingList());
                         assertTrue(dut.getDecoded().contains(rcs));
                       }); // end forEach(codePoint -> ...)
             }); // end forEach(msBits2 -> ...)
@@ -934,7 +934,7 @@ final class TestDerUtf8String {
                               assertTrue(decoded.codePoints().boxed().toList().contains(rci));
                               assertNotNull(dut.insDecoded);
                               assertFalse(dut.isValid());
-                              assertEquals(expectedFindings, dut.insFindings);
+                              assertEquals(expectedFindings, dut.getFindingList());
                               assertTrue(dut.getDecoded().contains(rcs));
                             }); // end forEach(codePoint -> ...)
                   }); // end forEach(msBits3 -> ...)
@@ -981,7 +981,7 @@ final class TestDerUtf8String {
                                     assertTrue(decoded.codePoints().boxed().toList().contains(rci));
                                     assertNotNull(dut.insDecoded);
                                     assertFalse(dut.isValid());
-                                    assertEquals(expectedFindings, dut.insFindings);
+                                    assertEquals(expectedFindings, dut.getFindingList());
                                     assertTrue(dut.getDecoded().contains(rcs));
                                   }); // end forEach(codePoint -> ...)
                         }); // end forEach(msBits4 -> ...)
@@ -1015,7 +1015,7 @@ final class TestDerUtf8String {
               assertTrue(decoded.codePoints().boxed().toList().contains(rci));
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
 
@@ -1047,7 +1047,7 @@ final class TestDerUtf8String {
               assertTrue(decoded.codePoints().boxed().toList().contains(rci));
               assertNotNull(dut.insDecoded);
               assertFalse(dut.isValid());
-              assertEquals(expectedFindings, dut.insFindings);
+              assertEquals(expectedFindings, dut.getFindingList());
               assertTrue(dut.getDecoded().contains(rcs));
             }); // end forEach(codePoint -> ...)
   } // end method */
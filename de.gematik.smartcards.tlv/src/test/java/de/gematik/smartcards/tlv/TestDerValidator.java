@@ -0,0 +1,322 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.Hex;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link DerValidator}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestDerValidator {
+
+  /** Certificate like structure in accordance to DER. */
+  private static final String VALID =
+      "30-36"
+          + "(30-28"
+          + "  (a0-03-(02-01-02))"
+          + "  (02-02-00ff)"
+          + "  (31-0b-(0c-02-c3a4)-(13-02-4445)-(80-01-00))"
+          + "  (17-0d-3234303130313132303030305a)"
+          + "  (01-01-ff))"
+          + "(06-03-2b2403)"
+          + "(03-03-00a5a5)"
+          + "(05-00)"; // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link DerValidator#isValid(byte[])}. */
+  @Test
+  void test_isValid__byteA() {
+    // Assertions:
+    // ... a. validate(byte[], ViolationHandler)-method works as expected
+
+    // Test strategy:
+    // --- a. valid DER
+    // --- b. invalid DER
+    // --- c. trailing octets
+
+    // --- a. valid DER
+    assertTrue(DerValidator.isValid(Hex.toByteArray(VALID)));
+
+    // --- b. invalid DER
+    for (final var input : List.of("02-00", "30-03-(05-01-00)", "04-81-00", "24-00")) {
+      assertFalse(DerValidator.isValid(Hex.toByteArray(input)), input);
+    } // end For (input...)
+
+    // --- c. trailing octets
+    assertFalse(DerValidator.isValid(Hex.toByteArray("05-00-00")));
+  } // end method */
+
+  /** Test method for {@link DerValidator#isValid(ByteBuffer)}. */
+  @Test
+  void test_isValid__ByteBuffer() {
+    // Assertions:
+    // ... a. validate(ByteBuffer, ViolationHandler)-method works as expected
+
+    // Test strategy:
+    // --- a. valid DER followed by other octets, position is advanced
+    // --- b. first violation stops, position unchanged
+    final byte[] octets = Hex.toByteArray("(05-00)-(02-00)-9000");
+    final var buffer = ByteBuffer.wrap(octets);
+
+    // --- a. valid DER followed by other octets, position is advanced
+    assertTrue(DerValidator.isValid(buffer));
+    assertEquals(2, buffer.position());
+
+    // --- b. first violation stops, position unchanged
+    assertFalse(DerValidator.isValid(buffer));
+    assertEquals(2, buffer.position());
+  } // end method */
+
+  /** Test method for {@link DerValidator#validate(byte[], DerValidator.ViolationHandler)}. */
+  @Test
+  void test_validate__byteA_ViolationHandler() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. valid DER
+    // --- b. violations in tag- and length-field
+    // --- c. violations in value-fields
+    // --- d. DerSet
+    // --- e. indefinite form
+    // --- f. violations of the structure stop the scan
+    // --- g. handler stops the scan
+    // --- h. trailing octets
+    // --- i. nesting depth
+
+    // --- a. valid DER
+    assertEquals(List.of(), validate(VALID));
+
+    // --- b. violations in tag- and length-field
+    for (final var entry :
+        List.of(
+            List.of("30-04-(1f1e-01-00)", "2: No need for two byte tag = '1f1e'"),
+            List.of("30-04-(04-8101-00)", "2: " + DerValidator.EM_LENGTH_FIELD),
+            List.of("30-05-(04-820001-00)", "2: " + DerValidator.EM_LENGTH_FIELD),
+            List.of("30-07-(24-05-(04-03-010203))", "2: " + DerValidator.EM_CONSTRUCTED))) {
+      final var input = entry.get(0);
+
+      assertEquals(entry.subList(1, entry.size()), validate(input), input);
+    } // end For (entry...)
+
+    // --- c. violations in value-fields
+    // Note: Findings are the same as from PrimitiveSpecific.getFindingList().
+    for (final var entry :
+        List.of(
+            List.of("30-03-(00-01-00)"),
+            List.of("30-02-(01-00)", "30-04-(01-02-ffff)"),
+            List.of("30-02-(02-00)", "30-04-(02-02-0001)", "30-04-(02-02-ff80)"),
+            List.of("30-02-(03-00)", "30-03-(03-01-01)", "30-04-(03-02-08ff)"),
+            List.of("30-03-(05-01-00)"),
+            List.of("30-03-(06-01-80)", "30-02-(06-00)"),
+            List.of("30-03-(0c-01-ff)", "30-03-(0c-01-c3)", "30-04-(0c-02-c3c3)"),
+            List.of("30-03-(13-01-40)"),
+            List.of("30-03-(14-01-c1)"),
+            List.of("30-04-(17-02-3132)"),
+            List.of("30-05-(1f1f-02-3132)"))) {
+      for (final var input : entry) {
+        final var tlv = (ConstructedBerTlv) BerTlv.getInstance(input);
+        final var child = tlv.getTemplate().get(0);
+        final var expected = new ArrayList<String>();
+        for (final var finding : ((PrimitiveSpecific<?>) child).getFindingList()) {
+          expected.add("2: " + finding);
+        } // end For (finding...)
+
+        assertFalse(expected.isEmpty(), input);
+        assertEquals(expected, validate(input).subList(0, expected.size()), input);
+      } // end For (input...)
+    } // end For (entry...)
+
+    // --- d. DerSet
+    for (final var entry :
+        List.of(
+            List.of("31-06-(02-01-01)-(01-01-ff)", "0: " + DerSet.EM_SORTED),
+            List.of("31-06-(81-01-01)-(42-01-ff)", "0: " + DerSet.EM_SORTED),
+            List.of("31-06-(02-01-01)-(02-01-02)", "0: " + DerSet.EM_EXCLUSIVE),
+            List.of("31-09-(02-01-01)-(01-01-ff)-(02-01-03)", "0: " + DerSet.EM_EXCLUSIVE),
+            List.of("31-07-(01-01-ff)-(9f1f-01-00)"),
+            List.of("31-07-(02-01-01)-(01-02-ffff)", "5: length of value-field unequal to 1"))) {
+      final var input = entry.get(0);
+
+      assertEquals(entry.subList(1, entry.size()), validate(input), input);
+    } // end For (entry...)
+
+    // --- e. indefinite form
+    assertEquals(
+        List.of(
+            "0: " + DerValidator.EM_INDEFINITE,
+            "2: " + DerValidator.EM_INDEFINITE,
+            "9: " + DerValidator.EM_LENGTH_FIELD),
+        validate("30-80-(31-80-(02-01-01)-0000)-(04-8100)-0000"));
+
+    // --- f. violations of the structure stop the scan
+    for (final var entry :
+        List.of(
+            List.of("30-03-(02-01)", "0: " + DerValidator.EM_TRUNCATED),
+            List.of(
+                "30-80-(02-02-01)",
+                "0: " + DerValidator.EM_INDEFINITE,
+                "2: " + DerValidator.EM_TRUNCATED),
+            List.of("30-02-(1f81)", "2: " + DerValidator.EM_TRUNCATED),
+            List.of("30-02-(02-82)", "2: " + DerValidator.EM_TRUNCATED),
+            List.of("30-80-(05-00)", "0: " + DerValidator.EM_INDEFINITE, "0: too few octets"),
+            List.of("30-04-(02-01-01)-(05-00)", "5: " + TlvSchema.EM_LENGTH),
+            List.of("30-04-(30-03-(02-01-01))", "2: " + TlvSchema.EM_LENGTH),
+            List.of("30-02-(04-80)-0000", "2: " + PrimitiveBerTlv.EM_INDEFINITE),
+            List.of("1f-8181818181818181-01-00", "0: BigInteger out of long range"),
+            List.of(
+                "04-89-800000000000000000",
+                "0: length of value-field too big for this implementation: '800000000000000000'"))) {
+      final var input = entry.get(0);
+
+      assertEquals(entry.subList(1, entry.size()), validate(input), input);
+    } // end For (entry...)
+
+    // --- g. handler stops the scan
+    {
+      final var findings = new ArrayList<String>();
+
+      assertFalse(
+          DerValidator.validate(
+              Hex.toByteArray("30-07-(02-00)-(05-01-00)-(01-00)"),
+              (offset, tag, message) -> {
+                findings.add(String.format("%d: %x", offset, tag));
+
+                return findings.size() < 2;
+              }));
+      assertEquals(List.of("2: 2", "4: 5"), findings);
+    } // end --- g.
+
+    // --- h. trailing octets
+    assertEquals(List.of("2: " + DerValidator.EM_TRAILING), validate("(05-00)-0000"));
+
+    // --- i. nesting depth
+    // i.1 MAX_DEPTH nested constructed TLV-objects are accepted
+    // i.2 one more stops the scan
+    // i.3 no StackOverflowError for deep nesting, here 200 kiB of '30 80'
+    {
+      final int max = DerValidator.MAX_DEPTH;
+      final var expected = new ArrayList<String>();
+      for (int depth = 0; depth < max; depth++) {
+        expected.add((2 * depth) + ": " + DerValidator.EM_INDEFINITE);
+      } // end For (depth...)
+
+      // i.1 MAX_DEPTH nested constructed TLV-objects are accepted
+      assertEquals(expected, validate("3080".repeat(max) + "0500" + "0000".repeat(max)));
+
+      // i.2 one more stops the scan
+      expected.add((2 * max) + ": " + DerValidator.EM_DEPTH);
+      assertEquals(expected, validate("3080".repeat(max + 1) + "0500" + "0000".repeat(max + 1)));
+
+      // i.3 no StackOverflowError for deep nesting, here 200 kiB of '30 80'
+      final byte[] octets = Hex.toByteArray("3080".repeat(100 * 1024));
+      assertFalse(DerValidator.isValid(octets));
+      assertEquals(expected, validate(Hex.toHexDigits(octets)));
+    } // end --- i.
+  } // end method */
+
+  /** Test method for {@link DerValidator#validate(ByteBuffer, DerValidator.ViolationHandler)}. */
+  @Test
+  void test_validate__ByteBuffer_ViolationHandler() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. offsets relative to position, position advanced behind TLV-object
+    // --- b. violation of the structure, position unchanged
+    final byte[] octets = Hex.toByteArray("9000-(30-04-(02-00)-(05-00))-(04-05-01)");
+    final var buffer = ByteBuffer.wrap(octets).position(2);
+    final var findings = new ArrayList<String>();
+    final DerValidator.ViolationHandler handler =
+        (offset, tag, message) -> findings.add(offset + ": " + message);
+
+    // --- a. offsets relative to position, position advanced behind TLV-object
+    assertFalse(DerValidator.validate(buffer, handler));
+    assertEquals(8, buffer.position());
+    assertEquals(List.of("2: value-field absent"), findings);
+
+    // --- b. violation of the structure, position unchanged
+    findings.clear();
+    assertFalse(DerValidator.validate(buffer, handler));
+    assertEquals(8, buffer.position());
+    assertEquals(List.of("0: " + DerValidator.EM_TRUNCATED), findings);
+  } // end method */
+
+  /**
+   * Validates given octet string and collects violations.
+   *
+   * @param input octet string in hexadecimal notation
+   * @return violations in the format "offset: message"
+   */
+  private static List<String> validate(final String input) {
+    final var result = new ArrayList<String>();
+
+    final boolean isValid =
+        DerValidator.validate(
+            Hex.toByteArray(input), (offset, tag, message) -> result.add(offset + ": " + message));
+
+    assertEquals(result.isEmpty(), isValid, input);
+
+    return result;
+  } // end method */
+} // end class
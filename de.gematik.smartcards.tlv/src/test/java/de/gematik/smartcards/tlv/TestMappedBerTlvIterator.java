@@ -0,0 +1,226 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class performing white-box tests on {@link MappedBerTlvIterator}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+// Note 1: Spotbugs claims "NP_NONNULL_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR", i.e.,
+//         Non-null field is not initialized
+//         This finding is for a class attribute which is initialized by JUnit.
+@edu.umd.cs.findbugs.annotations.SuppressFBWarnings({
+  "NP_NONNULL_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR" // see note 1
+}) // */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestMappedBerTlvIterator {
+
+  /** Random Number Generator. */
+  private static final AfiRng RNG = new AfiRng(); // */
+
+  /** Temporary Directory. */
+  @TempDir
+  /* package */ static Path claTempDir; // NOPMD, NP_NONNULL_FIELD_NOT_INITIALIZED_IN_CONSTRUCTOR */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link MappedBerTlvIterator#next()}. */
+  @Test
+  void test_next() throws IOException {
+    // Assertions:
+    // ... a. BerTlv.getInstance(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. empty file
+    // --- b. many TLV-objects, small windows, i.e., TLV-objects cross window boundaries
+    // --- c. TLV-object larger than window
+    // --- d. ERROR: file ends within a TLV-object
+    // --- e. ERROR: invalid encoding
+
+    // --- a. empty file
+    {
+      final var path = claTempDir.resolve("test_next-a.bin");
+      Files.write(path, new byte[0]);
+
+      try (var dut = new MappedBerTlvIterator(path)) {
+        assertFalse(dut.hasNext());
+        assertThrows(NoSuchElementException.class, dut::next);
+      } // end try-with-resources
+    } // end --- a.
+
+    // --- b. many TLV-objects, small windows, i.e., TLV-objects cross window boundaries
+    {
+      final var path = claTempDir.resolve("test_next-b.bin");
+      final List<BerTlv> expected = new ArrayList<>();
+      final var baos = new ByteArrayOutputStream();
+      for (int counter = 64; counter-- > 0; ) { // NOPMD assignment in operand
+        final BerTlv tlv =
+            (0 == (counter & 1))
+                ? BerTlv.getInstance(0x80, RNG.nextBytes(0, 20))
+                : BerTlv.getInstance(
+                    0xa1,
+                    List.of(
+                        BerTlv.getInstance(0x81, RNG.nextBytes(0, 10)),
+                        new DerInteger(BigInteger.valueOf(RNG.nextInt()))));
+        expected.add(tlv);
+        tlv.writeTo(baos);
+      } // end For (counter...)
+      Files.write(path, baos.toByteArray());
+
+      for (final var windowSize : List.of(1, 2, 3, 7, 16, 1024)) {
+        final List<BerTlv> present = new ArrayList<>();
+
+        try (var dut = new MappedBerTlvIterator(path, windowSize)) {
+          while (dut.hasNext()) {
+            present.add(dut.next());
+          } // end While (...)
+        } // end try-with-resources
+
+        assertEquals(expected, present);
+      } // end For (windowSize...)
+    } // end --- b.
+
+    // --- c. TLV-object larger than window
+    {
+      final var path = claTempDir.resolve("test_next-c.bin");
+      final var expected = BerTlv.getInstance(0x04, RNG.nextBytes(1000));
+      Files.write(path, expected.getEncoded());
+
+      try (var dut = new MappedBerTlvIterator(path, 10)) {
+        assertTrue(dut.hasNext());
+        assertEquals(expected, dut.next());
+        assertFalse(dut.hasNext());
+      } // end try-with-resources
+    } // end --- c.
+
+    // --- d. ERROR: file ends within a TLV-object
+    {
+      final var path = claTempDir.resolve("test_next-d.bin");
+      Files.write(path, Hex.toByteArray("8101ff  a1-06-8001aa-8102bb"));
+
+      try (var dut = new MappedBerTlvIterator(path, 4)) {
+        assertEquals(BerTlv.getInstance("8101ff"), dut.next());
+        assertTrue(dut.hasNext());
+
+        final var e = assertThrows(IllegalArgumentException.class, dut::next);
+
+        assertEquals("file ends within a TLV-object", e.getMessage());
+      } // end try-with-resources
+    } // end --- d.
+
+    // --- e. ERROR: invalid encoding
+    {
+      final var path = claTempDir.resolve("test_next-e.bin");
+      Files.write(path, Hex.toByteArray("8101ff  0080"));
+
+      try (var dut = new MappedBerTlvIterator(path)) {
+        assertEquals(BerTlv.getInstance("8101ff"), dut.next());
+        assertThrows(IllegalArgumentException.class, dut::next);
+      } // end try-with-resources
+    } // end --- e.
+  } // end method */
+
+  /** Test method for {@link BerTlv#decodeAll(Path)}. */
+  @Test
+  void test_decodeAll__Path() throws IOException {
+    // Assertions:
+    // ... a. MappedBerTlvIterator works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: file does not exist
+
+    // --- a. smoke test
+    {
+      final var path = claTempDir.resolve("test_decodeAll__Path-a.bin");
+      final var expected =
+          List.of(
+              BerTlv.getInstance("30-08-(020101)-(0500)-0101ff"),
+              BerTlv.getInstance("8000"),
+              BerTlv.getInstance("5f20-03-414243"));
+      final var baos = new ByteArrayOutputStream();
+      for (final var tlv : expected) {
+        tlv.writeTo(baos);
+      } // end For (tlv...)
+      Files.write(path, baos.toByteArray());
+
+      try (Stream<BerTlv> stream = BerTlv.decodeAll(path)) {
+        assertEquals(expected, stream.toList());
+      } // end try-with-resources
+    } // end --- a.
+
+    // --- b. ERROR: file does not exist
+    assertThrows(
+        NoSuchFileException.class,
+        () -> BerTlv.decodeAll(claTempDir.resolve("test_decodeAll__Path-b.bin")));
+  } // end method */
+} // end class
@@ -0,0 +1,271 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.Hex;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link ParallelBerTlvDecoder}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestParallelBerTlvDecoder {
+
+  /** Random Number Generator. */
+  private static final AfiRng RNG = new AfiRng(); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link ParallelBerTlvDecoder#ParallelBerTlvDecoder(long, ForkJoinPool)}. */
+  @Test
+  void test_ParallelBerTlvDecoder__long_ForkJoinPool() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test with default constructor
+    // --- b. smoke test with threshold
+    // --- c. ERROR: threshold not positive
+
+    // --- a. smoke test with default constructor
+    assertEquals(
+        ParallelBerTlvDecoder.DEFAULT_THRESHOLD, new ParallelBerTlvDecoder().getThreshold());
+
+    // --- b. smoke test with threshold
+    assertEquals(1, new ParallelBerTlvDecoder(1).getThreshold());
+
+    // --- c. ERROR: threshold not positive
+    for (final var threshold : List.of(0L, -1L, Long.MIN_VALUE)) {
+      final var e =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> new ParallelBerTlvDecoder(threshold, ForkJoinPool.commonPool()));
+
+      assertEquals("threshold SHALL be positive", e.getMessage());
+    } // end For (threshold...)
+  } // end method */
+
+  /** Test method for {@link ParallelBerTlvDecoder#decode(ByteBuffer)}. */
+  @Test
+  void test_decode__ByteBuffer() {
+    // Assertions:
+    // ... a. BerTlv.getInstance(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. random structures, result identical to sequential decoding
+    // --- b. primitive TLV-object and small constructed TLV-object
+    // --- c. ERROR: BufferUnderflowException
+    // --- d. ERROR: invalid child
+    // --- e. ERROR: nested length-fields inconsistent
+
+    // --- a. random structures, result identical to sequential decoding
+    for (final var threshold : List.of(1L, 16L, 200L, 1_000_000L)) {
+      final var dut = new ParallelBerTlvDecoder(threshold);
+
+      for (int counter = 16; counter-- > 0; ) { // NOPMD assignment in operand
+        final byte[] octets = Hex.toByteArray(randomConstructed(3));
+        final var buffer = ByteBuffer.wrap(octets);
+        final BerTlv expected = BerTlv.getInstance(ByteBuffer.wrap(octets));
+
+        final BerTlv present = dut.decode(buffer);
+
+        assertEquals(octets.length, buffer.position());
+        assertEquals(expected, present);
+        assertEquals(expected.toString(" "), present.toString(" "));
+        assertEquals(
+            expected.insLengthOfValueFieldFromStream, present.insLengthOfValueFieldFromStream);
+        assertSameClasses(expected, present);
+      } // end For (counter...)
+    } // end For (threshold...)
+    // end --- a.
+
+    // --- b. primitive TLV-object and small constructed TLV-object
+    {
+      final var dut = new ParallelBerTlvDecoder();
+
+      for (final var input :
+          List.of("0101ff", "8102affe", "30-05-(020101)-(0500)", "a1 80 8000 0000")) {
+        final var buffer = ByteBuffer.wrap(Hex.toByteArray(input + "  9000"));
+
+        assertEquals(BerTlv.getInstance(input), dut.decode(buffer));
+        assertEquals(2, buffer.remaining());
+      } // end For (input...)
+    } // end --- b.
+
+    // --- c. ERROR: BufferUnderflowException
+    {
+      final var dut = new ParallelBerTlvDecoder(1);
+      final byte[] octets = Hex.toByteArray("30-0a-(8101ff)-(a1-05-(8003-010203))");
+
+      assertEquals(
+          2, ((ConstructedBerTlv) dut.decode(ByteBuffer.wrap(octets))).getTemplate().size());
+
+      for (int limit = octets.length; limit-- > 0; ) { // NOPMD assignment in operand
+        final var buffer = ByteBuffer.wrap(octets, 0, limit);
+
+        assertThrows(BufferUnderflowException.class, () -> dut.decode(buffer));
+        assertEquals(0, buffer.position());
+      } // end For (limit...)
+    } // end --- c.
+
+    // --- d. ERROR: invalid child
+    {
+      final var dut = new ParallelBerTlvDecoder(1);
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("30-08-(8101ff)-(a1-03-(8080-00))"));
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> dut.decode(buffer));
+
+      assertEquals(PrimitiveBerTlv.EM_INDEFINITE, e.getMessage());
+    } // end --- d.
+
+    // --- e. ERROR: nested length-fields inconsistent
+    {
+      final var dut = new ParallelBerTlvDecoder(1);
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray("30-0a-(a1-03-(8003-01)-0203)-(8101ff)"));
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> dut.decode(buffer));
+
+      assertEquals("value-field does not match length-field", e.getMessage());
+    } // end --- e.
+  } // end method */
+
+  /** Test method for {@link ParallelBerTlvDecoder#isParallel(long)}. */
+  @Test
+  void test_isParallel__long() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test around threshold
+    final var dut = new ParallelBerTlvDecoder(100);
+
+    assertFalse(dut.isParallel(99));
+    assertTrue(dut.isParallel(100));
+    assertTrue(dut.isParallel(Long.MAX_VALUE));
+  } // end method */
+
+  /**
+   * Checks that two trees of TLV-objects consist of objects of the same classes.
+   *
+   * @param expected tree
+   * @param present tree
+   */
+  private static void assertSameClasses(final BerTlv expected, final BerTlv present) {
+    assertSame(expected.getClass(), present.getClass());
+
+    if (expected instanceof ConstructedBerTlv constructed) {
+      final var expectedChildren = constructed.getTemplate();
+      final var presentChildren = ((ConstructedBerTlv) present).getTemplate();
+      assertEquals(expectedChildren.size(), presentChildren.size());
+
+      for (int i = expectedChildren.size(); i-- > 0; ) { // NOPMD assignment in operand
+        assertSameClasses(expectedChildren.get(i), presentChildren.get(i));
+      } // end For (i...)
+    } // end fi
+  } // end method */
+
+  /**
+   * Creates the encoding of a random constructed TLV-object in definite form.
+   *
+   * @param depth maximum nesting depth of children
+   * @return octet string representation of encoding
+   */
+  private static String randomConstructed(final int depth) {
+    final var valueField = new StringBuilder();
+    for (int counter = RNG.nextIntClosed(0, 40); counter-- > 0; ) { // NOPMD assignment
+      valueField.append(randomChild(depth - 1));
+    } // end For (counter...)
+    final var tag = (0 == RNG.nextIntClosed(0, 2)) ? "a1" : "30";
+
+    return tag + BerTlv.getLengthField(valueField.length() >> 1) + valueField;
+  } // end method */
+
+  /**
+   * Creates the encoding of a random TLV-object.
+   *
+   * @param depth maximum nesting depth of children
+   * @return octet string representation of encoding
+   */
+  private static String randomChild(final int depth) {
+    final int kind = RNG.nextIntClosed(0, (depth > 0) ? 5 : 3);
+
+    return switch (kind) {
+      case 0 -> Hex.toHexDigits(BerTlv.getInstance(0x80, RNG.nextBytes(0, 300)).getEncoded());
+      case 1 -> Hex.toHexDigits(new DerInteger(BigInteger.valueOf(RNG.nextLong())).getEncoded());
+      case 2 -> Hex.toHexDigits(DerNull.NULL.getEncoded());
+      case 3 -> Hex.toHexDigits(new DerPrintableString("DEGXX" + RNG.nextInt()).getEncoded());
+      case 4 -> {
+        // ... constructed child in indefinite form
+        final var valueField = new StringBuilder();
+        for (int counter = RNG.nextIntClosed(0, 4); counter-- > 0; ) { // NOPMD assignment
+          valueField.append(randomChild(depth - 1));
+        } // end For (counter...)
+
+        yield "a280" + valueField + "0000";
+      }
+      default -> randomConstructed(depth);
+    }; // end Switch (kind)
+  } // end method */
+} // end class
@@ -23,6 +23,8 @@ import static de.gematik.smartcards.utils.AfiUtils.UNEXPECTED;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -32,6 +34,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.util.List;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -156,6 +159,48 @@ final class TestPrimitiveSpecific {
     } // end --- a.
   } // end method */
 
+  /** Test method for {@link PrimitiveSpecific#getFindingList()}. */
+  @Test
+  void test_getFindingList() {
+    // Assertions:
+    // ... a. validate()-method works as expected
+
+    // Test strategy:
+    // --- a. valid object, no allocation of a list
+    // --- b. invalid object, result is cached and unmodifiable
+    // --- c. findings available without prior call to getDecoded()
+
+    // --- a. valid object, no allocation of a list
+    {
+      final var dut = new MyPrimitiveSpecific(RNG.nextIntClosed(0, 30), Hex.toByteArray("0102"));
+
+      final var present = dut.getFindingList();
+
+      assertSame(List.of(), present);
+      assertSame(present, dut.getFindingList());
+    } // end --- a.
+
+    // --- b. invalid object, result is cached and unmodifiable
+    {
+      final var dut =
+          new MyPrimitiveSpecific(RNG.nextIntClosed(0, 30), Hex.toByteArray("01 02030405"));
+
+      final var present = dut.getFindingList();
+
+      assertEquals(List.of("out-of-range"), present);
+      assertSame(present, dut.getFindingList());
+      assertThrows(UnsupportedOperationException.class, () -> present.add("foo"));
+    } // end --- b.
+
+    // --- c. findings available without prior call to getDecoded()
+    {
+      final var dut = (DerUtf8String) BerTlv.getInstance("0c 01 80");
+
+      assertFalse(dut.isValid());
+      assertEquals(List.of("invalid encoding"), dut.getFindingList());
+    } // end --- c.
+  } // end method */
+
   /** Test method for {@link PrimitiveSpecific#getFindings()}. */
   @Test
   void test_getFindings() {
@@ -253,16 +298,7 @@ final class TestPrimitiveSpecific {
     private MyPrimitiveSpecific(final long tag, final byte[] value) {
       super(tag, value);
 
-      final var bi = new BigInteger(getValueField());
-      int attribute;
-      try {
-        attribute = bi.intValueExact();
-      } catch (ArithmeticException e) {
-        attribute = bi.intValue();
-        insFindings.add("out-of-range");
-      } // end Catch (...)
-
-      insAttribute = attribute;
+      insAttribute = new BigInteger(getValueField()).intValue();
     } // end constructor */
 
     /**
@@ -288,16 +324,7 @@ final class TestPrimitiveSpecific {
       // CT_CONSTRUCTOR_THROW
       super(tag, inputStream);
 
-      final var bi = new BigInteger(getValueField());
-      int attribute;
-      try {
-        attribute = bi.intValueExact();
-      } catch (ArithmeticException e) {
-        attribute = bi.intValue();
-        insFindings.add("out-of-range");
-      } // end Catch (...)
-
-      insAttribute = attribute;
+      insAttribute = new BigInteger(getValueField()).intValue();
     } // end constructor */
 
     /**
@@ -309,5 +336,21 @@ final class TestPrimitiveSpecific {
     public Integer getDecoded() {
       return insAttribute;
     } // end method */
+
+    /**
+     * Checks whether the value-field fits into an {@code int}.
+     *
+     * @return findings, empty list if TLV-object is in accordance to its specification
+     */
+    @Override
+    protected List<String> validate() {
+      try {
+        new BigInteger(getValueField()).intValueExact();
+
+        return List.of();
+      } catch (ArithmeticException e) {
+        return List.of("out-of-range");
+      } // end Catch (...)
+    } // end method */
   } // end inner class
 } // end class
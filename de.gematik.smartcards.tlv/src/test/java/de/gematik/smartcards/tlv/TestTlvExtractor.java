@@ -0,0 +1,226 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.gematik.smartcards.utils.AfiRng;
+import de.gematik.smartcards.utils.AfiUtils;
+import de.gematik.smartcards.utils.Hex;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link TlvExtractor}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestTlvExtractor {
+
+  /** Random Number Generator. */
+  private static final AfiRng RNG = new AfiRng(); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link TlvExtractor#extract(BerTlv)}. */
+  @Test
+  void test_extract__BerTlv() {
+    // Assertions:
+    // ... a. TlvPath.findAll(BerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test with overlapping paths and duplicates
+    // --- b. random TLV-objects, result equals TlvPath.findAll(BerTlv)
+
+    // --- a. smoke test with overlapping paths and duplicates
+    {
+      final var tlv = BerTlv.getInstance("a1 0e  a2 05 81 01 11 81 00  a2 03 82 01 22  83 00");
+      final var pathA2 = TlvPath.compile("a1/a2");
+      final var path81 = TlvPath.compile("a1/a2/81");
+      final var path82 = TlvPath.compile("a1/a2/82");
+      final var path84 = TlvPath.compile("a1/84");
+      final var dut = new TlvExtractor(List.of(path81, pathA2, path82, path84, path81));
+
+      final var present = dut.extract(tlv);
+
+      assertEquals(List.of(path81, pathA2, path82, path84), List.copyOf(present.keySet()));
+      assertEquals(
+          Map.of(
+              path81, List.of(BerTlv.getInstance("81 01 11"), BerTlv.getInstance("81 00")),
+              pathA2,
+                  List.of(
+                      BerTlv.getInstance("a2 05 8101118100"), BerTlv.getInstance("a2 03 820122")),
+              path82, List.of(BerTlv.getInstance("82 01 22")),
+              path84, List.of()),
+          present);
+    } // end --- a.
+
+    // --- b. random TLV-objects, result equals TlvPath.findAll(BerTlv)
+    final var tagLengthValue = new byte[3][];
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var tlv = TestConstructedBerTlv.createRandom(10, 0.5, 10, tagLengthValue);
+      final var paths = randomPaths(tlv);
+      final var dut = new TlvExtractor(paths);
+
+      final var present = dut.extract(tlv);
+
+      for (final var path : paths) {
+        assertEquals(path.findAll(tlv), present.get(path));
+      } // end For (path...)
+    } // end For (counter...)
+    // end --- b.
+  } // end method */
+
+  /** Test method for {@link TlvExtractor#extract(ByteBuffer)}. */
+  @Test
+  void test_extract__ByteBuffer() {
+    // Assertions:
+    // ... a. extract(BerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. random TLV-objects with definite and indefinite form, result equals extract(BerTlv)
+    // --- b. several TLV-objects in buffer
+    // --- c. ERROR: too few octets
+    // --- d. ERROR: invalid encoding
+
+    final var tagLengthValue = new byte[3][];
+
+    // --- a. random TLV-objects with definite and indefinite form, result equals extract(BerTlv)
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var tlv = TestConstructedBerTlv.createRandom(10, 0.5, 10, tagLengthValue);
+      final var octets = AfiUtils.concatenate(tagLengthValue);
+      final var paths = randomPaths(tlv);
+      final var dut = new TlvExtractor(paths);
+      final var buffer = ByteBuffer.wrap(octets);
+
+      final var present = dut.extract(buffer);
+
+      assertEquals(dut.extract(tlv), present);
+      assertEquals(octets.length, buffer.position());
+    } // end For (counter...)
+    // end --- a.
+
+    // --- b. several TLV-objects in buffer
+    {
+      final var path = TlvPath.compile("a1/81");
+      final var dut = new TlvExtractor(List.of(path));
+      final var buffer =
+          ByteBuffer.wrap(Hex.toByteArray("a1 80 82 00 81 01 11 00 00  a2 03 81 01 22  a1 00"));
+
+      assertEquals(List.of(BerTlv.getInstance("81 01 11")), dut.extract(buffer).get(path));
+      assertEquals(9, buffer.position());
+      assertEquals(List.of(), dut.extract(buffer).get(path));
+      assertEquals(14, buffer.position());
+      assertEquals(List.of(), dut.extract(buffer).get(path));
+      assertEquals(16, buffer.position());
+    } // end --- b.
+
+    // --- c. ERROR: too few octets
+    {
+      final var dut = new TlvExtractor(List.of(TlvPath.compile("a1/a2/81")));
+      for (final var input :
+          List.of(
+              "a1 05 a2 03 81 01", // in matching TLV-object
+              "a1 05 82 03 00 00", // in skipped primitive TLV-object
+              "a1 05 a3 03 81 01", // in skipped constructed TLV-object
+              "a1 80 a3 80 81 01 11 00 00", // in skipped indefinite form
+              "a1 80 a2 80 82 00 00 00" // in walked indefinite form
+              )) {
+        final var buffer = ByteBuffer.wrap(Hex.toByteArray(input));
+
+        assertThrows(BufferUnderflowException.class, () -> dut.extract(buffer), input);
+        assertEquals(0, buffer.position());
+      } // end For (input...)
+    } // end --- c.
+
+    // --- d. ERROR: invalid encoding
+    {
+      final var dut = new TlvExtractor(List.of(TlvPath.compile("a1/a2/81")));
+      for (final var input :
+          List.of(
+              "a1 03 1f 05 00", // invalid tag-field
+              "a1 02 82 80", // primitive with indefinite form, skipped directly
+              "a1 80 a3 80 82 80", // primitive with indefinite form, skipped recursively
+              "a1 03 82 02 00 00" // value-field does not match length-field
+              )) {
+        final var buffer = ByteBuffer.wrap(Hex.toByteArray(input + "0000000000"));
+
+        assertThrows(IllegalArgumentException.class, () -> dut.extract(buffer), input);
+      } // end For (input...)
+    } // end --- d.
+  } // end method */
+
+  /**
+   * Returns random paths for given tree, some of which are present in the tree.
+   *
+   * @param tlv root of tree
+   * @return list of paths
+   */
+  private static List<TlvPath> randomPaths(final BerTlv tlv) {
+    final var result = new ArrayList<TlvPath>();
+
+    for (final var path : TestTlvPath.allPaths(tlv)) {
+      if (RNG.nextBoolean()) {
+        result.add(path);
+      } // end fi
+    } // end For (path...)
+
+    result.add(TlvPath.compile("30/04")); // probably absent
+
+    return result;
+  } // end method */
+} // end class
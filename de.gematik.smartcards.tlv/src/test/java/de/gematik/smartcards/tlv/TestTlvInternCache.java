@@ -0,0 +1,349 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.AfiOid;
+import de.gematik.smartcards.utils.Hex;
+import java.io.ByteArrayInputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link TlvInternCache}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestTlvInternCache {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // Note: Other tests expect interning to be disabled.
+    TlvInternCache.setDefault(null);
+  } // end method */
+
+  /** Test method for {@link TlvInternCache#TlvInternCache(int)}. */
+  @Test
+  void test_TlvInternCache__int() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test with default constructor
+    // --- b. smoke test with capacity
+    // --- c. ERROR: capacity not positive
+
+    // --- a. smoke test with default constructor
+    {
+      final var dut = new TlvInternCache();
+
+      assertEquals(TlvInternCache.DEFAULT_CAPACITY, dut.getCapacity());
+      assertEquals(0, dut.size());
+      assertEquals(0, dut.getHits());
+      assertEquals(0, dut.getMisses());
+    } // end --- a.
+
+    // --- b. smoke test with capacity
+    assertEquals(1, new TlvInternCache(1).getCapacity());
+
+    // --- c. ERROR: capacity not positive
+    for (final var capacity : List.of(0, -1, Integer.MIN_VALUE)) {
+      final var e =
+          assertThrows(IllegalArgumentException.class, () -> new TlvInternCache(capacity));
+
+      assertEquals("capacity SHALL be positive", e.getMessage());
+      assertNull(e.getCause());
+    } // end For (capacity...)
+  } // end method */
+
+  /** Test method for {@link TlvInternCache#setDefault(TlvInternCache)}. */
+  @Test
+  void test_setDefault__TlvInternCache() {
+    // Assertions:
+    // ... a. getDefault()-method works as expected
+
+    // Test strategy:
+    // --- a. disabled by default
+    // --- b. install and remove cache
+
+    // --- a. disabled by default
+    assertEquals(Optional.empty(), TlvInternCache.getDefault());
+    assertNull(TlvInternCache.getDefaultOrNull());
+
+    // --- b. install and remove cache
+    final var dut = new TlvInternCache();
+    TlvInternCache.setDefault(dut);
+    assertSame(dut, TlvInternCache.getDefault().orElseThrow());
+    assertSame(dut, TlvInternCache.getDefaultOrNull());
+
+    TlvInternCache.setDefault(null);
+    assertEquals(Optional.empty(), TlvInternCache.getDefault());
+  } // end method */
+
+  /** Test method for {@link TlvInternCache#intern(BerTlv)}. */
+  @Test
+  void test_intern__BerTlv() {
+    // Assertions:
+    // ... a. isCandidate(BerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. candidate: miss, then hit
+    // --- b. no candidate
+    // --- c. cache full
+    // --- d. clear()
+
+    final var dut = new TlvInternCache(2);
+
+    // --- a. candidate: miss, then hit
+    final var oid = BerTlv.getInstance(new DerOid(AfiOid.ansix9p256r1).getEncoded());
+    assertSame(oid, dut.intern(oid));
+    assertEquals(1, dut.size());
+    assertEquals(0, dut.getHits());
+    assertEquals(1, dut.getMisses());
+
+    final var other = BerTlv.getInstance(oid.getEncoded());
+    assertNotSame(oid, other);
+    assertSame(oid, dut.intern(other));
+    assertEquals(1, dut.size());
+    assertEquals(1, dut.getHits());
+    assertEquals(1, dut.getMisses());
+
+    // --- b. no candidate
+    final var octetString = new DerOctetString(new byte[1]);
+    assertSame(octetString, dut.intern(octetString));
+    assertEquals(1, dut.size());
+    assertEquals(1, dut.getHits());
+    assertEquals(1, dut.getMisses());
+
+    // --- c. cache full
+    final var integer = BerTlv.getInstance("02 01 02");
+    assertSame(integer, dut.intern(integer));
+    final var primitive = BerTlv.getInstance("42 08 4445475858820214");
+    assertSame(primitive, dut.intern(primitive));
+    assertSame(integer, dut.intern(BerTlv.getInstance("02 01 02")));
+    assertNotSame(primitive, dut.intern(BerTlv.getInstance("42 08 4445475858820214")));
+    assertEquals(2, dut.size());
+    assertEquals(2, dut.getHits());
+    assertEquals(4, dut.getMisses());
+
+    // --- d. clear()
+    dut.clear();
+    assertEquals(0, dut.size());
+    assertEquals(0, dut.getHits());
+    assertEquals(0, dut.getMisses());
+  } // end method */
+
+  /** Test method for {@link TlvInternCache#isCandidate(BerTlv)}. */
+  @Test
+  void test_isCandidate__BerTlv() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. loop over relevant TLV-objects
+    // --- b. length-field with more octets than necessary
+    // --- c. TLV-objects not read from a stream
+
+    // --- a. loop over relevant TLV-objects
+    for (final var entry :
+        Map.ofEntries(
+                Map.entry("01 01 ff", true), // DerBoolean
+                Map.entry("05 00", true), // DerNull
+                Map.entry("02 04 7fffffff", true), // DerInteger, MAX_LENGTH_INTEGER
+                Map.entry("02 05 0080000000", false), // DerInteger, too long
+                Map.entry("06 03 2b0601", true), // DerOid
+                Map.entry("06 21 2b" + "01".repeat(32), false), // DerOid, too long
+                Map.entry("42 10" + "41".repeat(16), true), // PrimitiveBerTlv
+                Map.entry("42 11" + "41".repeat(17), false), // PrimitiveBerTlv, too long
+                Map.entry("04 01 00", false), // DerOctetString
+                Map.entry("13 02 4445", false), // DerPrintableString
+                Map.entry("30 03 020100", false), // DerSequence
+                Map.entry("a1 03 020100", false) // ConstructedBerTlv
+                )
+            .entrySet()) {
+      final var input = entry.getKey();
+      final var expected = entry.getValue();
+
+      assertEquals(expected, TlvInternCache.isCandidate(BerTlv.getInstance(input)), input);
+    } // end For (entry...)
+    // end --- a.
+
+    // --- b. length-field with more octets than necessary
+    for (final var input : List.of("06 8103 2b0601", "02 820001 01")) {
+      assertFalse(TlvInternCache.isCandidate(BerTlv.getInstance(input)), input);
+    } // end For (input...)
+    // end --- b.
+
+    // --- c. TLV-objects not read from a stream
+    assertFalse(TlvInternCache.isCandidate(new DerOid(AfiOid.ansix9p256r1)));
+    assertFalse(TlvInternCache.isCandidate(new DerInteger(BigInteger.TWO)));
+    assertTrue(TlvInternCache.isCandidate(DerNull.NULL));
+    assertTrue(TlvInternCache.isCandidate(DerBoolean.TRUE));
+  } // end method */
+
+  /** Test method for {@link BerTlv#getInstance(ByteBuffer)} with an installed cache. */
+  @Test
+  void test_getInstance__ByteBuffer() {
+    // Assertions:
+    // ... a. intern(BerTlv)-method works as expected
+    // ... b. getInstance(ByteBuffer)-method works as expected without a cache
+
+    // Test strategy:
+    // --- a. repeated primitive TLV-objects are identical
+    // --- b. length-field with more octets than necessary
+    // --- c. TLV-objects equal to those decoded without a cache
+
+    final var dut = new TlvInternCache();
+    TlvInternCache.setDefault(dut);
+
+    // --- a. repeated primitive TLV-objects are identical
+    {
+      final var algorithmIdentifier = "30 0d 06 09 2a864886f70d01010b 05 00";
+      final var octets =
+          Hex.toByteArray("30 21" + algorithmIdentifier + algorithmIdentifier + "02 01 02");
+      final var buffer = ByteBuffer.wrap(octets);
+
+      final var sequence = (ConstructedBerTlv) BerTlv.getInstance(buffer);
+
+      assertEquals(octets.length, buffer.position());
+      final var first = (ConstructedBerTlv) sequence.getTemplate().get(0);
+      final var second = (ConstructedBerTlv) sequence.getTemplate().get(1);
+      assertNotSame(first, second);
+      assertSame(first.getTemplate().get(0), second.getTemplate().get(0));
+      assertSame(first.getTemplate().get(1), second.getTemplate().get(1));
+      assertEquals(3, dut.size()); // OID, NULL, INTEGER
+      assertEquals(2, dut.getHits());
+      assertEquals(3, dut.getMisses());
+      assertSame(sequence.getTemplate().get(2), BerTlv.getInstance("02 01 02"));
+      assertEquals(3, dut.getHits());
+    } // end --- a.
+
+    // --- b. length-field with more octets than necessary
+    {
+      final var input = "30 0b  06 8103 2b0601  06 03 2b0601";
+      final var buffer = ByteBuffer.wrap(Hex.toByteArray(input));
+
+      final var sequence = (ConstructedBerTlv) BerTlv.getInstance(buffer);
+
+      assertEquals(13, buffer.position());
+      final var first = sequence.getTemplate().get(0);
+      final var second = sequence.getTemplate().get(1);
+      assertNotSame(first, second);
+      assertEquals(first, second);
+      assertEquals(2, first.insLengthOfLengthFieldFromStream);
+      assertEquals(1, second.insLengthOfLengthFieldFromStream);
+    } // end --- b.
+
+    // --- c. TLV-objects equal to those decoded without a cache
+    for (final var input :
+        List.of("01 01 00", "01 01 ff", "01 01 01", "05 00", "02 01 00", "06 03 2b0601", "42 00")) {
+      final var actual = BerTlv.getInstance(input);
+
+      TlvInternCache.setDefault(null);
+      final var expected = BerTlv.getInstance(input);
+      TlvInternCache.setDefault(dut);
+
+      assertEquals(expected, actual, input);
+      assertEquals(expected.getClass(), actual.getClass(), input);
+      assertSame(actual, BerTlv.getInstance(input), input);
+    } // end For (input...)
+  } // end method */
+
+  /** Test method for {@link BerTlv#getInstance(java.io.InputStream)} with an installed cache. */
+  @Test
+  void test_getInstance__InputStream() {
+    // Assertions:
+    // ... a. intern(BerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. repeated primitive TLV-objects are identical
+    // --- b. length-field with more octets than necessary
+
+    final var dut = new TlvInternCache();
+    TlvInternCache.setDefault(dut);
+
+    // --- a. repeated primitive TLV-objects are identical
+    {
+      final var input = "30 0c  06 03 2b0601  06 03 2b0601  05 00";
+
+      final var sequence =
+          (ConstructedBerTlv) BerTlv.getInstance(new ByteArrayInputStream(Hex.toByteArray(input)));
+
+      assertSame(sequence.getTemplate().get(0), sequence.getTemplate().get(1));
+      assertEquals(2, dut.size());
+      assertEquals(1, dut.getHits());
+      assertEquals(2, dut.getMisses());
+    } // end --- a.
+
+    // --- b. length-field with more octets than necessary
+    {
+      final var input = "30 0b  06 8103 2b0601  06 03 2b0601";
+
+      final var sequence =
+          (ConstructedBerTlv) BerTlv.getInstance(new ByteArrayInputStream(Hex.toByteArray(input)));
+
+      final var first = sequence.getTemplate().get(0);
+      final var second = sequence.getTemplate().get(1);
+      assertNotSame(first, second);
+      assertEquals(2, first.insLengthOfLengthFieldFromStream);
+      assertTrue(TlvInternCache.isCandidate(second));
+    } // end --- b.
+  } // end method */
+} // end class
@@ -0,0 +1,366 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link TlvPath}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestTlvPath {
+
+  /** Card-verifiable certificate with a public key, simplified. */
+  private static final BerTlv CVC =
+      BerTlv.getInstance(
+          """
+              7f21 20
+                 7f4e 12
+                    42 02 4142
+                    06 02 2a03
+                    86 08 0102030405060708
+                 5f37 03 a1a2a3
+                 5f37 02 b1b2
+              """); // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link TlvPath#compile(String)}. */
+  @Test
+  void test_compile__String() {
+    // Assertions:
+    // ... a. of(long...)-method works as expected
+    // ... b. toString()-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: invalid input
+
+    // --- a. smoke test
+    for (final var input : List.of("7f21", "7f21/7f4e/86", "a0/bf8100/9f8102", "30/30/30/02")) {
+      final var dut = TlvPath.compile(input);
+
+      assertEquals(input, dut.toString());
+    } // end For (input...)
+
+    assertEquals(TlvPath.of(0x7f21, 0x42), TlvPath.compile(" 7F21 / 42 "));
+    // end --- a.
+
+    // --- b. ERROR: invalid input
+    for (final var input :
+        List.of(
+            "", // empty path
+            "7f21//86", // empty segment
+            "7f", // incomplete tag-field
+            "8182", // more than one tag
+            "1f05", // tag-field not minimal
+            "86/30" // primitive tag within path
+            )) {
+      assertThrows(IllegalArgumentException.class, () -> TlvPath.compile(input), input);
+    } // end For (input...)
+
+    assertThrows(ArithmeticException.class, () -> TlvPath.compile("ff818283848586870a"));
+    // end --- b.
+  } // end method */
+
+  /** Test method for {@link TlvPath#of(long...)}. */
+  @Test
+  void test_of__longA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. defensive cloning
+    // --- c. ERROR: invalid input
+
+    // --- a. smoke test
+    {
+      final var dut = TlvPath.of(0x7f21, 0x7f4e, 0x86);
+
+      assertEquals(3, dut.size());
+      assertEquals(0x7f21, dut.getTag(0));
+      assertEquals(0x7f4e, dut.getTag(1));
+      assertEquals(0x86, dut.getTag(2));
+      assertThrows(ArrayIndexOutOfBoundsException.class, () -> dut.getTag(3));
+    } // end --- a.
+
+    // --- b. defensive cloning
+    {
+      final var tags = new long[] {0x30, 0x02};
+      final var dut = TlvPath.of(tags);
+      tags[1] = 0x04;
+
+      assertEquals("30/02", dut.toString());
+    } // end --- b.
+
+    // --- c. ERROR: invalid input
+    assertThrows(IllegalArgumentException.class, TlvPath::of);
+    assertThrows(IllegalArgumentException.class, () -> TlvPath.of(0x1f05));
+    assertThrows(IllegalArgumentException.class, () -> TlvPath.of(0x04, 0x04));
+  } // end method */
+
+  /** Test method for {@link TlvPath#equals(Object)}. */
+  @Test
+  void test_equals__Object() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. same reference
+    // --- b. null input
+    // --- c. difference in type
+    // --- d. difference in tags
+    // --- e. different object, but same content
+
+    final var dut = TlvPath.compile("7f21/7f4e/86");
+
+    for (final Object[] obj :
+        new Object[][] {
+          new Object[] {dut, true}, // --- a. same reference
+          new Object[] {null, false}, // --- b. null input
+          new Object[] {"7f21/7f4e/86", false}, // --- c. difference in type
+          new Object[] {TlvPath.compile("7f21/7f4e"), false}, // --- d. difference in tags
+          new Object[] {TlvPath.compile("7f21/7f4e/87"), false},
+          new Object[] {TlvPath.of(0x7f21, 0x7f4e, 0x86), true}, // --- e. same content
+        }) {
+      assertEquals(obj[1], dut.equals(obj[0]));
+    } // end For (obj...)
+  } // end method */
+
+  /** Test method for {@link TlvPath#hashCode()}. */
+  @Test
+  void test_hashCode() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. equal objects have equal hash-codes
+    // --- b. different objects have (probably) different hash-codes
+
+    assertEquals(
+        TlvPath.compile("7f21/7f4e/86").hashCode(), TlvPath.of(0x7f21, 0x7f4e, 0x86).hashCode());
+    assertNotEquals(
+        TlvPath.compile("7f21/7f4e/86").hashCode(), TlvPath.compile("7f21/7f4e/87").hashCode());
+  } // end method */
+
+  /** Test method for {@link TlvPath#find(BerTlv)}. */
+  @Test
+  void test_find__BerTlv() {
+    // Assertions:
+    // ... a. findAll(BerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. manually chosen paths
+    // --- b. random TLV-objects, result equals first element of findAll(BerTlv)
+
+    final var cvc = (ConstructedBerTlv) CVC;
+    final var cpk = cvc.getConstructed(0x7f4e).orElseThrow();
+
+    // --- a. manually chosen paths
+    assertSame(cvc, TlvPath.compile("7f21").find(cvc).orElseThrow());
+    assertSame(cpk, TlvPath.compile("7f21/7f4e").find(cvc).orElseThrow());
+    assertSame(
+        cpk.getPrimitive(0x86).orElseThrow(),
+        TlvPath.compile("7f21/7f4e/86").find(cvc).orElseThrow());
+    assertSame(
+        cvc.getPrimitive(0x5f37).orElseThrow(),
+        TlvPath.compile("7f21/5f37").find(cvc).orElseThrow());
+    assertTrue(TlvPath.compile("7f4e/86").find(cvc).isEmpty());
+    assertTrue(TlvPath.compile("7f21/7f4e/87").find(cvc).isEmpty());
+    assertTrue(TlvPath.compile("7f21/7f49/86").find(cvc).isEmpty());
+    // end --- a.
+
+    // --- b. random TLV-objects, result equals first element of findAll(BerTlv)
+    final var tlv = new byte[3][];
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var root = TestConstructedBerTlv.createRandom(10, 0.5, 10, tlv);
+
+      for (final var path : allPaths(root)) {
+        final var all = path.findAll(root);
+
+        assertSame(all.getFirst(), path.find(root).orElseThrow());
+      } // end For (path...)
+    } // end For (counter...)
+    // end --- b.
+  } // end method */
+
+  /** Test method for {@link TlvPath#find(ByteBuffer)}. */
+  @Test
+  void test_find__ByteBuffer() {
+    // Assertions:
+    // ... a. find(BerTlv)-method works as expected
+    // ... b. TlvExtractor.extract(ByteBuffer)-method works as expected
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: too few octets
+
+    final var octets = CVC.getEncoded();
+
+    // --- a. smoke test
+    for (final var input : List.of("7f21", "7f21/7f4e/86", "7f21/5f37", "7f21/7f4e/87")) {
+      final var dut = TlvPath.compile(input);
+      final var buffer = ByteBuffer.wrap(octets);
+
+      assertEquals(dut.find(CVC), dut.find(buffer));
+      assertEquals(octets.length, buffer.position());
+    } // end For (input...)
+    // end --- a.
+
+    // --- b. ERROR: too few octets
+    {
+      final var dut = TlvPath.compile("7f21/7f4e/86");
+      final var buffer = ByteBuffer.wrap(octets, 0, octets.length - 1);
+
+      assertThrows(BufferUnderflowException.class, () -> dut.find(buffer));
+      assertEquals(0, buffer.position());
+    } // end --- b.
+  } // end method */
+
+  /** Test method for {@link TlvPath#findAll(BerTlv)}. */
+  @Test
+  void test_findAll__BerTlv() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. manually chosen paths
+    // --- b. random TLV-objects, every path found at least once
+
+    final var cvc = (ConstructedBerTlv) CVC;
+
+    // --- a. manually chosen paths
+    assertEquals(List.of(cvc), TlvPath.compile("7f21").findAll(cvc));
+    assertEquals(
+        List.of(
+            cvc.getPrimitive(0x5f37, 0).orElseThrow(), cvc.getPrimitive(0x5f37, 1).orElseThrow()),
+        TlvPath.compile("7f21/5f37").findAll(cvc));
+    assertEquals(List.of(), TlvPath.compile("7f21/86").findAll(cvc));
+    assertEquals(List.of(), TlvPath.compile("30").findAll(cvc));
+    // end --- a.
+
+    // --- b. random TLV-objects, every path found at least once
+    final var tlv = new byte[3][];
+    for (int counter = 20; counter-- > 0; ) { // NOPMD assignment in operand
+      final var root = TestConstructedBerTlv.createRandom(10, 0.5, 10, tlv);
+
+      for (final var path : allPaths(root)) {
+        final var all = path.findAll(root);
+
+        assertTrue(all.stream().allMatch(i -> i.getTag() == path.getTag(path.size() - 1)));
+        assertTrue(all.size() >= 1);
+      } // end For (path...)
+    } // end For (counter...)
+    // end --- b.
+  } // end method */
+
+  /** Test method for {@link TlvPath#toString()}. */
+  @Test
+  void test_toString() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    assertEquals("7f21/7f4e/86", TlvPath.of(0x7f21, 0x7f4e, 0x86).toString());
+    assertEquals("00", TlvPath.of(0x00).toString());
+  } // end method */
+
+  /**
+   * Returns all paths in a tree of TLV-objects.
+   *
+   * @param root of tree
+   * @return list of paths, each path occurs exactly once
+   */
+  /* package */ static List<TlvPath> allPaths(final BerTlv root) {
+    final var result = new ArrayList<TlvPath>();
+    allPaths(root, new long[0], result);
+
+    return result;
+  } // end method */
+
+  /**
+   * Collects all paths in a tree of TLV-objects.
+   *
+   * @param tlv current TLV-object
+   * @param prefix tags of parents
+   * @param result where paths are added
+   */
+  private static void allPaths(final BerTlv tlv, final long[] prefix, final List<TlvPath> result) {
+    final var tags = Arrays.copyOf(prefix, prefix.length + 1);
+    tags[prefix.length] = tlv.getTag();
+    final var path = TlvPath.of(tags);
+
+    if (!result.contains(path)) {
+      result.add(path);
+    } // end fi
+
+    if (tlv instanceof ConstructedBerTlv constructed) {
+      for (final var child : constructed.getTemplate()) {
+        allPaths(child, tags, result);
+      } // end For (child...)
+    } // end fi
+  } // end method */
+} // end class
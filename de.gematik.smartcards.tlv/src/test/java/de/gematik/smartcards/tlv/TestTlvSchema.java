@@ -0,0 +1,349 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.Hex;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link TlvSchema} and {@link TlvBinding}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestTlvSchema {
+
+  /** Schema of a CV-certificate like structure. */
+  private static final TlvSchema SCHEMA =
+      new TlvSchema.Builder(0x7f21)
+          .template(
+              new TlvSchema.Builder(0x7f4e)
+                  .tlv(0x42, "car")
+                  .template(
+                      new TlvSchema.Builder(0x7f49)
+                          .tlv(DerOid.TAG, "oid")
+                          .value(0x86, "puk")
+                          .build())
+                  .optionalValue(0x5f20, "chr")
+                  .values(0x53, "flags")
+                  .ordered()
+                  .build(),
+              "message")
+          .value(0x5f37, "signature")
+          .build(); // */
+
+  /** Encoding in accordance to {@link #SCHEMA}. */
+  private static final String VALID =
+      "7f21-24"
+          + "(7f4e-1a"
+          + "  (42-02-4142)"
+          + "  (7f49-09-(06-03-2b2403)-(86-02-0411))"
+          + "  (5f20-01-43)"
+          + "  (53-01-01)-(53-01-02))"
+          + "(5f37-04-01020304)"; // */
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link TlvSchema.Builder}. */
+  @Test
+  void test_Builder() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test
+    // --- b. ERROR: primitive tag for template
+    // --- c. ERROR: constructed tag for value
+    // --- d. ERROR: tag declared twice
+    // --- e. ERROR: name declared twice, also in nested template
+
+    // --- a. smoke test
+    assertEquals(0x7f21, SCHEMA.getTag());
+
+    // --- b. ERROR: primitive tag for template
+    {
+      final var e =
+          assertThrows(IllegalArgumentException.class, () -> new TlvSchema.Builder(0x5f20));
+
+      assertEquals(ConstructedBerTlv.EMP, e.getMessage());
+    } // end --- b.
+
+    // --- c. ERROR: constructed tag for value
+    {
+      final var dut = new TlvSchema.Builder(0x30);
+
+      for (final var e :
+          List.of(
+              assertThrows(IllegalArgumentException.class, () -> dut.value(0xa0, "a")),
+              assertThrows(IllegalArgumentException.class, () -> dut.optionalValue(0xa0, "a")),
+              assertThrows(IllegalArgumentException.class, () -> dut.values(0xa0, "a")))) {
+        assertEquals(PrimitiveBerTlv.EMC, e.getMessage());
+      } // end For (e...)
+    } // end --- c.
+
+    // --- d. ERROR: tag declared twice
+    {
+      final var dut = new TlvSchema.Builder(0x30).value(0x80, "a");
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> dut.tlv(0x80, "b"));
+
+      assertEquals("tag already declared: '80'", e.getMessage());
+    } // end --- d.
+
+    // --- e. ERROR: name declared twice, also in nested template
+    {
+      final var dut = new TlvSchema.Builder(0x30).value(0x80, "a");
+      final var content = new TlvSchema.Builder(0xa1).value(0x80, "a").build();
+
+      assertEquals(
+          "name already declared: a",
+          assertThrows(IllegalArgumentException.class, () -> dut.optionalTlv(0x81, "a"))
+              .getMessage());
+      assertEquals(
+          "name already declared: a",
+          assertThrows(IllegalArgumentException.class, () -> dut.optionalTemplate(content))
+              .getMessage());
+      assertEquals(
+          "name already declared: b",
+          assertThrows(
+                  IllegalArgumentException.class,
+                  () ->
+                      new TlvSchema.Builder(0x30)
+                          .template(new TlvSchema.Builder(0xa1).value(0x80, "b").build(), "b"))
+              .getMessage());
+    } // end --- e.
+  } // end method */
+
+  /** Test method for {@link TlvSchema#bindValueField(ConstructedBerTlv)}. */
+  @Test
+  void test_bindValueField__ConstructedBerTlv() {
+    // Assertions:
+    // ... a. bind(ConstructedBerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. valid structure, same as bind(ConstructedBerTlv)
+    // --- b. tag not checked
+    // --- c. findings other than the tag are reported
+
+    // --- a. valid structure, same as bind(ConstructedBerTlv)
+    assertBinding(SCHEMA.bindValueField((ConstructedBerTlv) BerTlv.getInstance(VALID)));
+
+    // --- b. tag not checked
+    {
+      final var tlv = (ConstructedBerTlv) BerTlv.getInstance("7f22" + VALID.substring(4));
+
+      assertEquals(List.of("DO'7f22' instead of DO'7f21'"), SCHEMA.bind(tlv).getFindings());
+      assertBinding(SCHEMA.bindValueField(tlv));
+    } // end --- b.
+
+    // --- c. findings other than the tag are reported
+    assertEquals(
+        List.of("DO'7f4e' missing in DO'7f21'", "DO'5f37' missing in DO'7f21'"),
+        SCHEMA.bindValueField((ConstructedBerTlv) BerTlv.getInstance("a0-00")).getFindings());
+  } // end method */
+
+  /** Test method for {@link TlvSchema#decode(ByteBuffer)}. */
+  @Test
+  void test_decode__ByteBuffer() {
+    // Assertions:
+    // ... a. bind(ConstructedBerTlv)-method works as expected
+
+    // Test strategy:
+    // --- a. valid structure, result same as for bind(ConstructedBerTlv)
+    // --- b. indefinite form
+    // --- c. findings
+    // --- d. ERROR: BufferUnderflowException
+    // --- e. ERROR: value-field does not match length-field
+
+    // --- a. valid structure, result same as for bind(ConstructedBerTlv)
+    {
+      final byte[] octets = Hex.toByteArray(VALID + "9000");
+      final var buffer = ByteBuffer.wrap(octets);
+
+      final var present = SCHEMA.decode(buffer);
+
+      assertEquals(octets.length - 2, buffer.position());
+      assertBinding(present);
+      assertBinding(SCHEMA.bind((ConstructedBerTlv) BerTlv.getInstance(VALID)));
+    } // end --- a.
+
+    // --- b. indefinite form
+    {
+      final var input =
+          "7f21-80"
+              + "(7f4e-80"
+              + "  (42-02-4142)"
+              + "  (7f49-80-(06-03-2b2403)-(86-02-0411)-0000)"
+              + "  (5f20-01-43)"
+              + "  (53-01-01)-(53-01-02)-0000)"
+              + "(5f37-04-01020304)"
+              + "0000";
+
+      assertBinding(SCHEMA.decode(Hex.toByteArray(input)));
+    } // end --- b.
+
+    // --- c. findings
+    for (final var entry :
+        List.of(
+            List.of(
+                "7f22-0e-(7f4e-05-(42-00)-(7f49-00))-(5f37-00)-(5f37-00)",
+                "DO'7f22' instead of DO'7f21'",
+                "DO'06' missing in DO'7f49'",
+                "DO'86' missing in DO'7f49'",
+                "DO'5f37' occurs more than once in DO'7f21'"),
+            List.of(
+                "7f21-0d-(7f4e-08-(7f49-00)-(42-00)-(5f20-00))-(81-00)",
+                "DO'06' missing in DO'7f49'",
+                "DO'86' missing in DO'7f49'",
+                "DO'42' out of order in DO'7f4e'",
+                "unexpected DO'81' in DO'7f21'",
+                "DO'5f37' missing in DO'7f21'"),
+            List.of("7f21-00", "DO'7f4e' missing in DO'7f21'", "DO'5f37' missing in DO'7f21'"),
+            List.of(
+                "5f20-00",
+                "DO'5f20' instead of DO'7f21'",
+                "DO'7f4e' missing in DO'7f21'",
+                "DO'5f37' missing in DO'7f21'"))) {
+      final var input = entry.get(0);
+      final var expected = entry.subList(1, entry.size());
+
+      final var present = SCHEMA.decode(Hex.toByteArray(input));
+
+      assertEquals(expected, present.getFindings(), input);
+      assertFalse(present.isValid());
+
+      if (BerTlv.getInstance(input) instanceof ConstructedBerTlv tlv) {
+        assertEquals(expected, SCHEMA.bind(tlv).getFindings(), input);
+      } // end fi
+    } // end For (entry...)
+
+    // --- d. ERROR: BufferUnderflowException
+    {
+      final byte[] octets = Hex.toByteArray(VALID);
+
+      for (int limit = octets.length; limit-- > 0; ) { // NOPMD assignment in operand
+        final var buffer = ByteBuffer.wrap(octets, 0, limit);
+
+        assertThrows(BufferUnderflowException.class, () -> SCHEMA.decode(buffer));
+        assertEquals(0, buffer.position());
+      } // end For (limit...)
+    } // end --- d.
+
+    // --- e. ERROR: value-field does not match length-field
+    {
+      final byte[] octets = Hex.toByteArray("7f21-03-(7f4e-03-(42-01-41))-(5f37-00)");
+
+      final var e = assertThrows(IllegalArgumentException.class, () -> SCHEMA.decode(octets));
+
+      assertEquals(TlvSchema.EM_LENGTH, e.getMessage());
+    } // end --- e.
+  } // end method */
+
+  /** Test method for {@link TlvSchema#decodeValueField(byte[])}. */
+  @Test
+  void test_decodeValueField__byteA() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test with unexpected elements
+    final var dut =
+        new TlvSchema.Builder(0xfa)
+            .value(0xd0, "d0")
+            .optionalValue(0xd2, "d2")
+            .optionalTemplate(new TlvSchema.Builder(0xe0).values(DerInteger.TAG, "sizes").build())
+            .build();
+
+    final var present =
+        dut.decodeValueField(Hex.toByteArray("(d0-01-11)-(e0-06-(02-01-01)-(02-01-02))-(66-00)"));
+
+    assertEquals("11", Hex.toHexDigits(present.getValueField("d0").orElseThrow()));
+    assertEquals(Optional.empty(), present.getValueField("d2"));
+    assertEquals(
+        List.of("01", "02"),
+        present.getValueFields("sizes").stream().map(Hex::toHexDigits).toList());
+    assertEquals(List.of("unexpected DO'66' in DO'fa'"), present.getFindings());
+  } // end method */
+
+  /**
+   * Checks a binding of {@link #VALID}.
+   *
+   * @param present binding
+   */
+  private static void assertBinding(final TlvBinding present) {
+    assertTrue(present.isValid(), present.getFindings()::toString);
+    assertEquals(
+        BerTlv.getInstance(
+            "7f4e-1a-(42-02-4142)-(7f49-09-(06-03-2b2403)-(86-02-0411))"
+                + "-(5f20-01-43)-(53-01-01)-(53-01-02)"),
+        present.getTlv("message").orElseThrow());
+    assertEquals(BerTlv.getInstance("42-02-4142"), present.getTlv("car").orElseThrow());
+    assertEquals(BerTlv.getInstance("06-03-2b2403"), present.getTlv("oid").orElseThrow());
+    assertEquals("0411", Hex.toHexDigits(present.getValueField("puk").orElseThrow()));
+    assertEquals("43", Hex.toHexDigits(present.getValueField("chr").orElseThrow()));
+    assertEquals(
+        List.of("01", "02"),
+        present.getValueFields("flags").stream().map(Hex::toHexDigits).toList());
+    assertEquals("01", Hex.toHexDigits(present.getValueField("flags").orElseThrow()));
+    assertEquals("01020304", Hex.toHexDigits(present.getValueField("signature").orElseThrow()));
+    assertEquals(Optional.empty(), present.getTlv("signature"));
+    assertEquals(List.of(), present.getValueFields("unknown"));
+  } // end method */
+} // end class
@@ -0,0 +1,190 @@
+/*
+ * Copyright (Date see Readme), gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+package de.gematik.smartcards.tlv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.smartcards.utils.Hex;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class performing white-box tests on {@link TreeFormatOptions}.
+ *
+ * @author <a href="mailto:software-development@gematik.de">gematik</a>
+ */
+@SuppressWarnings({
+  "PMD.AvoidDuplicateLiterals",
+  "PMD.MethodNamingConventions",
+  "PMD.TooManyStaticImports",
+  "checkstyle:methodname"
+})
+final class TestTreeFormatOptions {
+
+  /** Method executed before other tests. */
+  @BeforeAll
+  static void setUpBeforeClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after other tests. */
+  @AfterAll
+  static void tearDownAfterClass() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed before each test. */
+  @BeforeEach
+  void setUp() {
+    // intentionally empty
+  } // end method */
+
+  /** Method executed after each test. */
+  @AfterEach
+  void tearDown() {
+    // intentionally empty
+  } // end method */
+
+  /** Test method for {@link TreeFormatOptions.Builder}. */
+  @Test
+  void test_Builder() {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. default values
+    // --- b. set all options
+    // --- c. ERROR: negative limits
+
+    // --- a. default values
+    {
+      final var dut = TreeFormatOptions.DEFAULT;
+
+      assertEquals(Integer.MAX_VALUE, dut.getMaxDepth());
+      assertEquals(Integer.MAX_VALUE, dut.getMaxValueBytes());
+      assertTrue(dut.isNestedDecoding());
+    } // end --- a.
+
+    // --- b. set all options
+    {
+      final var dut =
+          new TreeFormatOptions.Builder()
+              .maxDepth(0)
+              .maxValueBytes(7)
+              .nestedDecoding(false)
+              .build();
+
+      assertEquals(0, dut.getMaxDepth());
+      assertEquals(7, dut.getMaxValueBytes());
+      assertFalse(dut.isNestedDecoding());
+    } // end --- b.
+
+    // --- c. ERROR: negative limits
+    {
+      final var dut = new TreeFormatOptions.Builder();
+
+      assertEquals(
+          "maxDepth SHALL NOT be negative",
+          assertThrows(IllegalArgumentException.class, () -> dut.maxDepth(-1)).getMessage());
+      assertEquals(
+          "maxValueBytes SHALL NOT be negative",
+          assertThrows(IllegalArgumentException.class, () -> dut.maxValueBytes(-1)).getMessage());
+    } // end --- c.
+  } // end method */
+
+  /** Test method for {@link TreeFormatOptions#nested(int)}. */
+  @Test
+  void test_nested__int() {
+    // Assertions:
+    // ... a. Builder works as expected
+
+    // Test strategy:
+    // --- a. no depth limit
+    // --- b. depth limit reduced, other options kept
+
+    // --- a. no depth limit
+    assertSame(TreeFormatOptions.DEFAULT, TreeFormatOptions.DEFAULT.nested(5));
+
+    // --- b. depth limit reduced, other options kept
+    {
+      final var dut =
+          new TreeFormatOptions.Builder()
+              .maxDepth(3)
+              .maxValueBytes(7)
+              .nestedDecoding(false)
+              .build();
+
+      final var present = dut.nested(2);
+
+      assertEquals(1, present.getMaxDepth());
+      assertEquals(7, present.getMaxValueBytes());
+      assertFalse(present.isNestedDecoding());
+      assertEquals(0, dut.nested(3).getMaxDepth());
+    } // end --- b.
+  } // end method */
+
+  /** Test method for {@link TreeFormatOptions#appendValueField(Appendable, byte[])}. */
+  @Test
+  void test_appendValueField__Appendable_byteA() throws IOException {
+    // Assertions:
+    // - none -
+
+    // Test strategy:
+    // --- a. smoke test with various limits
+    // --- b. value-field larger than one chunk
+    final byte[] valueField = Hex.toByteArray("0102030405");
+
+    // --- a. smoke test with various limits
+    for (final var entry :
+        List.of(
+            List.of(0, "..."),
+            List.of(1, "01..."),
+            List.of(4, "01020304..."),
+            List.of(5, "0102030405"),
+            List.of(Integer.MAX_VALUE, "0102030405"))) {
+      final var dut = new TreeFormatOptions.Builder().maxValueBytes((Integer) entry.get(0)).build();
+      final var present = new StringBuilder();
+
+      dut.appendValueField(present, valueField);
+
+      assertEquals(entry.get(1), present.toString());
+    } // end For (entry...)
+
+    // --- b. value-field larger than one chunk
+    {
+      final byte[] large = new byte[10_000];
+      large[large.length - 1] = 0x7f;
+      final var present = new StringBuilder();
+
+      TreeFormatOptions.DEFAULT.appendValueField(present, large);
+
+      assertEquals(Hex.toHexDigits(large), present.toString());
+    } // end --- b.
+  } // end method */
+} // end class